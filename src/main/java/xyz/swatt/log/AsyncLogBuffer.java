@@ -0,0 +1,380 @@
+package xyz.swatt.log;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The lock-free ring buffer that {@link LogMethodsAspect} puts its logs into, in {@link LogMethodsAspect.Mode#ASYNC_LOG} mode.
+ * <p>
+ *     Any number of threads can publish at once (each claims a slot with a single compare-and-set); and a single background thread
+ *     ({@code swatt-async-log}) formats each log, and hands it to Log4j with the time and thread of the original call.
+ * </p>
+ * <p>
+ *     What happens when the buffer is full is set by {@link #overflowPolicy}; and the number of dropped logs is counted
+ *     ({@link #getDroppedCount()}), and periodically warned about.
+ * </p>
+ * <p>
+ *     The buffer's size is set with the {@value #CAPACITY_PROPERTY} System Property (default: 8192 logs; rounded up to a power of 2),
+ *     and it is flushed when the JVM shuts down.
+ * </p>
+ */
+public final class AsyncLogBuffer {
+
+    //========================= Static Enums ===================================
+    /**
+     * What is done when a log is published, while the buffer is full.
+     */
+    public static enum OverflowPolicy {
+        /**
+         * The calling thread waits for space. (Default)
+         */
+        BLOCK,
+        /**
+         * The log is dropped.
+         */
+        DROP,
+        /**
+         * Once the buffer is half full, only 1 in every {@link AsyncLogBuffer#sampleRate} logs is kept; and, if it is full, the log is dropped.
+         */
+        SAMPLE
+    }
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(AsyncLogBuffer.class);
+
+    /**
+     * The System Property that sets how many logs the buffer holds.
+     */
+    public static final String CAPACITY_PROPERTY = "swatt.logMethods.asyncCapacity";
+
+    /**
+     * The System Property that sets the starting {@link #overflowPolicy}.
+     */
+    public static final String OVERFLOW_PROPERTY = "swatt.logMethods.asyncOverflow";
+
+    private static final int CAPACITY = Integer.highestOneBit(Math.max(Integer.getInteger(CAPACITY_PROPERTY, 8192) - 1, 1)) << 1,
+            MASK = CAPACITY - 1;
+
+    /**
+     * How long a waiting thread parks, before checking the buffer again.
+     */
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100), IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * How often the count of dropped logs is warned about.
+     */
+    private static final long DROPPED_WARNING_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final Slot[] SLOTS = new Slot[CAPACITY];
+
+    /**
+     * The position of the next slot to publish to.
+     */
+    private static final AtomicLong TAIL = new AtomicLong();
+
+    private static final LongAdder DROPPED = new LongAdder(), LOGGED = new LongAdder();
+
+    /**
+     * How many logs have been published while the buffer was half full, with {@link OverflowPolicy#SAMPLE}.
+     */
+    private static final AtomicLong SAMPLED = new AtomicLong();
+
+    private static final Thread CONSUMER = new Thread(AsyncLogBuffer::consume, "swatt-async-log");
+
+    //========================= Static Variables ===============================
+    /**
+     * What is done when a log is published, while the buffer is full.
+     * <p>(Starts as the {@value #OVERFLOW_PROPERTY} System Property, if it is set; otherwise {@link OverflowPolicy#BLOCK}.)</p>
+     */
+    public static volatile OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * With {@link OverflowPolicy#SAMPLE}, 1 in this many logs are kept, once the buffer is half full.
+     */
+    public static volatile int sampleRate = 10;
+
+    /**
+     * The position of the next slot to consume. (Only written by the {@link #CONSUMER}.)
+     */
+    private static volatile long head = 0;
+
+    /**
+     * If the {@link #CONSUMER} is (about to be) parked, waiting for a log.
+     */
+    private static volatile boolean consumerIdle = false;
+
+    //========================= Static Constructor =============================
+    static {
+
+        String overflowProperty = System.getProperty(OVERFLOW_PROPERTY);
+        if(overflowProperty != null) {
+            try {
+                overflowPolicy = OverflowPolicy.valueOf(overflowProperty.trim().toUpperCase());
+            }
+            catch(IllegalArgumentException e) {
+                LOGGER.warn("Unknown {} System Property: \"{}\"; using {}.", OVERFLOW_PROPERTY, overflowProperty, overflowPolicy);
+            }
+        }
+
+        for(int i = 0; i < CAPACITY; i++) {
+            SLOTS[i] = new Slot(i);
+        }
+
+        CONSUMER.setDaemon(true);
+        CONSUMER.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(TimeUnit.SECONDS.toMillis(5)), "swatt-async-log-flush"));
+    }
+
+    //========================= Static Methods =================================
+    /**
+     * @return How many logs have been dropped, because the buffer was full (or sampled).
+     */
+    public static long getDroppedCount() {
+        return DROPPED.sum();
+    }
+
+    /**
+     * @return How many logs have been written.
+     */
+    public static long getLoggedCount() {
+        return LOGGED.sum();
+    }
+
+    /**
+     * Waits for every log that has already been published to be written.
+     *
+     * @param _timeoutMillis
+     *         The longest to wait.
+     *
+     * @return {@code true}, if every log was written; or {@code false}, if the wait timed out.
+     */
+    public static boolean flush(long _timeoutMillis) {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final long TARGET = TAIL.get(), DEADLINE = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(_timeoutMillis);
+
+        //------------------------ Code ----------------------------------------
+        if(Thread.currentThread() == CONSUMER) { // Would never finish.
+            return head >= TARGET;
+        }
+
+        while(head < TARGET) {
+            if(System.nanoTime() - DEADLINE >= 0) {
+                return false;
+            }
+            LockSupport.unpark(CONSUMER);
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+
+        return true;
+    }
+
+    /**
+     * Puts a log into the buffer; or, if the buffer is full, waits or drops it, according to the {@link #overflowPolicy}.
+     *
+     * @param _info
+     *         The called Join Point.
+     * @param _start
+     *         If this is the [START] log; otherwise, it is the [END] log.
+     * @param _arguments
+     *         The call's arguments. (Rendered later, by the {@link #CONSUMER}.)
+     * @param _result
+     *         The call's Return Value.
+     * @param _durationNanos
+     *         How long the call took.
+     * @param _timeMillis
+     *         When the log happened.
+     */
+    static void publish(LogMethodsAspect.JoinPointInfo _info, boolean _start, Object[] _arguments, Object _result, long _durationNanos,
+            long _timeMillis) {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final Thread THREAD = Thread.currentThread();
+        final OverflowPolicy POLICY = overflowPolicy;
+
+        //------------------------ Code ----------------------------------------
+        if(THREAD == CONSUMER) { // i.e. A LogRenderer calls a @LogMethods method; waiting on itself would deadlock.
+            write(_info, _start, _arguments, _result, _durationNanos, _timeMillis, THREAD.getName(), THREAD.getId());
+            return;
+        }
+
+        if(POLICY == OverflowPolicy.SAMPLE && TAIL.get() - head > CAPACITY / 2) {
+            if(SAMPLED.getAndIncrement() % Math.max(sampleRate, 1) != 0) {
+                DROPPED.increment();
+                return;
+            }
+        }
+
+        while(true) {
+
+            long position = TAIL.get();
+            Slot slot = SLOTS[(int) (position & MASK)];
+            long difference = slot.sequence - position;
+
+            if(difference == 0) { // Slot is free.
+                if(TAIL.compareAndSet(position, position + 1)) {
+
+                    slot.info = _info;
+                    slot.start = _start;
+                    slot.arguments = _arguments;
+                    slot.result = _result;
+                    slot.durationNanos = _durationNanos;
+                    slot.timeMillis = _timeMillis;
+                    slot.threadName = THREAD.getName();
+                    slot.threadId = THREAD.getId();
+                    slot.sequence = position + 1; // Publishes the fields above to the CONSUMER.
+
+                    if(consumerIdle) {
+                        LockSupport.unpark(CONSUMER);
+                    }
+                    return;
+                }
+            }
+            else if(difference < 0) { // Buffer is full.
+                if(POLICY == OverflowPolicy.BLOCK) {
+                    LockSupport.unpark(CONSUMER);
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+                else {
+                    DROPPED.increment();
+                    return;
+                }
+            }
+            // Else, another thread just claimed this slot; try the next one.
+        }
+    }
+
+    //////////////////// Helper Methods ////////////////////
+    /**
+     * The {@link #CONSUMER}'s loop; writes each published log, in order.
+     */
+    private static void consume() {
+
+        //------------------------ Variables -----------------------------------
+        long position = 0, reportedDropped = 0, lastWarningNanos = System.nanoTime();
+
+        //------------------------ Code ----------------------------------------
+        while(true) {
+
+            Slot slot = SLOTS[(int) (position & MASK)];
+
+            if(slot.sequence == position + 1) { // Published.
+
+                try {
+                    write(slot.info, slot.start, slot.arguments, slot.result, slot.durationNanos, slot.timeMillis, slot.threadName, slot.threadId);
+                }
+                catch(Throwable e) { // One bad log should not stop the rest.
+                    LOGGER.warn("Could not write a LogMethods log!", e);
+                }
+
+                slot.clear();
+                slot.sequence = position + CAPACITY; // Frees the slot for the next lap.
+                head = ++position;
+                continue;
+            }
+
+            ///// Idle /////
+            if(System.nanoTime() - lastWarningNanos >= DROPPED_WARNING_NANOS) {
+                long dropped = DROPPED.sum();
+                if(dropped > reportedDropped) {
+                    LOGGER.warn("{} LogMethods logs were dropped, as the AsyncLogBuffer was full.", dropped - reportedDropped);
+                    reportedDropped = dropped;
+                }
+                lastWarningNanos = System.nanoTime();
+            }
+
+            consumerIdle = true;
+            if(slot.sequence != position + 1) { // Re-check, so a publish that missed the flag is not waited on.
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            consumerIdle = false;
+        }
+    }
+
+    /**
+     * Formats the given log, and hands it to Log4j; with the original time and thread, when Log4j Core is the logging implementation.
+     */
+    private static void write(LogMethodsAspect.JoinPointInfo _info, boolean _start, Object[] _arguments, Object _result, long _durationNanos,
+            long _timeMillis, String _threadName, long _threadId) {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final Level LEVEL = _start ? _info.START_LEVEL : _info.END_LEVEL;
+
+        //------------------------ Variables -----------------------------------
+        String callString = LogMethodsAspect.toCallString(_info, _arguments);
+        String message = _start ? callString + "[START]" : LogMethodsAspect.toEndString(_info, callString, _result, _durationNanos);
+
+        //------------------------ Code ----------------------------------------
+        if(_info.LOGGER instanceof org.apache.logging.log4j.core.Logger) {
+            ((org.apache.logging.log4j.core.Logger) _info.LOGGER).get().log(Log4jLogEvent.newBuilder()
+                    .setLoggerName(_info.LOGGER.getName())
+                    .setLoggerFqcn(LogMethodsAspect.class.getName())
+                    .setLevel(LEVEL)
+                    .setMessage(new SimpleMessage(message))
+                    .setTimeMillis(_timeMillis)
+                    .setThreadName(_threadName)
+                    .setThreadId(_threadId)
+                    .setIncludeLocation(false) // This thread's stack is not the caller's.
+                    .build());
+        }
+        else {
+            _info.LOGGER.log(LEVEL, message);
+        }
+
+        LOGGED.increment();
+    }
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+    private AsyncLogBuffer() {}
+
+    //========================= Methods ========================================
+
+    //========================= Classes ========================================
+    /**
+     * A single log's data; reused for every lap of the ring.
+     */
+    private static final class Slot {
+
+        //------------------------ Variables -----------------------------------
+        /**
+         * Equals the slot's position when it is free, and its position + 1 when it is published.
+         */
+        volatile long sequence;
+
+        LogMethodsAspect.JoinPointInfo info;
+        boolean start;
+        Object[] arguments;
+        Object result;
+        long durationNanos, timeMillis, threadId;
+        String threadName;
+
+        //------------------------ Constructors --------------------------------
+        Slot(long _sequence) {
+            sequence = _sequence;
+        }
+
+        //------------------------ Methods -------------------------------------
+        /**
+         * Releases the logged values, so they can be garbage collected.
+         */
+        void clear() {
+            info = null;
+            arguments = null;
+            result = null;
+            threadName = null;
+        }
+    }
+}
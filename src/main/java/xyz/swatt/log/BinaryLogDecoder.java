@@ -0,0 +1,321 @@
+package xyz.swatt.log;
+
+import xyz.swatt.asserts.ArgumentChecks;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Turns a {@link BinaryLogWriter} File back into the same text as {@link LogMethodsAspect.Mode#LOG} mode logs; or into CSV.
+ * <p>
+ *     From the command line: {@code java -cp swatt.jar xyz.swatt.log.BinaryLogDecoder <binary_file> [--csv]} (written to {@code System.out}).
+ * </p>
+ * <p>
+ *     Text lines are {@code yyyy-MM-dd HH:mm:ss,SSS LEVEL Logger [Thread] - Message}; and the CSV columns are
+ *     {@code Time, Level, Logger, Thread, Method, Event, Duration (ns), Arguments, Result}.
+ * </p>
+ */
+public final class BinaryLogDecoder {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final String CSV_HEADER = "Time,Level,Logger,Thread,Method,Event,Duration (ns),Arguments,Result";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+    /**
+     * Decodes the given File to {@code System.out}.
+     *
+     * @param _args
+     *         The binary File's path; and {@code --csv}, for CSV output.
+     *
+     * @throws IOException If the File cannot be read, or is not a {@link BinaryLogWriter} File.
+     */
+    public static void main(String[] _args) throws IOException {
+
+        if(_args.length < 1 || _args.length > 2 || (_args.length == 2 && !_args[1].equals("--csv"))) {
+            System.err.println("Usage: java " + BinaryLogDecoder.class.getName() + " <binary_file> [--csv]");
+            return;
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        decode(new File(_args[0]), _args.length == 2, writer);
+        writer.flush();
+    }
+
+    /**
+     * Decodes the given {@link BinaryLogWriter} File.
+     *
+     * @param _file
+     *         The binary File.
+     * @param _csv
+     *         If CSV should be written; otherwise, text logs are written.
+     * @param _output
+     *         Where to write the decoded logs.
+     *
+     * @throws IllegalArgumentException If the File does not exist, or the output is {@code null}.
+     * @throws IOException If the File cannot be read, is not a {@link BinaryLogWriter} File, or has a record whose signature or thread was never written.
+     */
+    public static void decode(File _file, boolean _csv, Appendable _output) throws IOException {
+
+        //------------------------ Pre-Checks ----------------------------------
+        ArgumentChecks.fileExists(_file, "Binary Log");
+        ArgumentChecks.notNull(_output, "Output");
+
+        //------------------------ Variables -----------------------------------
+        Map<Integer, Signature> signatures = new HashMap<>();
+        Map<Long, String> threadNames = new HashMap<>();
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss,SSS"); // The Log4j2 %d format.
+        StringBuilder line = new StringBuilder();
+
+        //------------------------ Code ----------------------------------------
+        try(DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(_file)))) {
+
+            byte[] magic = new byte[BinaryLogWriter.MAGIC.length];
+            input.readFully(magic);
+            if(!Arrays.equals(magic, BinaryLogWriter.MAGIC) || input.readInt() != BinaryLogWriter.VERSION) {
+                throw new IOException("Not a (version " + BinaryLogWriter.VERSION + ") SWATT Binary Log File: " + _file);
+            }
+
+            if(_csv) {
+                _output.append(CSV_HEADER).append(System.lineSeparator());
+            }
+
+            while(true) {
+
+                int length;
+                try {
+                    length = input.readInt();
+                }
+                catch(EOFException e) {
+                    break;
+                }
+                if(length == 0) { // The unused (zeroed) end of the File.
+                    break;
+                }
+
+                byte type = input.readByte();
+                if(type == BinaryLogWriter.SIGNATURE) {
+                    int id = input.readInt();
+                    signatures.put(id, new Signature(input));
+                    continue;
+                }
+                else if(type == BinaryLogWriter.THREAD) {
+                    long threadId = input.readLong();
+                    threadNames.put(threadId, readString(input));
+                    continue;
+                }
+                else if(type != BinaryLogWriter.START && type != BinaryLogWriter.END) { // From a newer version; skip it.
+                    input.readFully(new byte[length - 1]);
+                    continue;
+                }
+
+                ///// [START] / [END] /////
+                boolean start = type == BinaryLogWriter.START;
+                int signatureId = input.readInt();
+                Signature signature = signatures.get(signatureId);
+                if(signature == null) {
+                    throw new IOException("Unknown signature id " + signatureId + ", in: " + _file);
+                }
+                long threadId = input.readLong();
+                String threadName = threadNames.get(threadId);
+                if(threadName == null) {
+                    throw new IOException("Unknown thread id " + threadId + ", in: " + _file);
+                }
+                long timeMillis = input.readLong();
+                long durationNanos = start ? 0 : input.readLong();
+
+                String[] arguments = new String[signature.PARAMETER_NAMES.length];
+                if(signature.LOG_ARGUMENTS) {
+                    for(int i = 0; i < arguments.length; i++) {
+                        arguments[i] = readValue(input);
+                    }
+                }
+                String result = !start && signature.LOG_RESULTS ? readValue(input) : null;
+
+                line.setLength(0);
+                if(_csv) {
+                    appendCsv(line, dateFormat.format(new Date(timeMillis)), true);
+                    appendCsv(line, start ? signature.START_LEVEL : signature.END_LEVEL, true);
+                    appendCsv(line, signature.LOGGER, true);
+                    appendCsv(line, threadName, true);
+                    appendCsv(line, signature.NAME, true);
+                    appendCsv(line, start ? "START" : "END", true);
+                    appendCsv(line, start ? "" : String.valueOf(durationNanos), true);
+                    appendCsv(line, signature.toArgumentsString(arguments), true);
+                    appendCsv(line, result != null ? result : "", false);
+                }
+                else {
+                    line.append(dateFormat.format(new Date(timeMillis))).append(' ');
+                    String level = start ? signature.START_LEVEL : signature.END_LEVEL;
+                    line.append(level);
+                    for(int i = level.length(); i < 5; i++) { // %-5p
+                        line.append(' ');
+                    }
+                    line.append(' ').append(signature.LOGGER).append(" [").append(threadName).append("] - ");
+
+                    line.append(signature.NAME).append('(').append(signature.toArgumentsString(arguments)).append(") ");
+                    if(start) {
+                        line.append("[START]");
+                    }
+                    else {
+                        line.append("[END]");
+                        if(signature.LOG_DURATION) {
+                            line.append(" {").append(Duration.ofNanos(durationNanos)).append("}");
+                        }
+                        if(signature.LOG_RESULTS) {
+                            line.append("\n\t=> ").append(result);
+                        }
+                    }
+                }
+                _output.append(line).append(System.lineSeparator());
+            }
+        }
+    }
+
+    //////////////////// Helper Methods ////////////////////
+    private static String readString(DataInputStream _input) throws IOException {
+
+        char[] characters = new char[_input.readInt()];
+        for(int i = 0; i < characters.length; i++) {
+            characters[i] = _input.readChar();
+        }
+
+        return new String(characters);
+    }
+
+    /**
+     * @return The value, the same as {@link LogMethodsAspect#render(Object, StringBuilder)} would have written it.
+     */
+    private static String readValue(DataInputStream _input) throws IOException {
+
+        byte tag = _input.readByte();
+        switch(tag) {
+            case BinaryLogWriter.NULL:
+                return "(NULL)";
+            case BinaryLogWriter.BOOLEAN:
+                return String.valueOf(_input.readByte() != 0);
+            case BinaryLogWriter.BYTE:
+                return String.valueOf(_input.readByte());
+            case BinaryLogWriter.SHORT:
+                return String.valueOf(_input.readShort());
+            case BinaryLogWriter.CHARACTER:
+                return String.valueOf(_input.readChar());
+            case BinaryLogWriter.INTEGER:
+                return String.valueOf(_input.readInt());
+            case BinaryLogWriter.LONG:
+                return String.valueOf(_input.readLong());
+            case BinaryLogWriter.FLOAT:
+                return String.valueOf(_input.readFloat());
+            case BinaryLogWriter.DOUBLE:
+                return String.valueOf(_input.readDouble());
+            case BinaryLogWriter.TEXT:
+                int fullLength = _input.readInt();
+                String text = readString(_input);
+                return text.length() < fullLength ? text + "... (" + fullLength + " characters)" : text;
+            default:
+                throw new IOException("Unknown Value Tag: " + tag);
+        }
+    }
+
+    /**
+     * Appends the given CSV cell; quoting it, if it has a comma, quote, or line break.
+     */
+    private static void appendCsv(StringBuilder _line, String _value, boolean _addComma) {
+
+        if(_value.indexOf(',') >= 0 || _value.indexOf('"') >= 0 || _value.indexOf('\n') >= 0 || _value.indexOf('\r') >= 0) {
+            _line.append('"').append(_value.replace("\"", "\"\"")).append('"');
+        }
+        else {
+            _line.append(_value);
+        }
+        if(_addComma) {
+            _line.append(',');
+        }
+    }
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+    private BinaryLogDecoder() {}
+
+    //========================= Methods ========================================
+
+    //========================= Classes ========================================
+    /**
+     * A method's signature record.
+     */
+    private static final class Signature {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String LOGGER, NAME, START_LEVEL, END_LEVEL;
+        final boolean LOG_ARGUMENTS, LOG_DURATION, LOG_RESULTS;
+        final String[] PARAMETER_NAMES, PARAMETER_TYPE_NAMES;
+
+        //------------------------ Constructors --------------------------------
+        Signature(DataInputStream _input) throws IOException {
+
+            LOGGER = readString(_input);
+            NAME = readString(_input);
+            START_LEVEL = readString(_input);
+            END_LEVEL = readString(_input);
+
+            byte flags = _input.readByte();
+            LOG_ARGUMENTS = (flags & BinaryLogWriter.LOG_ARGUMENTS) != 0;
+            LOG_DURATION = (flags & BinaryLogWriter.LOG_DURATION) != 0;
+            LOG_RESULTS = (flags & BinaryLogWriter.LOG_RESULTS) != 0;
+
+            PARAMETER_NAMES = new String[_input.readInt()];
+            PARAMETER_TYPE_NAMES = new String[PARAMETER_NAMES.length];
+            for(int i = 0; i < PARAMETER_NAMES.length; i++) {
+                PARAMETER_NAMES[i] = readString(_input);
+                PARAMETER_TYPE_NAMES[i] = readString(_input);
+            }
+        }
+
+        //------------------------ Methods -------------------------------------
+        /**
+         * @return The same as the middle of {@code LogMethodsAspect.toCallString(...)}; i.e. {@code "_arg1: value, _arg2: value"}.
+         */
+        String toArgumentsString(String[] _arguments) {
+
+            StringBuilder arguments = new StringBuilder();
+            for(int i = 0; i < PARAMETER_NAMES.length; i++) {
+
+                arguments.append(PARAMETER_NAMES[i]);
+                if(LOG_ARGUMENTS) {
+                    arguments.append(": ").append(_arguments[i]);
+                }
+                else {
+                    arguments.append(" (").append(PARAMETER_TYPE_NAMES[i]).append(")");
+                }
+                if(i < PARAMETER_NAMES.length - 1) {
+                    arguments.append(", ");
+                }
+            }
+
+            return arguments.toString();
+        }
+    }
+}
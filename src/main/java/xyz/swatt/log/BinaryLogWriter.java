@@ -0,0 +1,687 @@
+package xyz.swatt.log;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import xyz.swatt.asserts.ArgumentChecks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes {@link LogMethods} logs, in {@link LogMethodsAspect.Mode#BINARY_LOG} mode, to a compact, append-only, memory-mapped binary File;
+ * which {@link BinaryLogDecoder} turns back into text (or CSV).
+ * <p>
+ *     Each method's Logger, name, Levels, and parameter names &amp; types are written once (as a "signature" record), and each thread's name is written
+ *     when it is first seen; so each [START] / [END] record is only a signature id, thread id, time, and the argument values.
+ *     Strings and boxed primitives are copied straight into the File; other values are rendered with the registered {@link LogRenderer}s.
+ * </p>
+ * <p>
+ *     Each thread builds its records in its own buffer, and then reserves their space in the File with a single compare-and-set;
+ *     so [START] / [END] records never wait on each other. (Only new signatures, and growing the File, are locked.)
+ * </p>
+ * <p>
+ *     The File is set by the {@value #FILE_PROPERTY} System Property (default: {@code test-output/swatt-log-methods.bin}), which is opened by the first log;
+ *     or by {@link #open(File)}. It is closed when the JVM shuts down.
+ * </p>
+ * <p>
+ *     <b>Note:</b> Once {@link #close()} is called (including by the shutdown hook), logs are dropped until {@link #open(File)} is called again;
+ *     so a closed File is never replaced.
+ * </p>
+ * <p>
+ *     <b>Note:</b> Boxed primitives are always written as their {@code toString()}, even if a {@link LogRenderer} is registered for their type.
+ * </p>
+ */
+public final class BinaryLogWriter {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(BinaryLogWriter.class);
+
+    /**
+     * The System Property that sets the default File.
+     */
+    public static final String FILE_PROPERTY = "swatt.logMethods.binaryFile";
+
+    static final byte[] MAGIC = "SWATTLOG".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+
+    ////////// Record Types //////////
+    static final byte SIGNATURE = 1, THREAD = 2, START = 3, END = 4;
+
+    ////////// Value Tags //////////
+    static final byte NULL = 0, BOOLEAN = 1, BYTE = 2, SHORT = 3, CHARACTER = 4, INTEGER = 5, LONG = 6, FLOAT = 7, DOUBLE = 8, TEXT = 9;
+
+    ////////// Signature Flags //////////
+    static final byte LOG_ARGUMENTS = 1, LOG_DURATION = 2, LOG_RESULTS = 4;
+
+    /**
+     * How much of the File is mapped at once. (The File grows by this much at a time; and no record can be larger.)
+     */
+    private static final int REGION_SIZE = 32 * 1024 * 1024;
+
+    /**
+     * Each thread's record buffer.
+     */
+    private static final ThreadLocal<ThreadState> THREAD_STATES = ThreadLocal.withInitial(ThreadState::new);
+
+    //========================= Static Variables ===============================
+    /**
+     * The open File; or {@code null}.
+     */
+    private static volatile OpenFile openFile;
+
+    /**
+     * If {@link #close()} was called (after the last {@link #open(File)}); so logs are dropped, instead of opening the default File.
+     */
+    private static volatile boolean closed = false;
+
+    private static boolean shutdownHookAdded = false;
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+    /**
+     * Closes the current File (if any), and starts writing to the given File; replacing anything already in it.
+     *
+     * @param _file
+     *         The File to write.
+     *
+     * @throws IllegalArgumentException If the given File is {@code null}.
+     * @throws UncheckedIOException If the File cannot be opened.
+     */
+    public static void open(File _file) {
+
+        LOGGER.info("open(_file: {}) [START]", _file);
+
+        //------------------------ Pre-Checks ----------------------------------
+        ArgumentChecks.notNull(_file, "File");
+
+        //------------------------ Code ----------------------------------------
+        close();
+
+        synchronized(BinaryLogWriter.class) {
+            openFile = new OpenFile(_file);
+            closed = false;
+
+            if(!shutdownHookAdded) {
+                Runtime.getRuntime().addShutdownHook(new Thread(BinaryLogWriter::close, "swatt-binary-log"));
+                shutdownHookAdded = true;
+            }
+        }
+
+        LOGGER.debug("open(File) [END]");
+    }
+
+    /**
+     * Waits for the logs being written, then writes everything to disk, and closes the current File (if any); trimming the unused end of its last region.
+     * <p>(Logs are dropped, until {@link #open(File)} is called again.)</p>
+     */
+    public static void close() {
+
+        //------------------------ Variables -----------------------------------
+        OpenFile closing;
+
+        //------------------------ Code ----------------------------------------
+        synchronized(BinaryLogWriter.class) {
+            closing = openFile;
+            openFile = null;
+            closed = true;
+        }
+
+        if(closing != null) {
+            closing.close();
+        }
+    }
+
+    /**
+     * @return The File being written; or {@code null}, if none is open.
+     */
+    public static File getFile() {
+
+        OpenFile current = openFile;
+
+        return current == null ? null : current.FILE;
+    }
+
+    /**
+     * Writes a [START] or [END] record; and the method's signature &amp; thread name records, if they have not been written yet.
+     *
+     * @param _info
+     *         The called Join Point.
+     * @param _start
+     *         If this is the [START] log; otherwise, it is the [END] log.
+     * @param _arguments
+     *         The call's arguments.
+     * @param _result
+     *         The call's Return Value.
+     * @param _durationNanos
+     *         How long the call took.
+     * @param _timeMillis
+     *         When the log happened.
+     */
+    static void write(LogMethodsAspect.JoinPointInfo _info, boolean _start, Object[] _arguments, Object _result, long _durationNanos, long _timeMillis) {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final Thread THREAD = Thread.currentThread();
+        final boolean WRITE_RESULT = !_start && _info.LOG_RESULTS;
+        final int VALUES = (_info.LOG_ARGUMENTS ? _arguments.length : 0) + (WRITE_RESULT ? 1 : 0);
+
+        //------------------------ Variables -----------------------------------
+        StringBuilder text = null;
+        int[] textEnds = null;
+        OpenFile current = openFile;
+
+        //------------------------ Code ----------------------------------------
+        if(current == null && (closed || (current = openDefault()) == null)) {
+            return;
+        }
+
+        // Other values are rendered before the record is built; as a LogRenderer may call a @LogMethods method, which would write its own records.
+        for(int i = 0; i < VALUES; i++) {
+            Object value = i < _arguments.length && _info.LOG_ARGUMENTS ? _arguments[i] : _result;
+            if(text == null && needsRendering(value)) {
+                text = LogMethodsAspect.borrowLogString();
+                textEnds = new int[VALUES];
+            }
+            if(text != null) {
+                if(needsRendering(value)) {
+                    LogMethodsAspect.render(value, text);
+                }
+                textEnds[i] = text.length();
+            }
+        }
+
+        current.WRITERS.incrementAndGet();
+        try {
+            if(current.isClosing) { // It will not wait for this log.
+                return;
+            }
+
+            ThreadState state = THREAD_STATES.get();
+            int signatureId = current.getSignatureId(_info, state);
+            if(signatureId < 0) {
+                return;
+            }
+
+            String threadName = THREAD.getName();
+            if(state.threadNameFile != current || state.threadName != threadName) { // Same String, unless the thread has been renamed.
+                while(true) {
+                    ByteBuffer buffer = state.startRecord(BinaryLogWriter.THREAD);
+                    try {
+                        buffer.putLong(THREAD.getId());
+                        putString(buffer, threadName);
+                        break;
+                    }
+                    catch(BufferOverflowException e) {
+                        if(!state.grow()) {
+                            break;
+                        }
+                    }
+                }
+                current.append(state);
+                state.threadNameFile = current;
+                state.threadName = threadName;
+            }
+
+            while(true) {
+                ByteBuffer buffer = state.startRecord(_start ? START : END);
+                try {
+                    buffer.putInt(signatureId).putLong(THREAD.getId()).putLong(_timeMillis);
+                    if(!_start) {
+                        buffer.putLong(_durationNanos);
+                    }
+                    for(int i = 0; i < VALUES; i++) {
+                        Object value = i < _arguments.length && _info.LOG_ARGUMENTS ? _arguments[i] : _result;
+                        if(needsRendering(value)) {
+                            putText(buffer, text, i == 0 ? 0 : textEnds[i - 1], textEnds[i], textEnds[i] - (i == 0 ? 0 : textEnds[i - 1]));
+                        }
+                        else {
+                            putValue(buffer, value);
+                        }
+                    }
+                    break;
+                }
+                catch(BufferOverflowException e) {
+                    if(!state.grow()) {
+                        break;
+                    }
+                }
+            }
+            current.append(state);
+        }
+        finally {
+            current.WRITERS.decrementAndGet();
+            if(text != null) {
+                LogMethodsAspect.recycleLogString(text);
+            }
+        }
+    }
+
+    //////////////////// Helper Methods ////////////////////
+    /**
+     * @return The default File, opened by the first log; or {@code null}, if {@link #close()} has been called.
+     */
+    private static synchronized OpenFile openDefault() {
+
+        if(openFile == null && !closed) {
+            open(new File(System.getProperty(FILE_PROPERTY, "test-output/swatt-log-methods.bin")));
+        }
+
+        return openFile;
+    }
+
+    /**
+     * @return If the given value is not copied straight into the File.
+     */
+    private static boolean needsRendering(Object _value) {
+        return _value != null && !(_value instanceof String || _value instanceof Integer || _value instanceof Long || _value instanceof Boolean
+                || _value instanceof Double || _value instanceof Float || _value instanceof Character || _value instanceof Short || _value instanceof Byte);
+    }
+
+    private static void putValue(ByteBuffer _buffer, Object _value) {
+
+        if(_value == null) {
+            _buffer.put(NULL);
+        }
+        else if(_value instanceof String) {
+            String string = (String) _value;
+            putText(_buffer, string, 0, Math.min(string.length(), LogMethodsAspect.maxLoggedCharacters), string.length());
+        }
+        else if(_value instanceof Integer) {
+            _buffer.put(INTEGER).putInt((Integer) _value);
+        }
+        else if(_value instanceof Long) {
+            _buffer.put(LONG).putLong((Long) _value);
+        }
+        else if(_value instanceof Boolean) {
+            _buffer.put(BOOLEAN).put((byte) ((Boolean) _value ? 1 : 0));
+        }
+        else if(_value instanceof Double) {
+            _buffer.put(DOUBLE).putDouble((Double) _value);
+        }
+        else if(_value instanceof Float) {
+            _buffer.put(FLOAT).putFloat((Float) _value);
+        }
+        else if(_value instanceof Character) {
+            _buffer.put(CHARACTER).putChar((Character) _value);
+        }
+        else if(_value instanceof Short) {
+            _buffer.put(SHORT).putShort((Short) _value);
+        }
+        else { // Byte; as everything else needsRendering().
+            _buffer.put(BYTE).put((Byte) _value);
+        }
+    }
+
+    /**
+     * Writes part of the given text, with its full length; so the decoder can add {@code "... (N characters)"}, if it was cut short.
+     */
+    private static void putText(ByteBuffer _buffer, CharSequence _text, int _start, int _end, int _fullLength) {
+
+        _buffer.put(TEXT).putInt(_fullLength).putInt(_end - _start);
+        for(int i = _start; i < _end; i++) {
+            _buffer.putChar(_text.charAt(i));
+        }
+    }
+
+    private static void putString(ByteBuffer _buffer, String _string) {
+
+        _buffer.putInt(_string.length());
+        for(int i = 0; i < _string.length(); i++) {
+            _buffer.putChar(_string.charAt(i));
+        }
+    }
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+    private BinaryLogWriter() {}
+
+    //========================= Methods ========================================
+
+    //========================= Classes ========================================
+    /**
+     * A File being written.
+     */
+    private static final class OpenFile {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final File FILE;
+        final FileChannel CHANNEL;
+
+        /**
+         * The id of each signature written to this File. (Only added after the signature record is in the File; so no record can come before its signature.)
+         */
+        final ConcurrentMap<LogMethodsAspect.JoinPointInfo, Integer> SIGNATURE_IDS = new ConcurrentHashMap<>();
+
+        /**
+         * How many threads are writing to this File right now.
+         */
+        final AtomicInteger WRITERS = new AtomicInteger();
+
+        //------------------------ Variables -----------------------------------
+        /**
+         * The currently mapped region of the File.
+         */
+        volatile Region region;
+
+        /**
+         * Set, before waiting for the {@link #WRITERS} to finish.
+         */
+        volatile boolean isClosing = false;
+
+        //------------------------ Constructors --------------------------------
+        OpenFile(File _file) {
+
+            File parent = _file.getAbsoluteFile().getParentFile();
+            if(parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                throw new UncheckedIOException(new IOException("Could not create Directory: " + parent));
+            }
+
+            FILE = _file;
+            try {
+                CHANNEL = FileChannel.open(_file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+            }
+            catch(IOException e) {
+                throw new UncheckedIOException("Could not open Binary Log File: " + _file, e);
+            }
+
+            try {
+                region = new Region(CHANNEL, 0);
+            }
+            catch(IOException e) {
+                closeChannel();
+                throw new UncheckedIOException("Could not open Binary Log File: " + _file, e);
+            }
+
+            region.BUFFER.put(MAGIC).putInt(VERSION);
+            region.POSITION.set(region.BUFFER.position());
+        }
+
+        //------------------------ Methods -------------------------------------
+        /**
+         * @return The given method's signature id, after writing its signature record, if it is new to this File;
+         * or {@code -1}, if the signature record was too large (so the method's records are dropped).
+         */
+        int getSignatureId(LogMethodsAspect.JoinPointInfo _info, ThreadState _state) {
+
+            Integer signatureId = SIGNATURE_IDS.get(_info);
+            if(signatureId != null) {
+                return signatureId;
+            }
+
+            synchronized(this) {
+                signatureId = SIGNATURE_IDS.get(_info);
+                if(signatureId == null) {
+
+                    signatureId = SIGNATURE_IDS.size() + 1;
+                    while(true) {
+                        ByteBuffer buffer = _state.startRecord(SIGNATURE);
+                        try {
+                            buffer.putInt(signatureId);
+                            putString(buffer, _info.LOGGER.getName());
+                            putString(buffer, _info.NAME);
+                            putString(buffer, _info.START_LEVEL.name());
+                            putString(buffer, _info.END_LEVEL.name());
+                            buffer.put((byte) ((_info.LOG_ARGUMENTS ? LOG_ARGUMENTS : 0) | (_info.LOG_DURATION ? LOG_DURATION : 0)
+                                    | (_info.LOG_RESULTS ? LOG_RESULTS : 0)));
+                            buffer.putInt(_info.PARAMETER_NAMES.length);
+                            for(int i = 0; i < _info.PARAMETER_NAMES.length; i++) {
+                                putString(buffer, _info.PARAMETER_NAMES[i]);
+                                putString(buffer, _info.PARAMETER_TYPE_NAMES[i]);
+                            }
+                            break;
+                        }
+                        catch(BufferOverflowException e) {
+                            if(!_state.grow()) {
+                                break;
+                            }
+                        }
+                    }
+                    if(!append(_state)) { // Not published; so the method's [START] / [END] records are dropped too.
+                        LOGGER.warn("The LogMethods signature of {} was dropped.", _info.NAME);
+                        return -1;
+                    }
+
+                    SIGNATURE_IDS.put(_info, signatureId);
+                }
+            }
+
+            return signatureId;
+        }
+
+        /**
+         * Copies the thread's finished record into the File; mapping the next region first, if the current one is full.
+         *
+         * @return {@code false}, if the record was too large; so it was dropped.
+         */
+        boolean append(ThreadState _state) {
+
+            //------------------------ CONSTANTS -----------------------------------
+            final int LENGTH = _state.endRecord();
+
+            //------------------------ Code ----------------------------------------
+            if(LENGTH < 0) {
+                return false;
+            }
+
+            while(true) {
+                Region current = region;
+                int start = current.reserve(LENGTH);
+                if(start >= 0) {
+                    _state.copyTo(current, start, LENGTH);
+                    return true;
+                }
+                nextRegion(current);
+            }
+        }
+
+        /**
+         * Seals the given (full) region, and maps the next one; starting right where the sealed region's records end.
+         */
+        private synchronized void nextRegion(Region _full) {
+
+            if(region != _full) { // Another thread already mapped it.
+                return;
+            }
+
+            try {
+                region = new Region(CHANNEL, _full.START + _full.seal());
+            }
+            catch(IOException e) {
+                throw new UncheckedIOException("Could not grow Binary Log File: " + FILE, e);
+            }
+        }
+
+        /**
+         * Waits for the {@link #WRITERS} to finish, and closes the File; trimming the unused end of its last region.
+         */
+        void close() {
+
+            isClosing = true;
+            while(WRITERS.get() > 0) {
+                Thread.yield();
+            }
+
+            synchronized(this) {
+                Region last = region;
+                try {
+                    last.BUFFER.force();
+                    // The mapping is only released when the buffer is garbage collected; so trimming may fail on Windows.
+                    CHANNEL.truncate(last.START + last.POSITION.get());
+                }
+                catch(IOException e) {
+                    // The decoder stops at the first empty record; so the untrimmed end is harmless.
+                }
+                finally {
+                    closeChannel();
+                }
+            }
+        }
+
+        private void closeChannel() {
+
+            try {
+                CHANNEL.close();
+            }
+            catch(IOException e) {
+                LOGGER.warn("Could not close Binary Log File: " + FILE, e);
+            }
+        }
+    }
+
+    /**
+     * A mapped region of the File.
+     */
+    private static final class Region {
+
+        //------------------------ CONSTANTS -----------------------------------
+        /**
+         * Greater than any real position; so no more records fit.
+         */
+        static final int SEALED = Integer.MAX_VALUE;
+
+        final long START;
+        final MappedByteBuffer BUFFER;
+
+        /**
+         * The end of the reserved records; which only grows, by compare-and-set.
+         */
+        final AtomicInteger POSITION = new AtomicInteger();
+
+        //------------------------ Constructors --------------------------------
+        Region(FileChannel _channel, long _start) throws IOException {
+            START = _start;
+            BUFFER = _channel.map(FileChannel.MapMode.READ_WRITE, _start, REGION_SIZE);
+        }
+
+        //------------------------ Methods -------------------------------------
+        /**
+         * @return The start of the reserved space; or {@code -1}, if it does not fit.
+         */
+        int reserve(int _length) {
+
+            while(true) {
+                int start = POSITION.get();
+                if(start > REGION_SIZE - _length) {
+                    return -1;
+                }
+                if(POSITION.compareAndSet(start, start + _length)) {
+                    return start;
+                }
+            }
+        }
+
+        /**
+         * Stops any more records from being reserved.
+         *
+         * @return The end of the reserved records.
+         */
+        int seal() {
+            return POSITION.getAndSet(SEALED);
+        }
+    }
+
+    /**
+     * A thread's record buffer; and a view of the region it last wrote to.
+     */
+    private static final class ThreadState {
+
+        //------------------------ Variables -----------------------------------
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        Region viewRegion;
+        ByteBuffer view;
+
+        /**
+         * The File this thread's name was last written to; and the name.
+         */
+        OpenFile threadNameFile;
+        String threadName;
+
+        /**
+         * If the current record did not fit in the largest buffer.
+         */
+        private boolean tooLarge;
+
+        //------------------------ Methods -------------------------------------
+        /**
+         * Starts a record of the given type.
+         * <p>
+         *     If the record does not fit (i.e. a {@link BufferOverflowException}), call {@link #grow()}, and put the whole record again.
+         * </p>
+         *
+         * @return The buffer to put the rest of the record into.
+         */
+        ByteBuffer startRecord(byte _type) {
+
+            ((Buffer) buffer).clear(); // Through Buffer; so it links on Java 8, when compiled by a later JDK.
+            buffer.putInt(0).put(_type);
+
+            return buffer;
+        }
+
+        /**
+         * Doubles the buffer; up to the {@link #REGION_SIZE}.
+         *
+         * @return {@code false}, if the buffer is already as large as it can be; so the record will be dropped.
+         */
+        boolean grow() {
+
+            if(buffer.capacity() >= REGION_SIZE) {
+                tooLarge = true;
+                return false;
+            }
+
+            buffer = ByteBuffer.allocate(Math.min(buffer.capacity() * 2, REGION_SIZE));
+            return true;
+        }
+
+        /**
+         * Fills in the record's length (which does not include the length itself).
+         *
+         * @return The record's full length; or {@code -1}, if it was too large.
+         */
+        int endRecord() {
+
+            int length = buffer.position();
+            ((Buffer) buffer).clear();
+
+            if(tooLarge) {
+                tooLarge = false;
+                LOGGER.warn("A LogMethods record was larger than {} bytes; so it was dropped.", REGION_SIZE);
+                return -1;
+            }
+
+            buffer.putInt(0, length - Integer.BYTES);
+            return length;
+        }
+
+        void copyTo(Region _region, int _start, int _length) {
+
+            if(viewRegion != _region) {
+                viewRegion = _region;
+                view = _region.BUFFER.duplicate();
+            }
+
+            ((Buffer) view).position(_start);
+            view.put(buffer.array(), 0, _length);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package xyz.swatt.log;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import xyz.swatt.asserts.ArgumentChecks;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the call tree of every {@link LogMethods} method, recorded by {@link LogMethodsAspect} in {@link LogMethodsAspect.Mode#FLAME_GRAPH} mode;
+ * with the total and self time of each call path (merged across all threads).
+ * <p>
+ *     {@link #toCollapsedStacks()} writes the tree in the "collapsed stack" format ({@code a;b;c 1234}, with self time in microseconds),
+ *     which Flame Graph tools (i.e. {@code flamegraph.pl}, speedscope) can render.
+ * </p>
+ * <p>
+ *     If any call was recorded, the collapsed stacks are also written when the JVM exits; to the File named by {@value #FILE_PROPERTY}
+ *     (default: {@code test-output/swatt-flame-graph.txt}). Use {@link #writeTo(File)} to write them at any other time.
+ * </p>
+ */
+public final class FlameGraph {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(FlameGraph.class);
+
+    /**
+     * The System Property that sets the File written at shutdown.
+     */
+    public static final String FILE_PROPERTY = "swatt.logMethods.flameGraphFile";
+
+    /**
+     * The base of every call path. (Not written.)
+     */
+    private static final Node ROOT = new Node(null, "");
+
+    /**
+     * Each thread's current call path.
+     */
+    private static final ThreadLocal<Node> CURRENT = ThreadLocal.withInitial(() -> ROOT);
+
+    private static final AtomicBoolean SHUTDOWN_HOOK_ADDED = new AtomicBoolean();
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+    /**
+     * Clears every call path's recorded times. (The paths themselves are kept.)
+     * <p>
+     *     <b>Note:</b> A call that is still running is recorded in full when it ends, even though its caller's time was cleared;
+     *     so the caller's self time may come out too small (though never below 0).
+     * </p>
+     */
+    public static void reset() {
+
+        LOGGER.info("reset() [START]");
+
+        ROOT.reset();
+
+        LOGGER.debug("reset() [END]");
+    }
+
+    /**
+     * @return Each recorded call path, on its own line, as {@code outer;middle;inner self_microseconds}. (Paths with no self time are left out.)
+     */
+    public static String toCollapsedStacks() {
+
+        StringBuilder collapsedStacks = new StringBuilder();
+        for(Node child : ROOT.getChildren()) {
+            child.appendTo(new StringBuilder(), collapsedStacks);
+        }
+
+        return collapsedStacks.toString();
+    }
+
+    /**
+     * Writes {@link #toCollapsedStacks()} to the given File; replacing anything already in it.
+     *
+     * @param _file
+     *         The File to write.
+     *
+     * @throws IllegalArgumentException If the given File is {@code null}.
+     * @throws UncheckedIOException If the File cannot be written.
+     */
+    public static void writeTo(File _file) {
+
+        LOGGER.info("writeTo(_file: {}) [START]", _file);
+
+        //------------------------ Pre-Checks ----------------------------------
+        ArgumentChecks.notNull(_file, "File");
+
+        //------------------------ Code ----------------------------------------
+        File parent = _file.getAbsoluteFile().getParentFile();
+        if(parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new UncheckedIOException(new IOException("Could not create Directory: " + parent));
+        }
+
+        try(BufferedWriter writer = Files.newBufferedWriter(_file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write(toCollapsedStacks());
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException("Could not write File: " + _file, e);
+        }
+
+        LOGGER.debug("writeTo(File) [END]");
+    }
+
+    /**
+     * Moves this thread into a call of the given method.
+     *
+     * @param _method
+     *         The method's unique name.
+     *
+     * @return The called path; which must be given to {@link #exit(Node, long)}, when the call ends.
+     */
+    static Node enter(String _method) {
+
+        Node node = CURRENT.get().getChild(_method);
+        CURRENT.set(node);
+
+        if(SHUTDOWN_HOOK_ADDED.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                String collapsedStacks = toCollapsedStacks();
+                if(!collapsedStacks.isEmpty()) {
+                    writeTo(new File(System.getProperty(FILE_PROPERTY, "test-output/swatt-flame-graph.txt")));
+                }
+            }, "swatt-flame-graph"));
+        }
+
+        return node;
+    }
+
+    /**
+     * Records the end of a call, and moves this thread back to the calling path.
+     *
+     * @param _node
+     *         What {@link #enter(String)} returned for the call.
+     * @param _nanos
+     *         How long the call took.
+     */
+    static void exit(Node _node, long _nanos) {
+
+        _node.TOTAL_NANOS.add(_nanos);
+        _node.PARENT.CHILD_NANOS.add(_nanos);
+
+        CURRENT.set(_node.PARENT);
+    }
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+    private FlameGraph() {}
+
+    //========================= Methods ========================================
+
+    //========================= Classes ========================================
+    /**
+     * A single call path; i.e. {@code outer;middle;inner}.
+     */
+    static final class Node {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final Node PARENT;
+
+        /**
+         * The called method's unique name.
+         */
+        final String METHOD;
+
+        final LongAdder TOTAL_NANOS = new LongAdder(), CHILD_NANOS = new LongAdder();
+
+        private final ConcurrentMap<String, Node> CHILDREN = new ConcurrentHashMap<>();
+
+        //------------------------ Constructors --------------------------------
+        private Node(Node _parent, String _method) {
+            PARENT = _parent;
+            METHOD = _method;
+        }
+
+        //------------------------ Methods -------------------------------------
+        /**
+         * @return The path of a call to the given method, from this path; created, if this is its first call.
+         */
+        Node getChild(String _method) {
+
+            Node child = CHILDREN.get(_method);
+            if(child == null) {
+                child = CHILDREN.computeIfAbsent(_method, _key -> new Node(this, _key));
+            }
+
+            return child;
+        }
+
+        //////////////////// Helper Methods ////////////////////
+        /**
+         * @return This path's calls, sorted by method name; so the output is always in the same order.
+         */
+        private List<Node> getChildren() {
+
+            List<Node> children = new ArrayList<>(CHILDREN.values());
+            children.sort((_first, _second) -> _first.METHOD.compareTo(_second.METHOD));
+
+            return children;
+        }
+
+        /**
+         * Appends this path's collapsed stack line (if it has self time), and then its calls' lines.
+         */
+        private void appendTo(StringBuilder _path, StringBuilder _collapsedStacks) {
+
+            int pathLength = _path.length();
+            if(pathLength > 0) {
+                _path.append(';');
+            }
+            _path.append(METHOD);
+
+            long selfMicros = TimeUnit.NANOSECONDS.toMicros(Math.max(TOTAL_NANOS.sum() - CHILD_NANOS.sum(), 0));
+            if(selfMicros > 0) {
+                _collapsedStacks.append(_path).append(' ').append(selfMicros).append('\n');
+            }
+
+            for(Node child : getChildren()) {
+                child.appendTo(_path, _collapsedStacks);
+            }
+
+            _path.setLength(pathLength);
+        }
+
+        private void reset() {
+
+            TOTAL_NANOS.reset();
+            CHILD_NANOS.reset();
+            for(Node child : CHILDREN.values()) {
+                child.reset();
+            }
+        }
+    }
+}
@@ -31,13 +31,23 @@ import java.lang.annotation.*;
  *     </ul>
  * </li>
  * <li>(Line Numbers will not be correct for these logs)</li>
+ * <li>If a method's Logger is not enabled for its [START] or [END] Level, its Arguments and Return Value are not formatted</li>
  * <li>{@link ElementNSImpl}s are printed as [Name: Value], or [Name: (child_count)] if Value is {@code null}</li>
  * <li>{@link File}s are printed as Absolute Paths</li>
- * <li>Array Values are printed out</li>
- * <li>Multidimensional Array Values are printed out, at each level</li>
- * <li>{@code .toString()} is used for everything else</li>
+ * <li>Array, Collection, and Map Values are printed out, at each level (up to {@link LogMethodsAspect#maxLoggedElements} each, plus the total count)</li>
+ * <li>{@code byte[]}s are printed as their length, and their first {@link LogMethodsAspect#maxLoggedBytes} in Hex</li>
+ * <li>{@code WebElementWrapper}s are printed as their selector (without calling the browser)</li>
+ * <li>{@code .toString()} is used for everything else (up to {@link LogMethodsAspect#maxLoggedCharacters})</li>
+ * <li>Custom types can be printed with a {@link LogRenderer} (see {@link LogMethodsAspect#registerRenderer(Class, LogRenderer)})</li>
  * </ul>
  * <p>
+ * To collect per-method timings (in {@link MethodTimings}) instead of logs, set {@link LogMethodsAspect#mode} to {@link LogMethodsAspect.Mode#METRICS}
+ * (or start the JVM with {@code -Dswatt.logMethods.mode=METRICS}).
+ * To move the log formatting and writing onto a background thread (see {@link AsyncLogBuffer}), use {@link LogMethodsAspect.Mode#ASYNC_LOG}.
+ * To write compact binary logs instead of text (see {@link BinaryLogWriter} &amp; {@link BinaryLogDecoder}), use {@link LogMethodsAspect.Mode#BINARY_LOG}.
+ * And to write a Flame Graph of where the time goes (see {@link FlameGraph}), use {@link LogMethodsAspect.Mode#FLAME_GRAPH}.
+ * </p>
+ * <p>
  * <sub>(Work done in {@link LogMethodsAspect}.)</sub>
  * </p>
  * <p>&nbsp;</p>
@@ -74,6 +84,30 @@ public @interface LogMethods {
      * @return If method returned values will be logged.
      */
     boolean returns() default true;
+
+    /**
+     * Only logs 1 in every {@code sample} calls of a method (starting with the first); i.e. {@code 100} to log 1% of the calls.
+     * <p>(default = {@code 1}; every call is logged)</p>
+     * <p>
+     * <i>Can be overridden for all methods, with {@link LogMethodsAspect#sampleOverride}.</i>
+     * </p>
+     *
+     * @return How many calls there are, for each call that is logged.
+     */
+    int sample() default 1;
+
+    /**
+     * Only logs calls that take at least this many milliseconds.
+     * The [START] log is held back until the call ends; and then written along with the [END] log, if the call was slow enough.
+     * (So the argument values are the ones at the end of the call.)
+     * <p>(default = {@code 0}; every call is logged)</p>
+     * <p>
+     * <i>Can be overridden for all methods, with {@link LogMethodsAspect#minDurationMillisOverride}.</i>
+     * </p>
+     *
+     * @return The shortest call duration that is logged.
+     */
+    long minDurationMillis() default 0;
     
     /**
      * If {@code true}, then this method will not be logged.
@@ -1,8 +1,12 @@
 package xyz.swatt.log;
 
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XdmNodeKind;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.xerces.dom.ElementNSImpl;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
@@ -10,17 +14,25 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.ConstructorSignature;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.testng.annotations.Test;
+import xyz.swatt.asserts.ArgumentChecks;
+import xyz.swatt.selenium.WebElementWrapper;
+import xyz.swatt.xml.ReadOnlyXmlDocument;
 
 import java.io.File;
-import java.lang.reflect.Constructor;
+import java.lang.reflect.Array;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.math.BigInteger;
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
 /**
  * This class handles the logic for the @{@link LogMethods} annotation.
@@ -29,16 +41,191 @@ import java.util.Random;
 public class LogMethodsAspect {
 
     //========================= Static Enums ===================================
+    /**
+     * What is done for each {@link LogMethods} method call.
+     */
+    public static enum Mode {
+        /**
+         * Writes [START] and [END] logs. (Default)
+         */
+        LOG,
+        /**
+         * Writes the same logs as {@link #LOG}; but the calling thread only puts each log's data into the {@link AsyncLogBuffer},
+         * and the logs are formatted and written on a background thread.
+         * <p>
+         *     <b>Note:</b> Argument and Return Values are rendered when the log is written; so, if they are changed after the call, the log shows the change.
+         * </p>
+         */
+        ASYNC_LOG,
+        /**
+         * Writes the same logs as {@link #LOG}; but to a compact binary File (see {@link BinaryLogWriter}), instead of to Log4j.
+         * <p>(Use {@link BinaryLogDecoder} to turn the File into text.)</p>
+         */
+        BINARY_LOG,
+        /**
+         * Only records each call's duration in {@link MethodTimings}; nothing is logged.
+         * <p>(Methods with {@code @LogMethods(skip = true)} are not recorded.)</p>
+         */
+        METRICS,
+        /**
+         * Only records each call's time in the {@link FlameGraph} call tree; nothing is logged.
+         * <p>(Methods with {@code @LogMethods(skip = true)} are not recorded; so their calls are counted as their caller's self time.)</p>
+         */
+        FLAME_GRAPH
+    }
 
     //========================= STATIC CONSTANTS ===============================
     private static final Logger LOGGER = LogManager.getLogger(LogMethodsAspect.class);
 
+    /**
+     * The System Property that sets the starting {@link #mode}.
+     */
+    public static final String MODE_PROPERTY = "swatt.logMethods.mode";
+
+    /**
+     * The static data of each Join Point; looked up on its first call.
+     */
+    private static final ConcurrentMap<JoinPoint.StaticPart, JoinPointInfo> JOIN_POINT_INFO = new ConcurrentHashMap<>();
+
+    private static final Pattern LAMBDA_NAME = Pattern.compile("lambda\\$[0-9]+");
+
+    /**
+     * The registered {@link LogRenderer}s, by the type they render.
+     */
+    private static final ConcurrentMap<Class<?>, LogRenderer<Object>> RENDERERS = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link LogRenderer} that each rendered type resolved to. (Cleared when a renderer is registered.)
+     */
+    private static final ConcurrentMap<Class<?>, LogRenderer<Object>> RESOLVED_RENDERERS = new ConcurrentHashMap<>();
+
+    /**
+     * Each thread's reusable log StringBuilder; or {@code null}, while it is in use.
+     */
+    private static final ThreadLocal<StringBuilder> LOG_STRING = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    /**
+     * Log StringBuilders that grow larger than this are not kept, so one huge log does not hold onto its memory.
+     */
+    private static final int MAX_REUSED_LOG_STRING_CAPACITY = 64 * 1024;
+
     //========================= Static Variables ===============================
+    /**
+     * What is done for each {@link LogMethods} method call.
+     * <p>(Starts as the {@value #MODE_PROPERTY} System Property, if it is set; otherwise {@link Mode#LOG}.)</p>
+     */
+    public static volatile Mode mode = Mode.LOG;
+
+    /**
+     * If greater than 0, overrides every {@link LogMethods#sample()}; i.e. {@code 100} to only log 1 in every 100 calls of each method.
+     * <p>(Starts as the {@code swatt.logMethods.sample} System Property, if it is set.)</p>
+     */
+    public static volatile int sampleOverride = Integer.getInteger("swatt.logMethods.sample", 0);
+
+    /**
+     * If 0 or more, overrides every {@link LogMethods#minDurationMillis()}; i.e. {@code 500} to only log calls that take at least half a second.
+     * <p>(Starts as the {@code swatt.logMethods.minDurationMillis} System Property, if it is set.)</p>
+     */
+    public static volatile long minDurationMillisOverride = Long.getLong("swatt.logMethods.minDurationMillis", -1);
+
+    /**
+     * The most elements of an array, Collection, or Map that are logged. (The rest are only counted.)
+     */
+    public static volatile int maxLoggedElements = 10;
+
+    /**
+     * The most bytes of a {@code byte[]} that are logged (in Hex).
+     */
+    public static volatile int maxLoggedBytes = 32;
+
+    /**
+     * The most characters of any single value that are logged.
+     */
+    public static volatile int maxLoggedCharacters = 1000;
 
     //========================= Static Constructor =============================
-    static {}
+    static {
+
+        String modeProperty = System.getProperty(MODE_PROPERTY);
+        if(modeProperty != null) {
+            try {
+                mode = Mode.valueOf(modeProperty.trim().toUpperCase());
+            }
+            catch(IllegalArgumentException e) {
+                LOGGER.warn("Unknown {} System Property: \"{}\"; using {}.", MODE_PROPERTY, modeProperty, mode);
+            }
+        }
+
+        ////////// Built-In Renderers //////////
+        registerRenderer(CharSequence.class, LogMethodsAspect::renderCharSequence);
+        registerRenderer(Collection.class, LogMethodsAspect::renderCollection);
+        registerRenderer(Map.class, LogMethodsAspect::renderMap);
+        registerRenderer(byte[].class, LogMethodsAspect::renderBytes);
+        registerRenderer(File.class, (_file, _logString) -> _logString.append(_file.getAbsolutePath()));
+        registerRenderer(ElementNSImpl.class, (_element, _logString) -> {
+            synchronized(_element.getOwnerDocument()) { // ElementNSImpl/org.w3c.dom.Document are not thread safe.
+                _logString.append('[').append(_element.getNodeName()).append(": ");
+                if(_element.getNodeValue() != null) {
+                    renderCharSequence(_element.getNodeValue(), _logString);
+                }
+                else {
+                    _logString.append('(').append(_element.getLength()).append(')');
+                }
+                _logString.append(']');
+            }
+        });
+        registerRenderer(ReadOnlyXmlDocument.class, (_document, _logString) -> renderXdmNode(_document.ROOT, _logString)); // Immutable, so no lock is needed.
+        registerRenderer(XdmNode.class, LogMethodsAspect::renderXdmNode);
+        registerRenderer(WebElementWrapper.class, (_webElementWrapper, _logString) -> _logString.append(_webElementWrapper.toLogString())); // No browser call.
+    }
 
     //========================= Static Methods =================================
+    /**
+     * Sets how values of the given type (and its sub types) are written into @{@link LogMethods} logs;
+     * replacing any renderer already registered for that exact type.
+     * <p>
+     *     Types without a registered renderer (for themselves, a super class, or an interface) are logged with {@code toString()}
+     *     (up to {@link #maxLoggedCharacters}); except for arrays, which log their first {@link #maxLoggedElements}.
+     * </p>
+     *
+     * @param _type
+     *         The type to render.
+     * @param _renderer
+     *         Writes values of the given type into the log.
+     * @param <T>
+     *         The type to render.
+     *
+     * @throws IllegalArgumentException If either argument is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void registerRenderer(Class<T> _type, LogRenderer<? super T> _renderer) {
+
+        //------------------------ Pre-Checks ----------------------------------
+        ArgumentChecks.notNull(_type, "Type");
+        ArgumentChecks.notNull(_renderer, "Renderer");
+
+        //------------------------ Code ----------------------------------------
+        RENDERERS.put(_type, (LogRenderer<Object>) _renderer);
+        RESOLVED_RENDERERS.clear();
+    }
+
+    /**
+     * Writes the given value into a log, the same way as @{@link LogMethods} arguments and return values are; using the registered {@link LogRenderer}s.
+     *
+     * @param _object
+     *         The value to render. ({@code null} is written as {@code (NULL)}.)
+     * @param _logString
+     *         The log being built.
+     */
+    public static void render(Object _object, StringBuilder _logString) {
+
+        if(_object == null) {
+            _logString.append("(NULL)");
+        }
+        else {
+            getRenderer(_object.getClass()).render(_object, _logString);
+        }
+    }
 
     //========================= CONSTANTS ======================================
 
@@ -63,212 +250,615 @@ public class LogMethodsAspect {
     //========================= Methods for External Use =======================
     @Around("(execution(*.new(..)) || execution(* *(..))) && (@within(LogMethods) || @annotation(LogMethods))")
     public Object around(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
-        
+
+        if(mode == Mode.METRICS) { // Before any logging.
+            return time(proceedingJoinPoint);
+        }
+        else if(mode == Mode.FLAME_GRAPH) {
+            return profile(proceedingJoinPoint);
+        }
+        else if(mode == Mode.ASYNC_LOG) { // Nothing is logged on this thread.
+            return logTo(proceedingJoinPoint, AsyncLogBuffer::publish);
+        }
+        else if(mode == Mode.BINARY_LOG) {
+            return logTo(proceedingJoinPoint, BinaryLogWriter::write);
+        }
+
         LOGGER.info("around(ProceedingJoinPoint: {}) [START]", proceedingJoinPoint.getKind());
         
         //------------------------ Pre-Checks ----------------------------------
         
         //-------------------------CONSTANTS------------------------------------
+        final JoinPointInfo INFO = getJoinPointInfo(proceedingJoinPoint.getStaticPart());
 
         //-------------------------Variables------------------------------------
-        ///// Tier 1 /////
-        boolean isLambda = false, logArguments, logDuration, logResults, skipLogging;
-        int modifiers;
-
-        Class<?> classObj = proceedingJoinPoint.getSignature().getDeclaringType(), // Target is null for static methods.
-                methodReturnType;
-        Executable executable;
-        LocalDateTime startTime, endTime;
-        LogMethods classAnnotation, constructorMethodAnnotation;
-        Signature signature = proceedingJoinPoint.getSignature();
+        boolean deferStart, logStart, logEnd;
+        long durationNanos, minDurationNanos, startNanos;
         Object toRet;
-        String constructorMethodName;
-        StringBuilder logString;
+        String callString = null; // Built before the call; or after it, if the [START] log is deferred.
 
-        String[] parameterNames;
+        //-------------------------Code-----------------------------------------
+        ////////// Early Exit Checks //////////
+        if(INFO.SKIP) {
+            toRet = proceedingJoinPoint.proceed();
+            LOGGER.debug("around(ProceedingJoinPoint: {}) [END]: @LogMethods(skip=true)", proceedingJoinPoint.getKind());
+            return toRet;
+        }
 
-        ///// Tier 2 /////
-        Logger logger = LogManager.getLogger(classObj);
+        // Nothing would be logged; so don't build any Strings.
+        logStart = INFO.LOGGER.isEnabled(INFO.START_LEVEL);
+        logEnd = INFO.LOGGER.isEnabled(INFO.END_LEVEL);
+        if(!logStart && !logEnd) {
+            toRet = proceedingJoinPoint.proceed();
+            LOGGER.debug("around(ProceedingJoinPoint: {}) [END]: Logging Disabled", proceedingJoinPoint.getKind());
+            return toRet;
+        }
 
-        //-------------------------Code-----------------------------------------
-        ////////// Get Annotation(s), Modifiers, Name, & Return Type //////////
-        classAnnotation = classObj.getAnnotation(LogMethods.class);
-        if(signature instanceof ConstructorSignature) {
-            ConstructorSignature constructorSignature = ((ConstructorSignature) signature);
-            Constructor constructor = constructorSignature.getConstructor();
-            constructorMethodName = signature.getDeclaringType().getSimpleName();
-            parameterNames = constructorSignature.getParameterNames();
-            methodReturnType = null;
+        ////////// Sampling & Slow Call Checks //////////
+        if(!INFO.isSampled()) {
+            toRet = proceedingJoinPoint.proceed();
+            LOGGER.debug("around(ProceedingJoinPoint: {}) [END]: Not Sampled", proceedingJoinPoint.getKind());
+            return toRet;
+        }
+
+        // Only slow calls are logged; so wait to log the [START], until it is known if this call is slow.
+        minDurationNanos = INFO.getMinDurationNanos();
+        deferStart = minDurationNanos > 0;
 
-            executable = constructor;
+        ////////// Log Method Start //////////
+        if(!deferStart) {
+            callString = toCallString(INFO, proceedingJoinPoint.getArgs());
+            if(logStart) {
+                INFO.LOGGER.log(INFO.START_LEVEL, callString + "[START]");
+            }
         }
-        else {
-            MethodSignature methodSignature = ((MethodSignature) signature);
-            Method method = methodSignature.getMethod();
-            constructorMethodName = method.getName();
-            parameterNames = methodSignature.getParameterNames();
-            methodReturnType = method.getReturnType();
     
-            executable = method;
+        ////////// Run Method //////////
+        startNanos = System.nanoTime();
+        toRet = proceedingJoinPoint.proceed(); // TODO: Catch and log Throwables.
+        durationNanos = System.nanoTime() - startNanos;
+
+        ////////// Log Deferred Method Start //////////
+        if(deferStart) {
+
+            if(durationNanos < minDurationNanos) {
+                LOGGER.debug("around(ProceedingJoinPoint: {}) [END]: Faster than Minimum Duration", proceedingJoinPoint.getKind());
+                return toRet;
+            }
+
+            callString = toCallString(INFO, proceedingJoinPoint.getArgs());
+            if(logStart) {
+                INFO.LOGGER.log(INFO.START_LEVEL, callString + "[START]");
+            }
+        }
+
+        ////////// Log Method End //////////
+        if(logEnd) {
+
+            INFO.LOGGER.log(INFO.END_LEVEL, toEndString(INFO, callString, toRet, durationNanos));
+        }
+    
+        LOGGER.debug("around(ProceedingJoinPoint: {}) [END]: Object", proceedingJoinPoint.getKind());
     
-            if(constructorMethodName.matches("lambda\\$[0-9]+")) {
-                isLambda = true;
+        return toRet;
+    }
+
+    //========================= Methods for Internal Use =======================
+    /**
+     * Runs the given Join Point, and records its duration in {@link MethodTimings}; without any logging.
+     *
+     * @return The Join Point's Return Value.
+     */
+    private static Object time(ProceedingJoinPoint _proceedingJoinPoint) throws Throwable {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final JoinPointInfo INFO = getJoinPointInfo(_proceedingJoinPoint.getStaticPart());
+
+        //------------------------ Code ----------------------------------------
+        if(INFO.SKIP) {
+            return _proceedingJoinPoint.proceed();
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            return _proceedingJoinPoint.proceed();
+        }
+        finally {
+            INFO.getTiming().record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Runs the given Join Point, and records its time in the {@link FlameGraph}; under this thread's current call path.
+     *
+     * @return The Join Point's Return Value.
+     */
+    private static Object profile(ProceedingJoinPoint _proceedingJoinPoint) throws Throwable {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final JoinPointInfo INFO = getJoinPointInfo(_proceedingJoinPoint.getStaticPart());
+
+        //------------------------ Code ----------------------------------------
+        if(INFO.SKIP) {
+            return _proceedingJoinPoint.proceed();
+        }
+
+        FlameGraph.Node node = FlameGraph.enter(INFO.METHOD_KEY);
+        long startNanos = System.nanoTime();
+        try {
+            return _proceedingJoinPoint.proceed();
+        }
+        finally { // Even if the call throws, so this thread's call path stays correct.
+            FlameGraph.exit(node, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * @return The cached {@link JoinPointInfo} for the given Join Point; which is created the first time it is called.
+     */
+    private static JoinPointInfo getJoinPointInfo(JoinPoint.StaticPart _staticPart) {
+
+        JoinPointInfo info = JOIN_POINT_INFO.get(_staticPart);
+        if(info == null) {
+            info = new JoinPointInfo(_staticPart.getSignature());
+            JoinPointInfo existing = JOIN_POINT_INFO.putIfAbsent(_staticPart, info);
+            if(existing != null) {
+                info = existing;
             }
         }
-        constructorMethodAnnotation = executable.getAnnotation(LogMethods.class);
-        modifiers = executable.getModifiers();
 
-        ///// Get Annotation(s) Values /////
-        logArguments = constructorMethodAnnotation != null ? constructorMethodAnnotation.arguments() : classAnnotation.arguments();
-        logDuration = constructorMethodAnnotation != null ? constructorMethodAnnotation.duration() : classAnnotation.duration();
-        logResults = constructorMethodAnnotation != null ? constructorMethodAnnotation.returns() : classAnnotation.returns();
-        skipLogging = constructorMethodAnnotation != null && constructorMethodAnnotation.skip();
+        return info;
+    }
 
-        ////////// Early Exit Checks //////////
+    /**
+     * Runs the given Join Point, and hands its [START] &amp; [END] logs' data to the given sink; without formatting (or logging) anything.
+     *
+     * @return The Join Point's Return Value.
+     */
+    private static Object logTo(ProceedingJoinPoint _proceedingJoinPoint, LogSink _logSink) throws Throwable {
 
-        // Early Exit Check //
-        if(constructorMethodName.startsWith("$SWITCH_TABLE$")) {
-            toRet = proceedingJoinPoint.proceed();
-            LOGGER.debug("around(ProceedingJoinPoint: {}) [END]: $SWITCH_TABLE$", proceedingJoinPoint.getKind());
-            return toRet;
+        //------------------------ CONSTANTS -----------------------------------
+        final JoinPointInfo INFO = getJoinPointInfo(_proceedingJoinPoint.getStaticPart());
+
+        //------------------------ Variables -----------------------------------
+        boolean logStart = INFO.LOGGER.isEnabled(INFO.START_LEVEL), logEnd = INFO.LOGGER.isEnabled(INFO.END_LEVEL);
+        long durationNanos, minDurationNanos, startMillis, startNanos;
+        Object toRet;
+        Object[] arguments;
+
+        //------------------------ Code ----------------------------------------
+        if(INFO.SKIP || (!logStart && !logEnd) || !INFO.isSampled()) {
+            return _proceedingJoinPoint.proceed();
         }
-        if(skipLogging) {
-            toRet = proceedingJoinPoint.proceed();
-            LOGGER.debug("around(ProceedingJoinPoint: {}) [END]: @LogMethods(skip=true)", proceedingJoinPoint.getKind());
+
+        arguments = _proceedingJoinPoint.getArgs();
+        minDurationNanos = INFO.getMinDurationNanos();
+        startMillis = System.currentTimeMillis();
+
+        if(logStart && minDurationNanos <= 0) {
+            _logSink.log(INFO, true, arguments, null, 0, startMillis);
+        }
+
+        startNanos = System.nanoTime();
+        toRet = _proceedingJoinPoint.proceed(); // TODO: Catch and log Throwables.
+        durationNanos = System.nanoTime() - startNanos;
+
+        if(durationNanos < minDurationNanos) {
             return toRet;
         }
+        if(logStart && minDurationNanos > 0) { // Deferred [START].
+            _logSink.log(INFO, true, arguments, null, 0, startMillis);
+        }
+        if(logEnd) {
+            _logSink.log(INFO, false, arguments, toRet, durationNanos, System.currentTimeMillis());
+        }
 
-        ////////// Log Method Start //////////
-        ///// Construct Log String /////
-        logString = new StringBuilder(constructorMethodName + "(");
-        for(int i = 0; i < proceedingJoinPoint.getArgs().length; i++) {
+        return toRet;
+    }
+
+    /**
+     * @return The [END] log; i.e. {@code "method(_arg1: value) [END] {PT0.01S}\n\t=> value"}.
+     */
+    static String toEndString(JoinPointInfo _info, String _callString, Object _result, long _durationNanos) {
+
+        StringBuilder logString = borrowLogString().append(_callString).append("[END]");
+        if(_info.LOG_DURATION) {
+            logString.append(" {").append(Duration.ofNanos(_durationNanos)).append("}");
+        }
+        if(_info.LOG_RESULTS) {
+            logString.append("\n\t=> ");
+            render(_result, logString);
+        }
+
+        return releaseLogString(logString);
+    }
+
+    /**
+     * @return The start of the [START] &amp; [END] logs; i.e. {@code "method(_arg1: value, _arg2: value) "}.
+     */
+    static String toCallString(JoinPointInfo _info, Object[] _arguments) {
+
+        StringBuilder callString = borrowLogString().append(_info.NAME).append('(');
+        for(int i = 0; i < _arguments.length; i++) {
 
-            logString.append(parameterNames[i]);
-            if(logArguments) {
-                logString.append(": ").append(toLogString(proceedingJoinPoint.getArgs()[i])); // Log Value.
+            callString.append(_info.PARAMETER_NAMES[i]);
+            if(_info.LOG_ARGUMENTS) {
+                callString.append(": ");
+                render(_arguments[i], callString); // Log Value.
             }
             else {
-                logString.append(" (").append(executable.getParameterTypes()[i].getSimpleName()).append(")"); // Log Class/Type.
+                callString.append(" (").append(_info.PARAMETER_TYPE_NAMES[i]).append(")"); // Log Class/Type.
             }
-            if(i < proceedingJoinPoint.getArgs().length - 1) {
-                logString.append(", ");
+            if(i < _arguments.length - 1) {
+                callString.append(", ");
             }
         }
-        logString.append(") ");
-    
-        ///// Perform Logging /////
-        if(isLambda) {
-            logger.trace(logString + "[START]");
+
+        return releaseLogString(callString.append(") "));
+    }
+
+    /**
+     * @return This thread's reusable log StringBuilder (emptied); or a new one, if it is already in use (i.e. a renderer called a logged method).
+     */
+    static StringBuilder borrowLogString() {
+
+        StringBuilder logString = LOG_STRING.get();
+        if(logString == null) {
+            return new StringBuilder();
         }
-        else if(Modifier.isPublic(modifiers)) {
-            logger.info(logString + "[START]");
+
+        LOG_STRING.set(null);
+        logString.setLength(0);
+
+        return logString;
+    }
+
+    /**
+     * Gives the given log StringBuilder back to this thread, to be reused; unless it has grown too large to keep.
+     *
+     * @return The log String.
+     */
+    private static String releaseLogString(StringBuilder _logString) {
+
+        String logString = _logString.toString();
+        recycleLogString(_logString);
+
+        return logString;
+    }
+
+    /**
+     * Gives the given log StringBuilder back to this thread, to be reused; unless it has grown too large to keep.
+     */
+    static void recycleLogString(StringBuilder _logString) {
+
+        if(_logString.capacity() <= MAX_REUSED_LOG_STRING_CAPACITY) {
+            LOG_STRING.set(_logString);
         }
-        else {
-            logger.debug(logString + "[START]");
+    }
+
+    /**
+     * @return The registered {@link LogRenderer} for the given type, or one of its super types; or the default (array or {@code toString()}) renderer.
+     */
+    private static LogRenderer<Object> getRenderer(Class<?> _type) {
+
+        LogRenderer<Object> renderer = RESOLVED_RENDERERS.get(_type);
+        if(renderer != null) {
+            return renderer;
         }
-    
-        ////////// Run Method //////////
-        startTime = LocalDateTime.now();
-        toRet = proceedingJoinPoint.proceed(); // TODO: Catch and log Throwables.
-        endTime = LocalDateTime.now();
 
-        ////////// Log Method End //////////
-        logString.append("[END]");
-        if(logDuration) {
-            Duration timeSpent = Duration.between(startTime, endTime);
-            logString.append(" {").append(timeSpent).append("}");
+        for(Class<?> type = _type; type != null && renderer == null; type = type.getSuperclass()) {
+            renderer = RENDERERS.get(type);
         }
-        ///// Construct Log String /////
-        if(methodReturnType != null && methodReturnType != Void.TYPE && logResults) {
-            logString.append("\n\t=> ").append(toLogString(toRet));
+        for(Class<?> type = _type; type != null && renderer == null; type = type.getSuperclass()) {
+            renderer = getInterfaceRenderer(type.getInterfaces());
         }
-    
-        ///// Perform Logging /////
-        if(isLambda) {
-            logger.trace(logString.toString());
+        if(renderer == null) {
+            renderer = _type.isArray() ? LogMethodsAspect::renderArray : LogMethodsAspect::renderToString;
+        }
+
+        RESOLVED_RENDERERS.put(_type, renderer);
+
+        return renderer;
+    }
+
+    /**
+     * @return The registered {@link LogRenderer} for the first of the given interfaces (or their super interfaces) that has one; or {@code null}.
+     */
+    private static LogRenderer<Object> getInterfaceRenderer(Class<?>[] _interfaces) {
+
+        for(Class<?> anInterface : _interfaces) {
+
+            LogRenderer<Object> renderer = RENDERERS.get(anInterface);
+            if(renderer == null) {
+                renderer = getInterfaceRenderer(anInterface.getInterfaces());
+            }
+            if(renderer != null) {
+                return renderer;
+            }
         }
-        else if(Modifier.isPublic(modifiers)) {
-            logger.debug(logString.toString());
+
+        return null;
+    }
+
+    /**
+     * Renders a nested value (of an array, Collection, or Map), the same as its {@code toString()} would.
+     */
+    private static void renderElement(Object _element, Object _container, StringBuilder _logString) {
+
+        if(_element == null) {
+            _logString.append("null");
+        }
+        else if(_element == _container) {
+            _logString.append(_container.getClass().isArray() ? "[...]" : "(this " + (_container instanceof Map ? "Map" : "Collection") + ")");
         }
         else {
-            logger.trace(logString.toString());
+            render(_element, _logString);
         }
-    
-        LOGGER.debug("around(ProceedingJoinPoint: {}) [END]: Object", proceedingJoinPoint.getKind());
-    
-        return toRet;
     }
 
-    //========================= Methods for Internal Use =======================
     /**
-     * @return The given {@code Object} as a formatted string, based on type.
-     *
-     * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
+     * Renders the first {@link #maxLoggedElements} of any (non-{@code byte}) array; i.e. {@code [1, 2, 3, ... (1000 total)]}.
      */
-    private String toLogString(Object _object) {
+    private static void renderArray(Object _array, StringBuilder _logString) {
 
-        LOGGER.debug("toLogString(_object: {}) [START]", _object == null ? "(NULL)" : _object.getClass().getTypeName());
+        int length = Array.getLength(_array), logged = Math.min(length, maxLoggedElements);
 
-        //------------------------ Pre-Checks ----------------------------------
-        if(_object == null) {
-            LOGGER.trace("toLogString(_object: (NULL)) [END]: (NULL)");
-            return "(NULL)";
+        _logString.append('[');
+        for(int i = 0; i < logged; i++) {
+            if(i > 0) {
+                _logString.append(", ");
+            }
+            renderElement(Array.get(_array, i), _array, _logString);
         }
+        if(length > logged) {
+            _logString.append(logged > 0 ? ", " : "").append("... (").append(length).append(" total)");
+        }
+        _logString.append(']');
+    }
 
-        //------------------------ CONSTANTS -----------------------------------
+    /**
+     * Renders a {@code byte[]} as its length, and the first {@link #maxLoggedBytes} in Hex; i.e. {@code byte[1024]: 0x3C3F786D6C...}.
+     */
+    private static void renderBytes(byte[] _bytes, StringBuilder _logString) {
 
-        //------------------------ Variables -----------------------------------
-        String logString;
+        final char[] HEX = "0123456789ABCDEF".toCharArray();
 
-        //------------------------ Code ----------------------------------------
-        if(_object instanceof Object[]) { // Also evaluates to true, for multidimensional primitive arrays.
-            logString = Arrays.deepToString((Object[]) _object);
+        int logged = Math.min(_bytes.length, maxLoggedBytes);
+
+        _logString.append("byte[").append(_bytes.length).append(']');
+        if(logged > 0) {
+            _logString.append(": 0x");
+            for(int i = 0; i < logged; i++) {
+                _logString.append(HEX[(_bytes[i] >> 4) & 0xF]).append(HEX[_bytes[i] & 0xF]);
+            }
+            if(_bytes.length > logged) {
+                _logString.append("...");
+            }
+        }
+    }
+
+    /**
+     * Renders the first {@link #maxLoggedElements} of a Collection (without copying it); i.e. {@code [a, b, c, ... (1000 total)]}.
+     */
+    private static void renderCollection(Collection<?> _collection, StringBuilder _logString) {
+
+        int logged = 0;
+
+        _logString.append('[');
+        for(Object element : _collection) {
+
+            if(logged == maxLoggedElements) {
+                _logString.append(logged > 0 ? ", " : "").append("... (").append(_collection.size()).append(" total)");
+                break;
+            }
+            if(logged++ > 0) {
+                _logString.append(", ");
+            }
+            renderElement(element, _collection, _logString);
+        }
+        _logString.append(']');
+    }
+
+    /**
+     * Renders the first {@link #maxLoggedElements} entries of a Map (without copying it); i.e. {@code {a=1, b=2, ... (1000 total)}}.
+     */
+    private static void renderMap(Map<?, ?> _map, StringBuilder _logString) {
+
+        int logged = 0;
+
+        _logString.append('{');
+        for(Map.Entry<?, ?> entry : _map.entrySet()) {
+
+            if(logged == maxLoggedElements) {
+                _logString.append(logged > 0 ? ", " : "").append("... (").append(_map.size()).append(" total)");
+                break;
+            }
+            if(logged++ > 0) {
+                _logString.append(", ");
+            }
+            renderElement(entry.getKey(), _map, _logString);
+            _logString.append('=');
+            renderElement(entry.getValue(), _map, _logString);
+        }
+        _logString.append('}');
+    }
+
+    /**
+     * Renders the first {@link #maxLoggedCharacters} of the given text; i.e. {@code Some long te... (10000 characters)}.
+     */
+    private static void renderCharSequence(CharSequence _text, StringBuilder _logString) {
+
+        if(_text.length() <= maxLoggedCharacters) {
+            _logString.append(_text);
         }
         else {
-            switch(_object.getClass().getTypeName()) {
-                case "org.apache.xerces.dom.ElementNSImpl":
-                    ElementNSImpl element = ((ElementNSImpl) _object);
-                    synchronized(element.getOwnerDocument()) { // ElementNSImpl/org.w3c.dom.Document are not thread safe.
-                        logString = "[" + element.getNodeName() + ": "
-                                + (element.getNodeValue() != null ? element.getNodeValue() : "(" + element.getLength() + ")") + "]";
-                    }
-                    break;
-                case "java.io.File":
-                    logString = ((File) _object).getAbsolutePath();
-                    break;
-                case "byte[]":
-                    logString = Arrays.toString((byte[]) _object);
-                    break;
-                case "boolean[]":
-                    logString = Arrays.toString((boolean[]) _object);
-                    break;
-                case "int[]":
-                    logString = Arrays.toString((int[]) _object);
-                    break;
-                case "short[]":
-                    logString = Arrays.toString((short[]) _object);
-                    break;
-                case "long[]":
-                    logString = Arrays.toString((long[]) _object);
-                    break;
-                case "float[]":
-                    logString = Arrays.toString((float[]) _object);
-                    break;
-                case "double[]":
-                    logString = Arrays.toString((double[]) _object);
-                    break;
-                case "char[]":
-                    logString = Arrays.toString((char[]) _object);
+            _logString.append(_text, 0, maxLoggedCharacters).append("... (").append(_text.length()).append(" characters)");
+        }
+    }
+
+    private static void renderToString(Object _object, StringBuilder _logString) {
+        renderCharSequence(String.valueOf(_object), _logString);
+    }
+
+    /**
+     * Renders a Saxon Node as its Root Element's (or its own) name; i.e. {@code [catalog]}.
+     */
+    private static void renderXdmNode(XdmNode _xdmNode, StringBuilder _logString) {
+
+        XdmNode xdmNode = _xdmNode;
+        if(xdmNode.getNodeKind() == XdmNodeKind.DOCUMENT) {
+            for(XdmNode child : xdmNode.children()) {
+                if(child.getNodeKind() == XdmNodeKind.ELEMENT) {
+                    xdmNode = child;
                     break;
-                default:
-                    logString = _object.toString();
+                }
             }
         }
 
-        LOGGER.trace("toLogString(_object: {}) [END]: String ({})", _object.getClass().getTypeName(), logString.length());
-
-        return logString;
+        _logString.append('[').append(xdmNode.getNodeName() != null ? xdmNode.getNodeName().toString() : "#" + xdmNode.getNodeKind().name().toLowerCase())
+                .append(']');
     }
 
     //========================= Classes ========================================
+    /**
+     * Where {@link Mode#ASYNC_LOG} &amp; {@link Mode#BINARY_LOG} send each log's data.
+     */
+    @FunctionalInterface
+    private interface LogSink {
+        void log(JoinPointInfo _info, boolean _start, Object[] _arguments, Object _result, long _durationNanos, long _timeMillis);
+    }
+
+    /**
+     * Everything about a Join Point that does not change between calls; so it is only looked up (with Reflection) once.
+     */
+    static final class JoinPointInfo {
+
+        //------------------------ CONSTANTS -----------------------------------
+        /**
+         * The Logger of the Join Point's declaring Class.
+         */
+        final Logger LOGGER;
+
+        final String NAME;
+        final String[] PARAMETER_NAMES, PARAMETER_TYPE_NAMES;
+
+        final boolean LOG_ARGUMENTS, LOG_DURATION, LOG_RESULTS, SKIP;
+        final Level START_LEVEL, END_LEVEL;
+
+        final int SAMPLE;
+        final long MIN_DURATION_MILLIS;
+
+        /**
+         * How many times this Join Point has been called, for {@link LogMethods#sample()}.
+         */
+        final AtomicLong CALLS = new AtomicLong();
+
+        /**
+         * The unique name of the method, for {@link MethodTimings} &amp; {@link FlameGraph}; i.e. {@code xyz.swatt.Class.method(int, String)}.
+         */
+        final String METHOD_KEY;
+
+        //------------------------ Variables -----------------------------------
+        /**
+         * Only looked up in {@link Mode#METRICS} mode.
+         */
+        private volatile MethodTimings.Timing timing;
+
+        //------------------------ Constructors --------------------------------
+        JoinPointInfo(Signature _signature) {
+
+            //------------------------ Variables -------------------------------
+            boolean isLambda = false;
+            Class<?> classObj = _signature.getDeclaringType(), // Target is null for static methods.
+                    methodReturnType;
+            Executable executable;
+            LogMethods classAnnotation, constructorMethodAnnotation;
+
+            //------------------------ Code ------------------------------------
+            LOGGER = LogManager.getLogger(classObj);
+
+            ////////// Get Annotation(s), Modifiers, Name, & Return Type //////////
+            classAnnotation = classObj.getAnnotation(LogMethods.class);
+            if(_signature instanceof ConstructorSignature) {
+                ConstructorSignature constructorSignature = ((ConstructorSignature) _signature);
+                NAME = classObj.getSimpleName();
+                PARAMETER_NAMES = constructorSignature.getParameterNames();
+                methodReturnType = null;
+
+                executable = constructorSignature.getConstructor();
+            }
+            else {
+                MethodSignature methodSignature = ((MethodSignature) _signature);
+                Method method = methodSignature.getMethod();
+                NAME = method.getName();
+                PARAMETER_NAMES = methodSignature.getParameterNames();
+                methodReturnType = method.getReturnType();
+
+                executable = method;
+
+                if(LAMBDA_NAME.matcher(NAME).matches()) {
+                    isLambda = true;
+                }
+            }
+            constructorMethodAnnotation = executable.getAnnotation(LogMethods.class);
+
+            Class<?>[] parameterTypes = executable.getParameterTypes();
+            PARAMETER_TYPE_NAMES = new String[parameterTypes.length];
+            for(int i = 0; i < parameterTypes.length; i++) {
+                PARAMETER_TYPE_NAMES[i] = parameterTypes[i].getSimpleName();
+            }
+
+            ///// Get Annotation(s) Values /////
+            LogMethods annotation = constructorMethodAnnotation != null ? constructorMethodAnnotation : classAnnotation;
+            LOG_ARGUMENTS = annotation.arguments();
+            LOG_DURATION = annotation.duration();
+            LOG_RESULTS = annotation.returns() && methodReturnType != null && methodReturnType != Void.TYPE;
+            SKIP = (constructorMethodAnnotation != null && constructorMethodAnnotation.skip()) || NAME.startsWith("$SWITCH_TABLE$");
+            SAMPLE = annotation.sample();
+            MIN_DURATION_MILLIS = annotation.minDurationMillis();
+
+            ///// Log Levels /////
+            if(isLambda) {
+                START_LEVEL = Level.TRACE;
+                END_LEVEL = Level.TRACE;
+            }
+            else if(Modifier.isPublic(executable.getModifiers())) {
+                START_LEVEL = Level.INFO;
+                END_LEVEL = Level.DEBUG;
+            }
+            else {
+                START_LEVEL = Level.DEBUG;
+                END_LEVEL = Level.TRACE;
+            }
+
+            METHOD_KEY = classObj.getName() + "." + NAME + "(" + String.join(", ", PARAMETER_TYPE_NAMES) + ")";
+        }
+
+        //------------------------ Methods -------------------------------------
+        /**
+         * @return If this call should be logged, based on {@link LogMethods#sample()} (or {@link #sampleOverride}).
+         */
+        boolean isSampled() {
+
+            int sample = sampleOverride > 0 ? sampleOverride : SAMPLE;
+
+            return sample <= 1 || CALLS.getAndIncrement() % sample == 0;
+        }
+
+        /**
+         * @return The shortest call that should be logged, based on {@link LogMethods#minDurationMillis()} (or {@link #minDurationMillisOverride}).
+         */
+        long getMinDurationNanos() {
+            return TimeUnit.MILLISECONDS.toNanos(minDurationMillisOverride >= 0 ? minDurationMillisOverride : MIN_DURATION_MILLIS);
+        }
+
+        MethodTimings.Timing getTiming() {
+
+            if(timing == null) {
+                timing = MethodTimings.forMethod(METHOD_KEY);
+            }
+
+            return timing;
+        }
+    }
 }
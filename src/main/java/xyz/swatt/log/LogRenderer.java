@@ -0,0 +1,27 @@
+package xyz.swatt.log;
+
+/**
+ * Writes an Object's value into a @{@link LogMethods} [START] or [END] log.
+ * <p>
+ *     Register one for a type with {@link LogMethodsAspect#registerRenderer(Class, LogRenderer)}.
+ *     Renderers should keep what they write short (see {@link LogMethodsAspect#maxLoggedElements}),
+ *     and should not do anything slow; such as calling a browser or a database.
+ * </p>
+ *
+ * @param <T>
+ *         The type of Object this renders.
+ */
+@FunctionalInterface
+public interface LogRenderer<T> {
+
+    /**
+     * Writes the given Object's value onto the end of the log.
+     * (Use {@link LogMethodsAspect#render(Object, StringBuilder)} to write any nested values.)
+     *
+     * @param _object
+     *         The Object to render. (Never {@code null}.)
+     * @param _logString
+     *         The log being built.
+     */
+    void render(T _object, StringBuilder _logString);
+}
@@ -0,0 +1,358 @@
+package xyz.swatt.log;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import xyz.swatt.asserts.ArgumentChecks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the per-method duration histograms, recorded by {@link LogMethodsAspect} in {@link LogMethodsAspect.Mode#METRICS} mode.
+ * <p>
+ *     Each histogram has 8 buckets per power of 2 (so percentiles are accurate to within 12.5%),
+ *     and every bucket is a {@link LongAdder}; so many threads can record the same method at once, without contending.
+ * </p>
+ * <p>
+ *     Nothing is written by default: call {@link #toTable()} (i.e. from an {@code @AfterSuite} method);
+ *     or set the {@value #FILE_PROPERTY} System Property, to have the table written to that File when the JVM shuts down.
+ * </p>
+ */
+public final class MethodTimings {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(MethodTimings.class);
+
+    /**
+     * The System Property that sets the File the table is written to, at shutdown. (Not set: no File.)
+     */
+    public static final String FILE_PROPERTY = "swatt.logMethods.timingsFile";
+
+    /**
+     * Sub-buckets per power of 2 = {@code 2 ^ SUB_BUCKET_BITS}.
+     */
+    private static final int SUB_BUCKET_BITS = 3, SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Values below {@link #SUB_BUCKETS} get their own bucket; and then there are {@link #SUB_BUCKETS} for each power of 2, up to {@code 2^62}.
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final ConcurrentMap<String, Timing> TIMINGS = new ConcurrentHashMap<>();
+
+    private static final AtomicBoolean SHUTDOWN_HOOK_ADDED = new AtomicBoolean();
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+    /**
+     * Gets the {@link Timing} for the given method; creating it, if this is its first use.
+     *
+     * @param _method
+     *         The method's unique name.
+     *
+     * @return The method's {@link Timing}.
+     *
+     * @throws IllegalArgumentException If the given method name is blank.
+     */
+    public static Timing forMethod(String _method) {
+
+        //------------------------ Pre-Checks ----------------------------------
+        ArgumentChecks.stringNotBlank(_method, "Method");
+
+        //------------------------ Variables -----------------------------------
+        Timing timing = TIMINGS.get(_method);
+
+        //------------------------ Code ----------------------------------------
+        if(timing == null) {
+
+            timing = new Timing(_method);
+            Timing existing = TIMINGS.putIfAbsent(_method, timing);
+            if(existing != null) {
+                timing = existing;
+            }
+            else if(SHUTDOWN_HOOK_ADDED.compareAndSet(false, true)) {
+                Runtime.getRuntime().addShutdownHook(new Thread(MethodTimings::writeTableFile, "swatt-method-timings"));
+            }
+        }
+
+        return timing;
+    }
+
+    /**
+     * @return Every method that has recorded a duration, with the largest total time first.
+     */
+    public static List<Timing> getTimings() {
+
+        List<Timing> timings = new ArrayList<>();
+        for(Timing timing : TIMINGS.values()) {
+            if(timing.getCount() > 0) {
+                timings.add(timing);
+            }
+        }
+        timings.sort(Comparator.comparingLong(Timing::getTotalNanos).reversed());
+
+        return Collections.unmodifiableList(timings);
+    }
+
+    /**
+     * Clears every method's recorded durations.
+     * <p><b>Note:</b> Durations that are recorded while this is running may be partly cleared.</p>
+     */
+    public static void reset() {
+
+        LOGGER.info("reset() [START]");
+
+        for(Timing timing : TIMINGS.values()) {
+            timing.reset();
+        }
+
+        LOGGER.debug("reset() [END]");
+    }
+
+    /**
+     * @return A table of each method's Count, Total, p50, p95, p99, and Max durations (in milliseconds), with the largest total time first.
+     */
+    public static String toTable() {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final List<Timing> TIMINGS = getTimings();
+
+        //------------------------ Variables -----------------------------------
+        int methodWidth = "Method".length();
+        for(Timing timing : TIMINGS) {
+            methodWidth = Math.max(methodWidth, timing.METHOD.length());
+        }
+
+        String rowFormat = "%-" + methodWidth + "s %10s %14s %12s %12s %12s %12s%n";
+        StringBuilder table = new StringBuilder(String.format(rowFormat, "Method", "Count", "Total (ms)", "p50 (ms)", "p95 (ms)", "p99 (ms)",
+                "Max (ms)"));
+
+        //------------------------ Code ----------------------------------------
+        for(Timing timing : TIMINGS) {
+            table.append(String.format(rowFormat, timing.METHOD, timing.getCount(), toMs(timing.getTotalNanos()), toMs(timing.getPercentileNanos(50)),
+                    toMs(timing.getPercentileNanos(95)), toMs(timing.getPercentileNanos(99)), toMs(timing.getMaxNanos())));
+        }
+
+        return table.toString();
+    }
+
+    //////////////////// Helper Methods ////////////////////
+    /**
+     * Writes {@link #toTable()} to the {@value #FILE_PROPERTY} File; if it is set, and anything was recorded.
+     */
+    private static void writeTableFile() {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String FILE_PATH = System.getProperty(FILE_PROPERTY);
+
+        //------------------------ Code ----------------------------------------
+        if(FILE_PATH == null || getTimings().isEmpty()) {
+            return;
+        }
+
+        File parent = new File(FILE_PATH).getAbsoluteFile().getParentFile();
+        if(parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new UncheckedIOException(new IOException("Could not create Directory: " + parent));
+        }
+
+        try {
+            Files.write(Paths.get(FILE_PATH), toTable().getBytes(StandardCharsets.UTF_8));
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException("Could not write File: " + FILE_PATH, e);
+        }
+    }
+
+    private static String toMs(long _nanos) {
+        return String.format("%.3f", _nanos / 1_000_000.0);
+    }
+
+    /**
+     * @return The histogram bucket for the given duration.
+     */
+    private static int bucketFor(long _nanos) {
+
+        if(_nanos < SUB_BUCKETS) {
+            return (int) Math.max(_nanos, 0);
+        }
+
+        int exponent = (Long.SIZE - 1) - Long.numberOfLeadingZeros(_nanos);
+        int subBucket = (int) (_nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return The largest duration that goes in the given histogram bucket.
+     */
+    private static long bucketMaxNanos(int _bucket) {
+
+        if(_bucket < SUB_BUCKETS) {
+            return _bucket;
+        }
+
+        int exponent = _bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = _bucket % SUB_BUCKETS;
+
+        return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+    private MethodTimings() {}
+
+    //========================= Methods ========================================
+
+    //========================= Classes ========================================
+    /**
+     * The duration histogram of a single method.
+     */
+    public static final class Timing {
+
+        //------------------------ CONSTANTS -----------------------------------
+        /**
+         * The method's unique name.
+         */
+        public final String METHOD;
+
+        private final LongAdder COUNT = new LongAdder(), TOTAL_NANOS = new LongAdder();
+        private final LongAccumulator MAX_NANOS = new LongAccumulator(Math::max, 0);
+
+        /**
+         * Created when first used; as most methods' durations only fall into a few buckets.
+         */
+        private final AtomicReferenceArray<LongAdder> BUCKETS = new AtomicReferenceArray<>(MethodTimings.BUCKETS);
+
+        //------------------------ Constructors --------------------------------
+        private Timing(String _method) {
+            METHOD = _method;
+        }
+
+        //------------------------ Methods -------------------------------------
+        /**
+         * Records a single call of this method.
+         *
+         * @param _nanos
+         *         How long the call took.
+         */
+        public void record(long _nanos) {
+
+            int bucket = bucketFor(_nanos);
+            LongAdder adder = BUCKETS.get(bucket);
+            if(adder == null) {
+                BUCKETS.compareAndSet(bucket, null, new LongAdder());
+                adder = BUCKETS.get(bucket);
+            }
+
+            adder.increment();
+            COUNT.increment();
+            TOTAL_NANOS.add(_nanos);
+            MAX_NANOS.accumulate(_nanos);
+        }
+
+        /**
+         * @return How many calls have been recorded.
+         */
+        public long getCount() {
+            return COUNT.sum();
+        }
+
+        /**
+         * @return The total duration of all of the recorded calls.
+         */
+        public long getTotalNanos() {
+            return TOTAL_NANOS.sum();
+        }
+
+        /**
+         * @return The longest recorded call.
+         */
+        public long getMaxNanos() {
+            return MAX_NANOS.get();
+        }
+
+        /**
+         * Gets the duration that the given percent of calls took no longer than. (Accurate to within 12.5%.)
+         *
+         * @param _percentile
+         *         From 0 to 100. (i.e. {@code 99} for p99.)
+         *
+         * @return The percentile duration; or 0, if no calls have been recorded.
+         *
+         * @throws IllegalArgumentException If the given percentile is not from 0 to 100.
+         */
+        public long getPercentileNanos(double _percentile) {
+
+            //------------------------ Pre-Checks ------------------------------
+            if(_percentile < 0 || _percentile > 100) {
+                throw new IllegalArgumentException("Given Percentile must be from 0 to 100!");
+            }
+
+            //------------------------ Variables -------------------------------
+            long[] counts = new long[BUCKETS.length()];
+            long total = 0;
+
+            //------------------------ Code ------------------------------------
+            for(int i = 0; i < counts.length; i++) {
+                LongAdder adder = BUCKETS.get(i);
+                if(adder != null) {
+                    counts[i] = adder.sum();
+                    total += counts[i];
+                }
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(total * _percentile / 100));
+            long seen = 0;
+            for(int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if(counts[i] > 0 && seen >= rank) {
+                    return Math.min(bucketMaxNanos(i), getMaxNanos());
+                }
+            }
+
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return METHOD + " [Count: " + getCount() + ", Total: " + toMs(getTotalNanos()) + " ms, Max: " + toMs(getMaxNanos()) + " ms]";
+        }
+
+        //////////////////// Helper Methods ////////////////////
+        private void reset() {
+
+            for(int i = 0; i < BUCKETS.length(); i++) {
+                LongAdder adder = BUCKETS.get(i);
+                if(adder != null) {
+                    adder.reset();
+                }
+            }
+            COUNT.reset();
+            TOTAL_NANOS.reset();
+            MAX_NANOS.reset();
+        }
+    }
+}
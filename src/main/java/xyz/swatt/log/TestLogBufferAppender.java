@@ -0,0 +1,354 @@
+package xyz.swatt.log;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Log4j2 Appender that holds each running test's logs in memory (up to {@code capacity} logs; dropping the oldest),
+ * and only writes them to a per-test File if the test fails or is skipped.
+ * <p>
+ *     Tests are started and ended by the {@code xyz.swatt.testng.listeners.TestNgLogBufferListener}.
+ *     Logs are matched to a test by the thread that logged them (so {@link LogMethodsAspect.Mode#ASYNC_LOG} logs are also matched);
+ *     and logs from threads that are not running a test are written straight to {@code outside-tests.log}.
+ * </p>
+ * <p>Example Configuration:</p>
+ * <pre>{@code
+ * <Configuration packages="xyz.swatt.log">
+ *     <Appenders>
+ *         <TestLogBuffer name="TestLogs" directory="test-output/test-logs" capacity="10000" passLevel="WARN">
+ *             <PatternLayout pattern="%d %-5p %c - %m%n"/>
+ *         </TestLogBuffer>
+ *     </Appenders>
+ *     ...
+ * }</pre>
+ * <p>
+ *     <b>Note:</b> The {@code passLevel} is the lowest Level that is still written for passing tests;
+ *     i.e. {@code WARN} writes only the WARN, ERROR, &amp; FATAL logs of passing tests. (Default: {@code OFF}; nothing.)
+ * </p>
+ */
+@Plugin(name = "TestLogBuffer", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public final class TestLogBufferAppender extends AbstractAppender {
+
+    //========================= Static Enums ===================================
+    /**
+     * How a test ended.
+     */
+    public static enum TestStatus {
+        PASSED, FAILED, SKIPPED
+    }
+
+    //========================= STATIC CONSTANTS ===============================
+    /**
+     * The name of each running test, by the id of the thread running it.
+     */
+    private static final ConcurrentMap<Long, String> RUNNING_TESTS = new ConcurrentHashMap<>();
+
+    /**
+     * Every started instance of this Appender.
+     */
+    private static final List<TestLogBufferAppender> APPENDERS = new CopyOnWriteArrayList<>();
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+    /**
+     * Creates this Appender, from a Log4j2 Configuration.
+     *
+     * @param _name
+     *         The Appender's name.
+     * @param _directory
+     *         Where the per-test Files are written.
+     * @param _capacity
+     *         The most logs held for each test.
+     * @param _passLevel
+     *         The lowest Level that is still written for passing tests.
+     * @param _layout
+     *         How each log is written. (Default: {@code %d %-5p %c - %m%n}.)
+     * @param _filter
+     *         Filters the logs, before they are held.
+     *
+     * @return The new Appender.
+     */
+    @PluginFactory
+    public static TestLogBufferAppender createAppender(@PluginAttribute("name") String _name,
+            @PluginAttribute(value = "directory", defaultString = "test-output/test-logs") String _directory,
+            @PluginAttribute(value = "capacity", defaultInt = 10_000) int _capacity,
+            @PluginAttribute(value = "passLevel", defaultString = "OFF") String _passLevel,
+            @PluginElement("Layout") Layout<? extends Serializable> _layout,
+            @PluginElement("Filter") Filter _filter) {
+
+        if(_layout == null) {
+            _layout = PatternLayout.newBuilder().withPattern("%d %-5p %c - %m%n").build();
+        }
+
+        return new TestLogBufferAppender(_name, _filter, _layout, new File(_directory), Math.max(_capacity, 1), Level.toLevel(_passLevel, Level.OFF));
+    }
+
+    /**
+     * Starts holding the current thread's logs for the given test.
+     *
+     * @param _testName
+     *         The test's name; which is used for its File's name.
+     */
+    public static void startTest(String _testName) {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final long THREAD_ID = Thread.currentThread().getId();
+
+        //------------------------ Code ----------------------------------------
+        for(TestLogBufferAppender appender : APPENDERS) { // i.e. A late ASYNC_LOG log of this thread's last test.
+            appender.TEST_LOGS.remove(THREAD_ID);
+        }
+        RUNNING_TESTS.put(THREAD_ID, _testName);
+    }
+
+    /**
+     * Stops holding the current thread's logs; and writes them to the test's File, or drops them, based on how the test ended.
+     *
+     * @param _status
+     *         How the test ended.
+     */
+    public static void endTest(TestStatus _status) {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final long THREAD_ID = Thread.currentThread().getId();
+
+        //------------------------ Code ----------------------------------------
+        if(LogMethodsAspect.mode == LogMethodsAspect.Mode.ASYNC_LOG) { // So the test's last @LogMethods logs are held.
+            AsyncLogBuffer.flush(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        String testName = RUNNING_TESTS.remove(THREAD_ID);
+        for(TestLogBufferAppender appender : APPENDERS) {
+            appender.endTest(THREAD_ID, testName, _status);
+        }
+    }
+
+    //////////////////// Helper Methods ////////////////////
+    /**
+     * @return The given name, with only File name safe characters.
+     */
+    private static String toFileName(String _name) {
+        return _name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    //========================= CONSTANTS ======================================
+    private final File DIRECTORY;
+    private final int CAPACITY;
+    private final Level PASS_LEVEL;
+
+    /**
+     * The logs held for each running test, by the id of the thread running it.
+     */
+    private final ConcurrentMap<Long, TestLogs> TEST_LOGS = new ConcurrentHashMap<>();
+
+    //========================= Variables ======================================
+    /**
+     * Opened on the first log that is not from a running test.
+     */
+    private OutputStream outsideTestsStream;
+
+    //========================= Constructors ===================================
+    private TestLogBufferAppender(String _name, Filter _filter, Layout<? extends Serializable> _layout, File _directory, int _capacity, Level _passLevel) {
+
+        super(_name, _filter, _layout, true, Property.EMPTY_ARRAY);
+
+        DIRECTORY = _directory;
+        CAPACITY = _capacity;
+        PASS_LEVEL = _passLevel;
+    }
+
+    //========================= Methods ========================================
+    @Override
+    public void append(LogEvent _event) {
+
+        String testName = RUNNING_TESTS.get(_event.getThreadId());
+
+        if(testName == null) {
+            writeOutsideTests(_event);
+        }
+        else {
+            TEST_LOGS.computeIfAbsent(_event.getThreadId(), _threadId -> new TestLogs(testName, CAPACITY)).add(_event.toImmutable());
+        }
+    }
+
+    @Override
+    public void start() {
+
+        super.start();
+        APPENDERS.add(this);
+    }
+
+    @Override
+    public boolean stop(long _timeout, TimeUnit _timeUnit) {
+
+        APPENDERS.remove(this);
+        synchronized(this) {
+            if(outsideTestsStream != null) {
+                try {
+                    outsideTestsStream.close();
+                }
+                catch(IOException e) {
+                    error("Could not close: outside-tests.log", null, e);
+                }
+                outsideTestsStream = null;
+            }
+        }
+
+        return super.stop(_timeout, _timeUnit);
+    }
+
+    //////////////////// Helper Methods ////////////////////
+    private void endTest(long _threadId, String _testName, TestStatus _status) {
+
+        //------------------------ Variables -----------------------------------
+        TestLogs testLogs = TEST_LOGS.remove(_threadId);
+        List<LogEvent> events;
+        long dropped;
+
+        //------------------------ Code ----------------------------------------
+        if(testLogs == null) {
+            return;
+        }
+
+        synchronized(testLogs) {
+            if(_status == TestStatus.PASSED) {
+                if(PASS_LEVEL == Level.OFF) {
+                    return;
+                }
+                events = new ArrayList<>();
+                for(LogEvent event : testLogs.EVENTS) {
+                    if(event.getLevel().isMoreSpecificThan(PASS_LEVEL)) {
+                        events.add(event);
+                    }
+                }
+            }
+            else {
+                events = new ArrayList<>(testLogs.EVENTS);
+            }
+            dropped = _status == TestStatus.PASSED ? 0 : testLogs.dropped;
+        }
+
+        if(!events.isEmpty() || dropped > 0) {
+            write(_testName != null ? _testName : testLogs.TEST_NAME, _status, events, dropped);
+        }
+    }
+
+    /**
+     * Writes the given logs to the test's File; with a number added to the File name, if the test has already been written (i.e. Data Provider tests).
+     */
+    private void write(String _testName, TestStatus _status, List<LogEvent> _events, long _dropped) {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String FILE_NAME = toFileName(_testName) + "-" + _status;
+
+        //------------------------ Code ----------------------------------------
+        if(!DIRECTORY.isDirectory() && !DIRECTORY.mkdirs()) {
+            error("Could not create Test Log Directory: " + DIRECTORY.getAbsolutePath());
+            return;
+        }
+
+        try {
+            File file = new File(DIRECTORY, FILE_NAME + ".log");
+            for(int i = 2; !file.createNewFile(); i++) {
+                file = new File(DIRECTORY, FILE_NAME + "-" + i + ".log");
+            }
+
+            try(OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+                if(_dropped > 0) {
+                    outputStream.write(("(" + _dropped + " earlier logs were dropped.)" + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+                }
+                for(LogEvent event : _events) {
+                    outputStream.write(getLayout().toByteArray(event));
+                }
+            }
+        }
+        catch(IOException e) {
+            error("Could not write Test Log File: " + FILE_NAME, null, e);
+        }
+    }
+
+    private synchronized void writeOutsideTests(LogEvent _event) {
+
+        try {
+            if(outsideTestsStream == null) {
+                if(!DIRECTORY.isDirectory() && !DIRECTORY.mkdirs()) {
+                    throw new IOException("Could not create Test Log Directory: " + DIRECTORY.getAbsolutePath());
+                }
+                outsideTestsStream = new BufferedOutputStream(new FileOutputStream(new File(DIRECTORY, "outside-tests.log")));
+            }
+
+            outsideTestsStream.write(getLayout().toByteArray(_event));
+            outsideTestsStream.flush();
+        }
+        catch(IOException e) {
+            error("Could not write: outside-tests.log", _event, e);
+        }
+    }
+
+    //========================= Classes ========================================
+    /**
+     * The latest logs of a single running test.
+     */
+    private static final class TestLogs {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String TEST_NAME;
+        final int CAPACITY;
+        final ArrayDeque<LogEvent> EVENTS = new ArrayDeque<>();
+
+        //------------------------ Variables -----------------------------------
+        /**
+         * How many of the oldest logs were dropped, to stay under the {@link #CAPACITY}.
+         */
+        long dropped = 0;
+
+        //------------------------ Constructors --------------------------------
+        TestLogs(String _testName, int _capacity) {
+            TEST_NAME = _testName;
+            CAPACITY = _capacity;
+        }
+
+        //------------------------ Methods -------------------------------------
+        /**
+         * Held by the test's thread, and the {@link AsyncLogBuffer}'s thread; so it is synchronized.
+         */
+        synchronized void add(LogEvent _event) {
+
+            if(EVENTS.size() >= CAPACITY) {
+                EVENTS.pollFirst();
+                dropped++;
+            }
+            EVENTS.addLast(_event);
+        }
+    }
+}
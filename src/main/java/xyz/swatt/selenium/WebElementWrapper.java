@@ -2315,6 +2315,19 @@ public class WebElementWrapper {
 		return toString(false);
 	}
 
+	/**
+	 * Get's a short description of this {@link WebElement}, for logs; without calling the browser.
+	 * <p>i.e. {@code [WebElementWrapper: <input> //form[@id='login']//input[@id='username']]}</p>
+	 *
+	 * @return This {@link WebElement}'s Tag Name (if it has already been looked up), and the XPath or {@link By} that can re-acquire it.
+	 */
+	public String toLogString() {
+
+		String selector = XPATH_IDS_SELECTOR != null ? XPATH_IDS_SELECTOR : originalBy != null ? originalBy.toString() : "(Unknown Selector)";
+
+		return "[WebElementWrapper: " + (name != null ? "<" + name + "> " : "") + selector + "]";
+	}
+
 	/**
 	 * Get's a String representation of this {@link WebElement}.
 	 *
@@ -2408,7 +2421,7 @@ public class WebElementWrapper {
 				}
 			}
 		}
-		//////////////////// Manually Fix HTML for XML Parsing ////////////////////
+		//////////////////// Convert HTML to XML ////////////////////
 		/* Parsers Tried:
 		 * - Chilkat Java HTML Conversion Library (Requires License.)
 		 * - HotSAX (Not Tried. Last update was 2012, and never got out of Alpha.)
@@ -2418,22 +2431,19 @@ public class WebElementWrapper {
 		 * - htmlparser [by doibuon] (Discontinued.)
 		 * - Java Mozilla Html Parser (Not Tried. Last update was 2013.)
 		 * - Jericho (Not Tried. Could not find HTML to XML functionality.)
-		 * - Jsoup (Has same issues as HTML Cleaner.)
+		 * - Jsoup (HTML Parser has same issues as HTML Cleaner. XML Parser is used instead.)
 		 * - JTidy (Not Tried. Last update was 2012.)
 		 * - Neko HTML (Not Tried. Required Xerces.)
 		 * - Validator.nu HTML Parser (Not Tried. Last update was 2011.)
 		 * - Tag Soup (Not Tried. Homepage was 404.)
 		 */
-
-		// Handle Void Elements (https://www.w3.org/TR/html-markup/syntax.html#syntax-elements).
+		// Void Elements (https://www.w3.org/TR/html-markup/syntax.html#syntax-elements) are closed during the conversion.
 		/* Test Cases:
 		 * - Negative: <input id="repositoryId324999" name="repositoryIdAction" value="254134" type="hidden"/>
 		 * - Normal: <input id="repositoryId324999" name="repositoryIdAction" value="254134" type="hidden"/>
 		 * - Has "/" In Attribute: <input id="filename324999" name="filenameAction" value="British Columbia Investment Management Corporation / Public Sector Pension Investment Board (British Columbia) acquisition of TimberWest Forest Corp. (British Columbia)" type="hidden">
 		 */
-		htmlString = htmlString.replaceAll("<(area|base|br|col|command|embed|hr|img|input|keygen|link|meta|param|source|track|wbr)\\b([^>]*)(?<!/)>", "<input$2/>");
-
-		xmlDocument = XmlDocumentHelper.getDocumentFrom(htmlString);
+		xmlDocument = XmlDocumentHelper.htmlToXml(htmlString, true);
 
 		LOGGER.debug("toXml() [END]");
 
@@ -7,9 +7,10 @@ import xyz.swatt.asserts.ArgumentChecks;
 import xyz.swatt.xml.XmlDocumentHelper;
 
 import javax.xml.soap.*;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
 /**
@@ -27,6 +28,11 @@ public class SoapClient {
     //========================= STATIC CONSTANTS ===============================
     private static final Logger LOGGER = LogManager.getLogger(SoapClient.class);
 
+    /**
+     * The most bytes of a SOAP Request Message that will be logged.
+     */
+    private static final int MAX_LOGGED_MESSAGE_LENGTH = 64 * 1024;
+
     //========================= Static Variables ===============================
     public static String soapProtocol = SOAPConstants.SOAP_1_1_PROTOCOL;
 
@@ -141,68 +147,17 @@ public class SoapClient {
         LOGGER.info("sendMessage(_action: {}, Document) [START]", _action);
 
         //------------------------ Pre-Checks ----------------------------------
-        if(_action != null) {
-            ArgumentChecks.stringNotWhitespaceOnly(_action, "SOAPAction");
-        }
+        // Actions validated in nested call.
 
         ArgumentChecks.notNull(_xml, "XML Document");
 
         //------------------------ CONSTANTS -----------------------------------
 
         //------------------------ Variables -----------------------------------
-        SOAPMessage soapMessage, soapResponse;
-        SOAPConnection soapConnection = null;
+        SOAPMessage soapResponse;
 
         //------------------------ Code ----------------------------------------
-        try { // Create Message.
-            soapMessage = MESSAGE_FACTORY.createMessage();
-
-            MimeHeaders headers = soapMessage.getMimeHeaders();
-            if(USER != null) {
-                String credentials = USER + ":" + PASS;
-                credentials = "Basic " + new String(Base64.getEncoder().encode(credentials.getBytes()));
-                headers.addHeader("Authorization", credentials);
-            }
-            if(_action != null) {
-                soapMessage.getMimeHeaders().addHeader("SOAPAction", _action);
-            }
-
-            SOAPBody soapBody = soapMessage.getSOAPPart().getEnvelope().getBody();
-            soapBody.addDocument((Document) _xml.cloneNode(true));
-
-            soapMessage.saveChanges();
-
-            if(LOGGER.isDebugEnabled()) {
-                try(ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                    soapMessage.writeTo(baos);
-                    LOGGER.debug("SOAP Request Message: " + baos.toString());
-                }
-                catch(IOException e) {
-                    LOGGER.warn(e);
-                }
-            }
-        }
-        catch(SOAPException e) {
-            throw new RuntimeException("Could not create the SOAP message!", e);
-        }
-
-        try { // Send Connection.
-            soapConnection = SOAPConnectionFactory.newInstance().createConnection();
-            soapResponse = soapConnection.call(soapMessage, URL);
-        }
-        catch(SOAPException e) {
-            throw new RuntimeException("Could not send SOAP message!", e);
-        }
-        finally {
-            if(soapConnection != null) {
-                try {
-                    soapConnection.close();
-                }
-                catch(SOAPException e) {
-                    LOGGER.warn(e);
-                }
-            }
-        }
+        soapResponse = send(_action, (Document) _xml.cloneNode(true)); // So that the given Document is not changed.
 
         LOGGER.debug("sendMessage(_action: {}, Document) [END]: {}", _action, soapResponse);
 
@@ -240,8 +195,8 @@ public class SoapClient {
         SOAPMessage soapResponse;
 
         //------------------------ Code ----------------------------------------
-        Document xmlDocument = XmlDocumentHelper.getDocumentFrom(_xml);
-        soapResponse = sendMessage(_action, xmlDocument);
+        Document xmlDocument = XmlDocumentHelper.getDocumentFrom(_xml); // A new Document (or cached copy), that nothing else uses.
+        soapResponse = send(_action, xmlDocument);
 
         LOGGER.debug("sendMessage(_action: {}, File) [END]: {}", _action, soapResponse);
 
@@ -279,8 +234,8 @@ public class SoapClient {
         SOAPMessage soapResponse;
 
         //------------------------ Code ----------------------------------------
-        Document xmlDocument = XmlDocumentHelper.getDocumentFrom(_xml);
-        soapResponse = sendMessage(_action, xmlDocument);
+        Document xmlDocument = XmlDocumentHelper.getDocumentFrom(_xml); // A new Document (or cached copy), that nothing else uses.
+        soapResponse = send(_action, xmlDocument);
 
         LOGGER.debug("sendMessage(_action: {}, String) [END]: {}", _action, soapResponse);
 
@@ -288,6 +243,139 @@ public class SoapClient {
     }
 
     //========================= Methods for Internal Use =======================
+    /**
+     * Will send a single SOAP Message with the given body.
+     *
+     * @param _action
+     *         The SOAPAction that this message is requesting be performed, or {@code null} to not send a "SOAPAction".
+     * @param _body
+     *         The XML {@link Document} to send as the body in a SOAP envelope.
+     *         <p><b>Note:</b> Its content is moved into the SOAP message; so it must be a copy that nothing else uses.</p>
+     *
+     * @return The response as a {@link SOAPMessage}.
+     *
+     * @throws IllegalArgumentException
+     *         If the given SOAPAction is a blank string.
+     */
+    private SOAPMessage send(String _action, Document _body) {
+
+        LOGGER.debug("send(_action: {}, Document) [START]", _action);
+
+        //------------------------ Pre-Checks ----------------------------------
+        if(_action != null) {
+            ArgumentChecks.stringNotWhitespaceOnly(_action, "SOAPAction");
+        }
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        SOAPMessage soapMessage, soapResponse;
+        SOAPConnection soapConnection = null;
+
+        //------------------------ Code ----------------------------------------
+        try { // Create Message.
+            soapMessage = MESSAGE_FACTORY.createMessage();
+
+            MimeHeaders headers = soapMessage.getMimeHeaders();
+            if(USER != null) {
+                String credentials = USER + ":" + PASS;
+                credentials = "Basic " + new String(Base64.getEncoder().encode(credentials.getBytes()));
+                headers.addHeader("Authorization", credentials);
+            }
+            if(_action != null) {
+                soapMessage.getMimeHeaders().addHeader("SOAPAction", _action);
+            }
+
+            SOAPBody soapBody = soapMessage.getSOAPPart().getEnvelope().getBody();
+            soapBody.addDocument(_body); // Moves the Document's content into the Body.
+
+            soapMessage.saveChanges();
+
+            if(LOGGER.isDebugEnabled()) {
+                // The whole Message (with any Attachments), as it is sent; but capped, so that a very large Request is not built into one String just to be logged.
+                CappedOutputStream cappedStream = new CappedOutputStream(MAX_LOGGED_MESSAGE_LENGTH);
+                try {
+                    soapMessage.writeTo(cappedStream);
+                }
+                catch(IOException | SOAPException e) {
+                    if(!cappedStream.isFull()) {
+                        LOGGER.warn(e);
+                    }
+                    // Otherwise, the Stream stopped the writing, because it is full.
+                }
+                LOGGER.debug("SOAP Request Message: " + cappedStream);
+            }
+        }
+        catch(SOAPException e) {
+            throw new RuntimeException("Could not create the SOAP message!", e);
+        }
+
+        try { // Send Connection.
+            soapConnection = SOAPConnectionFactory.newInstance().createConnection();
+            soapResponse = soapConnection.call(soapMessage, URL);
+        }
+        catch(SOAPException e) {
+            throw new RuntimeException("Could not send SOAP message!", e);
+        }
+        finally {
+            if(soapConnection != null) {
+                try {
+                    soapConnection.close();
+                }
+                catch(SOAPException e) {
+                    LOGGER.warn(e);
+                }
+            }
+        }
+
+        LOGGER.debug("send(_action: {}, Document) [END]: {}", _action, soapResponse);
+
+        return soapResponse;
+    }
+
 
     //========================= Classes ========================================
+    /**
+     * Keeps, at most, the first N bytes written to it; and then throws an {@link IOException}, to stop the writing.
+     */
+    private static final class CappedOutputStream extends OutputStream {
+
+        private final byte[] BYTES;
+        private int length = 0;
+
+        CappedOutputStream(int _maxLength) {
+            BYTES = new byte[_maxLength];
+        }
+
+        boolean isFull() {
+            return length >= BYTES.length;
+        }
+
+        @Override
+        public void write(int _byte) throws IOException {
+
+            if(isFull()) {
+                throw new IOException("Max Length (" + BYTES.length + ") reached.");
+            }
+
+            BYTES[length++] = (byte) _byte;
+        }
+
+        @Override
+        public void write(byte[] _bytes, int _offset, int _length) throws IOException {
+
+            if(isFull()) {
+                throw new IOException("Max Length (" + BYTES.length + ") reached.");
+            }
+
+            int copied = Math.min(_length, BYTES.length - length);
+            System.arraycopy(_bytes, _offset, BYTES, length, copied);
+            length += copied;
+        }
+
+        @Override
+        public String toString() {
+            return new String(BYTES, 0, length, StandardCharsets.UTF_8);
+        }
+    }
 }
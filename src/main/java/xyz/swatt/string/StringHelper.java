@@ -4,15 +4,27 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import xyz.swatt.asserts.ArgumentChecks;
 import xyz.swatt.xml.XmlDocumentHelper;
+import xyz.swatt.xml.XmlEntityEscaper;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
-import java.util.Scanner;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A Helper class to preform common and/or complex String manipulations.
@@ -142,6 +154,33 @@ public class StringHelper {
 	//========================= STATIC CONSTANTS ===============================
 	private static final Logger LOGGER = LogManager.getLogger(StringHelper.class);
 
+	/**
+	 * The largest File {@link #toString(File)} will read. (Every byte could be a character; and a String can not be any longer than an array.)
+	 */
+	private static final long MAX_STRING_BYTES = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Characters read at a time, when streaming.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * Compiled {@link #replace(String, String, CharacterPosition, boolean, CharacterSet...)} Patterns;
+	 * indexed by Character Set combination, position, and normalize.
+	 */
+	private static final AtomicReferenceArray<Pattern> PATTERNS = new AtomicReferenceArray<>(
+			(1 << CharacterSet.values().length) * CharacterPosition.values().length * 2);
+
+	/**
+	 * Which characters are in {@link CharacterSet#ALL_WHITESPACE}. (There are none above {@code \u3000}.)
+	 */
+	private static final boolean[] ALL_WHITESPACE_TABLE = buildTable(CharacterSet.ALL_WHITESPACE, 0x3001);
+
+	/**
+	 * Which characters are in {@link CharacterSet#NORMAL_WHITESPACE}. (There are none above the Space character.)
+	 */
+	private static final boolean[] NORMAL_WHITESPACE_TABLE = buildTable(CharacterSet.NORMAL_WHITESPACE, ' ' + 1);
+
 	//========================= Static Variables ===============================
 	
 	//========================= Static Constructor =============================
@@ -183,7 +222,7 @@ public class StringHelper {
 	 * @see XmlDocumentHelper#escapeExtendedCharacters(String, XmlDocumentHelper.XmlEntityFormat)
 	 */
 	public static String xmlEscapeNonAsciiPrintCharacters(String _string, NumberBase _numberBase) {
-		return XmlDocumentHelper.escapeExtendedCharacters(_string,
+		return XmlEntityEscaper.escapeExtendedCharacters(_string,
 				_numberBase == NumberBase.DECIMAL ? XmlDocumentHelper.XmlEntityFormat.DECIMAL : XmlDocumentHelper.XmlEntityFormat.HEX);
 	}
 
@@ -297,45 +336,13 @@ public class StringHelper {
 		}
 
 		//------------------------ Variables -----------------------------------
-		StringBuilder characterSetsRegex;
-		String pattern;
-		String toRet;
+		String toRet = replaceWithScanner(_haystack, _replacement, _position, _normalize, _characterSet);
 
 		//------------------------ Code ----------------------------------------
-		if(_characterSet.length > 1) {
-			
-			characterSetsRegex = new StringBuilder("[");
-			for(CharacterSet cs : _characterSet) {
-				characterSetsRegex.append(cs);
-			}
-			characterSetsRegex.append("]");
-		}
-		else {
-			characterSetsRegex = new StringBuilder(_characterSet[0].toString());
+		if(toRet == null) { // No hand-written scanner for this combination.
+			toRet = getPattern(_position, _normalize, _characterSet).matcher(_haystack).replaceAll(_replacement);
 		}
 
-		switch(_position) {
-			case ANYWHERE:
-				pattern = characterSetsRegex + (_normalize ? "+" : "");
-				break;
-			case BEGINNING_OF_STRING:
-				pattern = "^" + characterSetsRegex + (_normalize ? "+" : "");
-				break;
-			case MIDDLE_OF_STRING:
-				pattern = "(?<!^)" + characterSetsRegex + (_normalize ? "+" : "") + "(?!$)";
-				break;
-			case END_OF_STRING:
-				pattern = characterSetsRegex + (_normalize ? "+" : "") + "$";
-				break;
-			case BEGINNING_OR_END:
-				pattern = "^" + characterSetsRegex + (_normalize ? "+" : "") + "|" + characterSetsRegex + (_normalize ? "+" : "") + "$";
-				break;
-			default:
-				throw new RuntimeException("Unknown position \"" + _position + "\"!");
-		}
-
-		toRet = _haystack.replaceAll(pattern, _replacement);
-
 		LOGGER.debug("replace(_haystack: {}, _replacement: {}, _position: {}, _normalize: {}, _characterSet: {}) [END]",
 				_haystack, _replacement, _position, _normalize, _characterSet);
 
@@ -424,15 +431,24 @@ public class StringHelper {
     }
 
 	/**
-	 * Converts a File into a String.
+	 * Converts a File into a String, by decoding its bytes as UTF-8.
+	 * <p>
+	 *     The whole File is read onto the heap, and then decoded; so it briefly takes about twice its size.
+	 *     (For files too large to hold as a String, see {@link #lines(File)} and {@link #chunks(File, int)}.)
+	 * </p>
+	 * <p>
+	 *     <b>Note:</b> The contents are returned exactly as they are; including any trailing line terminator.
+	 * </p>
 	 *
 	 * @param _file
 	 * 		The file to pull the data out of and put in a String.
 	 *
-	 * @return The contents of the File, or {@code null}, if the file could not be found.
+	 * @return The contents of the File, or an Empty String, if the File is empty.
 	 *
-	 * @throws NullPointerException
-	 * 		If {@code _file} is {@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If {@code _file} is {@code null}, does not exist, is a Folder, or is too large to fit in a String.
+	 * @throws UncheckedIOException
+	 * 		If the File could not be read.
 	 *
 	 * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
 	 */
@@ -441,24 +457,27 @@ public class StringHelper {
 		LOGGER.info("toString(_file: {}) [START]", _file == null ? "(NULL)" : _file.getAbsolutePath());
 
 		//------------------------ Pre-Checks ----------------------------------
-		ArgumentChecks.notNull(_file, "File");
+		ArgumentChecks.fileExists(_file, null);
 
 		//------------------------ CONSTANTS -----------------------------------
 
 		//------------------------ Variables -----------------------------------
-		Scanner scanner;
 		String string;
 
 		//------------------------ Code ----------------------------------------
+		//noinspection ConstantConditions
 		try {
-			//noinspection ConstantConditions
-			scanner = new Scanner(_file, StandardCharsets.UTF_8.toString());
-			scanner.useDelimiter("\\Z");
-			string = scanner.hasNext() ? scanner.next() : "";
-			scanner.close();
+
+			long size = Files.size(_file.toPath());
+			if(size > MAX_STRING_BYTES) {
+				throw new IllegalArgumentException("Given File is too large to fit in a String (" + size + " bytes); use lines(...) or chunks(...)!\n\tPath: "
+						+ _file.getAbsolutePath());
+			}
+
+			string = new String(Files.readAllBytes(_file.toPath()), StandardCharsets.UTF_8);
 		}
-		catch(final FileNotFoundException e) {
-			return null;
+		catch(IOException e) {
+			throw new UncheckedIOException("Could not read File: " + _file.getAbsolutePath() + "!", e);
 		}
 
 		LOGGER.debug("toString(_file: {}) [END]", _file.getAbsolutePath());
@@ -467,7 +486,7 @@ public class StringHelper {
 	}
 
 	/**
-	 * Converts an InputStream into a String.
+	 * Converts an InputStream into a String, by decoding its bytes as UTF-8.
 	 * <p>
 	 *     <b>Note:</b> The given Input Stream is closed.
 	 * </p>
@@ -475,31 +494,123 @@ public class StringHelper {
 	 * @param _stream
 	 * 		The Input Stream to pull data from and put in a String.
 	 *
-	 * @return The converted contents of the InputStream, or an Empty String, if the InputStream is empty.
+	 * @return The converted contents of the InputStream (including any trailing line terminator), or an Empty String, if the InputStream is empty.
 	 *
-	 * @throws NullPointerException
+	 * @throws IllegalArgumentException
 	 * 		If {@code _stream} is {@code null}.
+	 * @throws UncheckedIOException
+	 * 		If the InputStream could not be read.
 	 *
 	 * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
 	 */
 	public static String toString(InputStream _stream) {
 		
 		LOGGER.info("toString(InputStream) [START]");
-		
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_stream, "Input Stream");
+
 		//------------------------ CONSTANTS -----------------------------------
 		
 		//------------------------ Variables -----------------------------------
-		Scanner scanner = new Scanner(_stream, StandardCharsets.UTF_8.toString());  // NullPointerException is thrown here if _file is NULL.
-		String string;
-		
+		StringBuilder string = new StringBuilder(BUFFER_SIZE);
+		char[] buffer = new char[BUFFER_SIZE];
+
 		//------------------------ Code ----------------------------------------
-		scanner.useDelimiter("\\Z");
-		string = scanner.hasNext() ? scanner.next() : "";
-		scanner.close();
+		try(Reader reader = new InputStreamReader(_stream, StandardCharsets.UTF_8)) {
+			for(int read = reader.read(buffer); read >= 0; read = reader.read(buffer)) {
+				string.append(buffer, 0, read);
+			}
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException("Could not read Input Stream!", e);
+		}
 		
 		LOGGER.debug("toString(InputStream) [END]");
 		
-		return string;
+		return string.toString();
+	}
+
+	/**
+	 * Lazily streams the lines of a File (decoded as UTF-8); so large files can be processed without holding them in memory.
+	 * <p>
+	 *     Lines are split the same way as {@link BufferedReader#readLine()}, and do not include their line terminators.
+	 * </p>
+	 * <p>
+	 *     <b>Note:</b> The returned Stream holds the File open, until it is closed; so use it in a try-with-resources block.
+	 * </p>
+	 *
+	 * @param _file
+	 * 		The File to read.
+	 *
+	 * @return An ordered Stream of the File's lines.
+	 *
+	 * @throws IllegalArgumentException
+	 * 		If {@code _file} is {@code null}, does not exist, or is a Folder.
+	 * @throws UncheckedIOException
+	 * 		If the File could not be read (which may be thrown while the Stream is consumed).
+	 */
+	public static Stream<String> lines(File _file) {
+
+		LOGGER.info("lines(_file: {}) [START]", _file == null ? "(NULL)" : _file.getAbsolutePath());
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.fileExists(_file, null);
+
+		//------------------------ Variables -----------------------------------
+		//noinspection ConstantConditions
+		BufferedReader reader = new BufferedReader(openReader(_file), BUFFER_SIZE);
+
+		//------------------------ Code ----------------------------------------
+		Stream<String> lines = reader.lines().onClose(() -> close(reader));
+
+		LOGGER.debug("lines(_file: {}) [END]", _file.getAbsolutePath());
+
+		return lines;
+	}
+
+	/**
+	 * Lazily streams the contents of a File (decoded as UTF-8), in chunks of (up to) the given number of characters;
+	 * so large files can be processed without holding them in memory.
+	 * <p>
+	 *     Every chunk, except the last, is the given size; unless it would end between the two halves of a surrogate pair,
+	 *     in which case it is 1 character shorter. Joined together, the chunks are exactly the same as {@link #toString(File)}.
+	 * </p>
+	 * <p>
+	 *     <b>Note:</b> The returned Stream holds the File open, until it is closed; so use it in a try-with-resources block.
+	 * </p>
+	 *
+	 * @param _file
+	 * 		The File to read.
+	 * @param _chunkSize
+	 * 		The number of characters per chunk.
+	 *
+	 * @return An ordered Stream of the File's contents; or an empty Stream, if the File is empty.
+	 *
+	 * @throws IllegalArgumentException
+	 * 		If {@code _file} is {@code null}, does not exist, or is a Folder; or the chunk size is not greater than zero.
+	 * @throws UncheckedIOException
+	 * 		If the File could not be read (which may be thrown while the Stream is consumed).
+	 */
+	public static Stream<String> chunks(File _file, int _chunkSize) {
+
+		LOGGER.info("chunks(_file: {}, _chunkSize: {}) [START]", _file == null ? "(NULL)" : _file.getAbsolutePath(), _chunkSize);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.fileExists(_file, null);
+		ArgumentChecks.greaterThanZero(_chunkSize, "Chunk Size");
+
+		//------------------------ Variables -----------------------------------
+		//noinspection ConstantConditions
+		Reader reader = openReader(_file);
+
+		//------------------------ Code ----------------------------------------
+		Stream<String> chunks = StreamSupport.stream(Spliterators.spliteratorUnknownSize(new ChunkIterator(reader, _chunkSize),
+				Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(() -> close(reader));
+
+		LOGGER.debug("chunks(_file: {}, _chunkSize: {}) [END]", _file.getAbsolutePath(), _chunkSize);
+
+		return chunks;
 	}
 
 	/**
@@ -519,6 +630,228 @@ public class StringHelper {
 		return replace(_string, "", CharacterPosition.BEGINNING_OR_END, true, CharacterSet.ALL_WHITESPACE);
 	}
 
+	//////////////////// Helper Methods ////////////////////
+	/**
+	 * Gets the compiled Pattern for the given replace options; compiling (and caching) it, if it has not been already.
+	 *
+	 * @see #replace(String, String, CharacterPosition, boolean, CharacterSet...)
+	 */
+	private static Pattern getPattern(CharacterPosition _position, boolean _normalize, CharacterSet... _characterSet) {
+
+		//------------------------ Variables -----------------------------------
+		int characterSetMask = 0;
+		for(CharacterSet cs : _characterSet) {
+			characterSetMask |= 1 << cs.ordinal();
+		}
+
+		int index = (characterSetMask * CharacterPosition.values().length + _position.ordinal()) * 2 + (_normalize ? 1 : 0);
+		Pattern pattern = PATTERNS.get(index);
+
+		StringBuilder characterSetsRegex;
+		String regex;
+
+		//------------------------ Code ----------------------------------------
+		if(pattern != null) {
+			return pattern;
+		}
+
+		if(_characterSet.length > 1) {
+
+			characterSetsRegex = new StringBuilder("[");
+			for(CharacterSet cs : _characterSet) {
+				characterSetsRegex.append(cs);
+			}
+			characterSetsRegex.append("]");
+		}
+		else {
+			characterSetsRegex = new StringBuilder(_characterSet[0].toString());
+		}
+
+		switch(_position) {
+			case ANYWHERE:
+				regex = characterSetsRegex + (_normalize ? "+" : "");
+				break;
+			case BEGINNING_OF_STRING:
+				regex = "^" + characterSetsRegex + (_normalize ? "+" : "");
+				break;
+			case MIDDLE_OF_STRING:
+				regex = "(?<!^)" + characterSetsRegex + (_normalize ? "+" : "") + "(?!$)";
+				break;
+			case END_OF_STRING:
+				regex = characterSetsRegex + (_normalize ? "+" : "") + "$";
+				break;
+			case BEGINNING_OR_END:
+				regex = "^" + characterSetsRegex + (_normalize ? "+" : "") + "|" + characterSetsRegex + (_normalize ? "+" : "") + "$";
+				break;
+			default:
+				throw new RuntimeException("Unknown position \"" + _position + "\"!");
+		}
+
+		// Any of the given sets (in any order) give the same Pattern; so whichever thread compiles it first, wins.
+		pattern = Pattern.compile(regex);
+		PATTERNS.compareAndSet(index, null, pattern);
+
+		return PATTERNS.get(index);
+	}
+
+	/**
+	 * Does the replace with a hand-written scan over a lookup table, for the common Whitespace cases.
+	 * <p>
+	 *     Only used where it gives exactly the same result as the Pattern would.
+	 *     (i.e. Not for positions where {@code $} can also match before a final line terminator, that is not in the Character Set.)
+	 * </p>
+	 *
+	 * @return The replaced String (the same instance, if nothing was replaced);
+	 * or {@code null}, if there is no scanner for the given options.
+	 *
+	 * @see #replace(String, String, CharacterPosition, boolean, CharacterSet...)
+	 */
+	private static String replaceWithScanner(String _haystack, String _replacement, CharacterPosition _position, boolean _normalize,
+			CharacterSet... _characterSet) {
+
+		//------------------------ Pre-Checks ----------------------------------
+		CharacterSet characterSet = _characterSet[0];
+		for(CharacterSet cs : _characterSet) {
+			if(cs != characterSet) {
+				return null;
+			}
+		}
+
+		if(_replacement == null || _replacement.indexOf('$') >= 0 || _replacement.indexOf('\\') >= 0) {
+			return null; // Leave group references and escapes (and errors) to the Pattern.
+		}
+
+		//------------------------ Variables -----------------------------------
+		boolean[] table;
+		int length = _haystack.length(), start = 0, end = length;
+		StringBuilder result;
+
+		//------------------------ Code ----------------------------------------
+		if(characterSet == CharacterSet.ALL_WHITESPACE) {
+			table = ALL_WHITESPACE_TABLE;
+		}
+		else if(characterSet == CharacterSet.NORMAL_WHITESPACE && (_position == CharacterPosition.ANYWHERE
+				|| _position == CharacterPosition.BEGINNING_OF_STRING)) { // "\s" does not include all line terminators.
+			table = NORMAL_WHITESPACE_TABLE;
+		}
+		else {
+			return null;
+		}
+
+		switch(_position) {
+			case ANYWHERE:
+
+				while(start < length && !isIn(table, _haystack.charAt(start))) {
+					start++;
+				}
+				if(start == length) {
+					return _haystack;
+				}
+
+				result = new StringBuilder(length).append(_haystack, 0, start);
+				for(int i = start; i < length; i++) {
+
+					char c = _haystack.charAt(i);
+					if(!isIn(table, c)) {
+						result.append(c);
+					}
+					else if(!_normalize || i == start || !isIn(table, _haystack.charAt(i - 1))) {
+						result.append(_replacement);
+					}
+				}
+
+				return result.toString();
+
+			case BEGINNING_OF_STRING:
+
+				while(start < length && isIn(table, _haystack.charAt(start)) && (_normalize || start < 1)) {
+					start++;
+				}
+
+				return start == 0 ? _haystack : _replacement + _haystack.substring(start);
+
+			case END_OF_STRING:
+			case BEGINNING_OR_END:
+
+				if(!_normalize) {
+					return null;
+				}
+
+				if(_position == CharacterPosition.BEGINNING_OR_END) {
+					while(start < length && isIn(table, _haystack.charAt(start))) {
+						start++;
+					}
+				}
+				if(start == length) { // All Whitespace.
+					return length == 0 ? _haystack : _replacement;
+				}
+
+				while(end > start && isIn(table, _haystack.charAt(end - 1))) {
+					end--;
+				}
+				if(start == 0 && end == length) {
+					return _haystack;
+				}
+
+				return (start > 0 ? _replacement : "") + _haystack.substring(start, end) + (end < length ? _replacement : "");
+
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * @return Whether the given Character is in the given lookup table.
+	 */
+	private static boolean isIn(boolean[] _table, char _c) {
+		return _c < _table.length && _table[_c];
+	}
+
+	/**
+	 * Builds a lookup table of every character (below the given limit) that the given Character Set matches.
+	 * <p>(Built from the Character Set's own Pattern; so it always agrees with it.)</p>
+	 */
+	private static boolean[] buildTable(CharacterSet _characterSet, int _limit) {
+
+		boolean[] table = new boolean[_limit];
+		Matcher matcher = Pattern.compile(_characterSet.toString()).matcher("");
+
+		for(char c = 0; c < _limit; c++) {
+			table[c] = matcher.reset(String.valueOf(c)).matches();
+		}
+
+		return table;
+	}
+
+	/**
+	 * Opens the given File, to be decoded as UTF-8.
+	 * <p>(Malformed input is replaced, the same as {@link #toString(File)}; instead of being thrown.)</p>
+	 *
+	 * @throws UncheckedIOException If the File could not be opened.
+	 */
+	private static Reader openReader(File _file) {
+
+		try {
+			return new InputStreamReader(Files.newInputStream(_file.toPath()), StandardCharsets.UTF_8);
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException("Could not open File: " + _file.getAbsolutePath() + "!", e);
+		}
+	}
+
+	/**
+	 * @throws UncheckedIOException If the Reader could not be closed.
+	 */
+	private static void close(Reader _reader) {
+
+		try {
+			_reader.close();
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 	//========================= CONSTANTS ======================================
 
 	//========================= Variables ======================================
@@ -537,4 +870,93 @@ public class StringHelper {
 	//========================= Methods ========================================
 
 	//========================= Classes ========================================
+	/**
+	 * Reads a Reader in fixed size chunks, for {@link #chunks(File, int)}.
+	 */
+	private static final class ChunkIterator implements Iterator<String> {
+
+		//------------------------ CONSTANTS -----------------------------------
+		private final Reader READER;
+		private final char[] BUFFER;
+
+		//------------------------ Variables -----------------------------------
+		/**
+		 * The chunk that {@link #hasNext()} read ahead; or {@code null}.
+		 */
+		private String nextChunk;
+
+		/**
+		 * A high surrogate held back from the end of the last chunk; or -1.
+		 */
+		private int heldBack = -1;
+
+		private boolean endOfFile = false;
+
+		//------------------------ Constructors --------------------------------
+		ChunkIterator(Reader _reader, int _chunkSize) {
+			READER = _reader;
+			BUFFER = new char[_chunkSize];
+		}
+
+		//------------------------ Methods -------------------------------------
+		@Override
+		public boolean hasNext() {
+
+			if(nextChunk == null && !endOfFile) {
+				nextChunk = readChunk();
+			}
+
+			return nextChunk != null;
+		}
+
+		@Override
+		public String next() {
+
+			if(!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			String chunk = nextChunk;
+			nextChunk = null;
+
+			return chunk;
+		}
+
+		/**
+		 * @return The next chunk; or {@code null}, at the end of the File.
+		 *
+		 * @throws UncheckedIOException If the File could not be read.
+		 */
+		private String readChunk() {
+
+			int length = 0;
+			if(heldBack >= 0) {
+				BUFFER[length++] = (char) heldBack;
+				heldBack = -1;
+			}
+
+			try {
+				while(length < BUFFER.length) {
+
+					int read = READER.read(BUFFER, length, BUFFER.length - length);
+					if(read < 0) {
+						endOfFile = true;
+						break;
+					}
+
+					length += read;
+				}
+			}
+			catch(IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			// Don't split a surrogate pair across chunks.
+			if(!endOfFile && length > 1 && Character.isHighSurrogate(BUFFER[length - 1])) {
+				heldBack = BUFFER[--length];
+			}
+
+			return length == 0 ? null : new String(BUFFER, 0, length);
+		}
+	}
 }
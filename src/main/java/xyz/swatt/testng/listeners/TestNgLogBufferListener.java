@@ -0,0 +1,64 @@
+package xyz.swatt.testng.listeners;
+
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import xyz.swatt.log.TestLogBufferAppender;
+import xyz.swatt.log.TestLogBufferAppender.TestStatus;
+
+/**
+ * Tells the {@link TestLogBufferAppender} when each test starts and ends; so each test's logs are only written to a File if the test fails or is skipped.
+ * <p>
+ *     Add it to the TestNG Suite ({@code <listeners><listener class-name="xyz.swatt.testng.listeners.TestNgLogBufferListener"/></listeners>}),
+ *     and add a {@code TestLogBuffer} Appender to the Log4j2 Configuration (see {@link TestLogBufferAppender}).
+ * </p>
+ * <p>
+ *     <i>Note:</i> Logs from {@code @Before...} and {@code @After...} methods are not part of any test; so they are written to {@code outside-tests.log}.
+ * </p>
+ */
+public class TestNgLogBufferListener implements ITestListener {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods ========================================
+    @Override
+    public void onTestStart(ITestResult _result) {
+        TestLogBufferAppender.startTest(_result.getTestClass().getName() + "." + _result.getMethod().getMethodName());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult _result) {
+        TestLogBufferAppender.endTest(TestStatus.PASSED);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult _result) {
+        TestLogBufferAppender.endTest(TestStatus.FAILED);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult _result) {
+        TestLogBufferAppender.endTest(TestStatus.SKIPPED);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult _result) {
+        TestLogBufferAppender.endTest(TestStatus.FAILED);
+    }
+
+    //========================= Classes ========================================
+}
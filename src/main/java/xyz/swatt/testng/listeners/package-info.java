@@ -0,0 +1,4 @@
+/**
+ * Custom Listeners to be used with TestNG Tests.
+ */
+package xyz.swatt.testng.listeners;
\ No newline at end of file
@@ -0,0 +1,88 @@
+package xyz.swatt.testng.reporters;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IReporter;
+import org.testng.ISuite;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Will generate the {@link TestNgMatrixReporter Matrix}, {@link TestNgPlainTextFileReporter Plain Text}, &amp; {@link TestNgPassPercentageReporter Pass Percentage}
+ * reports, in parallel; all rendered from a single aggregation of the results.
+ * <p>
+ *     Use this Reporter instead of listing the three Reporters separately. (Their File names and Output Directory overrides are still used.)
+ * </p>
+ */
+public class TestNgCombinedReporter implements IReporter {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(TestNgCombinedReporter.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+    private final TestNgMatrixReporter MATRIX_REPORTER = new TestNgMatrixReporter();
+    private final TestNgPlainTextFileReporter PLAIN_TEXT_REPORTER = new TestNgPlainTextFileReporter(); // Captures the Test Suite Start Time.
+    private final TestNgPassPercentageReporter PASS_PERCENTAGE_REPORTER = new TestNgPassPercentageReporter();
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods ========================================
+    /**
+     * Constructs all three reports, at the same time.
+     *
+     * @param _xmlSuites
+     *         The TestNG XML Test Suites.
+     * @param _suites
+     *         The TestNG XML Test Suites' results.
+     * @param _outputDirectoryPath
+     *         Where to write the output file(s).
+     *
+     * @throws RuntimeException If any of the reports could not be written. (The other reports are still written.)
+     * @see IReporter#generateReport(List, List, String)
+     */
+    @Override
+    public void generateReport(List<XmlSuite> _xmlSuites, List<ISuite> _suites, String _outputDirectoryPath) {
+
+        LOGGER.info("generateReport() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final TestNgResults RESULTS = TestNgResults.of(_suites);
+
+        //------------------------ Variables -----------------------------------
+
+        //------------------------ Code ----------------------------------------
+        try {
+            CompletableFuture.allOf(
+                    CompletableFuture.runAsync(() -> MATRIX_REPORTER.generateReport(RESULTS, _outputDirectoryPath)),
+                    CompletableFuture.runAsync(() -> PLAIN_TEXT_REPORTER.generateReport(RESULTS, _outputDirectoryPath)),
+                    CompletableFuture.runAsync(() -> PASS_PERCENTAGE_REPORTER.generateReport(RESULTS, _outputDirectoryPath))
+            ).join();
+        }
+        catch(CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        finally {
+            TestNgResults.clear(); // Every report is written.
+        }
+
+        LOGGER.debug("generateReport() [END]");
+    }
+
+    //========================= Classes ========================================
+}
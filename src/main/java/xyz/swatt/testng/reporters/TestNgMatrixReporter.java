@@ -1,6 +1,5 @@
 package xyz.swatt.testng.reporters;
 
-import org.apache.commons.collections4.map.HashedMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.*;
@@ -8,7 +7,9 @@ import org.testng.xml.XmlSuite;
 
 import java.io.*;
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Will generate a Test Matrix Style report, with Pass Rates.
@@ -23,7 +24,30 @@ public class TestNgMatrixReporter implements IReporter {
     //========================= STATIC CONSTANTS ===============================
     private static final Logger LOGGER = LogManager.getLogger(TestNgMatrixReporter.class);
 
-    private static final Map<KnownError, Integer> knownErrors = new HashedMap<>();
+    private static final ConcurrentMap<KnownError, LongAdder> KNOWN_ERRORS = new ConcurrentHashMap<>();
+
+    /**
+     * The last Test Method run that counted each Known Error, by Thread Id; so errors below the Test Method are only counted once per run.
+     * (Runs are held as {@link #getTestRunToken(ITestResult) Tokens}, so their results can still be garbage collected.)
+     */
+    private static final ConcurrentMap<KnownError, ConcurrentMap<Long, Long>> COUNTED_TEST_RUNS = new ConcurrentHashMap<>();
+
+    /**
+     * Stands in for the Test Method run, when a Known Error is added outside of one.
+     */
+    private static final long NO_TEST_RUN = -1;
+
+    @SuppressWarnings("SpellCheckingInspection")
+    private static final Set<String> CLASSES_TO_SKIP = new HashSet<>(Arrays.asList(
+            "ForkedBooter",
+            "TestNGExecutor",
+            "TestNGProvider",
+            "TestNGXmlTestSuite"
+    ));
+    private static final Set<String> PATHS_TO_SKIP = new HashSet<>(Arrays.asList(
+            "java.lang.Thread",
+            "java.lang.reflect.Method"
+    ));
 
     //========================= Static Variables ===============================
     /**
@@ -46,15 +70,16 @@ public class TestNgMatrixReporter implements IReporter {
      *     (This is to be used for known bugs that have workaround in the Test Code.)
      * </p>
      * <p>
-     *     <b>Note:</b> Errors that happen below the Test Method (in stack trace), will only be counted once, per Test Method.
+     *     <b>Note:</b> Errors that happen below the Test Method (in stack trace), will only be counted once, per Test Method run.
      * </p>
+     * <p>(Safe to call from many threads at once.)</p>
      *
      * @param _bugId
      *         The Identifier of the bug to be reported.
      *
      * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
      */
-    public static synchronized void addKnownError(String _bugId) {
+    public static void addKnownError(String _bugId) {
 
         LOGGER.info("addKnownError(_bugId: {}) [START]", _bugId);
 
@@ -65,26 +90,14 @@ public class TestNgMatrixReporter implements IReporter {
         final String ERROR_LOCATION_CLASS, ERROR_LOCATION_METHOD;
         String testClass = "", testClassPath = "", testMethod = "";
 
-        @SuppressWarnings("SpellCheckingInspection")
-        final List<String> CLASSES_TO_SKIP = Arrays.asList(
-                "ForkedBooter",
-                "TestNGExecutor",
-                "TestNGProvider",
-                "TestNGXmlTestSuite"
-        );
-        final List<String> PATHS_TO_SKIP = Arrays.asList(
-                "java.lang.Thread",
-                "java.lang.reflect.Method"
-        );
-
         //------------------------ Variables -----------------------------------
         boolean testMethodLevelError = true;
 
-        Integer count;
         KnownError knE = new KnownError();
         String reportedMethodColumn;
 
         //------------------------ Code ----------------------------------------
+        // (Java 8 has no StackWalker; so the whole stack is captured, but only walked until the Test Method is found.)
         StackTraceElement[] stacktrace = Thread.currentThread().getStackTrace();
 
         StackTraceElement location = stacktrace[2]; // 0: Thread.getStackTrace(); 1: TestNgMatrixReporter.addKnownError().
@@ -102,27 +115,7 @@ public class TestNgMatrixReporter implements IReporter {
             testMethod = stackTraceElement.getMethodName();
 
             // Skip Setup Classes.
-            if(PATHS_TO_SKIP.contains(testClassPath)) {
-                //noinspection UnnecessaryContinue
-                continue;
-            }
-            else if(CLASSES_TO_SKIP.contains(testClass)) {
-                //noinspection UnnecessaryContinue
-                continue;
-            }
-            else if(testClassPath.startsWith("java.util.concurrent.ThreadPoolExecutor")) {
-                //noinspection UnnecessaryContinue
-                continue;
-            }
-            else if(testClassPath.startsWith("org.testng.")) {
-                //noinspection UnnecessaryContinue
-                continue;
-            }
-            else if(testClassPath.startsWith("sun.reflect.")) {
-                //noinspection UnnecessaryContinue
-                continue;
-            }
-            else {
+            if(!isSetupClass(testClassPath, testClass)) {
                 break;
             }
         }
@@ -144,20 +137,50 @@ public class TestNgMatrixReporter implements IReporter {
         knE.lineNum = ERROR_LOCATION_LINE_NUMBER;
         knE.bugId = _bugId;
 
-        count = knownErrors.get(knE);
-        count = count == null ? 1 : ++count;
+        LongAdder count = KNOWN_ERRORS.computeIfAbsent(knE, _knownError -> new LongAdder());
 
         // Errors that occur below test method, can happen multiple times within a single Test Method run.
-        // So we are only counting them as 1, as to not inflate the error count.
-        // Note: This will also result in multiple test method call's errors, also only being counted as 1.
-        // TODO: Find a way around this. (Maybe using Thread Ids.)
-        count = testMethodLevelError ? count : 1;
-
-        knownErrors.put(knE, count);
+        // So we are only counting them once per Test Method run (tracked by Thread Id, as each thread only runs one Test Method at a time).
+        if(testMethodLevelError || isFirstInTestRun(knE)) {
+            count.increment();
+        }
 
         LOGGER.debug("addKnownError(_bugId: {}) [END]", _bugId);
     }
 
+    //////////////////// Helper Methods ////////////////////
+    /**
+     * @return If the given Stack Trace Element is TestNG's (or the JVM's) code, that calls the Test Method.
+     */
+    private static boolean isSetupClass(String _classPath, String _class) {
+        return PATHS_TO_SKIP.contains(_classPath) || CLASSES_TO_SKIP.contains(_class) || _classPath.startsWith("java.util.concurrent.ThreadPoolExecutor")
+                || _classPath.startsWith("org.testng.") || _classPath.startsWith("sun.reflect.");
+    }
+
+    /**
+     * @return If the given Known Error has not already been counted in the current thread's Test Method run.
+     */
+    private static boolean isFirstInTestRun(KnownError _knownError) {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final ITestResult TEST_RUN = Reporter.getCurrentTestResult(); // null, if not in a Test Method run.
+        final long TEST_RUN_TOKEN = TEST_RUN != null ? getTestRunToken(TEST_RUN) : NO_TEST_RUN;
+
+        //------------------------ Code ----------------------------------------
+        ConcurrentMap<Long, Long> countedTestRuns = COUNTED_TEST_RUNS.computeIfAbsent(_knownError, _key -> new ConcurrentHashMap<>());
+        Long previousTestRunToken = countedTestRuns.put(Thread.currentThread().getId(), TEST_RUN_TOKEN);
+
+        return previousTestRunToken == null || (TEST_RUN != null && previousTestRunToken != TEST_RUN_TOKEN);
+    }
+
+    /**
+     * @return A Token for the given Test Method run; its Identity Hash Code (high bits) &amp; its Start Millis (low bits).
+     * (The sign bit is never set; so it never matches {@link #NO_TEST_RUN}.)
+     */
+    private static long getTestRunToken(ITestResult _testRun) {
+        return (System.identityHashCode(_testRun) & 0x7FFF_FFFFL) << 32 | _testRun.getStartMillis() & 0xFFFF_FFFFL;
+    }
+
     //========================= CONSTANTS ======================================
 
     //========================= Variables ======================================
@@ -181,6 +204,18 @@ public class TestNgMatrixReporter implements IReporter {
      */
     @Override
     public void generateReport(List<XmlSuite> xmlSuites, List<ISuite> suites, String outputDirectoryPath) {
+        generateReport(TestNgResults.of(suites), outputDirectoryPath);
+    }
+
+    /**
+     * Constructs a Test Matrix style report, from the already aggregated results.
+     *
+     * @param _results
+     *         The TestNG run's results.
+     * @param _outputDirectoryPath
+     *         Where to write the output file(s).
+     */
+    void generateReport(TestNgResults _results, String _outputDirectoryPath) {
 
         LOGGER.info("generateReport() [START]");
 
@@ -193,14 +228,14 @@ public class TestNgMatrixReporter implements IReporter {
         PrintWriter pw;
 
         //------------------------ Code ----------------------------------------
-        outputDirectoryPath = outputDirectoryOverride == null ? outputDirectoryPath : outputDirectoryOverride;
-        File outputDirectory = new File(outputDirectoryPath);
+        _outputDirectoryPath = outputDirectoryOverride == null ? _outputDirectoryPath : outputDirectoryOverride;
+        File outputDirectory = new File(_outputDirectoryPath);
         if(!outputDirectory.exists() && !outputDirectory.mkdirs()) {
-            throw new RuntimeException("Could not create Output Directory: " + outputDirectoryPath + "!");
+            throw new RuntimeException("Could not create Output Directory: " + _outputDirectoryPath + "!");
         }
 
         try {
-            pw = new PrintWriter(new BufferedWriter(new FileWriter(new File(outputDirectoryPath, reportFileName + ".html"))));
+            pw = new PrintWriter(new BufferedWriter(new FileWriter(new File(_outputDirectoryPath, reportFileName + ".html"))));
         }
         catch(IOException e) {
             LOGGER.error("Unable to create Testing Matrix Report File!", e);
@@ -214,7 +249,7 @@ public class TestNgMatrixReporter implements IReporter {
 
         //Iterating over each suite included in the test
         boolean firstSuite = true;
-        for(ISuite suite : suites) {
+        for(TestNgResults.SuiteResults suite : _results.SUITE_RESULTS) {
 
             if(!firstSuite) {
                 pw.println("<br/><br/>");
@@ -223,12 +258,10 @@ public class TestNgMatrixReporter implements IReporter {
                 firstSuite = false;
             }
 
-            String suiteName = suite.getName();
-            pw.println("<h1>" + suiteName + "</h1>");
+            pw.println("<h1>" + suite.NAME + "</h1>");
 
             boolean firstXmlTest = true;
-            Map<String, ISuiteResult> suiteResults = suite.getResults();
-            for(String testName : suiteResults.keySet()) {
+            for(TestNgResults.XmlTestResults xmlTest : suite.XML_TESTS) {
 
                 if(!firstXmlTest) {
                     pw.println("<br/>");
@@ -237,47 +270,23 @@ public class TestNgMatrixReporter implements IReporter {
                     firstXmlTest = false;
                 }
 
-                pw.println("<h2>" + testName + "</h2>");  // TestNG XML Test.
-
-                ITestContext testContent = suiteResults.get(testName).getTestContext();
-                int numOfMethods = testContent.getAllTestMethods().length;
-
-                LinkedHashMap<String, Integer> successes = new LinkedHashMap<>(numOfMethods),
-                        failures = new LinkedHashMap<>(numOfMethods),
-                        skips = new LinkedHashMap<>(numOfMethods);
+                pw.println("<h2>" + xmlTest.NAME + "</h2>");  // TestNG XML Test.
 
                 pw.println("<h3>Test Methods</h3>");  // TestNG XML Test.
-                for(ITestNGMethod testMethod : testContent.getAllTestMethods()) {
-
-                    String classMethodName = getMethodPath(testMethod);
-
-                    successes.put(classMethodName, 0);
-                    failures.put(classMethodName, 0);
-                    skips.put(classMethodName, 0);
-                }
-
-                loadResultsMap(successes, testContent.getPassedTests().getAllResults());
-                loadResultsMap(failures, testContent.getFailedTests().getAllResults());
-                loadResultsMap(skips, testContent.getSkippedTests().getAllResults());
-
                 pw.println("<table class='table table-bordered table-hover' style='width:auto'>");
                 pw.println("<tr><th>Class</th><th>Method</th><th>Total</th><th class='success'>Success</th><th class='danger'>Fail</th><th class='warning'>Skip</th></tr>");
                 int totalRuns = 0, totalSuccess = 0, totalErrors = 0, totalSkips = 0;
-                for(String key : successes.keySet()) {
+                for(TestNgResults.MethodCounts methodCounts : xmlTest.METHOD_COUNTS.values()) {
 
-                    String[] keyParts = key.split(Pattern.quote("."));
-                    int success = successes.get(key);
-                    int failed = failures.get(key);
-                    int skip = skips.get(key);
-                    int total = success + failed + skip;
+                    int total = methodCounts.getTotal();
 
-                    pw.println("<tr><td>" + keyParts[0] + "</td><td>" + keyParts[1] + "</td><td>" + total + "</td><td class='success'>" + success
-                            + "</td><td class='danger'>" + failed + "</td><td class='warning'>" + skip + "</td></tr>");
+                    pw.println("<tr><td>" + methodCounts.CLASS_NAME + "</td><td>" + methodCounts.METHOD_NAME + "</td><td>" + total + "</td><td class='success'>"
+                            + methodCounts.passed + "</td><td class='danger'>" + methodCounts.failed + "</td><td class='warning'>" + methodCounts.skipped + "</td></tr>");
 
                     totalRuns += total;
-                    totalSuccess += success;
-                    totalErrors += failed;
-                    totalSkips += skip;
+                    totalSuccess += methodCounts.passed;
+                    totalErrors += methodCounts.failed;
+                    totalSkips += methodCounts.skipped;
                 }
                 pw.println("<tr><th></th><th>Totals:</th><th>" + totalRuns + "</th><th class='success'>" + totalSuccess + "</th><th class='danger'>"
                         + totalErrors + "</th><th class='warning'>" + totalSkips + "</th></tr>");
@@ -298,16 +307,17 @@ public class TestNgMatrixReporter implements IReporter {
         pw.println("<br/><br/><table class='table table-bordered table-hover' style='margin-left: 2em; width:auto'><tr><th>Global Pass Rate:</th><th></th><th id='gpr'>"
                 + allSuccessRate + "%</th></tr></table><br/><br/>");
 
-        if(!knownErrors.isEmpty()) {
+        if(!KNOWN_ERRORS.isEmpty()) {
 
             pw.println("<h3>Known Bugs</h3>");
             pw.println("<table class='table table-bordered table-hover' style='width:auto'>");
             pw.println("<tr><th>Class</th><th>Method</th><th>Line Number</th><th>Bug Id</th><th class='danger'>Total</th></tr>");
 
             int totals = 0;
-            for(KnownError ke : knownErrors.keySet()) {
+            for(Map.Entry<KnownError, LongAdder> knownError : KNOWN_ERRORS.entrySet()) {
 
-                int errorCount = knownErrors.get(ke);
+                KnownError ke = knownError.getKey();
+                int errorCount = knownError.getValue().intValue();
 
                 pw.println("<tr><td title='" + ke.testClassPath + "'>" + ke.testClass + "</td><td>" + ke.reportedMethod
                         + "</td><td>" + ke.lineNum + "</td><td>" + ke.bugId + "</td><td class='danger'>" + errorCount
@@ -333,76 +343,6 @@ public class TestNgMatrixReporter implements IReporter {
         LOGGER.debug("generateReport() [END]");
     }
 
-    //////////////////// Helper Methods ////////////////////
-    /**
-     * Loads ITestResults into a given Map, that keep track of the count of each Result type.
-     *
-     * @param _map
-     *         The Map to load.
-     * @param _results
-     *         The Results to count.
-     *
-     * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
-     */
-    private void loadResultsMap(Map<String, Integer> _map, Collection<ITestResult> _results) {
-
-        LOGGER.debug("loadResultsMap( Map< String, Integer > _map, Collection< ITestResult > _results ) [START]");
-
-        //------------------------ Pre-Checks ----------------------------------
-
-        //------------------------ CONSTANTS -----------------------------------
-
-        //------------------------ Variables -----------------------------------
-
-        //------------------------ Code ----------------------------------------
-        //noinspection CaughtExceptionImmediatelyRethrown
-        try {
-            for(ITestResult testResult : _results) {
-
-                String key = getMethodPath(testResult.getMethod());
-                int count = _map.get(key);
-                count++;
-                _map.put(key, count);
-            }
-        }
-        catch(Exception e) {
-            throw e; // For Debugging.
-        }
-
-        LOGGER.debug("loadResultsMap( Map< String, Integer > _map, Collection< ITestResult > _results ) [END]");
-    }
-
-    /**
-     * Constructs the given Method's full path.
-     *
-     * @param _testMethod
-     *         The method to fo figure out it's path.
-     *
-     * @return The given Method's full path.
-     *
-     * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
-     */
-    private String getMethodPath(ITestNGMethod _testMethod) {
-
-        LOGGER.debug("getMethodPath(ITestNGMethod) [START]");
-
-        //------------------------ Pre-Checks ----------------------------------
-
-        //------------------------ CONSTANTS -----------------------------------
-
-        //------------------------ Variables -----------------------------------
-
-        //------------------------ Code ----------------------------------------
-        String path = _testMethod.getRealClass().getSimpleName() + "."
-
-                // Not using ITestNGMethod.getMethodName(), because that name could be changed by custom TestNG Listeners.
-                + _testMethod.getConstructorOrMethod().getName() + "()";
-
-        LOGGER.debug("getMethodPath(ITestNGMethod) [END]");
-
-        return path;
-    }
-
     //========================= Classes ========================================
     private static class KnownError {
 
@@ -4,13 +4,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.IReporter;
 import org.testng.ISuite;
-import org.testng.ISuiteResult;
-import org.testng.ITestContext;
 import org.testng.xml.XmlSuite;
 import xyz.swatt.log.LogMethods;
 
 import java.io.*;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Will generate a Plain Test report, with Pass Percentage.
@@ -29,8 +28,9 @@ public class TestNgPassPercentageReporter implements IReporter {
     @SuppressWarnings("unused")
     private static final Logger LOGGER = LogManager.getLogger(TestNgPassPercentageReporter.class);
 
+    private static final LongAdder KNOWN_BUGS_COUNT = new LongAdder();
+
     //========================= Static Variables ===============================
-    private static int knownBugsCount = 0;
     /**
      * If set, the Report File will be placed in this directory, instead of the default Test Output directory.
      */
@@ -48,10 +48,11 @@ public class TestNgPassPercentageReporter implements IReporter {
 
     /**
      * Will allow the Error Count to be incremented by 1.
+     * <p>(Safe to call from many threads at once.)</p>
      *
      * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
      */
-    public static synchronized void addKnownError() {
+    public static void addKnownError() {
 
         //------------------------ Pre-Checks ----------------------------------
 
@@ -60,7 +61,7 @@ public class TestNgPassPercentageReporter implements IReporter {
         //------------------------ Variables -----------------------------------
 
         //------------------------ Code ----------------------------------------
-        knownBugsCount++;
+        KNOWN_BUGS_COUNT.increment();
     }
 
     //========================= CONSTANTS ======================================
@@ -86,13 +87,25 @@ public class TestNgPassPercentageReporter implements IReporter {
      */
     @Override
     public void generateReport(List<XmlSuite> _xmlSuites, List<ISuite> _suites, String _outputDirectoryPath) {
+        generateReport(TestNgResults.of(_suites), _outputDirectoryPath);
+    }
+
+    /**
+     * Constructs a Pass Percentage report, from the already aggregated results.
+     *
+     * @param _results
+     *         The TestNG run's results.
+     * @param _outputDirectoryPath
+     *         Where to write the output file(s).
+     */
+    void generateReport(TestNgResults _results, String _outputDirectoryPath) {
 
         //------------------------ Pre-Checks ----------------------------------
 
         //------------------------ CONSTANTS -----------------------------------
 
         //------------------------ Variables -----------------------------------
-        int allTestsCount = 0, allPassedTestsCount = 0;
+        int allTestsCount = _results.TESTS_COUNT + KNOWN_BUGS_COUNT.intValue();
 
         File outputDirectory = new File(outputDirectoryOverride == null ? _outputDirectoryPath : outputDirectoryOverride);
         PrintWriter pw;
@@ -109,24 +122,7 @@ public class TestNgPassPercentageReporter implements IReporter {
             throw new RuntimeException("Unable to create Testing Pass Percentage File! " + e.getMessage());
         }
 
-        for(ISuite suite : _suites) { // Iterating over each XML Test Suite...
-            for(ISuiteResult iSuiteResult : suite.getResults().values()) { // Iterating over each XML Test...
-
-                ITestContext testContent = iSuiteResult.getTestContext();
-
-                int passesCount = testContent.getPassedTests().size();
-                allPassedTestsCount += passesCount;
-
-                allTestsCount += passesCount;
-                allTestsCount += testContent.getFailedTests().size();
-                allTestsCount += testContent.getSkippedTests().size();
-
-            } // END LOOP - XML Test.
-        } // END LOOP - XML Test Suite.
-
-        allTestsCount += knownBugsCount;
-
-        double allSuccessRate = Math.round((float) allPassedTestsCount / (float) allTestsCount * 1000.0) / 10.0;
+        double allSuccessRate = Math.round((float) _results.PASSED_TESTS_COUNT / (float) allTestsCount * 1000.0) / 10.0;
         pw.print(allSuccessRate + "%");
         pw.flush();
         pw.close();
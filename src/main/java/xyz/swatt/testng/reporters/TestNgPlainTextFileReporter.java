@@ -1,22 +1,21 @@
 package xyz.swatt.testng.reporters;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.*;
-import org.testng.collections.Lists;
 import org.testng.internal.Utils;
 import org.testng.xml.XmlSuite;
 import xyz.swatt.log.LogMethods;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 import static org.testng.internal.Utils.isStringNotBlank;
 
@@ -73,7 +72,6 @@ public class TestNgPlainTextFileReporter implements IReporter {
 	public final LocalDateTime START_TIME;
 	
 	//========================= Variables ======================================
-	StringBuilder stringBuilder = new StringBuilder();
 	
 	//========================= Constructors ===================================
 	
@@ -113,70 +111,70 @@ public class TestNgPlainTextFileReporter implements IReporter {
 	 */
 	@Override
 	public void generateReport(List<XmlSuite> xmlSuites, List<ISuite> suites, String outputDirectoryPath) {
+		generateReport(TestNgResults.of(suites), outputDirectoryPath);
+	}
+	
+	/**
+	 * Constructs a Plain Text report, from the already aggregated results; streaming it to the Report File.
+	 *
+	 * @param _results
+	 * 		The TestNG run's results.
+	 * @param _outputDirectoryPath
+	 * 		Where to write the output file(s).
+	 */
+	void generateReport(TestNgResults _results, String _outputDirectoryPath) {
 		
 		//------------------------ Pre-Checks ----------------------------------
 		
 		//------------------------ CONSTANTS -----------------------------------
+		final String TIME_TAKEN = Duration.between(START_TIME, LocalDateTime.now()).toString().substring(2);
 		
 		//------------------------ Variables -----------------------------------
+		List<TestNgResults.XmlTestResults> xmlTests = new ArrayList<>();
 		
 		//------------------------ Code ----------------------------------------
-		outputDirectoryPath = outputDirectoryOverride == null ? outputDirectoryPath : outputDirectoryOverride;
-		File outputDirectory = new File(outputDirectoryPath);
+		_outputDirectoryPath = outputDirectoryOverride == null ? _outputDirectoryPath : outputDirectoryOverride;
+		File outputDirectory = new File(_outputDirectoryPath);
 		if(!outputDirectory.exists() && !outputDirectory.mkdirs()) {
-			throw new RuntimeException("Could not create Output Directory: " + outputDirectoryPath + "!");
+			throw new RuntimeException("Could not create Output Directory: " + _outputDirectoryPath + "!");
 		}
 		
-		for(ISuite suite : suites) {
-			
-			Map<String, ISuiteResult> suiteResults = suite.getResults();
-			for(String testName : suiteResults.keySet()) {
-				
-				ITestContext testContent = suiteResults.get(testName).getTestContext();
-				
-				logResults(testContent);
-			} // END LOOP - XML Test.
-		} // END LOOP - XML Test Suite.
+		for(TestNgResults.SuiteResults suite : _results.SUITE_RESULTS) {
+			xmlTests.addAll(suite.XML_TESTS);
+		}
 		
-		try {
-			FileUtils.write(new File(outputDirectoryPath, reportFileName + ".txt"), stringBuilder, StandardCharsets.UTF_8);
+		try(Writer writer = Files.newBufferedWriter(new File(_outputDirectoryPath, reportFileName + ".txt").toPath(), StandardCharsets.UTF_8)) {
+			
+			// Counts are at the beginning of the report (last XML Test first).
+			for(int i = xmlTests.size() - 1; i >= 0; i--) {
+				logHeader(writer, xmlTests.get(i), TIME_TAKEN);
+			}
+			
+			for(TestNgResults.XmlTestResults xmlTest : xmlTests) {
+				logResults(writer, xmlTest);
+			}
 		}
 		catch(IOException e) {
-			throw new RuntimeException("Could not write results to file!\n\n" + stringBuilder);
+			throw new RuntimeException("Could not write results to file! " + e.getMessage(), e);
 		}
 	}
 	
 	//========================= Helper Methods =================================
-	private void logResults(ITestContext testContent) {
-		
-		IResultMap failedTestResults = testContent.getFailedTests();
-		IResultMap skippedTestResults = testContent.getSkippedTests();
-		IResultMap passedTestResults = testContent.getPassedTests();
+	private void logResults(Writer writer, TestNgResults.XmlTestResults xmlTest) throws IOException {
 		
 		////////// Log Configurations //////////
-		for(ITestResult tr : testContent.getFailedConfigurations().getAllResults()) {
-			Throwable ex = tr.getThrowable();
-			String stackTrace = "";
-			if(ex != null) {
-				if(verbose) {
-					stackTrace = Utils.longStackTrace(ex, false);
-				}
-				else {
-					stackTrace = Utils.shortStackTrace(ex, false);
-				}
-			}
-			
-			logResult("FAILED CONFIGURATION",
+		for(ITestResult tr : xmlTest.FAILED_CONFIGURATIONS) {
+			logResult(writer, "FAILED CONFIGURATION",
 					tr.getTestClass().getName(),
 					Utils.detailedMethodName(tr.getMethod(), false),
 					tr.getMethod().getDescription(),
-					stackTrace,
+					getStackTrace(tr, verbose),
 					tr.getParameters(),
 					tr.getMethod().getConstructorOrMethod().getParameterTypes());
 		}
 		
-		for(ITestResult tr : testContent.getSkippedConfigurations().getAllResults()) {
-			logResult("SKIPPED CONFIGURATION",
+		for(ITestResult tr : xmlTest.SKIPPED_CONFIGURATIONS) {
+			logResult(writer, "SKIPPED CONFIGURATION",
 					tr.getTestClass().getName(),
 					Utils.detailedMethodName(tr.getMethod(), false),
 					tr.getMethod().getDescription(),
@@ -186,81 +184,73 @@ public class TestNgPlainTextFileReporter implements IReporter {
 		}
 		
 		////////// Log Methods ////////// TODO: Log in order of execution.
-		for(ITestResult tr : failedTestResults.getAllResults()) {
-			Throwable ex = tr.getThrowable();
-			String stackTrace = "";
-			if(ex != null) {
-				if(verbose) {
-					stackTrace = Utils.longStackTrace(ex, false);
-				}
-				else {
-					stackTrace = Utils.shortStackTrace(ex, false);
-				}
-			}
-			
-			logResult("FAILED", tr, stackTrace);
-		}
-		
-		Set<ITestResult> rawskipped = skippedTestResults.getAllResults();
-		List<ITestResult> skippedTests = Lists.newArrayList();
-		List<ITestResult> retriedTests = Lists.newArrayList();
-		for(ITestResult result : rawskipped) {
-			if(result.wasRetried()) {
-				retriedTests.add(result);
-			}
-			else {
-				skippedTests.add(result);
-			}
+		for(ITestResult tr : xmlTest.FAILED) {
+			logResult(writer, "FAILED", tr, getStackTrace(tr, verbose));
 		}
 		
 		if(reportSkips) {
-			logExceptions("SKIPPED", skippedTests);
+			logExceptions(writer, "SKIPPED", xmlTest.SKIPPED);
 		}
 		if(reportSuccesses) {
-			logExceptions("RETRIED", retriedTests);
+			logExceptions(writer, "RETRIED", xmlTest.RETRIED);
 		}
 		
 		if(reportSuccesses) {
-			for(ITestResult tr : passedTestResults.getAllResults()) {
-				logResult("PASSED", tr, null);
+			for(ITestResult tr : xmlTest.PASSED) {
+				logResult(writer, "PASSED", tr, null);
 			}
 		}
+	}
+	
+	/**
+	 * TODO: Add Header for XML Test Suite (right now just have XML Tests).
+	 */
+	private void logHeader(Writer writer, TestNgResults.XmlTestResults xmlTest, String timeTaken) throws IOException {
 		
-		////////// Generate Header ////////// TODO: Add Header for XML Test Suite (right now just have XML Tests).
-		int totalTestMethodsCallsCount = failedTestResults.size() + skippedTestResults.size() + passedTestResults.size();
 		StringBuilder logBuf = new StringBuilder(LINE);
-		logBuf.append("    ").append(testContent.getName()).append("\n");
-		logBuf.append("    Tests run: ").append(totalTestMethodsCallsCount)
-				.append(", Failures: ").append(failedTestResults.size())
-				.append(", Skips: ").append(skippedTests.size());
-		if(!retriedTests.isEmpty()) {
-			logBuf.append(", Retries: ").append(retriedTests.size());
+		logBuf.append("    ").append(xmlTest.NAME).append("\n");
+		logBuf.append("    Tests run: ").append(xmlTest.getTestsCount())
+				.append(", Failures: ").append(xmlTest.FAILED.size())
+				.append(", Skips: ").append(xmlTest.SKIPPED.size());
+		if(!xmlTest.RETRIED.isEmpty()) {
+			logBuf.append(", Retries: ").append(xmlTest.RETRIED.size());
 		}
-		int confFailures = testContent.getFailedConfigurations().getAllResults().size();
-		int confSkips = testContent.getSkippedConfigurations().getAllResults().size();
+		int confFailures = xmlTest.FAILED_CONFIGURATIONS.size();
+		int confSkips = xmlTest.SKIPPED_CONFIGURATIONS.size();
 		if(confFailures > 0 || confSkips > 0) {
 			logBuf.append("\n")
 					.append("    Configuration Failures: ").append(confFailures)
 					.append(", Skips: ").append(confSkips);
 		}
 		
-		String timeTaken = Duration.between(START_TIME, LocalDateTime.now()).toString().substring(2);
 		logBuf.append("\n")
 				.append("    Total Time: ").append(timeTaken);
 		
 		logBuf.append(LINE);
 		
-		//logResult("", logBuf.toString());
+		writer.append(logBuf);
+	}
+	
+	@LogMethods(skip = true) // Called for every result.
+	private static String getStackTrace(ITestResult tr, boolean verbose) {
+		
+		Throwable ex = tr.getThrowable();
+		if(ex == null) {
+			return "";
+		}
 		
-		stringBuilder.insert(0, logBuf); // Add Counts to begining of report.
+		return verbose ? Utils.longStackTrace(ex, false) : Utils.shortStackTrace(ex, false);
 	}
 	
-	private void logResult(String status, ITestResult tr, String stackTrace) {
-		logResult(status, tr.getTestClass().getName(), tr.getName(), tr.getMethod().getDescription(), stackTrace, tr.getParameters(),
+	@LogMethods(skip = true) // Called for every result.
+	private void logResult(Writer writer, String status, ITestResult tr, String stackTrace) throws IOException {
+		logResult(writer, status, tr.getTestClass().getName(), tr.getName(), tr.getMethod().getDescription(), stackTrace, tr.getParameters(),
 				tr.getMethod().getConstructorOrMethod().getParameterTypes());
 	}
 	
-	private void logResult(String status, String className, String name, String description, String stackTrace, Object[] params, Class<?>[] paramTypes) {
+	@LogMethods(skip = true) // Called for every result.
+	private void logResult(Writer writer, String status, String className, String name, String description, String stackTrace, Object[] params,
+			Class<?>[] paramTypes) throws IOException {
 		
 		StringBuilder msg = new StringBuilder(className).append("#").append(name);
 		
@@ -299,25 +289,25 @@ public class TestNgPlainTextFileReporter implements IReporter {
 			msg.append("\n").append(stackTrace);
 		}
 		
-		logResult(status, msg.toString());
+		logResult(writer, status, msg.toString());
 	}
 	
-	private void logResult(String status, String message) {
+	@LogMethods(skip = true) // Called for every result.
+	private void logResult(Writer writer, String status, String message) throws IOException {
 		if(isStringNotBlank(status)) {
-			stringBuilder.append(status).append(": ");
+			writer.append(status).append(": ");
 		}
-		stringBuilder.append(message);
+		writer.append(message);
 		if(!message.endsWith("\n") && !message.endsWith("\r")) {
-			stringBuilder.append("\n");
+			writer.append("\n");
 		}
 	}
 	
-	private void logExceptions(String status, List<ITestResult> results) {
-		results.forEach(
-				tr -> {
-					Throwable throwable = tr.getThrowable();
-					logResult(status, tr, throwable != null ? Utils.shortStackTrace(throwable, false) : null);
-				});
+	private void logExceptions(Writer writer, String status, List<ITestResult> results) throws IOException {
+		for(ITestResult tr : results) {
+			Throwable throwable = tr.getThrowable();
+			logResult(writer, status, tr, throwable != null ? Utils.shortStackTrace(throwable, false) : null);
+		}
 	}
 	
 	//========================= Classes ========================================
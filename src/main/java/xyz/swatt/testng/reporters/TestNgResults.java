@@ -0,0 +1,219 @@
+package xyz.swatt.testng.reporters;
+
+import org.testng.ISuite;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The results of a TestNG run; sorted &amp; counted in a single pass, for all of the SWATT Reporters to render from.
+ * <p>
+ *     TestNG gives every Reporter the same List of Suites; so {@link #of(List)} only aggregates them once per run,
+ *     no matter how many SWATT Reporters are used. (The last run's results are only weakly held; so they do not outlive the run.)
+ * </p>
+ */
+final class TestNgResults {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+
+    //========================= Static Variables ===============================
+    /**
+     * The results of the last run; reused while the Reporters are given the same List of Suites.
+     */
+    private static WeakReference<TestNgResults> lastResults = new WeakReference<>(null);
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+    /**
+     * @param _suites
+     *         The TestNG XML Test Suites' results.
+     *
+     * @return The aggregated results of the given Suites. (Only aggregated by the first Reporter to ask for them.)
+     */
+    static synchronized TestNgResults of(List<ISuite> _suites) {
+
+        TestNgResults results = lastResults.get();
+        if(results == null || results.SUITES != _suites) {
+            results = new TestNgResults(_suites);
+            lastResults = new WeakReference<>(results);
+        }
+
+        return results;
+    }
+
+    /**
+     * Forgets the last run's results; so the next Reporter aggregates them again.
+     */
+    static synchronized void clear() {
+        lastResults.clear();
+    }
+
+    //////////////////// Helper Methods ////////////////////
+    /**
+     * Constructs the given Method's full path (i.e. {@code "Class.method()"}).
+     */
+    private static String getMethodPath(ITestNGMethod _testMethod) {
+
+        return _testMethod.getRealClass().getSimpleName() + "."
+
+                // Not using ITestNGMethod.getMethodName(), because that name could be changed by custom TestNG Listeners.
+                + _testMethod.getConstructorOrMethod().getName() + "()";
+    }
+
+    //========================= CONSTANTS ======================================
+    /**
+     * The List these results were aggregated from.
+     */
+    private final List<ISuite> SUITES;
+
+    final List<SuiteResults> SUITE_RESULTS;
+
+    /**
+     * Every Test Method call's result, in all Suites.
+     */
+    final int TESTS_COUNT, PASSED_TESTS_COUNT;
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+    private TestNgResults(List<ISuite> _suites) {
+
+        //------------------------ Variables -----------------------------------
+        List<SuiteResults> suiteResults = new ArrayList<>(_suites.size());
+        int testsCount = 0, passedTestsCount = 0;
+
+        //------------------------ Code ----------------------------------------
+        for(ISuite suite : _suites) {
+
+            SuiteResults results = new SuiteResults(suite);
+            for(XmlTestResults xmlTest : results.XML_TESTS) {
+                testsCount += xmlTest.getTestsCount();
+                passedTestsCount += xmlTest.PASSED.size();
+            }
+
+            suiteResults.add(results);
+        }
+
+        SUITES = _suites;
+        SUITE_RESULTS = Collections.unmodifiableList(suiteResults);
+        TESTS_COUNT = testsCount;
+        PASSED_TESTS_COUNT = passedTestsCount;
+    }
+
+    //========================= Methods ========================================
+
+    //========================= Classes ========================================
+    /**
+     * A single XML Test Suite's results.
+     */
+    static final class SuiteResults {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String NAME;
+        final List<XmlTestResults> XML_TESTS;
+
+        //------------------------ Constructors --------------------------------
+        private SuiteResults(ISuite _suite) {
+
+            List<XmlTestResults> xmlTests = new ArrayList<>();
+            for(Map.Entry<String, ISuiteResult> suiteResult : _suite.getResults().entrySet()) {
+                xmlTests.add(new XmlTestResults(suiteResult.getKey(), suiteResult.getValue().getTestContext()));
+            }
+
+            NAME = _suite.getName();
+            XML_TESTS = Collections.unmodifiableList(xmlTests);
+        }
+    }
+
+    /**
+     * A single XML Test's results.
+     */
+    static final class XmlTestResults {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String NAME;
+
+        final List<ITestResult> PASSED = new ArrayList<>(), FAILED = new ArrayList<>(),
+                SKIPPED = new ArrayList<>(), RETRIED = new ArrayList<>(); // Retried results are also Skipped results, in TestNG.
+
+        final List<ITestResult> FAILED_CONFIGURATIONS, SKIPPED_CONFIGURATIONS;
+
+        /**
+         * Each Test Method's counts, by its {@code "Class.method()"} path; in the XML Test's Test Method order.
+         */
+        final Map<String, MethodCounts> METHOD_COUNTS = new LinkedHashMap<>();
+
+        //------------------------ Constructors --------------------------------
+        private XmlTestResults(String _name, ITestContext _testContext) {
+
+            NAME = _name;
+
+            for(ITestNGMethod testMethod : _testContext.getAllTestMethods()) {
+                METHOD_COUNTS.computeIfAbsent(getMethodPath(testMethod), _path -> new MethodCounts(testMethod));
+            }
+
+            for(ITestResult testResult : _testContext.getPassedTests().getAllResults()) {
+                PASSED.add(testResult);
+                getMethodCounts(testResult).passed++;
+            }
+            for(ITestResult testResult : _testContext.getFailedTests().getAllResults()) {
+                FAILED.add(testResult);
+                getMethodCounts(testResult).failed++;
+            }
+            for(ITestResult testResult : _testContext.getSkippedTests().getAllResults()) {
+                (testResult.wasRetried() ? RETRIED : SKIPPED).add(testResult);
+                getMethodCounts(testResult).skipped++;
+            }
+
+            FAILED_CONFIGURATIONS = new ArrayList<>(_testContext.getFailedConfigurations().getAllResults());
+            SKIPPED_CONFIGURATIONS = new ArrayList<>(_testContext.getSkippedConfigurations().getAllResults());
+        }
+
+        //------------------------ Methods -------------------------------------
+        /**
+         * @return Every Test Method call's result count (Passed, Failed, Skipped, &amp; Retried).
+         */
+        int getTestsCount() {
+            return PASSED.size() + FAILED.size() + SKIPPED.size() + RETRIED.size();
+        }
+
+        private MethodCounts getMethodCounts(ITestResult _testResult) {
+            return METHOD_COUNTS.computeIfAbsent(getMethodPath(_testResult.getMethod()), _path -> new MethodCounts(_testResult.getMethod()));
+        }
+    }
+
+    /**
+     * A single Test Method's result counts.
+     */
+    static final class MethodCounts {
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String CLASS_NAME, METHOD_NAME;
+
+        //------------------------ Variables -----------------------------------
+        int passed = 0, failed = 0, skipped = 0;
+
+        //------------------------ Constructors --------------------------------
+        private MethodCounts(ITestNGMethod _testMethod) {
+            CLASS_NAME = _testMethod.getRealClass().getSimpleName();
+            METHOD_NAME = _testMethod.getConstructorOrMethod().getName() + "()";
+        }
+
+        //------------------------ Methods -------------------------------------
+        int getTotal() {
+            return passed + failed + skipped;
+        }
+    }
+}
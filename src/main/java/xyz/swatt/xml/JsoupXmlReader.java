@@ -0,0 +1,351 @@
+package xyz.swatt.xml;
+
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.DataNode;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+import org.xml.sax.*;
+import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.AttributesImpl;
+import xyz.swatt.exceptions.XmlException;
+
+import javax.xml.XMLConstants;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A SAX {@link XMLReader} that "parses" an already parsed Jsoup Document; by walking it and firing namespace aware SAX events.
+ * <p>
+ *     This lets a Jsoup Document be built straight into any tree that can be built from a {@link javax.xml.transform.sax.SAXSource}
+ *     (i.e. a Saxon TinyTree), without first being copied into a W3C {@link org.w3c.dom.Document}.
+ * </p>
+ * <p>
+ *     Attribute names that are not valid XML names are cleaned up the same way {@link org.jsoup.helper.W3CDom} does it.
+ *     Comments are passed on to a {@link LexicalHandler}, if one is set.
+ * </p>
+ */
+final class JsoupXmlReader implements XMLReader {
+
+	//========================= Static Enums ===================================
+
+	//========================= STATIC CONSTANTS ===============================
+	private static final String NAMESPACES_FEATURE = "http://xml.org/sax/features/namespaces";
+	private static final String NAMESPACE_PREFIXES_FEATURE = "http://xml.org/sax/features/namespace-prefixes";
+	private static final String LEXICAL_HANDLER_PROPERTY = "http://xml.org/sax/properties/lexical-handler";
+
+	private static final Pattern INVALID_ATTRIBUTE_CHARACTERS = Pattern.compile("[^-a-zA-Z0-9_:.]");
+	private static final Pattern VALID_ATTRIBUTE_NAME = Pattern.compile("[a-zA-Z_:][-a-zA-Z0-9_:.]*");
+	private static final Pattern VALID_ELEMENT_NAME = Pattern.compile("[\\p{L}_][\\p{L}\\p{N}._-]*(:[\\p{L}_][\\p{L}\\p{N}._-]*)?");
+
+	//========================= Static Variables ===============================
+
+	//========================= Static Constructor =============================
+	static { }
+
+	//========================= Static Methods =================================
+
+	//========================= CONSTANTS ======================================
+	private final org.jsoup.nodes.Document DOCUMENT;
+
+	//========================= Variables ======================================
+	private ContentHandler contentHandler;
+	private DTDHandler dtdHandler;
+	private EntityResolver entityResolver;
+	private ErrorHandler errorHandler;
+	private LexicalHandler lexicalHandler;
+
+	//========================= Constructors ===================================
+	/**
+	 * @param _document
+	 * 		The Jsoup Document to fire the SAX events of.
+	 */
+	JsoupXmlReader(org.jsoup.nodes.Document _document) {
+
+		super();
+
+		DOCUMENT = _document;
+	}
+
+	//========================= Methods ========================================
+	/**
+	 * Walks the Jsoup Document. (The given Input Source is ignored.)
+	 */
+	@Override
+	public void parse(InputSource _input) throws SAXException {
+
+		//------------------------ Pre-Checks ----------------------------------
+		if(contentHandler == null) {
+			throw new SAXException("No Content Handler set!");
+		}
+
+		//------------------------ Code ----------------------------------------
+		contentHandler.startDocument();
+
+		try {
+			NodeTraversor.traverse(new Visitor(), DOCUMENT);
+		}
+		catch(SaxRuntimeException e) {
+			throw e.CAUSE;
+		}
+
+		contentHandler.endDocument();
+	}
+
+	/**
+	 * Walks the Jsoup Document. (The given System ID is ignored.)
+	 */
+	@Override
+	public void parse(String _systemId) throws SAXException {
+		parse(new InputSource(_systemId));
+	}
+
+	@Override
+	public boolean getFeature(String _name) throws SAXNotRecognizedException {
+
+		if(NAMESPACES_FEATURE.equals(_name)) {
+			return true;
+		}
+		else if(NAMESPACE_PREFIXES_FEATURE.equals(_name)) {
+			return false;
+		}
+
+		throw new SAXNotRecognizedException(_name);
+	}
+
+	@Override
+	public void setFeature(String _name, boolean _value) throws SAXNotRecognizedException, SAXNotSupportedException {
+		if(getFeature(_name) != _value) {
+			throw new SAXNotSupportedException(_name + " cannot be set to " + _value);
+		}
+	}
+
+	@Override
+	public Object getProperty(String _name) throws SAXNotRecognizedException {
+
+		if(LEXICAL_HANDLER_PROPERTY.equals(_name)) {
+			return lexicalHandler;
+		}
+
+		throw new SAXNotRecognizedException(_name);
+	}
+
+	@Override
+	public void setProperty(String _name, Object _value) throws SAXNotRecognizedException {
+
+		if(LEXICAL_HANDLER_PROPERTY.equals(_name)) {
+			lexicalHandler = (LexicalHandler) _value;
+		}
+		else {
+			throw new SAXNotRecognizedException(_name);
+		}
+	}
+
+	@Override
+	public void setEntityResolver(EntityResolver _entityResolver) {
+		entityResolver = _entityResolver;
+	}
+
+	@Override
+	public EntityResolver getEntityResolver() {
+		return entityResolver;
+	}
+
+	@Override
+	public void setDTDHandler(DTDHandler _dtdHandler) {
+		dtdHandler = _dtdHandler;
+	}
+
+	@Override
+	public DTDHandler getDTDHandler() {
+		return dtdHandler;
+	}
+
+	@Override
+	public void setContentHandler(ContentHandler _contentHandler) {
+		contentHandler = _contentHandler;
+	}
+
+	@Override
+	public ContentHandler getContentHandler() {
+		return contentHandler;
+	}
+
+	@Override
+	public void setErrorHandler(ErrorHandler _errorHandler) {
+		errorHandler = _errorHandler;
+	}
+
+	@Override
+	public ErrorHandler getErrorHandler() {
+		return errorHandler;
+	}
+
+	//========================= Classes ========================================
+	/**
+	 * Fires the SAX events, while walking the Jsoup Document.
+	 */
+	private final class Visitor implements NodeVisitor {
+
+		/**
+		 * The in-scope Namespaces (keyed by prefix), of each open Element.
+		 */
+		private final Deque<Map<String, String>> NAMESPACES = new ArrayDeque<>();
+
+		Visitor() {
+
+			Map<String, String> namespaces = new HashMap<>();
+			namespaces.put(XMLConstants.XML_NS_PREFIX, XMLConstants.XML_NS_URI);
+
+			NAMESPACES.push(namespaces);
+		}
+
+		@Override
+		public void head(org.jsoup.nodes.Node _node, int _depth) {
+			try {
+				if(_node instanceof org.jsoup.nodes.Document || _node.parent() instanceof org.jsoup.nodes.Document && !(_node instanceof Element)) {
+					// Text, Comments, Doctypes and Declarations outside of the Root Element are not part of the XML.
+				}
+				else if(_node instanceof Element) {
+					startElement((Element) _node);
+				}
+				else if(_node instanceof TextNode) { // Includes CDATA.
+					characters(((TextNode) _node).getWholeText());
+				}
+				else if(_node instanceof DataNode) { // <script> and <style> content.
+					characters(((DataNode) _node).getWholeData());
+				}
+				else if(_node instanceof Comment && lexicalHandler != null) {
+					char[] comment = ((Comment) _node).getData().toCharArray();
+					lexicalHandler.comment(comment, 0, comment.length);
+				}
+			}
+			catch(SAXException e) {
+				throw new SaxRuntimeException(e);
+			}
+		}
+
+		@Override
+		public void tail(org.jsoup.nodes.Node _node, int _depth) {
+			if(_node instanceof Element && !(_node instanceof org.jsoup.nodes.Document)) {
+				try {
+					endElement((Element) _node);
+				}
+				catch(SAXException e) {
+					throw new SaxRuntimeException(e);
+				}
+			}
+		}
+
+		private void startElement(Element _element) throws SAXException {
+
+			//------------------------ Variables -----------------------------------
+			Map<String, String> namespaces = NAMESPACES.peek();
+			AttributesImpl attributes = new AttributesImpl();
+
+			//------------------------ Code ----------------------------------------
+			// Namespace Declarations first, as they apply to this Element's own name and attributes.
+			for(Attribute attribute : _element.attributes()) {
+
+				String key = attribute.getKey();
+				if(key.equals("xmlns") || key.startsWith("xmlns:")) {
+
+					if(namespaces == NAMESPACES.peek()) {
+						namespaces = new HashMap<>(namespaces);
+					}
+
+					String prefix = key.equals("xmlns") ? "" : key.substring(6);
+					namespaces.put(prefix, attribute.getValue());
+					contentHandler.startPrefixMapping(prefix, attribute.getValue());
+				}
+			}
+			NAMESPACES.push(namespaces);
+
+			for(Attribute attribute : _element.attributes()) {
+
+				String key = attribute.getKey();
+				if(key.equals("xmlns") || key.startsWith("xmlns:")) {
+					continue;
+				}
+
+				key = INVALID_ATTRIBUTE_CHARACTERS.matcher(key).replaceAll("");
+				if(!VALID_ATTRIBUTE_NAME.matcher(key).matches()) {
+					continue;
+				}
+
+				int colon = key.indexOf(':');
+				String uri = colon < 0 ? "" : uri(namespaces, key.substring(0, colon), key);
+				attributes.addAttribute(uri, key.substring(colon + 1), key, "CDATA", attribute.getValue());
+			}
+
+			String name = _element.tagName();
+			if(!VALID_ELEMENT_NAME.matcher(name).matches()) {
+				throw new XmlException("\"" + name + "\" is not a valid XML Element name!");
+			}
+
+			int colon = name.indexOf(':');
+			contentHandler.startElement(uri(namespaces, colon < 0 ? "" : name.substring(0, colon), name), name.substring(colon + 1), name, attributes);
+		}
+
+		private void endElement(Element _element) throws SAXException {
+
+			String name = _element.tagName();
+			int colon = name.indexOf(':');
+
+			Map<String, String> namespaces = NAMESPACES.pop();
+			contentHandler.endElement(uri(namespaces, colon < 0 ? "" : name.substring(0, colon), name), name.substring(colon + 1), name);
+
+			if(namespaces != NAMESPACES.peek()) {
+				for(Attribute attribute : _element.attributes()) {
+					String key = attribute.getKey();
+					if(key.equals("xmlns") || key.startsWith("xmlns:")) {
+						contentHandler.endPrefixMapping(key.equals("xmlns") ? "" : key.substring(6));
+					}
+				}
+			}
+		}
+
+		private void characters(String _text) throws SAXException {
+			char[] text = _text.toCharArray();
+			contentHandler.characters(text, 0, text.length);
+		}
+
+		/**
+		 * @return The Namespace URI of the given prefix ("" for no Namespace).
+		 *
+		 * @throws XmlException If a non-default prefix is not declared.
+		 */
+		private String uri(Map<String, String> _namespaces, String _prefix, String _name) {
+
+			String uri = _namespaces.get(_prefix);
+			if(uri == null) {
+				if(!_prefix.isEmpty()) {
+					throw new XmlException("Namespace prefix \"" + _prefix + "\" of \"" + _name + "\" is not declared!");
+				}
+				uri = "";
+			}
+
+			return uri;
+		}
+	}
+
+	/**
+	 * Carries a checked {@link SAXException} out of the {@link NodeVisitor}.
+	 */
+	private static final class SaxRuntimeException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		final SAXException CAUSE;
+
+		SaxRuntimeException(SAXException _cause) {
+			super(_cause);
+			CAUSE = _cause;
+		}
+	}
+}
@@ -0,0 +1,655 @@
+package xyz.swatt.xml;
+
+import net.sf.saxon.om.TreeModel;
+import net.sf.saxon.s9api.*;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import xyz.swatt.asserts.ArgumentChecks;
+import xyz.swatt.exceptions.TooManyResultsException;
+import xyz.swatt.exceptions.XmlException;
+
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamSource;
+import java.io.File;
+import java.io.StringReader;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable, thread safe, XML Document; backed by a <a href="http://www.saxonica.com" target="_blank">Saxon</a> TinyTree.
+ * <p>
+ *     A TinyTree takes a fraction of the memory of a W3C {@link Document} (which is normally 5-10x the size of the source),
+ *     and does not have to be wrapped before every XPath query.
+ *     Use this class for read-only validation of large XML responses/files.
+ * </p>
+ * <p>
+ *     Any number of threads can query the same Read-Only Document at the same time, without locking.
+ *     Compiled XPaths are cached per Document; so the same XPath, run from many threads, is only compiled once.
+ * </p>
+ * <p>
+ *     If the Document needs to be modified, call {@link #toDocument()} to get a mutable W3C copy of it.
+ * </p>
+ * <p>
+ *     <b>Note:</b> Unlike {@link XmlDocumentHelper#getDocumentFrom(String)}, XML Entities are resolved when parsed;
+ *     and not preserved as text.
+ * </p>
+ *
+ * @see XmlDocumentHelper
+ */
+public final class ReadOnlyXmlDocument {
+
+	//========================= Static Enums ===================================
+
+	//========================= STATIC CONSTANTS ===============================
+	private static final Logger LOGGER = LogManager.getLogger(ReadOnlyXmlDocument.class);
+
+	/**
+	 * All Read-Only Documents are built with the same {@link Processor}, so that they share one Saxon Configuration (and Name Pool).
+	 * <p>(A Processor is thread safe.)</p>
+	 */
+	static final Processor PROCESSOR = new Processor(false);
+
+	/**
+	 * The most compiled XPaths that each Document will cache. (XPaths built on the fly, i.e. with indexes, could otherwise grow it forever.)
+	 */
+	private static final int MAX_CACHED_XPATHS = 256;
+
+	//========================= Static Variables ===============================
+
+	//========================= Static Constructor =============================
+	static { }
+
+	//========================= Static Methods =================================
+	/**
+	 * Creates a Read-Only copy of the given XML {@link Document} (or {@link Node} and its descendants).
+	 *
+	 * @param _xmlNode
+	 * 		The W3C Document or Node to copy.
+	 *
+	 * @return A Read-Only XML Document with the same content as the given Node.
+	 *
+	 * @throws IllegalArgumentException If the given Node is {@code null}.
+	 * @throws XmlException If the given Node could not be copied.
+	 */
+	public static ReadOnlyXmlDocument from(Node _xmlNode) {
+
+		LOGGER.info("from(Node) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_xmlNode, "XML Node");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		XdmNode root;
+
+		//------------------------ Code ----------------------------------------
+		try {
+			root = newDocumentBuilder().build(new DOMSource(_xmlNode));
+		}
+		catch(SaxonApiException e) {
+			throw new XmlException("Error creating Read-Only XML Document!", e);
+		}
+
+		LOGGER.debug("from(Node) [END]");
+
+		return new ReadOnlyXmlDocument(root);
+	}
+
+	/**
+	 * Creates a Read-Only XML Document from an XML {@link File}.
+	 * <p>The File is streamed straight into the TinyTree; it is never loaded as a {@link String}.</p>
+	 *
+	 * @param _xmlFile
+	 * 		An XML {@link File} to parse.
+	 *
+	 * @return A Read-Only XML Document representing the given File.
+	 *
+	 * @throws IllegalArgumentException
+	 * 		If the given File is {@code null}, does not exist, is a directory, or is unreadable.
+	 * @throws XmlException If the given File could not be parsed.
+	 */
+	public static ReadOnlyXmlDocument from(File _xmlFile) {
+
+		LOGGER.info("from(_xmlFile: {}) [START]", _xmlFile == null ? "(NULL)" : _xmlFile.getPath());
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.fileExists(_xmlFile, "XML");
+
+		//noinspection ConstantConditions
+		if(!_xmlFile.canRead()) {
+			throw new IllegalArgumentException("Given File " + _xmlFile.getAbsolutePath() + " is unreadable!");
+		}
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		XdmNode root;
+
+		//------------------------ Code ----------------------------------------
+		try {
+			root = newDocumentBuilder().build(_xmlFile);
+		}
+		catch(SaxonApiException e) {
+			throw new XmlException("Error parsing XML File: " + _xmlFile.getAbsolutePath() + "!", e);
+		}
+
+		LOGGER.debug("from(_xmlFile: {}) [END]", _xmlFile.getPath());
+
+		return new ReadOnlyXmlDocument(root);
+	}
+
+	/**
+	 * Creates a Read-Only XML Document from a String representation.
+	 *
+	 * @param _xmlString
+	 * 		String representation of an XML Document.
+	 *
+	 * @return A Read-Only XML Document representing the given String.
+	 *
+	 * @throws IllegalArgumentException If the given String is {@code null}, Empty, or just Whitespace.
+	 * @throws XmlException If the given String could not be parsed.
+	 */
+	public static ReadOnlyXmlDocument from(String _xmlString) {
+
+		LOGGER.info("from(_xmlString: {}) [START]", _xmlString);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.stringNotBlank(_xmlString, "XML String");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		XdmNode root;
+
+		//------------------------ Code ----------------------------------------
+		// Leading whitespace is not meaningful to XML, and will throw an error if it comes before the XML declaration.
+		_xmlString = _xmlString.trim();
+
+		try {
+			root = newDocumentBuilder().build(new StreamSource(new StringReader(_xmlString)));
+		}
+		catch(SaxonApiException e) {
+			throw new XmlException("Error creating Read-Only XML Document!", e);
+		}
+
+		LOGGER.debug("from(_xmlString: {}) [END]", _xmlString);
+
+		return new ReadOnlyXmlDocument(root);
+	}
+
+	/**
+	 * Creates a Read-Only XML Document from an HTML String (i.e. a large {@code outerHTML}).
+	 * <p><b>Note:</b> All tags and attributes are converted to lower case, for consistency.</p>
+	 *
+	 * @param _html
+	 * 		The HTML {@link String} to convert.
+	 *
+	 * @return A Read-Only XML Document representing the given HTML.
+	 *
+	 * @throws IllegalArgumentException If the given HTML {@link String} is blank.
+	 * @throws XmlException If the given HTML {@link String} cannot be parsed or does not have exactly 1 root element.
+	 *
+	 * @see #fromHtml(String, boolean)
+	 */
+	public static ReadOnlyXmlDocument fromHtml(String _html) {
+		return fromHtml(_html, false);
+	}
+
+	/**
+	 * Creates a Read-Only XML Document from an HTML String (i.e. a large {@code outerHTML}).
+	 * <p>
+	 *     The HTML is parsed the same way as {@link XmlDocumentHelper#htmlToXml(String, boolean)};
+	 *     but the parsed HTML is built straight into the TinyTree, without a W3C Document in between.
+	 * </p>
+	 *
+	 * @param _html
+	 * 		The HTML {@link String} to convert.
+	 * @param _preserveCase
+	 * 		{@code true} to keep the case of tags and attributes; {@code false} to convert them to lower case.
+	 *
+	 * @return A Read-Only XML Document representing the given HTML.
+	 *
+	 * @throws IllegalArgumentException If the given HTML {@link String} is blank.
+	 * @throws XmlException If the given HTML {@link String} cannot be parsed, does not have exactly 1 root element,
+	 * or uses an undeclared Namespace prefix.
+	 */
+	public static ReadOnlyXmlDocument fromHtml(String _html, boolean _preserveCase) {
+
+		LOGGER.info("fromHtml(_html: {}, _preserveCase: {}) [START]", _html, _preserveCase);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.stringNotWhitespaceOnly(_html, "HTML String");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		JsoupXmlReader jsoupXmlReader = new JsoupXmlReader(XmlDocumentHelper.parseHtml(_html, _preserveCase));
+		XdmNode root;
+
+		//------------------------ Code ----------------------------------------
+		try {
+			root = newDocumentBuilder().build(new SAXSource(jsoupXmlReader, new InputSource()));
+		}
+		catch(SaxonApiException e) {
+			throw new XmlException("Error creating Read-Only XML Document!", e);
+		}
+
+		LOGGER.debug("fromHtml(_html: {}, _preserveCase: {}) [END]", _html, _preserveCase);
+
+		return new ReadOnlyXmlDocument(root);
+	}
+
+	/**
+	 * @return A new Saxon {@link DocumentBuilder} that builds TinyTrees.
+	 */
+	private static DocumentBuilder newDocumentBuilder() {
+
+		DocumentBuilder documentBuilder = PROCESSOR.newDocumentBuilder();
+		documentBuilder.setTreeModel(TreeModel.TINY_TREE);
+
+		return documentBuilder;
+	}
+
+	//========================= CONSTANTS ======================================
+	/**
+	 * The Saxon Document Node, that this Read-Only Document wraps.
+	 * You can use this directly to perform any other Saxon s9api operations.
+	 */
+	public final XdmNode ROOT;
+
+	/**
+	 * Namespaces declared on the Root Element; keyed by prefix ("" for the default namespace).
+	 */
+	private final Map<String, String> ROOT_NAMESPACES;
+
+	/**
+	 * Compiled XPaths, keyed by XPath. (An {@link XPathExecutable} is thread safe; it is only the {@link XPathSelector}s that are not.)
+	 */
+	private final Map<String, XPathExecutable> COMPILED_XPATHS = new ConcurrentHashMap<>();
+
+	//========================= Variables ======================================
+
+	//========================= Constructors ===================================
+	/**
+	 * Wraps the given Saxon Document Node.
+	 *
+	 * @param _root
+	 * 		The Saxon Document Node. (Must have been built by {@link #PROCESSOR}.)
+	 */
+	ReadOnlyXmlDocument(XdmNode _root) {
+
+		super();
+
+		//------------------------ Pre-Checks ----------------------------------
+
+		//-------------------------CONSTANTS------------------------------------
+
+		//-------------------------Variables------------------------------------
+		Map<String, String> rootNamespaces = new LinkedHashMap<>();
+
+		//-------------------------Code-----------------------------------------
+		ROOT = _root;
+
+		// Set Namespaces of the Root Element, for XPath Compiler to use.
+		// That way the XPath does not have to specify the Default Namespace.
+		XdmSequenceIterator<XdmNode> children = _root.axisIterator(Axis.CHILD);
+		while(children.hasNext()) {
+
+			XdmNode child = children.next();
+			if(child.getNodeKind() != XdmNodeKind.ELEMENT) {
+				continue;
+			}
+
+			XdmSequenceIterator<XdmNode> namespaces = child.axisIterator(Axis.NAMESPACE);
+			while(namespaces.hasNext()) {
+
+				XdmNode namespace = namespaces.next();
+				String prefix = namespace.getNodeName() == null ? "" : namespace.getNodeName().getLocalName();
+				if(!prefix.equals("xml")) { // Always declared.
+					rootNamespaces.put(prefix, namespace.getStringValue());
+				}
+			}
+			break;
+		}
+
+		ROOT_NAMESPACES = Collections.unmodifiableMap(rootNamespaces);
+	}
+
+	//========================= Methods ========================================
+	/**
+	 * Gets an Item from this Document that matches the given XPath. (Expects only 1 Item to be found.)
+	 * <p>
+	 *     <i>Note:</i> All Root level Namespaces are automatically accounted for and do not have to be manually specified.
+	 * </p>
+	 *
+	 * @param _xPath
+	 * 		The XPath to search for, from the Document level.
+	 *
+	 * @return The {@link XdmNode} (or atomic value, such as an <i>xs:boolean</i>) that was the result of this XPath lookup;
+	 * or {@code null}, if nothing matches the XPath expression.
+	 *
+	 * @throws IllegalArgumentException If the given XPath is blank.
+	 * @throws XmlException If there is an error with the XPath lookup.
+	 * @throws TooManyResultsException If more than 1 Item was found by the given XPath.
+	 *
+	 * @see XmlDocumentHelper#getNodeForXPath(Node, String)
+	 */
+	public XdmItem getNodeForXPath(String _xPath) {
+		return getNodeForXPath(ROOT, _xPath);
+	}
+
+	/**
+	 * Gets an Item from this Document that matches the given XPath. (Expects only 1 Item to be found.)
+	 * <p>
+	 *     <i>Note:</i> All Root level Namespaces are automatically accounted for and do not have to be manually specified.
+	 * </p>
+	 *
+	 * @param _contextNode
+	 * 		The Node (of this Document) to do the XPath search on.
+	 * @param _xPath
+	 * 		The XPath to search for.
+	 * 		<p>If the XPath starts with "/" or "//" the search will be done at the Document level.</p>
+	 * 		<p>If the XPath starts with no backslash, "./", or ".//" the search will be done at the given Node's level.</p>
+	 *
+	 * @return The {@link XdmNode} (or atomic value, such as an <i>xs:boolean</i>) that was the result of this XPath lookup;
+	 * or {@code null}, if nothing matches the XPath expression.
+	 *
+	 * @throws IllegalArgumentException If the given Node is {@code null} or the given XPath is blank.
+	 * @throws XmlException If there is an error with the XPath lookup.
+	 * @throws TooManyResultsException If more than 1 Item was found by the given XPath.
+	 *
+	 * @see XmlDocumentHelper#getNodeForXPath(Node, String)
+	 */
+	public XdmItem getNodeForXPath(XdmNode _contextNode, String _xPath) {
+
+		LOGGER.debug("getNodeForXPath(XdmNode, _xPath: {}) [START]", _xPath);
+
+		//------------------------ Pre-Checks ----------------------------------
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		List<XdmItem> items = getNodesForXPath(_contextNode, _xPath); // Argument Checks done here.
+
+		//------------------------ Code ----------------------------------------
+		if(items.size() > 1) {
+			throw new TooManyResultsException("Only 1 result Node expected, but " + items.size() + " were found!");
+		}
+
+		LOGGER.debug("getNodeForXPath(XdmNode, _xPath: {}) [END]", _xPath);
+
+		return items.isEmpty() ? null : items.get(0);
+	}
+
+	/**
+	 * Gets a list of Items from this Document that match the given XPath.
+	 * <p>
+	 *     <i>Note:</i> All Root level Namespaces are automatically accounted for and do not have to be manually specified.
+	 * </p>
+	 *
+	 * @param _xPath
+	 * 		The XPath to search for, from the Document level.
+	 *
+	 * @return The {@link XdmNode}s (and/or atomic values) that were the result of this XPath lookup; or an empty List, if nothing matched.
+	 *
+	 * @throws IllegalArgumentException If the given XPath is blank.
+	 * @throws XmlException If there is an error with the XPath lookup.
+	 *
+	 * @see XmlDocumentHelper#getNodesForXPath(Node, String)
+	 */
+	public List<XdmItem> getNodesForXPath(String _xPath) {
+		return getNodesForXPath(ROOT, _xPath);
+	}
+
+	/**
+	 * Gets a list of Items from this Document that match the given XPath.
+	 * <p>
+	 *     <i>Note:</i> All Root level Namespaces are automatically accounted for and do not have to be manually specified.
+	 * </p>
+	 *
+	 * @param _contextNode
+	 * 		The Node (of this Document) to do the XPath search on.
+	 * @param _xPath
+	 * 		The XPath to search for.
+	 * 		<p>If the XPath starts with "/" or "//" the search will be done at the Document level.</p>
+	 * 		<p>If the XPath starts with no backslash, "./", or ".//" the search will be done at the given Node's level.</p>
+	 *
+	 * @return The {@link XdmNode}s (and/or atomic values) that were the result of this XPath lookup; or an empty List, if nothing matched.
+	 *
+	 * @throws IllegalArgumentException If the given Node is {@code null} or the given XPath is blank.
+	 * @throws XmlException If there is an error with the XPath lookup.
+	 *
+	 * @see XmlDocumentHelper#getNodesForXPath(Node, String)
+	 */
+	public List<XdmItem> getNodesForXPath(XdmNode _contextNode, String _xPath) {
+
+		LOGGER.debug("getNodesForXPath(XdmNode, _xPath: {}) [START]", _xPath);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_contextNode, "Context Node");
+		ArgumentChecks.stringNotBlank(_xPath, "XPath");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		XPathSelector xPathSelector = compile(_xPath).load();
+		XdmValue xdmItems;
+
+		List<XdmItem> items = new ArrayList<>();
+
+		//------------------------ Code ----------------------------------------
+		try {
+			xPathSelector.setContextItem(_contextNode);
+			xdmItems = xPathSelector.evaluate();
+		}
+		catch(SaxonApiException e) {
+			throw new XmlException("Error executing XPath: " + _xPath, e);
+		}
+
+		for(XdmItem xdmItem : xdmItems) {
+			items.add(xdmItem);
+		}
+
+		LOGGER.debug("getNodesForXPath(XdmNode, _xPath: {}) [END]", _xPath);
+
+		return items;
+	}
+
+	/**
+	 * Gets a String result for the given XPath, from the Document level.
+	 * <p>
+	 *     <i>Note:</i> All Root level Namespaces are automatically accounted for and do not have to be manually specified.
+	 * </p>
+	 *
+	 * @param _xPath
+	 * 		The XPath to search for.
+	 *
+	 * @return The String Value of the result, or {@code null}, if there is no result.
+	 *
+	 * @throws IllegalArgumentException If the given XPath is blank.
+	 * @throws XmlException If there is an error with the XPath lookup.
+	 * @throws TooManyResultsException If more than 1 Item was found by the given XPath.
+	 *
+	 * @see XmlDocumentHelper#getStringForXPath(Node, String)
+	 */
+	public String getStringForXPath(String _xPath) {
+		return getStringForXPath(ROOT, _xPath);
+	}
+
+	/**
+	 * Gets a String result for the given XPath.
+	 * <p>
+	 *     <i>Note:</i> All Root level Namespaces are automatically accounted for and do not have to be manually specified.
+	 * </p>
+	 *
+	 * @param _contextNode
+	 * 		The Node (of this Document) to do the XPath search on.
+	 * @param _xPath
+	 * 		The XPath to search for.
+	 *
+	 * @return The String Value of the result, or {@code null}, if there is no result.
+	 *
+	 * @throws IllegalArgumentException If the given Node is {@code null} or the given XPath is blank.
+	 * @throws XmlException If there is an error with the XPath lookup.
+	 * @throws TooManyResultsException If more than 1 Item was found by the given XPath.
+	 *
+	 * @see XmlDocumentHelper#getStringForXPath(Node, String)
+	 */
+	public String getStringForXPath(XdmNode _contextNode, String _xPath) {
+
+		XdmItem item = getNodeForXPath(_contextNode, _xPath);
+
+		return item == null ? null : item.getStringValue();
+	}
+
+	/**
+	 * Gets a List of String results for the given XPath, from the Document level.
+	 * <p>
+	 *     <i>Note:</i> All Root level Namespaces are automatically accounted for and do not have to be manually specified.
+	 * </p>
+	 *
+	 * @param _xPath
+	 * 		The XPath to search for.
+	 *
+	 * @return The String Values of the results, or an Empty List, if there are no results.
+	 *
+	 * @throws IllegalArgumentException If the given XPath is blank.
+	 * @throws XmlException If there is an error with the XPath lookup.
+	 *
+	 * @see XmlDocumentHelper#getStringsForXPath(Node, String)
+	 */
+	public List<String> getStringsForXPath(String _xPath) {
+		return getStringsForXPath(ROOT, _xPath);
+	}
+
+	/**
+	 * Gets a List of String results for the given XPath.
+	 * <p>
+	 *     <i>Note:</i> All Root level Namespaces are automatically accounted for and do not have to be manually specified.
+	 * </p>
+	 *
+	 * @param _contextNode
+	 * 		The Node (of this Document) to do the XPath search on.
+	 * @param _xPath
+	 * 		The XPath to search for.
+	 *
+	 * @return The String Values of the results, or an Empty List, if there are no results.
+	 *
+	 * @throws IllegalArgumentException If the given Node is {@code null} or the given XPath is blank.
+	 * @throws XmlException If there is an error with the XPath lookup.
+	 *
+	 * @see XmlDocumentHelper#getStringsForXPath(Node, String)
+	 */
+	public List<String> getStringsForXPath(XdmNode _contextNode, String _xPath) {
+
+		List<XdmItem> items = getNodesForXPath(_contextNode, _xPath);
+		List<String> results = new ArrayList<>(items.size());
+
+		for(XdmItem item : items) {
+			results.add(item.getStringValue());
+		}
+
+		return results;
+	}
+
+	/**
+	 * Creates a new, mutable, W3C copy of this Document.
+	 * <p>Each call creates a new copy; so only call this when the Document actually has to be modified.</p>
+	 *
+	 * @return A W3C {@link Document} with the same content as this Read-Only Document.
+	 *
+	 * @throws XmlException If the Document could not be copied.
+	 */
+	public Document toDocument() {
+
+		LOGGER.info("toDocument() [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		Document document = XmlDocumentHelper.createNewDocument();
+
+		//------------------------ Code ----------------------------------------
+		try {
+			PROCESSOR.writeXdmValue(ROOT, new DOMDestination(document));
+		}
+		catch(SaxonApiException e) {
+			throw new XmlException("Error copying Read-Only XML Document to a W3C Document!", e);
+		}
+
+		LOGGER.debug("toDocument() [END]");
+
+		return document;
+	}
+
+	/**
+	 * @return This Document, serialized as an XML {@link String}.
+	 */
+	@Override
+	public String toString() {
+		return ROOT.toString();
+	}
+
+	//////////////////// Helper Methods ////////////////////
+	/**
+	 * @return The Namespaces declared on the Root Element; keyed by prefix ("" for the default namespace).
+	 */
+	Map<String, String> getRootNamespaces() {
+		return ROOT_NAMESPACES;
+	}
+
+	/**
+	 * Compiles the given XPath, with the Root Element's Namespaces declared.
+	 * <p>The compiled XPath is cached; so, after the first call, this is just a lookup.</p>
+	 *
+	 * @param _xPath
+	 * 		The XPath to compile.
+	 *
+	 * @return The compiled XPath.
+	 *
+	 * @throws XmlException If the given XPath is invalid.
+	 */
+	XPathExecutable compile(String _xPath) {
+
+		//------------------------ Pre-Checks ----------------------------------
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		XPathExecutable xPathExecutable = COMPILED_XPATHS.get(_xPath);
+		XPathCompiler xPathCompiler;
+
+		//------------------------ Code ----------------------------------------
+		if(xPathExecutable != null) {
+			return xPathExecutable;
+		}
+
+		xPathCompiler = PROCESSOR.newXPathCompiler(); // XPathCompilers are not shared between threads.
+		for(Map.Entry<String, String> namespace : ROOT_NAMESPACES.entrySet()) {
+			xPathCompiler.declareNamespace(namespace.getKey(), namespace.getValue());
+		}
+
+		try {
+			xPathExecutable = xPathCompiler.compile(_xPath);
+		}
+		catch(Exception e) {
+			throw new XmlException("Invalid XPath: " + _xPath, e);
+		}
+
+		// Two threads may both compile the same new XPath; either result is fine to keep.
+		if(COMPILED_XPATHS.size() < MAX_CACHED_XPATHS) {
+			COMPILED_XPATHS.put(_xPath, xPathExecutable);
+		}
+
+		return xPathExecutable;
+	}
+
+	//========================= Classes ========================================
+}
@@ -0,0 +1,1238 @@
+package xyz.swatt.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import xyz.swatt.asserts.ArgumentChecks;
+import xyz.swatt.exceptions.XmlException;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A forward-only XPath, that is evaluated over a StAX ({@link XMLStreamReader}) stream in (near) constant memory.
+ * <p>
+ *     Use this class to pull specific records out of XML files that are too large for {@link XmlDocumentHelper#getDocumentFrom(File)}.
+ *     Only the matching subtrees are ever built; the rest of the file is just read past.
+ * </p>
+ * <p>
+ *     Only a subset of XPath is supported:
+ * </p>
+ * <ul>
+ *     <li><b>Steps:</b> Absolute child ({@code /}) and descendant ({@code //}) steps, of Element names or {@code *}.</li>
+ *     <li><b>Predicates:</b> (One or more per step, each in their own brackets, and applied in order.)
+ *         <ul>
+ *             <li>Attribute existence: {@code [@id]}</li>
+ *             <li>Attribute value: {@code [@id='1']} or {@code [@id!='1']}</li>
+ *             <li>Position: {@code [3]} (at most 1 per step)</li>
+ *             <li>Text: {@code [text()='abc']} (only as the last predicate of the last step)</li>
+ *         </ul>
+ *     </li>
+ *     <li><b>Targets:</b> Elements, or a final {@code /@attribute} or {@code /text()} step (as Strings only).</li>
+ * </ul>
+ * <p>
+ *     <i>Note:</i> Unprefixed names match on local name alone (in any Namespace), the same way the Root Namespaces do not have to be
+ *     specified with {@link XmlDocumentHelper#getNodesForXPath(Node, String)}. Prefixed names are resolved with the given Namespaces,
+ *     or else the prefixes declared in the XML itself.
+ * </p>
+ * <p>
+ *     <i>Note:</i> A match is emitted as soon as it is complete; so, if matches are nested, the inner match is emitted before its enclosing match.
+ * </p>
+ * <p>
+ *     Instances are immutable and thread safe, and can be reused for any number of files.
+ * </p>
+ *
+ * @see ReadOnlyXmlDocument
+ */
+public final class StreamingXPath {
+
+	//========================= Static Enums ===================================
+	/**
+	 * The supported XPath axes.
+	 */
+	private enum StepAxis {
+		CHILD, DESCENDANT
+	}
+
+	/**
+	 * What the final step of the XPath selects.
+	 */
+	private enum Target {
+		ELEMENT, ATTRIBUTE, TEXT
+	}
+
+	/**
+	 * The supported predicates.
+	 */
+	private enum PredicateType {
+		ATTRIBUTE_EXISTS, ATTRIBUTE_EQUALS, ATTRIBUTE_NOT_EQUALS, POSITION, TEXT_EQUALS
+	}
+
+	//========================= STATIC CONSTANTS ===============================
+	private static final Logger LOGGER = LogManager.getLogger(StreamingXPath.class);
+
+	//========================= Static Variables ===============================
+
+	//========================= Static Constructor =============================
+	static { }
+
+	//========================= Static Methods =================================
+	/**
+	 * Compiles the given XPath, so that it can be evaluated over XML streams.
+	 *
+	 * @param _xPath
+	 * 		An absolute XPath, in the supported subset. (See {@link StreamingXPath}.)
+	 *
+	 * @return The compiled, reusable, Streaming XPath.
+	 *
+	 * @throws IllegalArgumentException If the given XPath is blank.
+	 * @throws XmlException If the given XPath is invalid, or uses features outside of the supported subset.
+	 */
+	public static StreamingXPath compile(String _xPath) {
+		return compile(_xPath, Collections.emptyMap());
+	}
+
+	/**
+	 * Compiles the given XPath, so that it can be evaluated over XML streams.
+	 *
+	 * @param _xPath
+	 * 		An absolute XPath, in the supported subset. (See {@link StreamingXPath}.)
+	 * @param _namespaces
+	 * 		Namespace URIs, keyed by the prefixes used in the XPath.
+	 * 		<p>Prefixes not in this Map are resolved with the prefixes declared in the XML itself.</p>
+	 *
+	 * @return The compiled, reusable, Streaming XPath.
+	 *
+	 * @throws IllegalArgumentException If the given XPath is blank or the given Namespaces are {@code null}.
+	 * @throws XmlException If the given XPath is invalid, or uses features outside of the supported subset.
+	 */
+	public static StreamingXPath compile(String _xPath, Map<String, String> _namespaces) {
+
+		LOGGER.info("compile(_xPath: {}, _namespaces: {}) [START]", _xPath, _namespaces);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.stringNotBlank(_xPath, "XPath");
+		ArgumentChecks.notNull(_namespaces, "Namespaces");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		StreamingXPath streamingXPath = new StreamingXPath(_xPath.trim(), _namespaces);
+
+		//------------------------ Code ----------------------------------------
+		LOGGER.debug("compile(_xPath: {}, _namespaces: {}) [END]", _xPath, _namespaces);
+
+		return streamingXPath;
+	}
+
+	/**
+	 * @param _inputStream
+	 * 		The XML to read.
+	 *
+	 * @return A new, namespace aware, StAX Reader; that coalesces adjacent text and does not resolve external entities.
+	 *
+	 * @throws XmlException If the Reader could not be created.
+	 */
+	private static XMLStreamReader newReader(InputStream _inputStream) {
+
+		// Factories are not guaranteed to be thread safe, and are cheap compared to the files this class is used for.
+		XMLInputFactory factory = XMLInputFactory.newFactory();
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+		try {
+			return factory.createXMLStreamReader(_inputStream);
+		}
+		catch(XMLStreamException e) {
+			throw new XmlException("Error creating XML Stream Reader!", e);
+		}
+	}
+
+	/**
+	 * @return The given Prefix and Local Name as a qualified name (i.e. "prefix:local" or "local").
+	 */
+	private static String toQualifiedName(String _prefix, String _localName) {
+		return _prefix == null || _prefix.isEmpty() ? _localName : _prefix + ":" + _localName;
+	}
+
+	/**
+	 * @return The given String, or an empty String, if it is {@code null}.
+	 */
+	private static String nullToEmpty(String _string) {
+		return _string == null ? "" : _string;
+	}
+
+	//========================= CONSTANTS ======================================
+	/**
+	 * The XPath this object was compiled from.
+	 */
+	public final String XPATH;
+
+	private final Map<String, String> NAMESPACES;
+	private final Step[] STEPS;
+	private final Target TARGET;
+	/**
+	 * The Attribute selected by a final {@code /@attribute} step; otherwise {@code null}.
+	 */
+	private final Name TARGET_ATTRIBUTE;
+
+	//========================= Variables ======================================
+
+	//========================= Constructors ===================================
+	/**
+	 * Parses the given XPath.
+	 *
+	 * @param _xPath
+	 * 		The (trimmed) XPath to parse.
+	 * @param _namespaces
+	 * 		Namespace URIs, keyed by prefix.
+	 *
+	 * @throws XmlException If the given XPath is invalid, or uses features outside of the supported subset.
+	 */
+	private StreamingXPath(String _xPath, Map<String, String> _namespaces) {
+
+		super();
+
+		//------------------------ Pre-Checks ----------------------------------
+
+		//-------------------------CONSTANTS------------------------------------
+
+		//-------------------------Variables------------------------------------
+		XPathParser parser = new XPathParser(_xPath);
+
+		//-------------------------Code-----------------------------------------
+		XPATH = _xPath;
+		NAMESPACES = Collections.unmodifiableMap(new HashMap<>(_namespaces));
+
+		parser.parse();
+		STEPS = parser.steps.toArray(new Step[0]);
+		TARGET = parser.target;
+		TARGET_ATTRIBUTE = parser.targetAttribute;
+	}
+
+	//========================= Methods ========================================
+	/**
+	 * Calls the given {@link Consumer} with each matching Element, as its own {@link Document}.
+	 *
+	 * @param _xmlFile
+	 * 		The XML File to read.
+	 * @param _consumer
+	 * 		Called with each match, as soon as it is complete.
+	 *
+	 * @throws IllegalArgumentException If the File does not exist, or either argument is {@code null}.
+	 * @throws IllegalStateException If this XPath does not select Elements.
+	 * @throws XmlException If the File could not be read or parsed.
+	 */
+	public void forEachNode(File _xmlFile, Consumer<Document> _consumer) {
+
+		LOGGER.info("forEachNode(_xmlFile: {}, Consumer) [START]", _xmlFile);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_consumer, "Consumer");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+
+		//------------------------ Code ----------------------------------------
+		try(Matcher<Document> matcher = newNodeMatcher(openFile(_xmlFile), true)) {
+			matcher.forEachRemaining(_consumer);
+		}
+
+		LOGGER.debug("forEachNode(_xmlFile: {}, Consumer) [END]", _xmlFile);
+	}
+
+	/**
+	 * Calls the given {@link Consumer} with each matching Element, as its own {@link Document}.
+	 *
+	 * @param _inputStream
+	 * 		The XML to read. (It is <b>not</b> closed by this method.)
+	 * @param _consumer
+	 * 		Called with each match, as soon as it is complete.
+	 *
+	 * @throws IllegalArgumentException If either argument is {@code null}.
+	 * @throws IllegalStateException If this XPath does not select Elements.
+	 * @throws XmlException If the XML could not be parsed.
+	 */
+	public void forEachNode(InputStream _inputStream, Consumer<Document> _consumer) {
+
+		LOGGER.info("forEachNode(InputStream, Consumer) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_inputStream, "Input Stream");
+		ArgumentChecks.notNull(_consumer, "Consumer");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+
+		//------------------------ Code ----------------------------------------
+		try(Matcher<Document> matcher = newNodeMatcher(_inputStream, false)) {
+			matcher.forEachRemaining(_consumer);
+		}
+
+		LOGGER.debug("forEachNode(InputStream, Consumer) [END]");
+	}
+
+	/**
+	 * Calls the given {@link Consumer} with the String Value of each match.
+	 * <p>(For Elements, this is all of their descendant text, the same as {@link Node#getTextContent()}.)</p>
+	 *
+	 * @param _xmlFile
+	 * 		The XML File to read.
+	 * @param _consumer
+	 * 		Called with each match, as soon as it is complete.
+	 *
+	 * @throws IllegalArgumentException If the File does not exist, or either argument is {@code null}.
+	 * @throws XmlException If the File could not be read or parsed.
+	 */
+	public void forEachString(File _xmlFile, Consumer<String> _consumer) {
+
+		LOGGER.info("forEachString(_xmlFile: {}, Consumer) [START]", _xmlFile);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_consumer, "Consumer");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+
+		//------------------------ Code ----------------------------------------
+		try(Matcher<String> matcher = new Matcher<>(openFile(_xmlFile), true, false)) {
+			matcher.forEachRemaining(_consumer);
+		}
+
+		LOGGER.debug("forEachString(_xmlFile: {}, Consumer) [END]", _xmlFile);
+	}
+
+	/**
+	 * Calls the given {@link Consumer} with the String Value of each match.
+	 * <p>(For Elements, this is all of their descendant text, the same as {@link Node#getTextContent()}.)</p>
+	 *
+	 * @param _inputStream
+	 * 		The XML to read. (It is <b>not</b> closed by this method.)
+	 * @param _consumer
+	 * 		Called with each match, as soon as it is complete.
+	 *
+	 * @throws IllegalArgumentException If either argument is {@code null}.
+	 * @throws XmlException If the XML could not be parsed.
+	 */
+	public void forEachString(InputStream _inputStream, Consumer<String> _consumer) {
+
+		LOGGER.info("forEachString(InputStream, Consumer) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_inputStream, "Input Stream");
+		ArgumentChecks.notNull(_consumer, "Consumer");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+
+		//------------------------ Code ----------------------------------------
+		try(Matcher<String> matcher = new Matcher<>(_inputStream, false, false)) {
+			matcher.forEachRemaining(_consumer);
+		}
+
+		LOGGER.debug("forEachString(InputStream, Consumer) [END]");
+	}
+
+	/**
+	 * Lazily streams each matching Element, as its own {@link Document}.
+	 * <p>
+	 *     <b>Note:</b> The returned Stream holds the File open, until it is closed; so use it in a try-with-resources block.
+	 * </p>
+	 *
+	 * @param _xmlFile
+	 * 		The XML File to read.
+	 *
+	 * @return An ordered Stream of the matches.
+	 *
+	 * @throws IllegalArgumentException If the File does not exist or is {@code null}.
+	 * @throws IllegalStateException If this XPath does not select Elements.
+	 * @throws XmlException If the File could not be read or parsed (which may be thrown while the Stream is consumed).
+	 */
+	public Stream<Document> streamNodes(File _xmlFile) {
+
+		LOGGER.info("streamNodes(_xmlFile: {}) [START]", _xmlFile);
+
+		Stream<Document> stream = toStream(newNodeMatcher(openFile(_xmlFile), true));
+
+		LOGGER.debug("streamNodes(_xmlFile: {}) [END]", _xmlFile);
+
+		return stream;
+	}
+
+	/**
+	 * Lazily streams each matching Element, as its own {@link Document}.
+	 * <p>
+	 *     <b>Note:</b> Closing the returned Stream does <b>not</b> close the given Input Stream.
+	 * </p>
+	 *
+	 * @param _inputStream
+	 * 		The XML to read.
+	 *
+	 * @return An ordered Stream of the matches.
+	 *
+	 * @throws IllegalArgumentException If the given Input Stream is {@code null}.
+	 * @throws IllegalStateException If this XPath does not select Elements.
+	 * @throws XmlException If the XML could not be parsed (which may be thrown while the Stream is consumed).
+	 */
+	public Stream<Document> streamNodes(InputStream _inputStream) {
+
+		LOGGER.info("streamNodes(InputStream) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_inputStream, "Input Stream");
+
+		//------------------------ Code ----------------------------------------
+		Stream<Document> stream = toStream(newNodeMatcher(_inputStream, false));
+
+		LOGGER.debug("streamNodes(InputStream) [END]");
+
+		return stream;
+	}
+
+	/**
+	 * Lazily streams the String Value of each match.
+	 * <p>
+	 *     <b>Note:</b> The returned Stream holds the File open, until it is closed; so use it in a try-with-resources block.
+	 * </p>
+	 *
+	 * @param _xmlFile
+	 * 		The XML File to read.
+	 *
+	 * @return An ordered Stream of the matches.
+	 *
+	 * @throws IllegalArgumentException If the File does not exist or is {@code null}.
+	 * @throws XmlException If the File could not be read or parsed (which may be thrown while the Stream is consumed).
+	 */
+	public Stream<String> streamStrings(File _xmlFile) {
+
+		LOGGER.info("streamStrings(_xmlFile: {}) [START]", _xmlFile);
+
+		Stream<String> stream = toStream(new Matcher<String>(openFile(_xmlFile), true, false));
+
+		LOGGER.debug("streamStrings(_xmlFile: {}) [END]", _xmlFile);
+
+		return stream;
+	}
+
+	/**
+	 * Lazily streams the String Value of each match.
+	 * <p>
+	 *     <b>Note:</b> Closing the returned Stream does <b>not</b> close the given Input Stream.
+	 * </p>
+	 *
+	 * @param _inputStream
+	 * 		The XML to read.
+	 *
+	 * @return An ordered Stream of the matches.
+	 *
+	 * @throws IllegalArgumentException If the given Input Stream is {@code null}.
+	 * @throws XmlException If the XML could not be parsed (which may be thrown while the Stream is consumed).
+	 */
+	public Stream<String> streamStrings(InputStream _inputStream) {
+
+		LOGGER.info("streamStrings(InputStream) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_inputStream, "Input Stream");
+
+		//------------------------ Code ----------------------------------------
+		Stream<String> stream = toStream(new Matcher<String>(_inputStream, false, false));
+
+		LOGGER.debug("streamStrings(InputStream) [END]");
+
+		return stream;
+	}
+
+	/**
+	 * @return The XPath this object was compiled from.
+	 */
+	@Override
+	public String toString() {
+		return XPATH;
+	}
+
+	//////////////////// Helper Methods ////////////////////
+	/**
+	 * @throws IllegalArgumentException If the given File does not exist.
+	 * @throws XmlException If the given File could not be opened.
+	 */
+	private InputStream openFile(File _xmlFile) {
+
+		ArgumentChecks.fileExists(_xmlFile, "XML");
+
+		try {
+			return new FileInputStream(_xmlFile);
+		}
+		catch(IOException e) {
+			throw new XmlException("Could not open XML File: " + _xmlFile.getAbsolutePath() + "!", e);
+		}
+	}
+
+	/**
+	 * @throws IllegalStateException If this XPath does not select Elements. (The given Input Stream is closed, if owned.)
+	 */
+	private Matcher<Document> newNodeMatcher(InputStream _inputStream, boolean _ownsInputStream) {
+
+		if(TARGET != Target.ELEMENT) {
+
+			if(_ownsInputStream) {
+				closeQuietly(_inputStream);
+			}
+
+			throw new IllegalStateException("XPath (" + XPATH + ") selects " + TARGET.name().toLowerCase() + " Strings, not Elements!");
+		}
+
+		return new Matcher<>(_inputStream, _ownsInputStream, true);
+	}
+
+	/**
+	 * @return A sequential Stream over the given Matcher; that closes it, when the Stream is closed.
+	 */
+	private <T> Stream<T> toStream(Matcher<T> _matcher) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(_matcher, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(_matcher::close);
+	}
+
+	/**
+	 * Closes the given Input Stream, logging (instead of throwing) any error.
+	 */
+	private void closeQuietly(InputStream _inputStream) {
+		try {
+			_inputStream.close();
+		}
+		catch(IOException e) {
+			LOGGER.warn("Could not close XML Input Stream!", e);
+		}
+	}
+
+	//========================= Classes ========================================
+	/**
+	 * A (possibly prefixed) Element or Attribute name test.
+	 */
+	private static final class Name {
+
+		/**
+		 * {@code null}, if the name is not prefixed.
+		 */
+		final String PREFIX;
+		/**
+		 * {@code "*"}, to match any name.
+		 */
+		final String LOCAL_NAME;
+
+		Name(String _qualifiedName) {
+
+			int colon = _qualifiedName.indexOf(':');
+
+			PREFIX = colon < 0 ? null : _qualifiedName.substring(0, colon);
+			LOCAL_NAME = colon < 0 ? _qualifiedName : _qualifiedName.substring(colon + 1);
+		}
+
+		/**
+		 * @return {@code true}, if this name test matches the given Local Name and Namespace URI.
+		 */
+		boolean matches(String _localName, String _namespaceUri, Map<String, String> _namespaces, XMLStreamReader _reader) {
+
+			if(!LOCAL_NAME.equals("*") && !LOCAL_NAME.equals(_localName)) {
+				return false;
+			}
+
+			if(PREFIX == null) { // Any Namespace.
+				return true;
+			}
+
+			String namespaceUri = _namespaces.get(PREFIX);
+			if(namespaceUri == null) {
+				namespaceUri = _reader.getNamespaceContext().getNamespaceURI(PREFIX);
+			}
+			if(namespaceUri == null || namespaceUri.isEmpty()) {
+				throw new XmlException("Undeclared Namespace prefix: " + PREFIX);
+			}
+
+			return namespaceUri.equals(nullToEmpty(_namespaceUri));
+		}
+
+		/**
+		 * @return The value of the matching Attribute, on the Reader's current Element; or {@code null}, if there is none.
+		 */
+		String attributeValue(Map<String, String> _namespaces, XMLStreamReader _reader) {
+
+			for(int i = 0; i < _reader.getAttributeCount(); i++) {
+				if(matches(_reader.getAttributeLocalName(i), _reader.getAttributeNamespace(i), _namespaces, _reader)) {
+					return _reader.getAttributeValue(i);
+				}
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * A single step predicate.
+	 */
+	private static final class Predicate {
+
+		final PredicateType TYPE;
+		final Name ATTRIBUTE;
+		final String VALUE;
+		final int POSITION;
+
+		Predicate(PredicateType _type, Name _attribute, String _value, int _position) {
+			TYPE = _type;
+			ATTRIBUTE = _attribute;
+			VALUE = _value;
+			POSITION = _position;
+		}
+	}
+
+	/**
+	 * A single, child or descendant, Element step.
+	 */
+	private static final class Step {
+
+		final StepAxis AXIS;
+		final Name NAME;
+		final List<Predicate> PREDICATES = new ArrayList<>();
+
+		Step(StepAxis _axis, Name _name) {
+			AXIS = _axis;
+			NAME = _name;
+		}
+
+		/**
+		 * @return The value the Element's text has to equal; or {@code null}, if this step has no text predicate.
+		 */
+		String textValue() {
+
+			Predicate last = PREDICATES.isEmpty() ? null : PREDICATES.get(PREDICATES.size() - 1);
+
+			return last != null && last.TYPE == PredicateType.TEXT_EQUALS ? last.VALUE : null;
+		}
+	}
+
+	/**
+	 * Parses the supported XPath subset into {@link Step}s.
+	 */
+	private static final class XPathParser {
+
+		final String XPATH;
+		int index = 0;
+
+		final List<Step> steps = new ArrayList<>();
+		Target target = Target.ELEMENT;
+		Name targetAttribute = null;
+
+		XPathParser(String _xPath) {
+			XPATH = _xPath;
+		}
+
+		void parse() {
+
+			while(index < XPATH.length()) {
+
+				StepAxis axis;
+				if(XPATH.startsWith("//", index)) {
+					axis = StepAxis.DESCENDANT;
+					index += 2;
+				}
+				else if(XPATH.startsWith("/", index)) {
+					axis = StepAxis.CHILD;
+					index++;
+				}
+				else {
+					throw error("expected '/' or '//'");
+				}
+
+				if(XPATH.startsWith("@", index) || XPATH.startsWith("text()", index)) {
+
+					if(steps.isEmpty() || axis != StepAxis.CHILD) {
+						throw error("attribute and text() targets must be a child step of an Element");
+					}
+
+					if(XPATH.startsWith("@", index)) {
+						index++;
+						target = Target.ATTRIBUTE;
+						targetAttribute = new Name(readName());
+					}
+					else {
+						index += "text()".length();
+						target = Target.TEXT;
+					}
+
+					if(index < XPATH.length()) {
+						throw error("attribute and text() targets must be the last step");
+					}
+					break;
+				}
+
+				Step step;
+				if(XPATH.startsWith("*", index)) {
+					index++;
+					step = new Step(axis, new Name("*"));
+				}
+				else {
+					step = new Step(axis, new Name(readName()));
+				}
+
+				boolean hasPosition = false;
+				while(XPATH.startsWith("[", index)) {
+
+					index++;
+					Predicate predicate = readPredicate();
+					skipWhitespace();
+					if(!XPATH.startsWith("]", index)) {
+						throw error("expected ']'");
+					}
+					index++;
+
+					if(predicate.TYPE == PredicateType.POSITION) {
+						if(hasPosition) {
+							throw error("only 1 position predicate is supported per step");
+						}
+						hasPosition = true;
+					}
+					if(!step.PREDICATES.isEmpty() && step.PREDICATES.get(step.PREDICATES.size() - 1).TYPE == PredicateType.TEXT_EQUALS) {
+						throw error("text() predicates must be the last predicate");
+					}
+
+					step.PREDICATES.add(predicate);
+				}
+
+				steps.add(step);
+			}
+
+			if(steps.isEmpty()) {
+				throw error("no Element steps");
+			}
+
+			// Text is only known at the end of an Element; which is too late for the steps after it, or for selecting its Attributes/Text as they stream past.
+			for(int i = 0; i < steps.size(); i++) {
+				if(steps.get(i).textValue() != null && (i < steps.size() - 1 || target != Target.ELEMENT)) {
+					throw error("text() predicates are only supported on the last step, when selecting Elements");
+				}
+			}
+		}
+
+		Predicate readPredicate() {
+
+			skipWhitespace();
+
+			if(index < XPATH.length() && Character.isDigit(XPATH.charAt(index))) {
+
+				int start = index;
+				while(index < XPATH.length() && Character.isDigit(XPATH.charAt(index))) {
+					index++;
+				}
+
+				int position = Integer.parseInt(XPATH.substring(start, index));
+				if(position < 1) {
+					throw error("positions start at 1");
+				}
+
+				return new Predicate(PredicateType.POSITION, null, null, position);
+			}
+
+			if(XPATH.startsWith("@", index)) {
+
+				index++;
+				Name attribute = new Name(readName());
+
+				skipWhitespace();
+				if(XPATH.startsWith("!=", index)) {
+					index += 2;
+					return new Predicate(PredicateType.ATTRIBUTE_NOT_EQUALS, attribute, readLiteral(), 0);
+				}
+				if(XPATH.startsWith("=", index)) {
+					index++;
+					return new Predicate(PredicateType.ATTRIBUTE_EQUALS, attribute, readLiteral(), 0);
+				}
+
+				return new Predicate(PredicateType.ATTRIBUTE_EXISTS, attribute, null, 0);
+			}
+
+			if(XPATH.startsWith("text()", index)) {
+
+				index += "text()".length();
+
+				skipWhitespace();
+				if(!XPATH.startsWith("=", index)) {
+					throw error("expected '=' after text()");
+				}
+				index++;
+
+				return new Predicate(PredicateType.TEXT_EQUALS, null, readLiteral(), 0);
+			}
+
+			throw error("unsupported predicate");
+		}
+
+		String readName() {
+
+			int start = index;
+			while(index < XPATH.length()) {
+
+				char c = XPATH.charAt(index);
+				if(!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.' && c != ':') {
+					break;
+				}
+				index++;
+			}
+
+			if(index == start) {
+				throw error("expected a name");
+			}
+
+			return XPATH.substring(start, index);
+		}
+
+		String readLiteral() {
+
+			skipWhitespace();
+			if(index >= XPATH.length() || (XPATH.charAt(index) != '\'' && XPATH.charAt(index) != '"')) {
+				throw error("expected a quoted String");
+			}
+
+			char quote = XPATH.charAt(index);
+			int end = XPATH.indexOf(quote, index + 1);
+			if(end < 0) {
+				throw error("unterminated String");
+			}
+
+			String literal = XPATH.substring(index + 1, end);
+			index = end + 1;
+
+			return literal;
+		}
+
+		void skipWhitespace() {
+			while(index < XPATH.length() && Character.isWhitespace(XPATH.charAt(index))) {
+				index++;
+			}
+		}
+
+		XmlException error(String _reason) {
+			return new XmlException("Unsupported Streaming XPath (" + _reason + ") at index " + index + ": " + XPATH);
+		}
+	}
+
+	/**
+	 * The matching state of a single open Element.
+	 */
+	private static final class Frame {
+
+		/**
+		 * The indexes of the steps, that the children of this Element can match.
+		 */
+		final BitSet EXPECTED_STEPS = new BitSet();
+		/**
+		 * Namespaces declared on this Element, as prefix/URI pairs.
+		 */
+		final String[] NAMESPACES;
+
+		/**
+		 * Position predicate counters, for this Element's children; indexed by step (and created when first needed).
+		 */
+		int[] positions;
+		/**
+		 * Whether this Element's direct text is a match (for a final {@code /text()} step).
+		 */
+		boolean textTarget;
+
+		Frame(String[] _namespaces) {
+			NAMESPACES = _namespaces;
+		}
+	}
+
+	/**
+	 * Builds the result for one matching Element, while it streams past.
+	 */
+	private static final class Capture {
+
+		/**
+		 * The Frame depth of the matching Element.
+		 */
+		final int DEPTH;
+		/**
+		 * The value the Element's direct text has to equal; or {@code null}, if there is no text predicate.
+		 */
+		final String TEXT_VALUE;
+
+		final Document DOCUMENT;
+		final Deque<Node> OPEN_NODES = new ArrayDeque<>();
+		final StringBuilder STRING_VALUE;
+		final StringBuilder DIRECT_TEXT;
+
+		Capture(int _depth, String _textValue, boolean _nodes) {
+			DEPTH = _depth;
+			TEXT_VALUE = _textValue;
+			DOCUMENT = _nodes ? XmlDocumentHelper.createNewDocument() : null;
+			STRING_VALUE = _nodes ? null : new StringBuilder();
+			DIRECT_TEXT = _textValue == null ? null : new StringBuilder();
+
+			if(DOCUMENT != null) {
+				OPEN_NODES.push(DOCUMENT);
+			}
+		}
+
+		void startElement(XMLStreamReader _reader, Map<String, String> _namespaces) {
+
+			if(DOCUMENT == null) {
+				return;
+			}
+
+			Element element = DOCUMENT.createElementNS(emptyToNull(_reader.getNamespaceURI()),
+					toQualifiedName(_reader.getPrefix(), _reader.getLocalName()));
+
+			for(Map.Entry<String, String> namespace : _namespaces.entrySet()) {
+				element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+						namespace.getKey().isEmpty() ? XMLConstants.XMLNS_ATTRIBUTE : XMLConstants.XMLNS_ATTRIBUTE + ":" + namespace.getKey(),
+						namespace.getValue());
+			}
+
+			for(int i = 0; i < _reader.getAttributeCount(); i++) {
+				element.setAttributeNS(emptyToNull(_reader.getAttributeNamespace(i)),
+						toQualifiedName(_reader.getAttributePrefix(i), _reader.getAttributeLocalName(i)), _reader.getAttributeValue(i));
+			}
+
+			OPEN_NODES.peek().appendChild(element);
+			OPEN_NODES.push(element);
+		}
+
+		void endElement() {
+			if(DOCUMENT != null) {
+				OPEN_NODES.pop();
+			}
+		}
+
+		void text(String _text, int _depth) {
+
+			if(DIRECT_TEXT != null && _depth == DEPTH) {
+				DIRECT_TEXT.append(_text);
+			}
+
+			if(DOCUMENT != null) {
+				OPEN_NODES.peek().appendChild(DOCUMENT.createTextNode(_text));
+			}
+			else {
+				STRING_VALUE.append(_text);
+			}
+		}
+
+		void comment(String _text) {
+			if(DOCUMENT != null) {
+				OPEN_NODES.peek().appendChild(DOCUMENT.createComment(_text));
+			}
+		}
+
+		boolean isMatch() {
+			return TEXT_VALUE == null || TEXT_VALUE.equals(DIRECT_TEXT.toString());
+		}
+
+		Object result() {
+			return DOCUMENT != null ? DOCUMENT : STRING_VALUE.toString();
+		}
+
+		private static String emptyToNull(String _string) {
+			return _string == null || _string.isEmpty() ? null : _string;
+		}
+	}
+
+	/**
+	 * Pulls matches out of a StAX stream, one at a time.
+	 *
+	 * @param <T> {@link Document}, when capturing Nodes; otherwise {@link String}.
+	 */
+	private final class Matcher<T> implements Iterator<T>, AutoCloseable {
+
+		final InputStream INPUT_STREAM;
+		final boolean OWNS_INPUT_STREAM;
+		final boolean NODES;
+		final XMLStreamReader READER;
+
+		final Deque<Frame> FRAMES = new ArrayDeque<>();
+		final List<Capture> CAPTURES = new ArrayList<>();
+		final Deque<T> RESULTS = new ArrayDeque<>();
+
+		boolean done = false, closed = false;
+
+		Matcher(InputStream _inputStream, boolean _ownsInputStream, boolean _nodes) {
+
+			INPUT_STREAM = _inputStream;
+			OWNS_INPUT_STREAM = _ownsInputStream;
+			NODES = _nodes;
+
+			try {
+				READER = newReader(_inputStream);
+			}
+			catch(RuntimeException e) {
+				if(OWNS_INPUT_STREAM) {
+					closeQuietly(INPUT_STREAM);
+				}
+				throw e;
+			}
+
+			Frame documentFrame = new Frame(new String[0]);
+			documentFrame.EXPECTED_STEPS.set(0);
+			FRAMES.push(documentFrame);
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			while(RESULTS.isEmpty() && !done) {
+				try {
+					advance();
+				}
+				catch(XMLStreamException e) {
+					close();
+					throw new XmlException("Error reading XML Stream!", e);
+				}
+			}
+
+			return !RESULTS.isEmpty();
+		}
+
+		@Override
+		public T next() {
+
+			if(!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return RESULTS.poll();
+		}
+
+		@Override
+		public void close() {
+
+			if(closed) {
+				return;
+			}
+			closed = done = true;
+
+			try {
+				READER.close();
+			}
+			catch(XMLStreamException e) {
+				LOGGER.warn("Could not close XML Stream Reader!", e);
+			}
+
+			if(OWNS_INPUT_STREAM) {
+				closeQuietly(INPUT_STREAM);
+			}
+		}
+
+		/**
+		 * Reads the next StAX event.
+		 */
+		private void advance() throws XMLStreamException {
+
+			if(!READER.hasNext()) {
+				close();
+				return;
+			}
+
+			switch(READER.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					startElement();
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					endElement();
+					break;
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.CDATA:
+				case XMLStreamConstants.SPACE:
+					text(READER.getText());
+					break;
+				case XMLStreamConstants.COMMENT:
+					for(Capture capture : CAPTURES) {
+						capture.comment(READER.getText());
+					}
+					break;
+				case XMLStreamConstants.END_DOCUMENT:
+					close();
+					break;
+				default: // Processing Instructions, DTDs, etc.
+					break;
+			}
+		}
+
+		private void startElement() {
+
+			//------------------------ Variables -----------------------------------
+			Frame parent = FRAMES.peek();
+
+			String[] namespaces = new String[READER.getNamespaceCount() * 2];
+			for(int i = 0; i < READER.getNamespaceCount(); i++) {
+				namespaces[i * 2] = nullToEmpty(READER.getNamespacePrefix(i));
+				namespaces[i * 2 + 1] = nullToEmpty(READER.getNamespaceURI(i));
+			}
+			Frame frame = new Frame(namespaces);
+
+			boolean matched = false;
+
+			//------------------------ Code ----------------------------------------
+			for(int i = parent.EXPECTED_STEPS.nextSetBit(0); i >= 0; i = parent.EXPECTED_STEPS.nextSetBit(i + 1)) {
+
+				Step step = STEPS[i];
+				if(step.AXIS == StepAxis.DESCENDANT) { // Keep looking for this step, all the way down.
+					frame.EXPECTED_STEPS.set(i);
+				}
+
+				if(matches(step, i, parent)) {
+					if(i == STEPS.length - 1) {
+						matched = true;
+					}
+					else {
+						frame.EXPECTED_STEPS.set(i + 1);
+					}
+				}
+			}
+
+			FRAMES.push(frame);
+
+			for(Capture capture : CAPTURES) {
+				capture.startElement(READER, Collections.emptyMap());
+			}
+
+			if(matched) {
+				switch(TARGET) {
+					case ELEMENT:
+						Capture capture = new Capture(FRAMES.size(), STEPS[STEPS.length - 1].textValue(), NODES);
+						capture.startElement(READER, inScopeNamespaces());
+						CAPTURES.add(capture);
+						break;
+					case ATTRIBUTE:
+						String value = TARGET_ATTRIBUTE.attributeValue(NAMESPACES, READER);
+						if(value != null) {
+							addResult(value);
+						}
+						break;
+					case TEXT:
+						frame.textTarget = true;
+						break;
+				}
+			}
+		}
+
+		private void endElement() {
+
+			for(int i = CAPTURES.size() - 1; i >= 0; i--) {
+
+				Capture capture = CAPTURES.get(i);
+				capture.endElement();
+
+				if(capture.DEPTH == FRAMES.size()) {
+
+					CAPTURES.remove(i);
+					if(capture.isMatch()) {
+						addResult(capture.result());
+					}
+				}
+			}
+
+			FRAMES.pop();
+		}
+
+		private void text(String _text) {
+
+			for(Capture capture : CAPTURES) {
+				capture.text(_text, FRAMES.size());
+			}
+
+			if(FRAMES.peek().textTarget) {
+				addResult(_text);
+			}
+		}
+
+		/**
+		 * @return {@code true}, if the Reader's current Element matches the given step (ignoring any text predicate).
+		 */
+		private boolean matches(Step _step, int _stepIndex, Frame _parent) {
+
+			if(!_step.NAME.matches(READER.getLocalName(), READER.getNamespaceURI(), NAMESPACES, READER)) {
+				return false;
+			}
+
+			for(Predicate predicate : _step.PREDICATES) {
+
+				String value;
+				switch(predicate.TYPE) {
+					case ATTRIBUTE_EXISTS:
+						if(predicate.ATTRIBUTE.attributeValue(NAMESPACES, READER) == null) {
+							return false;
+						}
+						break;
+					case ATTRIBUTE_EQUALS:
+						value = predicate.ATTRIBUTE.attributeValue(NAMESPACES, READER);
+						if(value == null || !value.equals(predicate.VALUE)) {
+							return false;
+						}
+						break;
+					case ATTRIBUTE_NOT_EQUALS:
+						value = predicate.ATTRIBUTE.attributeValue(NAMESPACES, READER);
+						if(value == null || value.equals(predicate.VALUE)) {
+							return false;
+						}
+						break;
+					case POSITION:
+						if(_parent.positions == null) {
+							_parent.positions = new int[STEPS.length];
+						}
+						if(++_parent.positions[_stepIndex] != predicate.POSITION) {
+							return false;
+						}
+						break;
+					case TEXT_EQUALS: // Checked when the Element ends.
+						break;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * @return All of the Namespaces in scope for the Reader's current Element; keyed by prefix ("" for the default Namespace).
+		 */
+		private Map<String, String> inScopeNamespaces() {
+
+			Map<String, String> namespaces = new LinkedHashMap<>();
+
+			for(Frame frame : FRAMES) { // Innermost first.
+				for(int i = 0; i < frame.NAMESPACES.length; i += 2) {
+					namespaces.putIfAbsent(frame.NAMESPACES[i], frame.NAMESPACES[i + 1]);
+				}
+			}
+
+			// An empty default Namespace is an un-declaration, which is only needed inside a declared default Namespace.
+			if(namespaces.containsKey("") && namespaces.get("").isEmpty()) {
+				namespaces.remove("");
+			}
+
+			return namespaces;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void addResult(Object _result) {
+			RESULTS.add((T) _result);
+		}
+	}
+}
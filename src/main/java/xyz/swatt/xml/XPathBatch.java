@@ -0,0 +1,300 @@
+package xyz.swatt.xml;
+
+import net.sf.saxon.s9api.*;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import xyz.swatt.asserts.ArgumentChecks;
+import xyz.swatt.exceptions.XmlException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A named set of XPaths, that are compiled once and evaluated together against the same Document.
+ * <p>
+ *     Calling {@link XmlDocumentHelper#getStringsForXPath(Node, String)} once per XPath re-compiles the XPath and re-wraps the Document every time.
+ *     A batch compiles each XPath once (per set of Root Namespaces), and wraps the Document once per evaluation;
+ *     all of the XPaths are then run against that one shared context item.
+ * </p>
+ * <p>
+ *     Expensive batches can be evaluated in parallel, on a {@link ForkJoinPool}.
+ *     (A W3C {@link Document} is not thread safe, so it is first copied into a {@link ReadOnlyXmlDocument} for this.)
+ * </p>
+ * <p>
+ *     Instances are immutable and thread safe, and are meant to be created once and reused for every Document they validate.
+ * </p>
+ * <p>
+ *     <i>Note:</i> All Root level Namespaces are automatically accounted for and do not have to be manually specified.
+ * </p>
+ */
+public final class XPathBatch {
+
+	//========================= Static Enums ===================================
+
+	//========================= STATIC CONSTANTS ===============================
+	private static final Logger LOGGER = LogManager.getLogger(XPathBatch.class);
+
+	//========================= Static Variables ===============================
+
+	//========================= Static Constructor =============================
+	static { }
+
+	//========================= Static Methods =================================
+
+	//========================= CONSTANTS ======================================
+	/**
+	 * The XPaths of this batch, keyed by name (in the order they were given).
+	 */
+	public final Map<String, String> XPATHS;
+
+	/**
+	 * The compiled XPaths (keyed by name), per set of Root Namespaces.
+	 */
+	private final Map<Map<String, String>, Map<String, XPathExecutable>> COMPILED = new ConcurrentHashMap<>();
+
+	//========================= Variables ======================================
+
+	//========================= Constructors ===================================
+	/**
+	 * Creates a batch of the given XPaths.
+	 *
+	 * @param _namedXPaths
+	 * 		The XPaths to evaluate, keyed by the name their results will be returned under.
+	 *
+	 * @throws IllegalArgumentException If the given Map is {@code null} or empty, or any XPath is blank.
+	 */
+	public XPathBatch(Map<String, String> _namedXPaths) {
+
+		super();
+
+		LOGGER.info("XPathBatch(_namedXPaths: {}) [START]", _namedXPaths);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notEmpty(_namedXPaths, "Named XPaths");
+
+		for(Map.Entry<String, String> namedXPath : _namedXPaths.entrySet()) {
+			ArgumentChecks.notNull(namedXPath.getKey(), "XPath Name");
+			ArgumentChecks.stringNotBlank(namedXPath.getValue(), namedXPath.getKey() + " XPath");
+		}
+
+		//-------------------------Code-----------------------------------------
+		XPATHS = Collections.unmodifiableMap(new LinkedHashMap<>(_namedXPaths));
+
+		LOGGER.debug("XPathBatch(_namedXPaths: {}) [END]", _namedXPaths);
+	}
+
+	//========================= Methods ========================================
+	/**
+	 * Evaluates every XPath of this batch against the given Document (or Node).
+	 *
+	 * @param _xmlNode
+	 * 		The Document or Element to do the XPath searches on.
+	 * 		<p>Even if an {@link Node} is passed, the searches could still be at the {@link Document} level, depending on the XPaths.</p>
+	 *
+	 * @return The String results of each XPath (the same as {@link XmlDocumentHelper#getStringsForXPath(Node, String)}),
+	 * keyed by name, in the order the XPaths were given.
+	 *
+	 * @throws IllegalArgumentException If the given Node is {@code null}.
+	 * @throws XmlException If any XPath is invalid, or fails.
+	 */
+	public Map<String, List<String>> evaluate(Node _xmlNode) {
+
+		LOGGER.info("evaluate(Node) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_xmlNode, "XML Node");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		Document document = _xmlNode.getOwnerDocument() == null ? (Document) _xmlNode : _xmlNode.getOwnerDocument();
+		Map<String, XPathExecutable> compiled = compile(XmlDocumentHelper.getRootNamespaces(document));
+
+		// Wrapped once, for all of the XPaths.
+		XdmNode contextNode = ReadOnlyXmlDocument.PROCESSOR.newDocumentBuilder().wrap(_xmlNode);
+
+		Map<String, List<String>> results = new LinkedHashMap<>();
+
+		//------------------------ Code ----------------------------------------
+		for(Map.Entry<String, XPathExecutable> xPath : compiled.entrySet()) {
+			results.put(xPath.getKey(), evaluate(xPath.getKey(), xPath.getValue(), contextNode));
+		}
+
+		LOGGER.debug("evaluate(Node) [END]");
+
+		return results;
+	}
+
+	/**
+	 * Evaluates every XPath of this batch against the given Read-Only Document.
+	 *
+	 * @param _readOnlyXmlDocument
+	 * 		The Document to do the XPath searches on.
+	 *
+	 * @return The String results of each XPath (the same as {@link ReadOnlyXmlDocument#getStringsForXPath(String)}),
+	 * keyed by name, in the order the XPaths were given.
+	 *
+	 * @throws IllegalArgumentException If the given Document is {@code null}.
+	 * @throws XmlException If any XPath is invalid, or fails.
+	 */
+	public Map<String, List<String>> evaluate(ReadOnlyXmlDocument _readOnlyXmlDocument) {
+
+		LOGGER.info("evaluate(ReadOnlyXmlDocument) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_readOnlyXmlDocument, "Read-Only XML Document");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		Map<String, XPathExecutable> compiled = compile(_readOnlyXmlDocument.getRootNamespaces());
+		Map<String, List<String>> results = new LinkedHashMap<>();
+
+		//------------------------ Code ----------------------------------------
+		for(Map.Entry<String, XPathExecutable> xPath : compiled.entrySet()) {
+			results.put(xPath.getKey(), evaluate(xPath.getKey(), xPath.getValue(), _readOnlyXmlDocument.ROOT));
+		}
+
+		LOGGER.debug("evaluate(ReadOnlyXmlDocument) [END]");
+
+		return results;
+	}
+
+	/**
+	 * Evaluates every XPath of this batch against the given Document, in parallel on the {@link ForkJoinPool#commonPool()}.
+	 * <p>The Document is first copied into a {@link ReadOnlyXmlDocument}; as a W3C Document is not thread safe.</p>
+	 *
+	 * @param _xmlDocument
+	 * 		The Document to do the XPath searches on.
+	 *
+	 * @return The String results of each XPath, keyed by name, in the order the XPaths were given.
+	 *
+	 * @throws IllegalArgumentException If the given Document is {@code null}.
+	 * @throws XmlException If any XPath is invalid, or fails.
+	 *
+	 * @see #evaluateInParallel(ReadOnlyXmlDocument, ForkJoinPool)
+	 */
+	public Map<String, List<String>> evaluateInParallel(Document _xmlDocument) {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_xmlDocument, "XML Document");
+
+		//------------------------ Code ----------------------------------------
+		return evaluateInParallel(ReadOnlyXmlDocument.from(_xmlDocument), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Evaluates every XPath of this batch against the given Read-Only Document, in parallel on the given {@link ForkJoinPool}.
+	 * <p>This is only worth it for expensive XPaths (i.e. many {@code //} searches of a large Document); cheap ones are faster with {@link #evaluate(ReadOnlyXmlDocument)}.</p>
+	 *
+	 * @param _readOnlyXmlDocument
+	 * 		The Document to do the XPath searches on.
+	 * @param _forkJoinPool
+	 * 		The Pool to run the XPaths on.
+	 *
+	 * @return The String results of each XPath, keyed by name, in the order the XPaths were given.
+	 *
+	 * @throws IllegalArgumentException If either argument is {@code null}.
+	 * @throws XmlException If any XPath is invalid, or fails.
+	 */
+	public Map<String, List<String>> evaluateInParallel(ReadOnlyXmlDocument _readOnlyXmlDocument, ForkJoinPool _forkJoinPool) {
+
+		LOGGER.info("evaluateInParallel(ReadOnlyXmlDocument, ForkJoinPool) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_readOnlyXmlDocument, "Read-Only XML Document");
+		ArgumentChecks.notNull(_forkJoinPool, "Fork Join Pool");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		Map<String, XPathExecutable> compiled = compile(_readOnlyXmlDocument.getRootNamespaces());
+		Map<String, ForkJoinTask<List<String>>> tasks = new LinkedHashMap<>();
+
+		Map<String, List<String>> results = new LinkedHashMap<>();
+
+		//------------------------ Code ----------------------------------------
+		for(Map.Entry<String, XPathExecutable> xPath : compiled.entrySet()) {
+			tasks.put(xPath.getKey(), _forkJoinPool.submit(() -> evaluate(xPath.getKey(), xPath.getValue(), _readOnlyXmlDocument.ROOT)));
+		}
+
+		for(Map.Entry<String, ForkJoinTask<List<String>>> task : tasks.entrySet()) {
+			results.put(task.getKey(), task.getValue().join());
+		}
+
+		LOGGER.debug("evaluateInParallel(ReadOnlyXmlDocument, ForkJoinPool) [END]");
+
+		return results;
+	}
+
+	@Override
+	public String toString() {
+		return "XPathBatch" + XPATHS;
+	}
+
+	//////////////////// Helper Methods ////////////////////
+	/**
+	 * @return This batch's XPaths, compiled with the given Root Namespaces. (Compiled on first use.)
+	 *
+	 * @throws XmlException If any XPath is invalid.
+	 */
+	private Map<String, XPathExecutable> compile(Map<String, String> _rootNamespaces) {
+
+		return COMPILED.computeIfAbsent(new HashMap<>(_rootNamespaces), _namespaces -> {
+
+			LOGGER.debug("Compiling {} XPaths, with Namespaces: {}", XPATHS.size(), _namespaces);
+
+			XPathCompiler xPathCompiler = ReadOnlyXmlDocument.PROCESSOR.newXPathCompiler();
+			for(Map.Entry<String, String> namespace : _namespaces.entrySet()) {
+				xPathCompiler.declareNamespace(namespace.getKey(), namespace.getValue());
+			}
+
+			Map<String, XPathExecutable> compiled = new LinkedHashMap<>();
+			for(Map.Entry<String, String> xPath : XPATHS.entrySet()) {
+				try {
+					compiled.put(xPath.getKey(), xPathCompiler.compile(xPath.getValue()));
+				}
+				catch(Exception e) {
+					throw new XmlException("Invalid XPath (" + xPath.getKey() + "): " + xPath.getValue(), e);
+				}
+			}
+
+			return Collections.unmodifiableMap(compiled);
+		});
+	}
+
+	/**
+	 * @return The String Values of the given XPath's results.
+	 *
+	 * @throws XmlException If the XPath fails.
+	 */
+	private List<String> evaluate(String _name, XPathExecutable _xPath, XdmNode _contextNode) {
+
+		//------------------------ Variables -----------------------------------
+		XPathSelector xPathSelector = _xPath.load(); // Selectors are not thread safe; Executables are.
+		XdmValue xdmItems;
+
+		List<String> results = new ArrayList<>();
+
+		//------------------------ Code ----------------------------------------
+		try {
+			xPathSelector.setContextItem(_contextNode);
+			xdmItems = xPathSelector.evaluate();
+		}
+		catch(SaxonApiException e) {
+			throw new XmlException("Error executing XPath (" + _name + "): " + XPATHS.get(_name), e);
+		}
+
+		for(XdmItem xdmItem : xdmItems) {
+			results.add(xdmItem.getStringValue());
+		}
+
+		return results;
+	}
+
+	//========================= Classes ========================================
+}
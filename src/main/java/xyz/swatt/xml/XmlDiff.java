@@ -0,0 +1,686 @@
+package xyz.swatt.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import xyz.swatt.asserts.ArgumentChecks;
+import xyz.swatt.exceptions.XmlException;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Structurally compares an expected XML Document against an actual one, and reports only the paths that differ.
+ * <p>
+ *     Before comparing, a 64 bit (Merkle style) hash is computed for every Element of both Documents, from its name, text, attributes and child hashes.
+ *     Subtrees with equal hashes are then skipped without being walked; so large, mostly identical, Documents are compared in about the time it takes to hash them.
+ * </p>
+ * <p>
+ *     What is compared:
+ * </p>
+ * <ul>
+ *     <li>Elements, by Namespace URI and local name (prefixes do not matter).</li>
+ *     <li>Attributes, in any order. (Namespace declarations are not compared.)</li>
+ *     <li>The text directly inside each Element (Text and CDATA together), trimmed unless {@link #trimText(boolean)} is turned off.</li>
+ *     <li>Child Elements, matched up by name and position among their same named siblings (as in the XPath {@code /order/item[2]});
+ *     unless their parent was selected by {@link #ignoreChildOrder(String)}.</li>
+ * </ul>
+ * <p>Comments and Processing Instructions are not compared.</p>
+ * <p>
+ *     Rules are added before comparing, and are then safe to share between threads:
+ * </p>
+ * <pre>
+ * List&lt;XmlDiff.Difference&gt; differences = new XmlDiff()
+ *         .ignore("//Header/timestamp")
+ *         .ignore("//order/@requestId")
+ *         .ignoreChildOrder("//order/items")
+ *         .compare(expectedDocument, actualDocument);
+ * </pre>
+ */
+public final class XmlDiff {
+
+	//========================= Static Enums ===================================
+	/**
+	 * The kinds of {@link Difference}s that can be found.
+	 */
+	public enum DifferenceType {
+		/**
+		 * The Root Elements have different names.
+		 */
+		ELEMENT_NAME,
+		/**
+		 * An expected Element is not in the actual Document.
+		 */
+		ELEMENT_MISSING,
+		/**
+		 * An Element in the actual Document was not expected.
+		 */
+		ELEMENT_UNEXPECTED,
+		/**
+		 * The child Elements (by name) are in a different order.
+		 */
+		ELEMENT_ORDER,
+		/**
+		 * An Element has different text.
+		 */
+		TEXT,
+		/**
+		 * An expected Attribute is not in the actual Document.
+		 */
+		ATTRIBUTE_MISSING,
+		/**
+		 * An Attribute in the actual Document was not expected.
+		 */
+		ATTRIBUTE_UNEXPECTED,
+		/**
+		 * An Attribute has a different value.
+		 */
+		ATTRIBUTE_VALUE
+	}
+
+	//========================= STATIC CONSTANTS ===============================
+	private static final Logger LOGGER = LogManager.getLogger(XmlDiff.class);
+
+	private static final String XMLNS_URI = "http://www.w3.org/2000/xmlns/";
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L, FNV_PRIME = 0x100000001b3L, CHILD_PRIME = 0x9e3779b97f4a7c15L;
+
+	//========================= Static Variables ===============================
+
+	//========================= Static Constructor =============================
+	static { }
+
+	//========================= Static Methods =================================
+
+	//========================= CONSTANTS ======================================
+	private final List<String> IGNORED_XPATHS = new CopyOnWriteArrayList<>(), UNORDERED_XPATHS = new CopyOnWriteArrayList<>();
+
+	//========================= Variables ======================================
+	private volatile boolean trimText = true;
+
+	//========================= Constructors ===================================
+	/**
+	 * Creates a diff with no rules. (Every Element and Attribute is compared, and child order matters.)
+	 */
+	public XmlDiff() {
+		super();
+	}
+
+	//========================= Methods ========================================
+	/**
+	 * Ignores the Nodes (Elements, Attributes, or Text) selected by the given XPath, in both Documents.
+	 * <p>An ignored Element is ignored along with everything in it.</p>
+	 *
+	 * @param _xPath
+	 * 		The XPath of the Nodes to ignore. (Root Namespaces are declared automatically, as in {@link XmlDocumentHelper#getNodesForXPath(Node, String)}.)
+	 *
+	 * @return This diff, for chaining.
+	 *
+	 * @throws IllegalArgumentException If the given XPath is blank.
+	 */
+	public XmlDiff ignore(String _xPath) {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.stringNotWhitespaceOnly(_xPath, "XPath");
+
+		//------------------------ Code ----------------------------------------
+		IGNORED_XPATHS.add(_xPath);
+
+		return this;
+	}
+
+	/**
+	 * Compares the children of the Elements selected by the given XPath without regard to their order.
+	 * <p>Children are first matched up by identical content; then whatever is left is compared in order, by name.</p>
+	 *
+	 * @param _xPath
+	 * 		The XPath of the parent Elements. (Root Namespaces are declared automatically, as in {@link XmlDocumentHelper#getNodesForXPath(Node, String)}.)
+	 *
+	 * @return This diff, for chaining.
+	 *
+	 * @throws IllegalArgumentException If the given XPath is blank.
+	 */
+	public XmlDiff ignoreChildOrder(String _xPath) {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.stringNotWhitespaceOnly(_xPath, "XPath");
+
+		//------------------------ Code ----------------------------------------
+		UNORDERED_XPATHS.add(_xPath);
+
+		return this;
+	}
+
+	/**
+	 * @param _trimText
+	 * 		Whether leading and trailing whitespace is ignored when comparing text. (Default: {@code true}.)
+	 *
+	 * @return This diff, for chaining.
+	 */
+	public XmlDiff trimText(boolean _trimText) {
+
+		trimText = _trimText;
+
+		return this;
+	}
+
+	/**
+	 * Compares the given Documents (or Elements).
+	 *
+	 * @param _expected
+	 * 		The expected Document or Element.
+	 * @param _actual
+	 * 		The actual Document or Element.
+	 *
+	 * @return The differences found, in Document order; or an empty List, if there are none.
+	 *
+	 * @throws IllegalArgumentException If either Node is {@code null}, or is not a Document or Element.
+	 * @throws XmlException If any of the rule XPaths are invalid.
+	 */
+	public List<Difference> compare(Node _expected, Node _actual) {
+
+		LOGGER.info("compare(_expected, _actual) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		Element expectedRoot = toElement(_expected, "Expected");
+		Element actualRoot = toElement(_actual, "Actual");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		Side expected = new Side(expectedRoot), actual = new Side(actualRoot);
+
+		List<Difference> differences = new ArrayList<>();
+
+		//------------------------ Code ----------------------------------------
+		boolean expectedIgnored = expected.IGNORED.contains(expectedRoot), actualIgnored = actual.IGNORED.contains(actualRoot);
+		if(!expectedIgnored || !actualIgnored) {
+			if(expectedIgnored) {
+				differences.add(new Difference(DifferenceType.ELEMENT_UNEXPECTED, "/" + actualRoot.getNodeName(), null, actualRoot.getNodeName()));
+			}
+			else if(actualIgnored) {
+				differences.add(new Difference(DifferenceType.ELEMENT_MISSING, "/" + expectedRoot.getNodeName(), expectedRoot.getNodeName(), null));
+			}
+			else if(!sameName(expectedRoot, actualRoot)) {
+				differences.add(new Difference(DifferenceType.ELEMENT_NAME, "/" + expectedRoot.getNodeName(), expectedRoot.getNodeName(), actualRoot.getNodeName()));
+			}
+			else {
+				compare(expected, expectedRoot, actual, actualRoot, "/" + expectedRoot.getNodeName(), differences);
+			}
+		}
+
+		LOGGER.debug("compare(_expected, _actual) [END]: {} Difference(s)", differences.size());
+
+		return differences;
+	}
+
+	/**
+	 * @param _expected
+	 * 		The expected Document or Element.
+	 * @param _actual
+	 * 		The actual Document or Element.
+	 *
+	 * @return Whether there are no differences between the given Documents (or Elements).
+	 *
+	 * @throws IllegalArgumentException If either Node is {@code null}, or is not a Document or Element.
+	 * @throws XmlException If any of the rule XPaths are invalid.
+	 *
+	 * @see #compare(Node, Node)
+	 */
+	public boolean isIdentical(Node _expected, Node _actual) {
+		return compare(_expected, _actual).isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "XmlDiff{ignore: " + IGNORED_XPATHS + ", ignoreChildOrder: " + UNORDERED_XPATHS + ", trimText: " + trimText + "}";
+	}
+
+	//////////////////// Helper Methods ////////////////////
+	/**
+	 * Compares two Elements with the same name (and their subtrees).
+	 */
+	private void compare(Side _expected, Element _expectedElement, Side _actual, Element _actualElement, String _xPath, List<Difference> _differences) {
+
+		//------------------------ Pre-Checks ----------------------------------
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+
+		//------------------------ Code ----------------------------------------
+		if(_expected.hash(_expectedElement) == _actual.hash(_actualElement)) { // Identical subtrees.
+			return;
+		}
+
+		//////////////////// Text ////////////////////
+		String expectedText = _expected.text(_expectedElement), actualText = _actual.text(_actualElement);
+		if(!expectedText.equals(actualText)) {
+			_differences.add(new Difference(DifferenceType.TEXT, _xPath + "/text()", expectedText, actualText));
+		}
+
+		//////////////////// Attributes ////////////////////
+		Map<String, Attr> expectedAttributes = _expected.attributes(_expectedElement), actualAttributes = _actual.attributes(_actualElement);
+		for(Map.Entry<String, Attr> expectedAttribute : expectedAttributes.entrySet()) {
+
+			Attr expected = expectedAttribute.getValue(), actual = actualAttributes.get(expectedAttribute.getKey());
+			if(actual == null) {
+				_differences.add(new Difference(DifferenceType.ATTRIBUTE_MISSING, _xPath + "/@" + expected.getName(), expected.getValue(), null));
+			}
+			else if(!expected.getValue().equals(actual.getValue())) {
+				_differences.add(new Difference(DifferenceType.ATTRIBUTE_VALUE, _xPath + "/@" + expected.getName(), expected.getValue(), actual.getValue()));
+			}
+		}
+		for(Map.Entry<String, Attr> actualAttribute : actualAttributes.entrySet()) {
+			if(!expectedAttributes.containsKey(actualAttribute.getKey())) {
+				Attr actual = actualAttribute.getValue();
+				_differences.add(new Difference(DifferenceType.ATTRIBUTE_UNEXPECTED, _xPath + "/@" + actual.getName(), null, actual.getValue()));
+			}
+		}
+
+		//////////////////// Children ////////////////////
+		Map<String, List<Element>> expectedChildren = _expected.children(_expectedElement), actualChildren = _actual.children(_actualElement);
+		boolean unordered = _expected.UNORDERED.contains(_expectedElement) || _actual.UNORDERED.contains(_actualElement);
+
+		Set<String> names = new LinkedHashSet<>(expectedChildren.keySet());
+		names.addAll(actualChildren.keySet());
+
+		for(String name : names) {
+
+			List<Element> expectedGroup = expectedChildren.getOrDefault(name, Collections.emptyList());
+			List<Element> actualGroup = actualChildren.getOrDefault(name, Collections.emptyList());
+			boolean indexed = expectedGroup.size() > 1 || actualGroup.size() > 1;
+
+			if(unordered) {
+				compareUnordered(_expected, expectedGroup, _actual, actualGroup, _xPath, indexed, _differences);
+			}
+			else {
+				compareOrdered(_expected, expectedGroup, _actual, actualGroup, _xPath, indexed, _differences);
+			}
+		}
+
+		if(!unordered && expectedChildren.size() > 1) {
+			List<Element> expectedOrder = _expected.childOrder(_expectedElement), actualOrder = _actual.childOrder(_actualElement);
+			if(expectedOrder.size() == actualOrder.size() && expectedChildren.keySet().equals(actualChildren.keySet())) {
+				for(int i = 0; i < expectedOrder.size(); i++) {
+					if(!sameName(expectedOrder.get(i), actualOrder.get(i))) { // Same children, but the names are interleaved differently.
+						_differences.add(new Difference(DifferenceType.ELEMENT_ORDER, _xPath + "/*", names(expectedOrder), names(actualOrder)));
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compares same named siblings, by position.
+	 */
+	private void compareOrdered(Side _expected, List<Element> _expectedGroup, Side _actual, List<Element> _actualGroup, String _parentXPath, boolean _indexed,
+			List<Difference> _differences) {
+
+		for(int i = 0; i < Math.max(_expectedGroup.size(), _actualGroup.size()); i++) {
+
+			if(i >= _actualGroup.size()) {
+				Element expected = _expectedGroup.get(i);
+				_differences.add(new Difference(DifferenceType.ELEMENT_MISSING, childXPath(_parentXPath, expected, i, _indexed), expected.getNodeName(), null));
+			}
+			else if(i >= _expectedGroup.size()) {
+				Element actual = _actualGroup.get(i);
+				_differences.add(new Difference(DifferenceType.ELEMENT_UNEXPECTED, childXPath(_parentXPath, actual, i, _indexed), null, actual.getNodeName()));
+			}
+			else {
+				Element expected = _expectedGroup.get(i);
+				compare(_expected, expected, _actual, _actualGroup.get(i), childXPath(_parentXPath, expected, i, _indexed), _differences);
+			}
+		}
+	}
+
+	/**
+	 * Compares same named siblings, first matching up identical ones (by hash), and then comparing what is left by position.
+	 */
+	private void compareUnordered(Side _expected, List<Element> _expectedGroup, Side _actual, List<Element> _actualGroup, String _parentXPath, boolean _indexed,
+			List<Difference> _differences) {
+
+		//------------------------ Variables -----------------------------------
+		Map<Long, Deque<Integer>> actualByHash = new HashMap<>();
+		boolean[] actualMatched = new boolean[_actualGroup.size()];
+		List<Integer> expectedLeft = new ArrayList<>(), actualLeft = new ArrayList<>();
+
+		//------------------------ Code ----------------------------------------
+		for(int i = 0; i < _actualGroup.size(); i++) {
+			actualByHash.computeIfAbsent(_actual.hash(_actualGroup.get(i)), _hash -> new ArrayDeque<>()).add(i);
+		}
+
+		for(int i = 0; i < _expectedGroup.size(); i++) {
+			Deque<Integer> matches = actualByHash.get(_expected.hash(_expectedGroup.get(i)));
+			if(matches == null || matches.isEmpty()) {
+				expectedLeft.add(i);
+			}
+			else {
+				actualMatched[matches.poll()] = true;
+			}
+		}
+
+		for(int i = 0; i < _actualGroup.size(); i++) {
+			if(!actualMatched[i]) {
+				actualLeft.add(i);
+			}
+		}
+
+		for(int i = 0; i < Math.max(expectedLeft.size(), actualLeft.size()); i++) {
+
+			if(i >= actualLeft.size()) {
+				int index = expectedLeft.get(i);
+				Element expected = _expectedGroup.get(index);
+				_differences.add(new Difference(DifferenceType.ELEMENT_MISSING, childXPath(_parentXPath, expected, index, _indexed), expected.getNodeName(), null));
+			}
+			else if(i >= expectedLeft.size()) {
+				int index = actualLeft.get(i);
+				Element actual = _actualGroup.get(index);
+				_differences.add(new Difference(DifferenceType.ELEMENT_UNEXPECTED, childXPath(_parentXPath, actual, index, _indexed), null, actual.getNodeName()));
+			}
+			else {
+				int index = expectedLeft.get(i);
+				Element expected = _expectedGroup.get(index);
+				compare(_expected, expected, _actual, _actualGroup.get(actualLeft.get(i)), childXPath(_parentXPath, expected, index, _indexed), _differences);
+			}
+		}
+	}
+
+	private static String childXPath(String _parentXPath, Element _child, int _index, boolean _indexed) {
+		return _parentXPath + "/" + _child.getNodeName() + (_indexed ? "[" + (_index + 1) + "]" : "");
+	}
+
+	/**
+	 * @return The names of the given Elements, comma separated.
+	 */
+	private static String names(List<Element> _elements) {
+
+		StringJoiner names = new StringJoiner(", ");
+		for(Element element : _elements) {
+			names.add(element.getNodeName());
+		}
+
+		return names.toString();
+	}
+
+	private static Element toElement(Node _node, String _name) {
+
+		ArgumentChecks.notNull(_node, _name + " Node");
+
+		Node element = _node instanceof Document ? ((Document) _node).getDocumentElement() : _node;
+		if(!(element instanceof Element)) {
+			throw new IllegalArgumentException(_name + " Node must be a Document or an Element!");
+		}
+
+		return (Element) element;
+	}
+
+	private static boolean sameName(Node _a, Node _b) {
+		return Objects.equals(_a.getNamespaceURI(), _b.getNamespaceURI()) && localName(_a).equals(localName(_b));
+	}
+
+	private static String localName(Node _node) {
+		return _node.getLocalName() == null ? _node.getNodeName() : _node.getLocalName();
+	}
+
+	/**
+	 * @return The {namespace}local name of the given Node.
+	 */
+	private static String qualifiedName(Node _node) {
+		return _node.getNamespaceURI() == null ? localName(_node) : "{" + _node.getNamespaceURI() + "}" + localName(_node);
+	}
+
+	/**
+	 * @return A 64 bit FNV-1a hash of the given String ({@code null} hashes the same as "").
+	 */
+	private static long stringHash(String _string) {
+
+		long hash = FNV_OFFSET;
+
+		if(_string != null) {
+			for(int i = 0; i < _string.length(); i++) {
+				hash = (hash ^ _string.charAt(i)) * FNV_PRIME;
+			}
+		}
+
+		return hash;
+	}
+
+	/**
+	 * @return The given value, with its bits mixed (the SplitMix64 finalizer).
+	 */
+	private static long mix(long _value) {
+
+		_value = (_value ^ (_value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		_value = (_value ^ (_value >>> 27)) * 0x94d049bb133111ebL;
+
+		return _value ^ (_value >>> 31);
+	}
+
+	//========================= Classes ========================================
+	/**
+	 * A single difference between the expected and actual Documents.
+	 */
+	public static final class Difference {
+
+		/**
+		 * What kind of difference this is.
+		 */
+		public final DifferenceType TYPE;
+
+		/**
+		 * Where the difference is. (For unexpected Nodes, this is their path in the actual Document; otherwise, in the expected Document.)
+		 */
+		public final String XPATH;
+
+		/**
+		 * The expected value (or name); {@code null} if there was nothing expected.
+		 */
+		public final String EXPECTED;
+
+		/**
+		 * The actual value (or name); {@code null} if there was nothing there.
+		 */
+		public final String ACTUAL;
+
+		Difference(DifferenceType _type, String _xPath, String _expected, String _actual) {
+			TYPE = _type;
+			XPATH = _xPath;
+			EXPECTED = _expected;
+			ACTUAL = _actual;
+		}
+
+		@Override
+		public boolean equals(Object _o) {
+
+			if(this == _o) {
+				return true;
+			}
+			if(!(_o instanceof Difference)) {
+				return false;
+			}
+
+			Difference that = (Difference) _o;
+
+			return TYPE == that.TYPE && XPATH.equals(that.XPATH) && Objects.equals(EXPECTED, that.EXPECTED) && Objects.equals(ACTUAL, that.ACTUAL);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(TYPE, XPATH, EXPECTED, ACTUAL);
+		}
+
+		@Override
+		public String toString() {
+			return TYPE + " at " + XPATH + ": expected <" + EXPECTED + "> but was <" + ACTUAL + ">";
+		}
+	}
+
+	/**
+	 * One of the two Documents being compared; with its rule matches and (lazily computed) subtree hashes.
+	 */
+	private final class Side {
+
+		final Set<Node> IGNORED = Collections.newSetFromMap(new IdentityHashMap<>());
+		final Set<Node> UNORDERED = Collections.newSetFromMap(new IdentityHashMap<>());
+		final Map<Element, Long> HASHES = new IdentityHashMap<>();
+
+		Side(Element _root) {
+
+			for(String xPath : IGNORED_XPATHS) {
+				IGNORED.addAll(XmlDocumentHelper.getNodesForXPath(_root, xPath));
+			}
+			for(String xPath : UNORDERED_XPATHS) {
+				UNORDERED.addAll(XmlDocumentHelper.getNodesForXPath(_root, xPath));
+			}
+		}
+
+		/**
+		 * @return The Merkle hash of the given Element's subtree; computing (and remembering) it and all of its descendants' hashes, on first call.
+		 */
+		long hash(Element _element) {
+
+			Long cached = HASHES.get(_element);
+			if(cached != null) {
+				return cached;
+			}
+
+			long hash = mix(stringHash(_element.getNamespaceURI()) * 31 + stringHash(localName(_element)));
+			hash = mix(hash ^ (stringHash(text(_element)) + FNV_PRIME));
+
+			long attributes = 0; // Summed, so that attribute order does not matter.
+			NamedNodeMap attributeMap = _element.getAttributes();
+			for(int i = 0; i < attributeMap.getLength(); i++) {
+				Attr attribute = (Attr) attributeMap.item(i);
+				if(isCompared(attribute)) {
+					attributes += mix((stringHash(attribute.getNamespaceURI()) * 31 + stringHash(localName(attribute))) * 31 + stringHash(attribute.getValue()));
+				}
+			}
+			hash = mix(hash ^ attributes);
+
+			if(UNORDERED.contains(_element)) {
+				long children = 0; // Summed, so that child order does not matter.
+				int count = 0;
+				for(Node child = _element.getFirstChild(); child != null; child = child.getNextSibling()) {
+					if(child.getNodeType() == Node.ELEMENT_NODE && !IGNORED.contains(child)) {
+						children += hash((Element) child);
+						count++;
+					}
+				}
+				hash = mix(hash ^ children) + count;
+			}
+			else {
+				for(Node child = _element.getFirstChild(); child != null; child = child.getNextSibling()) {
+					if(child.getNodeType() == Node.ELEMENT_NODE && !IGNORED.contains(child)) {
+						hash = mix(hash * CHILD_PRIME + hash((Element) child));
+					}
+				}
+			}
+
+			HASHES.put(_element, hash);
+
+			return hash;
+		}
+
+		/**
+		 * @return The Text and CDATA directly inside the given Element (not ignored), trimmed if {@link #trimText} is on.
+		 */
+		String text(Element _element) {
+
+			String text = null;
+			StringBuilder builder = null;
+
+			for(Node child = _element.getFirstChild(); child != null; child = child.getNextSibling()) {
+
+				short type = child.getNodeType();
+				if((type == Node.TEXT_NODE || type == Node.CDATA_SECTION_NODE) && !IGNORED.contains(child)) {
+					if(text == null) {
+						text = child.getNodeValue();
+					}
+					else {
+						if(builder == null) {
+							builder = new StringBuilder(text);
+						}
+						builder.append(child.getNodeValue());
+					}
+				}
+			}
+
+			if(builder != null) {
+				text = builder.toString();
+			}
+			else if(text == null) {
+				text = "";
+			}
+
+			return trimText ? text.trim() : text;
+		}
+
+		/**
+		 * @return The given Element's (not ignored) Attributes, keyed by qualified name. (Namespace declarations are left out.)
+		 */
+		Map<String, Attr> attributes(Element _element) {
+
+			NamedNodeMap attributeMap = _element.getAttributes();
+			if(attributeMap.getLength() == 0) {
+				return Collections.emptyMap();
+			}
+
+			Map<String, Attr> attributes = new LinkedHashMap<>();
+			for(int i = 0; i < attributeMap.getLength(); i++) {
+
+				Attr attribute = (Attr) attributeMap.item(i);
+				if(isCompared(attribute)) {
+					attributes.put(qualifiedName(attribute), attribute);
+				}
+			}
+
+			return attributes;
+		}
+
+		/**
+		 * @return Whether the given Attribute is compared; i.e. it is not a Namespace declaration, and is not ignored.
+		 */
+		boolean isCompared(Attr _attribute) {
+
+			String name = _attribute.getName();
+
+			return !XMLNS_URI.equals(_attribute.getNamespaceURI()) && !name.equals("xmlns") && !name.startsWith("xmlns:") && !IGNORED.contains(_attribute);
+		}
+
+		/**
+		 * @return The given Element's (not ignored) child Elements, grouped by qualified name, in Document order.
+		 */
+		Map<String, List<Element>> children(Element _element) {
+
+			Map<String, List<Element>> children = new LinkedHashMap<>();
+			for(Node child = _element.getFirstChild(); child != null; child = child.getNextSibling()) {
+				if(child.getNodeType() == Node.ELEMENT_NODE && !IGNORED.contains(child)) {
+					children.computeIfAbsent(qualifiedName(child), _name -> new ArrayList<>()).add((Element) child);
+				}
+			}
+
+			return children;
+		}
+
+		/**
+		 * @return The given Element's (not ignored) child Elements, in Document order.
+		 */
+		List<Element> childOrder(Element _element) {
+
+			List<Element> children = new ArrayList<>();
+			for(Node child = _element.getFirstChild(); child != null; child = child.getNextSibling()) {
+				if(child.getNodeType() == Node.ELEMENT_NODE && !IGNORED.contains(child)) {
+					children.add((Element) child);
+				}
+			}
+
+			return children;
+		}
+	}
+}
@@ -0,0 +1,332 @@
+package xyz.swatt.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import xyz.swatt.asserts.ArgumentChecks;
+import xyz.swatt.exceptions.XmlException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, thread safe, cache of parsed XML Files; for fixture/template Files that are loaded over and over again.
+ * <p>
+ *     Each File is parsed once (with {@link XmlDocumentHelper#getDocumentFrom(File)}) into a template, that is never handed out.
+ *     Callers get their own deep copy of it, which they are free to modify; or the shared {@link ReadOnlyXmlDocument} version of it.
+ * </p>
+ * <p>
+ *     Entries are keyed by canonical path, and are re-parsed if the File's size or last modified time changes.
+ *     When the total estimated size of the cached Documents goes over the limit, the least recently used entries are evicted.
+ * </p>
+ * <p>
+ *     To have {@link XmlDocumentHelper#getDocumentFrom(File)} (and everything that calls it) use a cache,
+ *     set {@link XmlDocumentHelper#documentCache}.
+ * </p>
+ */
+public final class XmlDocumentCache {
+
+	//========================= Static Enums ===================================
+
+	//========================= STATIC CONSTANTS ===============================
+	private static final Logger LOGGER = LogManager.getLogger(XmlDocumentCache.class);
+
+	/**
+	 * The estimated size of a W3C {@link Document} in memory, per byte of its XML File.
+	 * <p>(A DOM normally takes 5-10x the size of its source.)</p>
+	 */
+	public static final int ESTIMATED_BYTES_PER_FILE_BYTE = 8;
+
+	//========================= Static Variables ===============================
+
+	//========================= Static Constructor =============================
+	static { }
+
+	//========================= Static Methods =================================
+
+	//========================= CONSTANTS ======================================
+	/**
+	 * The maximum total estimated size of the cached Documents, in bytes.
+	 */
+	public final long MAX_ESTIMATED_BYTES;
+
+	/**
+	 * Templates, in least recently used order.
+	 */
+	private final LinkedHashMap<String, Entry> ENTRIES = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final AtomicLong HITS = new AtomicLong(), MISSES = new AtomicLong(), EVICTIONS = new AtomicLong();
+
+	//========================= Variables ======================================
+	/**
+	 * Guarded by {@link #ENTRIES}.
+	 */
+	private long estimatedBytes = 0;
+
+	//========================= Constructors ===================================
+	/**
+	 * Creates a new, empty, cache.
+	 *
+	 * @param _maxEstimatedBytes
+	 * 		The maximum total estimated size of the cached Documents, in bytes. (See {@link #ESTIMATED_BYTES_PER_FILE_BYTE}.)
+	 * 		<p>A File that is estimated to be larger than this, on its own, is never cached.</p>
+	 *
+	 * @throws IllegalArgumentException If the given size is not greater than zero.
+	 */
+	public XmlDocumentCache(long _maxEstimatedBytes) {
+
+		super();
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.greaterThanZero(_maxEstimatedBytes, "Max Estimated Bytes");
+
+		//-------------------------Code-----------------------------------------
+		MAX_ESTIMATED_BYTES = _maxEstimatedBytes;
+	}
+
+	//========================= Methods ========================================
+	/**
+	 * Gets a deep copy of the parsed XML File; parsing (and caching) it first, if needed.
+	 *
+	 * @param _xmlFile
+	 * 		The XML File to get.
+	 *
+	 * @return A new copy of the parsed File, that the caller is free to modify.
+	 *
+	 * @throws IllegalArgumentException If the given File is {@code null}, does not exist, is a directory, or is unreadable.
+	 * @throws XmlException If the File could not be parsed.
+	 */
+	public Document get(File _xmlFile) {
+
+		LOGGER.debug("get(_xmlFile: {}) [START]", _xmlFile == null ? "(NULL)" : _xmlFile.getPath());
+
+		//------------------------ Pre-Checks ----------------------------------
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		Entry entry = getEntry(_xmlFile); // Argument Checks done here.
+		Document copy;
+
+		//------------------------ Code ----------------------------------------
+		if(!entry.cached) { // Nobody else has it, so there is no need to copy it.
+			copy = entry.TEMPLATE;
+		}
+		else {
+			// A DOM is not thread safe (even for reads), so the template is locked while it is copied.
+			synchronized(entry.TEMPLATE) {
+				copy = (Document) entry.TEMPLATE.cloneNode(true);
+			}
+		}
+
+		LOGGER.debug("get(_xmlFile: {}) [END]", _xmlFile.getPath());
+
+		return copy;
+	}
+
+	/**
+	 * Gets the Read-Only version of the parsed XML File; parsing (and caching) it first, if needed.
+	 * <p>Unlike {@link #get(File)}, this is not a copy; the same instance is shared by all callers.</p>
+	 *
+	 * @param _xmlFile
+	 * 		The XML File to get.
+	 *
+	 * @return The shared, Read-Only, parsed File.
+	 *
+	 * @throws IllegalArgumentException If the given File is {@code null}, does not exist, is a directory, or is unreadable.
+	 * @throws XmlException If the File could not be parsed.
+	 */
+	public ReadOnlyXmlDocument getReadOnly(File _xmlFile) {
+
+		LOGGER.debug("getReadOnly(_xmlFile: {}) [START]", _xmlFile == null ? "(NULL)" : _xmlFile.getPath());
+
+		//------------------------ Pre-Checks ----------------------------------
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		Entry entry = getEntry(_xmlFile); // Argument Checks done here.
+		ReadOnlyXmlDocument readOnly;
+
+		//------------------------ Code ----------------------------------------
+		synchronized(entry.TEMPLATE) {
+			if(entry.readOnly == null) {
+				entry.readOnly = ReadOnlyXmlDocument.from(entry.TEMPLATE);
+			}
+			readOnly = entry.readOnly;
+		}
+
+		LOGGER.debug("getReadOnly(_xmlFile: {}) [END]", _xmlFile.getPath());
+
+		return readOnly;
+	}
+
+	/**
+	 * Removes all entries. (The metrics are not reset.)
+	 */
+	public void clear() {
+		synchronized(ENTRIES) {
+			ENTRIES.clear();
+			estimatedBytes = 0;
+		}
+	}
+
+	/**
+	 * @return The number of cached Files.
+	 */
+	public int size() {
+		synchronized(ENTRIES) {
+			return ENTRIES.size();
+		}
+	}
+
+	/**
+	 * @return The total estimated size of the cached Documents, in bytes.
+	 */
+	public long getEstimatedBytes() {
+		synchronized(ENTRIES) {
+			return estimatedBytes;
+		}
+	}
+
+	/**
+	 * @return How many lookups were served from the cache.
+	 */
+	public long getHits() {
+		return HITS.get();
+	}
+
+	/**
+	 * @return How many lookups had to parse the File.
+	 */
+	public long getMisses() {
+		return MISSES.get();
+	}
+
+	/**
+	 * @return How many entries were evicted, to stay under {@link #MAX_ESTIMATED_BYTES}.
+	 */
+	public long getEvictions() {
+		return EVICTIONS.get();
+	}
+
+	/**
+	 * @return The fraction (0.0 - 1.0) of lookups that were served from the cache; or 0.0, if there have been no lookups.
+	 */
+	public double getHitRate() {
+
+		long hits = HITS.get(), lookups = hits + MISSES.get();
+
+		return lookups == 0 ? 0.0 : (double) hits / lookups;
+	}
+
+	@Override
+	public String toString() {
+		return "XmlDocumentCache{size: " + size() + ", estimatedBytes: " + getEstimatedBytes() + " / " + MAX_ESTIMATED_BYTES
+				+ ", hits: " + getHits() + ", misses: " + getMisses() + ", evictions: " + getEvictions() + "}";
+	}
+
+	//////////////////// Helper Methods ////////////////////
+	/**
+	 * @return The cache entry for the given File; parsing the File first, if it is not cached (or has changed).
+	 */
+	private Entry getEntry(File _xmlFile) {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.fileExists(_xmlFile, "XML");
+
+		//noinspection ConstantConditions
+		if(!_xmlFile.canRead()) {
+			throw new IllegalArgumentException("Given File " + _xmlFile.getAbsolutePath() + " is unreadable!");
+		}
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		String key;
+		long length = _xmlFile.length(), lastModified = _xmlFile.lastModified();
+		Entry entry;
+
+		//------------------------ Code ----------------------------------------
+		try {
+			key = _xmlFile.getCanonicalPath();
+		}
+		catch(IOException e) {
+			throw new XmlException("Could not resolve the Canonical Path of: " + _xmlFile.getAbsolutePath(), e);
+		}
+
+		synchronized(ENTRIES) {
+			entry = ENTRIES.get(key);
+			if(entry != null && entry.LENGTH == length && entry.LAST_MODIFIED == lastModified) {
+				HITS.incrementAndGet();
+				return entry;
+			}
+		}
+
+		// Parsed outside of the lock, so that other Files can still be served.
+		MISSES.incrementAndGet();
+		entry = new Entry(XmlDocumentHelper.parse(_xmlFile), length, lastModified);
+
+		if(entry.ESTIMATED_BYTES > MAX_ESTIMATED_BYTES) {
+			LOGGER.debug("Not caching {}, it is estimated to be larger than the whole cache.", key);
+			return entry;
+		}
+
+		synchronized(ENTRIES) {
+
+			entry.cached = true;
+			Entry replaced = ENTRIES.put(key, entry);
+			if(replaced != null) {
+				estimatedBytes -= replaced.ESTIMATED_BYTES;
+			}
+			estimatedBytes += entry.ESTIMATED_BYTES;
+
+			Iterator<Map.Entry<String, Entry>> leastRecentlyUsed = ENTRIES.entrySet().iterator();
+			while(estimatedBytes > MAX_ESTIMATED_BYTES && leastRecentlyUsed.hasNext()) {
+
+				Map.Entry<String, Entry> evicted = leastRecentlyUsed.next();
+				if(evicted.getValue() == entry) {
+					continue;
+				}
+
+				LOGGER.debug("Evicting: {}", evicted.getKey());
+				estimatedBytes -= evicted.getValue().ESTIMATED_BYTES;
+				leastRecentlyUsed.remove();
+				EVICTIONS.incrementAndGet();
+			}
+		}
+
+		return entry;
+	}
+
+	//========================= Classes ========================================
+	/**
+	 * A parsed template, and the version of the File it was parsed from.
+	 */
+	private static final class Entry {
+
+		final Document TEMPLATE;
+		final long LENGTH, LAST_MODIFIED, ESTIMATED_BYTES;
+
+		/**
+		 * Whether this entry was ever put in the cache; and so may be shared. (Guarded by {@link #ENTRIES}, but only ever set to {@code true}.)
+		 */
+		volatile boolean cached = false;
+
+		/**
+		 * Created on first request. (Guarded by {@link #TEMPLATE}.)
+		 */
+		ReadOnlyXmlDocument readOnly;
+
+		Entry(Document _template, long _length, long _lastModified) {
+			TEMPLATE = _template;
+			LENGTH = _length;
+			LAST_MODIFIED = _lastModified;
+			ESTIMATED_BYTES = _length * ESTIMATED_BYTES_PER_FILE_BYTE;
+		}
+	}
+}
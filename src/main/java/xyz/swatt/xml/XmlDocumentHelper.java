@@ -15,6 +15,7 @@ import org.apache.xerces.dom.ElementNSImpl;
 import org.apache.xerces.dom.TextImpl;
 import org.jsoup.Jsoup;
 import org.jsoup.helper.W3CDom;
+import org.jsoup.nodes.TextNode;
 import org.jsoup.parser.ParseSettings;
 import org.jsoup.parser.Parser;
 import org.w3c.dom.Document;
@@ -35,15 +36,25 @@ import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A Helper Class to deal with XML {@link Document}s.
@@ -63,10 +74,39 @@ public final class XmlDocumentHelper {
 		DECIMAL, HEX
 	}
 
+	/**
+	 * Options for {@link #writeTo(Node, Writer, XmlOutputOption...)}.
+	 */
+	public enum XmlOutputOption {
+		/**
+		 * Indent the XML, with 2 spaces.
+		 */
+		PRETTY_PRINT,
+		/**
+		 * Leave off the XML Declaration, even for a {@link Document}. (It is always left off for any other {@link Node}.)
+		 */
+		OMIT_XML_DECLARATION,
+		/**
+		 * Write {@code &amp;}s as they are; instead of as {@code &}.
+		 */
+		ESCAPE_AMPERSANDS
+	}
+
 	//========================= STATIC CONSTANTS ===============================
 	private static final Logger LOGGER = LogManager.getLogger(XmlDocumentHelper.class);
 
+	/**
+	 * HTML Elements that never have content, or an end tag (<a href="https://www.w3.org/TR/html-markup/syntax.html#syntax-elements" target="_blank">W3C</a>).
+	 */
+	private static final Set<String> HTML_VOID_ELEMENTS = new HashSet<>(Arrays.asList("area", "base", "br", "col", "command", "embed", "hr", "img", "input",
+			"keygen", "link", "meta", "param", "source", "track", "wbr"));
+
 	//========================= Static Variables ===============================
+	/**
+	 * When set, {@link #getDocumentFrom(File)} only parses each File once, and then hands out copies of it from this cache.
+	 * <p>({@code null}, the default, turns caching off.)</p>
+	 */
+	public static volatile XmlDocumentCache documentCache = null;
 
 	//========================= Static Constructor =============================
 	static {
@@ -124,6 +164,7 @@ public final class XmlDocumentHelper {
 	 * @throws IllegalArgumentException If the given string is blank.
 	 *
 	 * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
+	 * @see XmlEntityEscaper#decimalEscapedToHexEscaped(String)
 	 */
 	public static String decimalEscapedToHexEscaped(String _s) {
 
@@ -135,24 +176,9 @@ public final class XmlDocumentHelper {
 		//------------------------ CONSTANTS -----------------------------------
 
 		//------------------------ Variables -----------------------------------
-		Matcher matcher = Pattern.compile("&#([0-9]{2,4});").matcher(_s);
-
-		HashMap<String, String> replacements = new HashMap<>();
 
 		//------------------------ Code ----------------------------------------
-		////////// Determine Replacements //////////
-		while(matcher.find()) {
-
-			String dec = matcher.group(1);
-			String replacementString = "&#x" + Integer.toHexString(Integer.parseInt(dec)) + ";";
-
-			replacements.put(matcher.group(), replacementString);
-		}
-
-		////////// Make Replacements //////////
-		for(String find : replacements.keySet()) {
-			_s = _s.replaceAll(Matcher.quoteReplacement(find), replacements.get(find));
-		}
+		_s = XmlEntityEscaper.decimalEscapedToHexEscaped(_s);
 
 		LOGGER.debug("decimalEscapedToHexEscaped(_s: {}) [END]", _s);
 
@@ -204,6 +230,7 @@ public final class XmlDocumentHelper {
 	 * @throws IllegalArgumentException If the given {@link XmlEntityFormat} is {@code null} or an unknown format.
 	 *
 	 * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
+	 * @see XmlEntityEscaper#escapeExtendedCharacters(String, XmlEntityFormat)
 	 */
 	public static String escapeExtendedCharacters(String _inputString, XmlEntityFormat _format) {
 
@@ -219,35 +246,14 @@ public final class XmlDocumentHelper {
 		//------------------------ CONSTANTS -----------------------------------
 
 		//------------------------ Variables -----------------------------------
-		StringBuilder stringBuilder = new StringBuilder();
+		String escaped;
 
 		//------------------------ Code ----------------------------------------
-		for( char c : _inputString.toCharArray() ) {
-
-			if( ( (int) c >= 9 && (int) c <= 13 ) || ( (int) c >= 32 && (int) c <= 126 ) ) { // Using Decimal values here (note: the javadoc shows Hex values).
-				stringBuilder.append( c );
-			}
-			else {
-
-				switch( _format ) {
-
-					case DECIMAL:
-						stringBuilder.append( "&#" ).append((int) c).append( ";" );
-						break;
-
-					case HEX:
-						stringBuilder.append( "&#x" ).append( Integer.toHexString((int) c) ).append( ";" );
-						break;
-
-					default:
-						throw new IllegalArgumentException( "Unknown XmlEntityFormat: " + _format + "!" );
-				}
-			}
-		}
+		escaped = XmlEntityEscaper.escapeExtendedCharacters(_inputString, _format);
 
 		LOGGER.debug( "escapeExtendedCharacters(_inputString: {}, _format: {}) [END]", _inputString, _format );
 
-		return stringBuilder.toString();
+		return escaped;
 	}
 
 	/**
@@ -269,29 +275,23 @@ public final class XmlDocumentHelper {
 	 * @throws XmlException If there was a problem with conversion.
 	 *
 	 * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
+	 *
+	 * @see #documentCache
 	 */
 	public static Document getDocumentFrom(File _xmlFile) {
 
 		LOGGER.debug( "getDocumentFrom(_xmlFile: {}) [START]", _xmlFile == null ? "(NULL)" : _xmlFile.getPath() );
 
 		//------------------------ Pre-Checks ----------------------------------
-		ArgumentChecks.fileExists(_xmlFile, "XML");
-
-		//noinspection ConstantConditions
-		if(!_xmlFile.canRead()) {
-			throw new IllegalArgumentException( "Given File " + _xmlFile.getAbsolutePath() + " is unreadable!" );
-		}
 
 		//------------------------ CONSTANTS -----------------------------------
 
 		//------------------------ Variables -----------------------------------
+		XmlDocumentCache cache = documentCache;
 		Document xmlDocument;
-		String xmlString  = StringHelper.toString( _xmlFile );
 
 		//------------------------ Code ----------------------------------------
-		// TransformerFactory un-escapes all XML Entities by default.
-		// getDocumentFrom( String ) will first double escape them to preserve them.
-		xmlDocument = getDocumentFrom( xmlString );
+		xmlDocument = cache == null ? parse( _xmlFile ) : cache.get( _xmlFile ); // Argument Checks done in both.
 
 		LOGGER.debug( "getDocumentFrom(_xmlFile: {}) [END]", _xmlFile.getPath() );
 
@@ -450,7 +450,6 @@ public final class XmlDocumentHelper {
 
 		//------------------------ Variables -----------------------------------
 		Document document = _xmlNode.getOwnerDocument() == null ? (Document) _xmlNode : _xmlNode.getOwnerDocument();
-		Node rootNode;
 		XPathCompiler xPathCompiler = PROCESSOR.newXPathCompiler();
 		XPathSelector xPathselector;
 
@@ -459,26 +458,8 @@ public final class XmlDocumentHelper {
 		//------------------------ Code ----------------------------------------
 		// Set Namespaces of the Root Element, for XPath Compiler to use.
 		// That way the XPath does not have to specify the Default Namespace.
-		if((rootNode = document.getFirstChild()) != null) {
-
-			NamedNodeMap rootAttributes = rootNode.getAttributes();
-			if(rootAttributes != null) {
-				for(int i = 0; i < rootAttributes.getLength(); i++) {
-
-					Node rootAttribute = rootAttributes.item(i);
-
-					String prefix = rootAttribute.getPrefix();
-					String localName = rootAttribute.getLocalName();
-					if(prefix == null) { // May be Default Namespace.
-						if(localName != null && localName.equalsIgnoreCase("xmlns")) { // Is Default Namespace?
-							xPathCompiler.declareNamespace("", rootAttribute.getNodeValue());
-						}
-					}
-					else if(prefix.equalsIgnoreCase("xmlns")) {
-						xPathCompiler.declareNamespace(localName, rootAttribute.getNodeValue());
-					}
-				}
-			}
+		for(Map.Entry<String, String> namespace : getRootNamespaces(document).entrySet()) {
+			xPathCompiler.declareNamespace(namespace.getKey(), namespace.getValue());
 		}
 
 		try {
@@ -671,6 +652,7 @@ public final class XmlDocumentHelper {
 	 * @throws IllegalArgumentException If the given string is blank.
 	 *
 	 * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
+	 * @see XmlEntityEscaper#hexEscapedToDecimalEscaped(String)
 	 */
 	public static String hexEscapedToDecimalEscaped(String _s) {
 
@@ -682,24 +664,9 @@ public final class XmlDocumentHelper {
 		//------------------------ CONSTANTS -----------------------------------
 
 		//------------------------ Variables -----------------------------------
-		Matcher matcher = Pattern.compile("&#x([0-9a-zA-z]{2,4});").matcher(_s);
-
-		HashMap<String, String> replacements = new HashMap<>();
 
 		//------------------------ Code ----------------------------------------
-		////////// Determine Replacements //////////
-		while(matcher.find()) {
-
-			String hex = matcher.group(1);
-			String replacementString = "&#" + Integer.valueOf(hex, 16) + ";";
-
-			replacements.put(matcher.group(), replacementString);
-		}
-
-		////////// Make Replacements //////////
-		for(String find : replacements.keySet()) {
-			_s = _s.replaceAll(Matcher.quoteReplacement(find), replacements.get(find));
-		}
+		_s = XmlEntityEscaper.hexEscapedToDecimalEscaped(_s);
 
 		LOGGER.debug("hexEscapedToDecimalEscaped(_s: {}) [END]", _s);
 
@@ -710,7 +677,6 @@ public final class XmlDocumentHelper {
 	 * Will take in an HTML {@link String} and try to parse it to an XML {@link Document}, with UTF-8 encoding.
 	 * <p>(The parsing will try to resolve the differences between HTML and XML.)</p>
 	 * <p><b>Note:</b> All tags and attributes are converted to lower case, for consistency.</p>
-	 * <p><b>Warning:</b> If the given text does not have a root element, then only the first element is parsed..</p>
 	 *
 	 * @param _html The HTML {@link String} to convert to an XML {@link Document}.
 	 *
@@ -720,10 +686,33 @@ public final class XmlDocumentHelper {
 	 * @throws XmlException If the given HTML {@link String} cannot be parsed or has multiple root elements.
 	 *
 	 * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
+	 * @see #htmlToXml(String, boolean)
 	 */
 	public static Document htmlToXml(String _html) {
+		return htmlToXml(_html, false);
+	}
+
+	/**
+	 * Will take in an HTML {@link String} and try to parse it to an XML {@link Document}, with UTF-8 encoding.
+	 * <p>
+	 *     The HTML is parsed once, with Jsoup's XML parser (which, unlike an HTML parser, does not move Elements that are in an invalid place for HTML).
+	 *     Unclosed Void Elements (i.e. {@code <br>} or {@code <input ...>}) are then closed,
+	 *     and the result is copied into a W3C Document.
+	 * </p>
+	 *
+	 * @param _html The HTML {@link String} to convert to an XML {@link Document}.
+	 * @param _preserveCase {@code true} to keep the case of tags and attributes; {@code false} to convert them to lower case.
+	 *
+	 * @return The given HTML as an XML {@link Document}.
+	 *
+	 * @throws IllegalArgumentException If the given HTML {@link String} is blank.
+	 * @throws XmlException If the given HTML {@link String} cannot be parsed or does not have exactly 1 root element.
+	 *
+	 * @see ReadOnlyXmlDocument#fromHtml(String, boolean)
+	 */
+	public static Document htmlToXml(String _html, boolean _preserveCase) {
 
-		LOGGER.info("htmlToXml(_html: {}) [START]", _html);
+		LOGGER.info("htmlToXml(_html: {}, _preserveCase: {}) [START]", _html, _preserveCase);
 
 		//------------------------ Pre-Checks ----------------------------------
 		ArgumentChecks.stringNotWhitespaceOnly(_html, "HTML String");
@@ -731,32 +720,36 @@ public final class XmlDocumentHelper {
 		//------------------------ CONSTANTS -----------------------------------
 
 		//------------------------ Variables -----------------------------------
-		org.jsoup.nodes.Document jsoupDocument;
 		Document w3cDocument;
 
 		//------------------------ Code ----------------------------------------
-		jsoupDocument = Jsoup.parse(_html);
-		if(jsoupDocument.body().childNodeSize() < 1) {
-			throw new XmlException("The given HTML String could not be parsed!\n\tHTML String: " + _html);
-		}
-		else if(jsoupDocument.body().childNodeSize() > 1) {
-			throw new XmlException("The given HTML String has multiple root elements! (It is required to have only 1.)!\n\tHTML String: " + _html);
-		}
-
-		try {
-			jsoupDocument = Jsoup.parse(_html, "", Parser.xmlParser().settings(new ParseSettings(false, false)));
-		}
-		catch(Exception e) {
-			throw new XmlException("The given HTML String could not be parsed!", e);
-		}
+		w3cDocument = new W3CDom().fromJsoup(parseHtml(_html, _preserveCase));
 
-		w3cDocument = new W3CDom().fromJsoup(jsoupDocument);
-
-		LOGGER.debug("htmlToXml(_html: {}) [END]", _html);
+		LOGGER.debug("htmlToXml(_html: {}, _preserveCase: {}) [END]", _html, _preserveCase);
 
 		return w3cDocument;
 	}
 
+	/**
+	 * Transforms the given XML {@link Document} (or {@link Node}) with the given XSLT Stylesheet File.
+	 * <p>The Stylesheet is only compiled the first time it is used (and again, if the File changes).</p>
+	 *
+	 * @param _xmlNode
+	 * 		The Document or Node to transform.
+	 * @param _xsltFile
+	 * 		The XSLT Stylesheet File.
+	 *
+	 * @return A new Document holding the result of the transform.
+	 *
+	 * @throws IllegalArgumentException If the given Node is {@code null}, or the given File does not exist, is a directory, or is unreadable.
+	 * @throws XmlException If the File is not a valid XSLT Stylesheet, or the transform fails.
+	 *
+	 * @see XsltStylesheet
+	 */
+	public static Document transform(Node _xmlNode, File _xsltFile) {
+		return XsltStylesheet.from(_xsltFile).transform(_xmlNode);
+	}
+
 	/**
 	 * Takes in an XML {@link Node} and returns a String XML representation of it, with no formatting.
 	 *
@@ -774,6 +767,29 @@ public final class XmlDocumentHelper {
 		return toString( _node, true );
 	}
 
+	/**
+	 * Takes a frozen snapshot of the given XML {@link Document} (or {@link Node} and its descendants),
+	 * that any number of threads can query at the same time, without locking.
+	 * <p>
+	 *     A W3C Document is not thread safe (not even for reads); so tests that share one parsed response across threads,
+	 *     should take one snapshot of it and query that instead.
+	 *     Later changes to the given Node are not seen by the snapshot.
+	 * </p>
+	 *
+	 * @param _node
+	 * 		The Node/Document to take a snapshot of.
+	 *
+	 * @return An immutable, thread safe, copy of the given Node.
+	 *
+	 * @throws IllegalArgumentException If the given {@code _node} is {@code null}.
+	 * @throws XmlException If the given Node could not be copied.
+	 *
+	 * @see ReadOnlyXmlDocument#from(Node)
+	 */
+	public static ReadOnlyXmlDocument snapshot(Node _node) {
+		return ReadOnlyXmlDocument.from(_node);
+	}
+
 	/**
 	 * Takes in an XML {@link Node} and returns a String XML representation of it, with no formatting.
 	 *
@@ -806,6 +822,7 @@ public final class XmlDocumentHelper {
 	 * @throws XmlException If the {@link Node}/{@link Document} cannot be converted into a String.
 	 *
 	 * @author Brandon Dudek (<a href="github.com/BrandonDudek">BrandonDudek</a>)
+	 * @see #writeTo(Node, Writer, XmlOutputOption...)
 	 */
 	public static String toString(Node _node, boolean _prettyPrint) {
 
@@ -817,8 +834,135 @@ public final class XmlDocumentHelper {
 		//------------------------ CONSTANTS -----------------------------------
 
 		//------------------------ Variables -----------------------------------
-		StreamResult result = new StreamResult(new StringWriter());
+		StringWriter stringWriter = new StringWriter();
 		String toString;
+
+		//------------------------ Code ----------------------------------------
+		try {
+			writeTo(_node, stringWriter, _prettyPrint ? new XmlOutputOption[]{XmlOutputOption.PRETTY_PRINT} : new XmlOutputOption[0]);
+		}
+		catch(IOException e) { // A StringWriter does not throw IOExceptions.
+			throw new XmlException("Error parsing XML Document to String!", e);
+		}
+
+		toString = stringWriter.toString();
+
+		LOGGER.debug("toString(_node: {}, _prettyPrint: {}) [END]", toString, _prettyPrint);
+
+		return toString;
+	}
+
+	/**
+	 * Takes in an XML {@link Node} and returns, at most, the first {@code _maxLength} characters of its String XML representation.
+	 * <p>
+	 *     Serialization stops as soon as the limit is reached; so this is safe to use for logging/reporting very large Documents.
+	 * </p>
+	 *
+	 * @param _node
+	 * 		The Node/Document to get the String representation of.
+	 * @param _prettyPrint
+	 * 		Whether or not to apply "pretty print" to the String.
+	 * 		<i>(The indent value will be 2 spaces.)</i>
+	 * @param _maxLength
+	 * 		The maximum number of characters to return.
+	 *
+	 * @return The XML {@link Node}/{@link Document} in String format; cut off after {@code _maxLength} characters.
+	 *
+	 * @throws IllegalArgumentException If the given {@code _node} is {@code null}, or the max length is not greater than zero.
+	 * @throws XmlException If the {@link Node}/{@link Document} cannot be converted into a String.
+	 */
+	public static String toString(Node _node, boolean _prettyPrint, int _maxLength) {
+
+		LOGGER.info("toString(_node, _prettyPrint: {}, _maxLength: {}) [START]", _prettyPrint, _maxLength);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_node, "Node");
+		ArgumentChecks.greaterThanZero(_maxLength, "Max Length");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		CappedWriter cappedWriter = new CappedWriter(_maxLength);
+		String toString;
+
+		//------------------------ Code ----------------------------------------
+		try {
+			writeTo(_node, cappedWriter, _prettyPrint ? new XmlOutputOption[]{XmlOutputOption.PRETTY_PRINT} : new XmlOutputOption[0]);
+		}
+		catch(IOException | XmlException e) {
+			if(!cappedWriter.isFull()) {
+				throw e instanceof XmlException ? (XmlException) e : new XmlException("Error parsing XML Document to String!", e);
+			}
+			// Otherwise, the Writer stopped the serialization, because it is full.
+		}
+
+		toString = cappedWriter.toString();
+
+		LOGGER.debug("toString(_node, _prettyPrint: {}, _maxLength: {}) [END]: String ({})", _prettyPrint, _maxLength, toString.length());
+
+		return toString;
+	}
+
+	/**
+	 * Serializes the given XML {@link Node} straight to the given {@link OutputStream}, in UTF-8, without building it as a String first.
+	 * <p>The Stream is flushed, but not closed.</p>
+	 *
+	 * @param _node
+	 * 		The Node/Document to serialize.
+	 * @param _outputStream
+	 * 		Where to write the XML.
+	 * @param _options
+	 * 		How the XML should be written.
+	 *
+	 * @throws IllegalArgumentException If the given {@code _node} or {@code _outputStream} is {@code null}.
+	 * @throws IOException If there is an error writing to the Stream.
+	 * @throws XmlException If the {@link Node}/{@link Document} cannot be serialized.
+	 *
+	 * @see #writeTo(Node, Writer, XmlOutputOption...)
+	 */
+	public static void writeTo(Node _node, OutputStream _outputStream, XmlOutputOption... _options) throws IOException {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_outputStream, "Output Stream");
+
+		//------------------------ Code ----------------------------------------
+		Writer writer = new BufferedWriter(new OutputStreamWriter(_outputStream, StandardCharsets.UTF_8), 8192);
+		writeTo(_node, writer, _options);
+	}
+
+	/**
+	 * Serializes the given XML {@link Node} straight to the given {@link Writer}, without building it as a String first.
+	 * <p>
+	 *     As with {@link #toString(Node, boolean)}: the XML Declaration is left off, if the given Node is not a {@link Document};
+	 *     and {@code &amp;}s are written as {@code &}, so that the output shows exactly what is in the XML (unless {@link XmlOutputOption#ESCAPE_AMPERSANDS} is given).
+	 * </p>
+	 * <p>The Writer is flushed, but not closed.</p>
+	 *
+	 * @param _node
+	 * 		The Node/Document to serialize.
+	 * @param _writer
+	 * 		Where to write the XML.
+	 * @param _options
+	 * 		How the XML should be written.
+	 *
+	 * @throws IllegalArgumentException If the given {@code _node} or {@code _writer} is {@code null}.
+	 * @throws IOException If there is an error writing to the Writer.
+	 * @throws XmlException If the {@link Node}/{@link Document} cannot be serialized.
+	 */
+	public static void writeTo(Node _node, Writer _writer, XmlOutputOption... _options) throws IOException {
+
+		LOGGER.debug("writeTo(_node, Writer, _options: {}) [START]", Arrays.toString(_options));
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_node, "Node");
+		ArgumentChecks.notNull(_writer, "Writer");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		Set<XmlOutputOption> options = _options == null || _options.length == 0 ? EnumSet.noneOf(XmlOutputOption.class)
+				: EnumSet.copyOf(Arrays.asList(_options));
+		Writer writer = options.contains(XmlOutputOption.ESCAPE_AMPERSANDS) ? _writer : new AmpersandUnescapingWriter(_writer);
 		Transformer transformer;
 
 		//------------------------ Code ----------------------------------------
@@ -827,13 +971,13 @@ public final class XmlDocumentHelper {
 
 			//transformer.setOutputProperty( OutputKeys.METHOD, "xml" ); // Automatically inferred by TransformerFactory.
 
-			if(_node.getOwnerDocument() != null) {
+			if(_node.getOwnerDocument() != null || options.contains(XmlOutputOption.OMIT_XML_DECLARATION)) {
 
 				// Omit XML Declaration, because the given node is not a Document.
 				transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
 			}
 
-			if(_prettyPrint) {
+			if(options.contains(XmlOutputOption.PRETTY_PRINT)) {
 
 				transformer.setOutputProperty(OutputKeys.INDENT, "yes");
 				transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
@@ -841,22 +985,168 @@ public final class XmlDocumentHelper {
 				//transformer.setOutputProperty( SaxonOutputKeys.INDENT_SPACES, "2" ); // Cannot be used as it requires a Saxon License.
 			}
 
-			transformer.transform(new DOMSource(_node), result);
+			transformer.transform(new DOMSource(_node), new StreamResult(writer));
 		}
 		catch(TransformerException e) {
 			throw new XmlException("Error parsing XML Document to String!", e);
 		}
 
-		toString = result.getWriter().toString();
-
 		// TransformerFactory escapes &s by default.
 		// But we want to defeat this as to display exactly what is in the XML file/String.
 		// Note: We already preserve XML Entities on Document creation.
-		toString = toString.replaceAll("&amp;", "&");
+		writer.flush();
 
-		LOGGER.debug("toString(_node: {}, _prettyPrint: {}) [END]", toString, _prettyPrint);
+		LOGGER.debug("writeTo(_node, Writer, _options: {}) [END]", Arrays.toString(_options));
+	}
 
-		return toString;
+	/**
+	 * Gets the Namespaces declared on the Root Element of the given Document; so that XPaths do not have to declare them.
+	 *
+	 * @param _document
+	 * 		The Document to get the Root Namespaces of.
+	 *
+	 * @return The Namespace URIs, keyed by prefix ("" for the Default Namespace).
+	 */
+	static Map<String, String> getRootNamespaces(Document _document) {
+
+		//------------------------ Pre-Checks ----------------------------------
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		Map<String, String> namespaces = new LinkedHashMap<>();
+		Node rootNode;
+
+		//------------------------ Code ----------------------------------------
+		if((rootNode = _document.getFirstChild()) != null) {
+
+			NamedNodeMap rootAttributes = rootNode.getAttributes();
+			if(rootAttributes != null) {
+				for(int i = 0; i < rootAttributes.getLength(); i++) {
+
+					Node rootAttribute = rootAttributes.item(i);
+
+					String prefix = rootAttribute.getPrefix();
+					String localName = rootAttribute.getLocalName();
+					if(prefix == null) { // May be Default Namespace.
+						if(localName != null && localName.equalsIgnoreCase("xmlns")) { // Is Default Namespace?
+							namespaces.put("", rootAttribute.getNodeValue());
+						}
+					}
+					else if(prefix.equalsIgnoreCase("xmlns")) {
+						namespaces.put(localName, rootAttribute.getNodeValue());
+					}
+				}
+			}
+		}
+
+		return namespaces;
+	}
+
+	/**
+	 * Parses the given HTML with Jsoup's XML parser, checks that it has exactly 1 root element, and closes any unclosed Void Elements.
+	 *
+	 * @param _html The HTML {@link String} to parse. (Must not be blank.)
+	 * @param _preserveCase {@code true} to keep the case of tags and attributes; {@code false} to convert them to lower case.
+	 *
+	 * @return The parsed (and fixed) Jsoup Document.
+	 *
+	 * @throws XmlException If the given HTML {@link String} cannot be parsed or does not have exactly 1 root element.
+	 */
+	static org.jsoup.nodes.Document parseHtml(String _html, boolean _preserveCase) {
+
+		//------------------------ Pre-Checks ----------------------------------
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		org.jsoup.nodes.Document jsoupDocument;
+		int rootElements = 0, rootText = 0;
+
+		//------------------------ Code ----------------------------------------
+		try {
+			jsoupDocument = Jsoup.parse(_html, "", Parser.xmlParser().settings(new ParseSettings(_preserveCase, _preserveCase)));
+		}
+		catch(Exception e) {
+			throw new XmlException("The given HTML String could not be parsed!", e);
+		}
+
+		for(org.jsoup.nodes.Node node : jsoupDocument.childNodes()) {
+			if(node instanceof org.jsoup.nodes.Element) {
+				rootElements++;
+			}
+			else if(node instanceof TextNode && !((TextNode) node).isBlank()) {
+				rootText++;
+			}
+		}
+
+		if(rootElements < 1) {
+			throw new XmlException("The given HTML String could not be parsed!\n\tHTML String: " + _html);
+		}
+		else if(rootElements + rootText > 1) {
+			throw new XmlException("The given HTML String has multiple root elements! (It is required to have only 1.)!\n\tHTML String: " + _html);
+		}
+
+		closeVoidElements(jsoupDocument);
+
+		return jsoupDocument;
+	}
+
+	/**
+	 * The XML parser does not know that HTML Void Elements (i.e. {@code <br>}) have no end tag;
+	 * so it puts everything that follows an unclosed one (up to its parent's end tag) inside of it.
+	 * This moves that content back out, to just after the Void Element.
+	 *
+	 * @param _node The Jsoup Node to fix the descendants of.
+	 */
+	private static void closeVoidElements(org.jsoup.nodes.Node _node) {
+
+		for(int i = 0; i < _node.childNodeSize(); i++) {
+
+			org.jsoup.nodes.Node child = _node.childNode(i);
+			if(!(child instanceof org.jsoup.nodes.Element)) {
+				continue;
+			}
+
+			if(child.childNodeSize() > 0 && HTML_VOID_ELEMENTS.contains(((org.jsoup.nodes.Element) child).normalName())) {
+
+				// Moved (in reverse) to be the next siblings, where this loop will get to them.
+				List<org.jsoup.nodes.Node> content = new ArrayList<>(child.childNodes());
+				for(int j = content.size() - 1; j >= 0; j--) {
+					child.after(content.get(j));
+				}
+			}
+			else {
+				closeVoidElements(child);
+			}
+		}
+	}
+
+	/**
+	 * Reads and parses the given XML File, without going through the {@link #documentCache}.
+	 *
+	 * @throws IllegalArgumentException If the given File is {@code null}, does not exist, is a directory, or is unreadable.
+	 * @throws XmlException If there was a problem with conversion.
+	 */
+	static Document parse(File _xmlFile) {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.fileExists(_xmlFile, "XML");
+
+		//noinspection ConstantConditions
+		if(!_xmlFile.canRead()) {
+			throw new IllegalArgumentException( "Given File " + _xmlFile.getAbsolutePath() + " is unreadable!" );
+		}
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		String xmlString  = StringHelper.toString( _xmlFile );
+
+		//------------------------ Code ----------------------------------------
+		// TransformerFactory un-escapes all XML Entities by default.
+		// getDocumentFrom( String ) will first double escape them to preserve them.
+		return getDocumentFrom( xmlString );
 	}
 
 	//========================= CONSTANTS ======================================
@@ -868,4 +1158,114 @@ public final class XmlDocumentHelper {
 	//========================= Methods ========================================
 
 	//========================= Classes ========================================
+	/**
+	 * Writes {@code &amp;} as {@code &}, as it streams through. (Matches that are split across writes are still found.)
+	 */
+	private static final class AmpersandUnescapingWriter extends FilterWriter {
+
+		private static final char[] AMPERSAND_ENTITY = "&amp;".toCharArray();
+
+		/**
+		 * How many characters of {@link #AMPERSAND_ENTITY} have been held back, so far.
+		 */
+		private int matched = 0;
+
+		AmpersandUnescapingWriter(Writer _writer) {
+			super(_writer);
+		}
+
+		@Override
+		public void write(int _c) throws IOException {
+			write(new char[]{(char) _c}, 0, 1);
+		}
+
+		@Override
+		public void write(String _string, int _offset, int _length) throws IOException {
+			write(_string.toCharArray(), _offset, _length);
+		}
+
+		@Override
+		public void write(char[] _chars, int _offset, int _length) throws IOException {
+
+			int unchanged = _offset, end = _offset + _length;
+
+			for(int i = _offset; i < end; i++) {
+
+				char c = _chars[i];
+
+				if(matched > 0) {
+					if(c == AMPERSAND_ENTITY[matched]) {
+						if(++matched == AMPERSAND_ENTITY.length) {
+							out.write('&');
+							matched = 0;
+						}
+						unchanged = i + 1;
+						continue;
+					}
+
+					// Not "&amp;" after all; let go of what was held back.
+					out.write(AMPERSAND_ENTITY, 0, matched);
+					matched = 0;
+					unchanged = i;
+				}
+
+				if(c == '&') {
+					out.write(_chars, unchanged, i - unchanged);
+					matched = 1;
+					unchanged = i + 1;
+				}
+			}
+
+			out.write(_chars, unchanged, end - unchanged);
+		}
+
+		@Override
+		public void flush() throws IOException {
+
+			if(matched > 0) {
+				out.write(AMPERSAND_ENTITY, 0, matched);
+				matched = 0;
+			}
+
+			out.flush();
+		}
+	}
+
+	/**
+	 * Keeps, at most, the first N characters written to it; and then throws an {@link IOException}, to stop the writing.
+	 */
+	private static final class CappedWriter extends Writer {
+
+		private final StringBuilder BUILDER = new StringBuilder();
+		private final int MAX_LENGTH;
+
+		CappedWriter(int _maxLength) {
+			MAX_LENGTH = _maxLength;
+		}
+
+		boolean isFull() {
+			return BUILDER.length() >= MAX_LENGTH;
+		}
+
+		@Override
+		public void write(char[] _chars, int _offset, int _length) throws IOException {
+
+			if(isFull()) {
+				throw new IOException("Max Length (" + MAX_LENGTH + ") reached.");
+			}
+
+			BUILDER.append(_chars, _offset, Math.min(_length, MAX_LENGTH - BUILDER.length()));
+		}
+
+		@Override
+		public void flush() { }
+
+		@Override
+		public void close() { }
+
+		@Override
+		public String toString() {
+			return BUILDER.toString();
+		}
+	}
 }
@@ -0,0 +1,1087 @@
+package xyz.swatt.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import xyz.swatt.asserts.ArgumentChecks;
+import xyz.swatt.exceptions.TooManyResultsException;
+import xyz.swatt.exceptions.XmlException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * A random-access index of repeating Elements in a (large) XML File, keyed by an Attribute or Child Element value.
+ * <p>
+ *     The File is scanned once (as raw bytes, without being parsed) to record the byte offset and length of each indexed Element.
+ *     Each lookup then reads just the addressed fragment and parses it into its own {@link Document};
+ *     instead of re-parsing the whole File with {@link XmlDocumentHelper#getDocumentFrom(File)}.
+ * </p>
+ * <p>
+ *     The index is persisted next to the XML File (as "&lt;file name&gt;.&lt;element&gt;@&lt;attribute&gt;{@value #INDEX_FILE_EXTENSION}"
+ *     or "&lt;file name&gt;.&lt;element&gt;.&lt;child element&gt;{@value #INDEX_FILE_EXTENSION}"), and is reused
+ *     (by later tests and runs) for as long as the XML File's size, last modified time, and (sampled) hash have not changed.
+ *     If the XML File changes while an index is in use, it is rebuilt on the next lookup.
+ * </p>
+ * <p>
+ *     <i>Notes:</i>
+ * </p>
+ * <ul>
+ *     <li>Element names are matched on local name alone (any prefix).</li>
+ *     <li>Elements nested inside an indexed Element are not indexed themselves.</li>
+ *     <li>The Namespaces declared on the ancestors of the first indexed Element are added to every fragment, so that they parse on their own.</li>
+ *     <li>Only ASCII compatible encodings (i.e. UTF-8 or ISO-8859-1) are supported.</li>
+ * </ul>
+ * <p>
+ *     Instances are thread safe.
+ * </p>
+ *
+ * @see StreamingXPath
+ */
+public final class XmlElementIndex {
+
+	//========================= Static Enums ===================================
+	/**
+	 * What an indexed Element is keyed by.
+	 */
+	public enum KeyType {
+		/**
+		 * The value of an Attribute, on the indexed Element.
+		 */
+		ATTRIBUTE,
+		/**
+		 * The text of the first direct Child Element, with the given name.
+		 */
+		CHILD_ELEMENT
+	}
+
+	//========================= STATIC CONSTANTS ===============================
+	private static final Logger LOGGER = LogManager.getLogger(XmlElementIndex.class);
+
+	/**
+	 * The extension added to the XML File's name, for its persisted index.
+	 */
+	public static final String INDEX_FILE_EXTENSION = ".swatt-idx";
+
+	private static final int INDEX_FILE_MAGIC = 0x53574958; // "SWIX"
+	private static final int INDEX_FILE_VERSION = 1;
+
+	/**
+	 * How many bytes, from the start and end of the XML File, are hashed to validate a persisted index.
+	 */
+	private static final int HASH_SAMPLE_SIZE = 64 * 1024;
+
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	private static final Pattern ENCODING_PATTERN = Pattern.compile("encoding\\s*=\\s*[\"']([A-Za-z0-9._:-]+)[\"']");
+	private static final Pattern ENTITY_PATTERN = Pattern.compile("&(#x[0-9a-fA-F]+|#[0-9]+|lt|gt|amp|quot|apos);");
+
+	//========================= Static Variables ===============================
+
+	//========================= Static Constructor =============================
+	static { }
+
+	//========================= Static Methods =================================
+	/**
+	 * Indexes the given Elements, by one of their Attributes. (i.e. {@code <record id="123">})
+	 * <p>A persisted index is reused, if it is still valid; otherwise the File is scanned (and the index persisted).</p>
+	 *
+	 * @param _xmlFile
+	 * 		The XML File to index.
+	 * @param _elementName
+	 * 		The local name of the repeating Elements to index.
+	 * @param _attributeName
+	 * 		The local name of the Attribute to key them by. (Elements without the Attribute are not indexed.)
+	 *
+	 * @return The index of the given File.
+	 *
+	 * @throws IllegalArgumentException If the File does not exist, or either name is blank.
+	 * @throws XmlException If the File could not be read, or is not in an ASCII compatible encoding.
+	 */
+	public static XmlElementIndex byAttribute(File _xmlFile, String _elementName, String _attributeName) {
+
+		LOGGER.info("byAttribute(_xmlFile: {}, _elementName: {}, _attributeName: {}) [START]", _xmlFile, _elementName, _attributeName);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.fileExists(_xmlFile, "XML");
+		ArgumentChecks.stringNotBlank(_elementName, "Element Name");
+		ArgumentChecks.stringNotBlank(_attributeName, "Attribute Name");
+
+		//------------------------ Code ----------------------------------------
+		XmlElementIndex index = new XmlElementIndex(_xmlFile, _elementName, KeyType.ATTRIBUTE, _attributeName);
+
+		LOGGER.debug("byAttribute(_xmlFile: {}, _elementName: {}, _attributeName: {}) [END]", _xmlFile, _elementName, _attributeName);
+
+		return index;
+	}
+
+	/**
+	 * Indexes the given Elements, by the text of one of their Child Elements. (i.e. {@code <record><id>123</id>...</record>})
+	 * <p>A persisted index is reused, if it is still valid; otherwise the File is scanned (and the index persisted).</p>
+	 *
+	 * @param _xmlFile
+	 * 		The XML File to index.
+	 * @param _elementName
+	 * 		The local name of the repeating Elements to index.
+	 * @param _childElementName
+	 * 		The local name of the direct Child Element to key them by. (Elements without the Child are not indexed.)
+	 *
+	 * @return The index of the given File.
+	 *
+	 * @throws IllegalArgumentException If the File does not exist, or either name is blank.
+	 * @throws XmlException If the File could not be read, or is not in an ASCII compatible encoding.
+	 */
+	public static XmlElementIndex byChildElement(File _xmlFile, String _elementName, String _childElementName) {
+
+		LOGGER.info("byChildElement(_xmlFile: {}, _elementName: {}, _childElementName: {}) [START]", _xmlFile, _elementName, _childElementName);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.fileExists(_xmlFile, "XML");
+		ArgumentChecks.stringNotBlank(_elementName, "Element Name");
+		ArgumentChecks.stringNotBlank(_childElementName, "Child Element Name");
+
+		//------------------------ Code ----------------------------------------
+		XmlElementIndex index = new XmlElementIndex(_xmlFile, _elementName, KeyType.CHILD_ELEMENT, _childElementName);
+
+		LOGGER.debug("byChildElement(_xmlFile: {}, _elementName: {}, _childElementName: {}) [END]", _xmlFile, _elementName, _childElementName);
+
+		return index;
+	}
+
+	/**
+	 * @return The given (qualified) name, without its prefix.
+	 */
+	private static String localName(String _name) {
+
+		int colon = _name.indexOf(':');
+
+		return colon < 0 ? _name : _name.substring(colon + 1);
+	}
+
+	/**
+	 * @return The given XML text, with the predefined and numeric Entities resolved.
+	 */
+	private static String unescape(String _text) {
+
+		if(_text.indexOf('&') < 0) {
+			return _text;
+		}
+
+		Matcher matcher = ENTITY_PATTERN.matcher(_text);
+		StringBuffer unescaped = new StringBuffer(_text.length());
+		while(matcher.find()) {
+
+			String entity = matcher.group(1), replacement;
+			switch(entity) {
+				case "lt": replacement = "<"; break;
+				case "gt": replacement = ">"; break;
+				case "amp": replacement = "&"; break;
+				case "quot": replacement = "\""; break;
+				case "apos": replacement = "'"; break;
+				default:
+					int codePoint = entity.startsWith("#x") ? Integer.parseInt(entity.substring(2), 16) : Integer.parseInt(entity.substring(1));
+					replacement = new String(Character.toChars(codePoint));
+			}
+
+			matcher.appendReplacement(unescaped, Matcher.quoteReplacement(replacement));
+		}
+		matcher.appendTail(unescaped);
+
+		return unescaped.toString();
+	}
+
+	/**
+	 * Parses the Attributes out of the given Start Tag content. (The text between the Element name and the closing "&gt;".)
+	 *
+	 * @return The Attribute values (not unescaped), keyed by qualified name.
+	 */
+	private static Map<String, String> parseAttributes(String _attributes) {
+
+		Map<String, String> attributes = new LinkedHashMap<>();
+
+		int index = 0, length = _attributes.length();
+		while(index < length) {
+
+			while(index < length && (Character.isWhitespace(_attributes.charAt(index)) || _attributes.charAt(index) == '/')) {
+				index++;
+			}
+
+			int nameStart = index;
+			while(index < length && _attributes.charAt(index) != '=' && !Character.isWhitespace(_attributes.charAt(index))) {
+				index++;
+			}
+			String name = _attributes.substring(nameStart, index);
+
+			while(index < length && _attributes.charAt(index) != '"' && _attributes.charAt(index) != '\'') {
+				index++;
+			}
+			if(index >= length) {
+				break;
+			}
+
+			char quote = _attributes.charAt(index);
+			int valueEnd = _attributes.indexOf(quote, index + 1);
+			if(valueEnd < 0) {
+				break;
+			}
+
+			attributes.put(name, _attributes.substring(index + 1, valueEnd));
+			index = valueEnd + 1;
+		}
+
+		return attributes;
+	}
+
+	/**
+	 * @return A CRC32 of the first and last {@value #HASH_SAMPLE_SIZE} bytes of the given File.
+	 */
+	private static long sampleHash(File _file) throws IOException {
+
+		CRC32 crc32 = new CRC32();
+
+		try(RandomAccessFile randomAccessFile = new RandomAccessFile(_file, "r")) {
+
+			long length = randomAccessFile.length();
+			byte[] sample = new byte[(int) Math.min(HASH_SAMPLE_SIZE, length)];
+
+			randomAccessFile.readFully(sample);
+			crc32.update(sample);
+
+			if(length > HASH_SAMPLE_SIZE) {
+				randomAccessFile.seek(Math.max(HASH_SAMPLE_SIZE, length - HASH_SAMPLE_SIZE));
+				sample = new byte[(int) (length - randomAccessFile.getFilePointer())];
+				randomAccessFile.readFully(sample);
+				crc32.update(sample);
+			}
+		}
+
+		return crc32.getValue();
+	}
+
+	private static void writeString(DataOutputStream _output, String _string) throws IOException {
+
+		byte[] bytes = _string.getBytes(StandardCharsets.UTF_8);
+
+		_output.writeInt(bytes.length);
+		_output.write(bytes);
+	}
+
+	private static String readString(DataInputStream _input) throws IOException {
+
+		byte[] bytes = new byte[_input.readInt()];
+		_input.readFully(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	//========================= CONSTANTS ======================================
+	/**
+	 * The indexed XML File.
+	 */
+	public final File XML_FILE;
+	/**
+	 * The persisted index, next to the {@link #XML_FILE}. (One per Element/key combination.)
+	 */
+	public final File INDEX_FILE;
+	/**
+	 * The local name of the indexed Elements.
+	 */
+	public final String ELEMENT_NAME;
+	/**
+	 * What the indexed Elements are keyed by.
+	 */
+	public final KeyType KEY_TYPE;
+	/**
+	 * The local name of the Attribute or Child Element, that the indexed Elements are keyed by.
+	 */
+	public final String KEY_NAME;
+
+	//========================= Variables ======================================
+	/**
+	 * The current index; replaced (not modified) when the XML File changes.
+	 */
+	private volatile IndexData indexData;
+
+	//========================= Constructors ===================================
+	/**
+	 * Loads the persisted index, if it is still valid; otherwise scans the given File (and persists the index).
+	 */
+	private XmlElementIndex(File _xmlFile, String _elementName, KeyType _keyType, String _keyName) {
+
+		super();
+
+		XML_FILE = _xmlFile.getAbsoluteFile();
+		ELEMENT_NAME = localName(_elementName);
+		KEY_TYPE = _keyType;
+		KEY_NAME = localName(_keyName);
+		INDEX_FILE = new File(XML_FILE.getPath() + "." + ELEMENT_NAME + (KEY_TYPE == KeyType.ATTRIBUTE ? "@" : ".") + KEY_NAME + INDEX_FILE_EXTENSION);
+
+		indexData = loadOrBuild();
+	}
+
+	//========================= Methods ========================================
+	/**
+	 * @param _key
+	 * 		The key to look for.
+	 *
+	 * @return {@code true}, if at least 1 Element has the given key.
+	 */
+	public boolean containsKey(String _key) {
+		return currentIndexData().ENTRIES.containsKey(_key);
+	}
+
+	/**
+	 * Parses the (single) Element with the given key, into its own {@link Document}.
+	 *
+	 * @param _key
+	 * 		The key of the Element to get.
+	 *
+	 * @return The Element, as the Root of a new Document; or {@code null}, if no Element has the given key.
+	 *
+	 * @throws IllegalArgumentException If the given key is {@code null}.
+	 * @throws TooManyResultsException If more than 1 Element has the given key.
+	 * @throws XmlException If the fragment could not be read or parsed.
+	 */
+	public Document getDocument(String _key) {
+
+		LOGGER.info("getDocument(_key: {}) [START]", _key);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_key, "Key");
+
+		//------------------------ Variables -----------------------------------
+		IndexData data = currentIndexData();
+		long[] fragments = data.ENTRIES.get(_key);
+
+		//------------------------ Code ----------------------------------------
+		if(fragments != null && fragments.length > 2) {
+			throw new TooManyResultsException("Only 1 Element expected for key (" + _key + "), but " + fragments.length / 2 + " were found!");
+		}
+
+		Document document = fragments == null ? null : XmlDocumentHelper.getDocumentFrom(readFragment(data, fragments[0], (int) fragments[1]));
+
+		LOGGER.debug("getDocument(_key: {}) [END]", _key);
+
+		return document;
+	}
+
+	/**
+	 * Parses all of the Elements with the given key, each into their own {@link Document}.
+	 *
+	 * @param _key
+	 * 		The key of the Elements to get.
+	 *
+	 * @return The Elements (in File order), as the Roots of new Documents; or an Empty List, if no Element has the given key.
+	 *
+	 * @throws IllegalArgumentException If the given key is {@code null}.
+	 * @throws XmlException If a fragment could not be read or parsed.
+	 */
+	public List<Document> getDocuments(String _key) {
+
+		LOGGER.info("getDocuments(_key: {}) [START]", _key);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_key, "Key");
+
+		//------------------------ Variables -----------------------------------
+		IndexData data = currentIndexData();
+		long[] fragments = data.ENTRIES.get(_key);
+
+		List<Document> documents = new ArrayList<>();
+
+		//------------------------ Code ----------------------------------------
+		if(fragments != null) {
+			for(int i = 0; i < fragments.length; i += 2) {
+				documents.add(XmlDocumentHelper.getDocumentFrom(readFragment(data, fragments[i], (int) fragments[i + 1])));
+			}
+		}
+
+		LOGGER.debug("getDocuments(_key: {}) [END]", _key);
+
+		return documents;
+	}
+
+	/**
+	 * @return All of the keys in this index, in File order.
+	 */
+	public Set<String> getKeys() {
+		return Collections.unmodifiableSet(currentIndexData().ENTRIES.keySet());
+	}
+
+	/**
+	 * @return The number of (distinct) keys in this index.
+	 */
+	public int size() {
+		return currentIndexData().ENTRIES.size();
+	}
+
+	@Override
+	public String toString() {
+		return "XmlElementIndex{" + XML_FILE.getPath() + ", " + ELEMENT_NAME + " by " + KEY_TYPE + " " + KEY_NAME + "}";
+	}
+
+	//////////////////// Helper Methods ////////////////////
+	/**
+	 * @return The current index; rebuilt first, if the XML File has changed since it was built.
+	 */
+	private IndexData currentIndexData() {
+
+		IndexData data = indexData;
+		if(data.FILE_LENGTH == XML_FILE.length() && data.LAST_MODIFIED == XML_FILE.lastModified()) {
+			return data;
+		}
+
+		synchronized(this) {
+			if(indexData == data) {
+				LOGGER.info("XML File ({}) changed since it was indexed; rebuilding index.", XML_FILE.getPath());
+				indexData = loadOrBuild();
+			}
+			return indexData;
+		}
+	}
+
+	/**
+	 * @return The persisted index, if it is still valid; otherwise a new (persisted) index.
+	 */
+	private IndexData loadOrBuild() {
+
+		//------------------------ Variables -----------------------------------
+		long fileLength = XML_FILE.length(), lastModified = XML_FILE.lastModified(), hash;
+		IndexData data;
+
+		//------------------------ Code ----------------------------------------
+		try {
+			hash = sampleHash(XML_FILE);
+		}
+		catch(IOException e) {
+			throw new XmlException("Could not read XML File: " + XML_FILE.getAbsolutePath() + "!", e);
+		}
+
+		if(INDEX_FILE.isFile()) {
+			try {
+				data = load(fileLength, lastModified, hash);
+				if(data != null) {
+					LOGGER.debug("Reusing persisted index: {}", INDEX_FILE.getPath());
+					return data;
+				}
+			}
+			catch(IOException | RuntimeException e) {
+				LOGGER.warn("Could not read persisted index (" + INDEX_FILE.getPath() + "); rebuilding it.", e);
+			}
+		}
+
+		data = new ByteScanner(fileLength, lastModified, hash).scan();
+
+		try {
+			persist(data);
+		}
+		catch(IOException e) { // The index still works; it just has to be rebuilt next time.
+			LOGGER.warn("Could not persist index: " + INDEX_FILE.getPath(), e);
+		}
+
+		return data;
+	}
+
+	/**
+	 * @return The persisted index; or {@code null}, if it is for a different version of the XML File, or a different Element/key.
+	 */
+	private IndexData load(long _fileLength, long _lastModified, long _hash) throws IOException {
+
+		try(DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(INDEX_FILE), READ_BUFFER_SIZE))) {
+
+			if(input.readInt() != INDEX_FILE_MAGIC || input.readInt() != INDEX_FILE_VERSION
+					|| input.readLong() != _fileLength || input.readLong() != _lastModified || input.readLong() != _hash
+					|| input.readByte() != KEY_TYPE.ordinal() || !readString(input).equals(ELEMENT_NAME) || !readString(input).equals(KEY_NAME)) {
+				return null;
+			}
+
+			Charset charset = Charset.forName(readString(input));
+
+			Map<String, String> namespaces = new LinkedHashMap<>();
+			for(int i = input.readInt(); i > 0; i--) {
+				namespaces.put(readString(input), readString(input));
+			}
+
+			int entryCount = input.readInt();
+			Map<String, long[]> entries = new LinkedHashMap<>(entryCount * 4 / 3 + 1);
+			for(int i = 0; i < entryCount; i++) {
+
+				String key = readString(input);
+				long[] fragments = new long[input.readInt() * 2];
+				for(int j = 0; j < fragments.length; j += 2) {
+					fragments[j] = input.readLong();
+					fragments[j + 1] = input.readInt();
+				}
+
+				entries.put(key, fragments);
+			}
+
+			return new IndexData(_fileLength, _lastModified, _hash, charset, namespaces, entries);
+		}
+	}
+
+	/**
+	 * Writes the given index next to the XML File. (To a temporary File first, so that a partial index is never read.)
+	 */
+	private void persist(IndexData _data) throws IOException {
+
+		File tempFile = new File(INDEX_FILE.getPath() + ".tmp");
+
+		try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile), READ_BUFFER_SIZE))) {
+
+			output.writeInt(INDEX_FILE_MAGIC);
+			output.writeInt(INDEX_FILE_VERSION);
+			output.writeLong(_data.FILE_LENGTH);
+			output.writeLong(_data.LAST_MODIFIED);
+			output.writeLong(_data.HASH);
+			output.writeByte(KEY_TYPE.ordinal());
+			writeString(output, ELEMENT_NAME);
+			writeString(output, KEY_NAME);
+			writeString(output, _data.CHARSET.name());
+
+			output.writeInt(_data.NAMESPACES.size());
+			for(Map.Entry<String, String> namespace : _data.NAMESPACES.entrySet()) {
+				writeString(output, namespace.getKey());
+				writeString(output, namespace.getValue());
+			}
+
+			output.writeInt(_data.ENTRIES.size());
+			for(Map.Entry<String, long[]> entry : _data.ENTRIES.entrySet()) {
+
+				writeString(output, entry.getKey());
+
+				long[] fragments = entry.getValue();
+				output.writeInt(fragments.length / 2);
+				for(int i = 0; i < fragments.length; i += 2) {
+					output.writeLong(fragments[i]);
+					output.writeInt((int) fragments[i + 1]);
+				}
+			}
+		}
+
+		Files.move(tempFile.toPath(), INDEX_FILE.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Reads the given fragment of the XML File, and decodes it; with the ancestor Namespaces added to its Start Tag.
+	 */
+	private String readFragment(IndexData _data, long _offset, int _length) {
+
+		//------------------------ Variables -----------------------------------
+		ByteBuffer buffer = ByteBuffer.allocate(_length);
+		String fragment;
+
+		//------------------------ Code ----------------------------------------
+		try(FileChannel fileChannel = FileChannel.open(XML_FILE.toPath(), StandardOpenOption.READ)) {
+
+			while(buffer.hasRemaining()) {
+				if(fileChannel.read(buffer, _offset + buffer.position()) < 0) {
+					throw new EOFException("The XML File ends before its indexed Element does.");
+				}
+			}
+			fragment = new String(buffer.array(), 0, _length, _data.CHARSET);
+		}
+		catch(IOException e) {
+			throw new XmlException("Could not read XML File: " + XML_FILE.getAbsolutePath() + "!", e);
+		}
+
+		if(_data.NAMESPACES.isEmpty()) {
+			return fragment;
+		}
+
+		int nameEnd = 1;
+		while(nameEnd < fragment.length() && !Character.isWhitespace(fragment.charAt(nameEnd))
+				&& fragment.charAt(nameEnd) != '/' && fragment.charAt(nameEnd) != '>') {
+			nameEnd++;
+		}
+
+		Map<String, String> declared = parseAttributes(fragment.substring(nameEnd, startTagEnd(fragment)));
+		StringBuilder declarations = new StringBuilder();
+		for(Map.Entry<String, String> namespace : _data.NAMESPACES.entrySet()) {
+			if(!declared.containsKey(namespace.getKey())) {
+				declarations.append(' ').append(namespace.getKey()).append("=\"").append(namespace.getValue()).append('"');
+			}
+		}
+
+		return fragment.substring(0, nameEnd) + declarations + fragment.substring(nameEnd);
+	}
+
+	/**
+	 * @return The index of the "&gt;" that ends the given fragment's Start Tag.
+	 */
+	private int startTagEnd(String _fragment) {
+
+		char quote = 0;
+		for(int i = 0; i < _fragment.length(); i++) {
+
+			char c = _fragment.charAt(i);
+			if(quote != 0) {
+				if(c == quote) {
+					quote = 0;
+				}
+			}
+			else if(c == '"' || c == '\'') {
+				quote = c;
+			}
+			else if(c == '>') {
+				return i;
+			}
+		}
+
+		return _fragment.length();
+	}
+
+	//========================= Classes ========================================
+	/**
+	 * An immutable snapshot of the index, for one version of the XML File.
+	 */
+	private static final class IndexData {
+
+		final long FILE_LENGTH, LAST_MODIFIED, HASH;
+		final Charset CHARSET;
+		/**
+		 * The ancestor Namespace declarations, keyed by Attribute name (i.e. "xmlns" or "xmlns:p"), with raw values.
+		 */
+		final Map<String, String> NAMESPACES;
+		/**
+		 * Offset/length pairs, keyed by the Element key.
+		 */
+		final Map<String, long[]> ENTRIES;
+
+		IndexData(long _fileLength, long _lastModified, long _hash, Charset _charset, Map<String, String> _namespaces, Map<String, long[]> _entries) {
+			FILE_LENGTH = _fileLength;
+			LAST_MODIFIED = _lastModified;
+			HASH = _hash;
+			CHARSET = _charset;
+			NAMESPACES = _namespaces;
+			ENTRIES = _entries;
+		}
+	}
+
+	/**
+	 * Scans the XML File's bytes (once) for the indexed Elements.
+	 * <p>
+	 *     This is not a validating parser. It only understands enough markup (Tags, Comments, CDATA, Processing Instructions and DOCTYPEs)
+	 *     to track Element depth and byte offsets.
+	 * </p>
+	 */
+	private final class ByteScanner {
+
+		final long FILE_LENGTH, LAST_MODIFIED, HASH;
+
+		final byte[] BUFFER = new byte[READ_BUFFER_SIZE];
+		InputStream input;
+		int bufferLength = 0, bufferIndex = 0;
+		/**
+		 * The File offset of the next byte to be read.
+		 */
+		long position = 0;
+
+		Charset charset = StandardCharsets.UTF_8;
+		final ByteArrayOutputStream BYTES = new ByteArrayOutputStream();
+
+		int depth = 0;
+
+		/**
+		 * Namespace declarations per open Element; only tracked until the first indexed Element is found.
+		 */
+		final Deque<Map<String, String>> NAMESPACE_STACK = new ArrayDeque<>();
+		Map<String, String> namespaces = null;
+
+		long elementStart = -1;
+		int elementDepth;
+		String key;
+		/**
+		 * The depth of the Child Element whose text is the key; or -1, if not in it.
+		 */
+		int keyChildDepth = -1;
+		final StringBuilder KEY_TEXT = new StringBuilder();
+		final ByteArrayOutputStream KEY_BYTES = new ByteArrayOutputStream();
+
+		final Map<String, long[]> ENTRIES = new LinkedHashMap<>();
+
+		ByteScanner(long _fileLength, long _lastModified, long _hash) {
+			FILE_LENGTH = _fileLength;
+			LAST_MODIFIED = _lastModified;
+			HASH = _hash;
+		}
+
+		IndexData scan() {
+
+			LOGGER.info("Indexing {} Elements, by {} {}, in: {}", ELEMENT_NAME, KEY_TYPE, KEY_NAME, XML_FILE.getPath());
+
+			try(InputStream inputStream = new FileInputStream(XML_FILE)) {
+
+				input = inputStream;
+				readByteOrderMark();
+
+				int b;
+				while((b = read()) != -1) {
+					if(b == '<') {
+						markup(position - 1);
+					}
+					else if(keyChildDepth >= 0) {
+						KEY_BYTES.write(b);
+					}
+				}
+			}
+			catch(IOException e) {
+				throw new XmlException("Could not read XML File: " + XML_FILE.getAbsolutePath() + "!", e);
+			}
+
+			LOGGER.info("Indexed {} keys, in: {}", ENTRIES.size(), XML_FILE.getPath());
+
+			return new IndexData(FILE_LENGTH, LAST_MODIFIED, HASH, charset, namespaces == null ? Collections.emptyMap() : namespaces, ENTRIES);
+		}
+
+		/**
+		 * Skips a UTF-8 Byte Order Mark; and rejects UTF-16/32.
+		 */
+		void readByteOrderMark() throws IOException {
+
+			fill();
+			if(bufferLength >= 3 && (BUFFER[0] & 0xFF) == 0xEF && (BUFFER[1] & 0xFF) == 0xBB && (BUFFER[2] & 0xFF) == 0xBF) {
+				bufferIndex = 3;
+				position = 3;
+			}
+			else if(bufferLength >= 2 && (((BUFFER[0] & 0xFF) == 0xFE && (BUFFER[1] & 0xFF) == 0xFF)
+					|| ((BUFFER[0] & 0xFF) == 0xFF && (BUFFER[1] & 0xFF) == 0xFE) || BUFFER[0] == 0 || BUFFER[1] == 0)) {
+				throw new XmlException("Only ASCII compatible encodings (i.e. UTF-8) can be indexed: " + XML_FILE.getAbsolutePath());
+			}
+		}
+
+		/**
+		 * Handles the markup that starts at the given offset (just after its "&lt;").
+		 */
+		void markup(long _start) throws IOException {
+
+			int b = read();
+			if(b == '!') {
+				if(skipIfNext("--")) {
+					skipUntil("-->");
+				}
+				else if(skipIfNext("[CDATA[")) {
+					cdata();
+				}
+				else {
+					doctype();
+				}
+			}
+			else if(b == '?') {
+				processingInstruction(_start);
+			}
+			else if(b == '/') {
+				readUntil('>');
+				endTag();
+			}
+			else if(b != -1) {
+				BYTES.reset();
+				BYTES.write(b);
+				startTag(_start);
+			}
+		}
+
+		void startTag(long _start) throws IOException {
+
+			//------------------------ Variables -----------------------------------
+			int b;
+			boolean selfClosing;
+
+			//------------------------ Code ----------------------------------------
+			// Read the whole Tag, minding quoted ">"s.
+			int quote = 0, last = 0;
+			while((b = read()) != -1) {
+				if(quote != 0) {
+					if(b == quote) {
+						quote = 0;
+					}
+				}
+				else if(b == '"' || b == '\'') {
+					quote = b;
+				}
+				else if(b == '>') {
+					break;
+				}
+
+				BYTES.write(b);
+				if(!Character.isWhitespace(b)) {
+					last = b;
+				}
+			}
+			selfClosing = last == '/';
+
+			String tag = new String(BYTES.toByteArray(), charset);
+			int nameEnd = 0;
+			while(nameEnd < tag.length() && !Character.isWhitespace(tag.charAt(nameEnd)) && tag.charAt(nameEnd) != '/') {
+				nameEnd++;
+			}
+			String localName = localName(tag.substring(0, nameEnd));
+
+			if(namespaces == null) { // Still looking for the first indexed Element.
+				Map<String, String> declared = new LinkedHashMap<>();
+				if(tag.contains("xmlns")) {
+					for(Map.Entry<String, String> attribute : parseAttributes(tag.substring(nameEnd)).entrySet()) {
+						if(attribute.getKey().equals("xmlns") || attribute.getKey().startsWith("xmlns:")) {
+							declared.put(attribute.getKey(), attribute.getValue());
+						}
+					}
+				}
+				NAMESPACE_STACK.push(declared);
+			}
+
+			if(elementStart < 0 && localName.equals(ELEMENT_NAME)) {
+
+				elementStart = _start;
+				elementDepth = depth;
+				key = null;
+
+				if(namespaces == null) {
+					namespaces = new LinkedHashMap<>();
+					Iterator<Map<String, String>> innermostFirst = NAMESPACE_STACK.iterator();
+					innermostFirst.next(); // This Element's own declarations are already in its fragment.
+					while(innermostFirst.hasNext()) {
+						for(Map.Entry<String, String> namespace : innermostFirst.next().entrySet()) {
+							namespaces.putIfAbsent(namespace.getKey(), namespace.getValue());
+						}
+					}
+					NAMESPACE_STACK.clear();
+				}
+
+				if(KEY_TYPE == KeyType.ATTRIBUTE) {
+					for(Map.Entry<String, String> attribute : parseAttributes(tag.substring(nameEnd)).entrySet()) {
+						if(localName(attribute.getKey()).equals(KEY_NAME) && !attribute.getKey().startsWith("xmlns")) {
+							key = unescape(attribute.getValue());
+							break;
+						}
+					}
+				}
+			}
+			else if(elementStart >= 0 && KEY_TYPE == KeyType.CHILD_ELEMENT && key == null && keyChildDepth < 0
+					&& depth == elementDepth + 1 && localName.equals(KEY_NAME)) {
+
+				if(selfClosing) {
+					key = "";
+				}
+				else {
+					keyChildDepth = depth;
+					KEY_TEXT.setLength(0);
+					KEY_BYTES.reset();
+				}
+			}
+
+			if(selfClosing) {
+				if(namespaces == null) {
+					NAMESPACE_STACK.pop();
+				}
+				endElement();
+			}
+			else {
+				depth++;
+			}
+		}
+
+		void endTag() {
+
+			depth--;
+
+			if(namespaces == null && !NAMESPACE_STACK.isEmpty()) {
+				NAMESPACE_STACK.pop();
+			}
+
+			endElement();
+		}
+
+		/**
+		 * Called after an Element ends, at the current {@link #depth}.
+		 */
+		void endElement() {
+
+			if(keyChildDepth >= 0 && depth == keyChildDepth) {
+				flushKeyBytes();
+				key = KEY_TEXT.toString();
+				keyChildDepth = -1;
+			}
+
+			if(elementStart >= 0 && depth == elementDepth) {
+
+				if(key != null) {
+
+					long[] fragments = ENTRIES.get(key);
+					fragments = fragments == null ? new long[2] : Arrays.copyOf(fragments, fragments.length + 2);
+					fragments[fragments.length - 2] = elementStart;
+					fragments[fragments.length - 1] = position - elementStart;
+
+					if(fragments[fragments.length - 1] > Integer.MAX_VALUE) {
+						throw new XmlException("Element (" + ELEMENT_NAME + ") at offset " + elementStart + " is too large to be indexed!");
+					}
+
+					ENTRIES.put(key, fragments);
+				}
+
+				elementStart = -1;
+			}
+		}
+
+		void cdata() throws IOException {
+
+			flushKeyBytes();
+
+			BYTES.reset();
+
+			int matched = 0, b;
+			while((b = read()) != -1) {
+
+				if(keyChildDepth >= 0) {
+					BYTES.write(b);
+				}
+				matched = b == '>' && matched >= 2 ? 3 : b == ']' ? Math.min(matched + 1, 2) : 0;
+				if(matched == 3) {
+					break;
+				}
+			}
+
+			if(keyChildDepth >= 0) {
+				byte[] bytes = BYTES.toByteArray();
+				KEY_TEXT.append(new String(bytes, 0, Math.max(0, bytes.length - 3), charset));
+			}
+			BYTES.reset();
+		}
+
+		void doctype() throws IOException {
+
+			int b, brackets = 0, quote = 0;
+			while((b = read()) != -1) {
+				if(quote != 0) {
+					if(b == quote) {
+						quote = 0;
+					}
+				}
+				else if(b == '"' || b == '\'') {
+					quote = b;
+				}
+				else if(b == '[') {
+					brackets++;
+				}
+				else if(b == ']') {
+					brackets--;
+				}
+				else if(b == '>' && brackets <= 0) {
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Skips a Processing Instruction; reading the encoding from the XML Declaration.
+		 */
+		void processingInstruction(long _start) throws IOException {
+
+			BYTES.reset();
+
+			int b, previous = 0;
+			while((b = read()) != -1 && !(previous == '?' && b == '>')) {
+				BYTES.write(b);
+				previous = b;
+			}
+
+			if(_start <= 3) { // XML Declaration (possibly after a Byte Order Mark).
+
+				Matcher encoding = ENCODING_PATTERN.matcher(new String(BYTES.toByteArray(), StandardCharsets.US_ASCII));
+				if(encoding.find()) {
+
+					charset = Charset.forName(encoding.group(1));
+
+					String probe = "<a b='c'/>&";
+					if(!Arrays.equals(probe.getBytes(charset), probe.getBytes(StandardCharsets.US_ASCII))) {
+						throw new XmlException("Only ASCII compatible encodings (i.e. UTF-8) can be indexed, not " + charset.name() + ": "
+								+ XML_FILE.getAbsolutePath());
+					}
+				}
+			}
+		}
+
+		void flushKeyBytes() {
+			if(keyChildDepth >= 0 && KEY_BYTES.size() > 0) {
+				KEY_TEXT.append(unescape(new String(KEY_BYTES.toByteArray(), charset)));
+				KEY_BYTES.reset();
+			}
+		}
+
+		/**
+		 * Skips bytes until (and including) the given ASCII text.
+		 */
+		void skipUntil(String _text) throws IOException {
+
+			int b, matched = 0;
+			while(matched < _text.length() && (b = read()) != -1) {
+				matched = b == _text.charAt(matched) ? matched + 1 : (b == _text.charAt(0) ? 1 : 0);
+			}
+		}
+
+		void readUntil(char _c) throws IOException {
+
+			int b;
+			do {
+				b = read();
+			} while(b != -1 && b != _c);
+		}
+
+		/**
+		 * @return {@code true}, if the next bytes are the given ASCII text (which are then consumed); otherwise nothing is consumed.
+		 */
+		boolean skipIfNext(String _text) throws IOException {
+
+			if(bufferLength - bufferIndex < _text.length()) { // Make sure the whole text is buffered.
+
+				System.arraycopy(BUFFER, bufferIndex, BUFFER, 0, bufferLength - bufferIndex);
+				bufferLength -= bufferIndex;
+				bufferIndex = 0;
+
+				int read;
+				while(bufferLength < _text.length() && (read = input.read(BUFFER, bufferLength, BUFFER.length - bufferLength)) != -1) {
+					bufferLength += read;
+				}
+			}
+
+			for(int i = 0; i < _text.length(); i++) {
+				if(bufferIndex + i >= bufferLength || BUFFER[bufferIndex + i] != _text.charAt(i)) {
+					return false;
+				}
+			}
+
+			bufferIndex += _text.length();
+			position += _text.length();
+
+			return true;
+		}
+
+		int read() throws IOException {
+
+			if(bufferIndex >= bufferLength && !fill()) {
+				return -1;
+			}
+
+			position++;
+
+			return BUFFER[bufferIndex++] & 0xFF;
+		}
+
+		boolean fill() throws IOException {
+
+			bufferIndex = 0;
+			bufferLength = Math.max(0, input.read(BUFFER));
+
+			return bufferLength > 0;
+		}
+	}
+}
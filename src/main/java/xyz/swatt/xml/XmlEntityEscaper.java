@@ -0,0 +1,495 @@
+package xyz.swatt.xml;
+
+import xyz.swatt.asserts.ArgumentChecks;
+import xyz.swatt.xml.XmlDocumentHelper.XmlEntityFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Single pass, hand written, scanners for XML Numeric Character References (Entities).
+ * <p>
+ *     Each operation comes in 3 forms:
+ * </p>
+ * <ul>
+ *     <li>{@link String} to {@link String}; which returns the given String itself, if nothing needed to change.</li>
+ *     <li>{@link CharSequence} to {@link Appendable}; which copies unchanged runs of characters straight to the output.</li>
+ *     <li>{@link Reader} to {@link Writer}; which streams large payloads through a fixed size buffer.</li>
+ * </ul>
+ * <p>
+ *     No {@link java.util.regex.Pattern}s are used, and no intermediate Strings are created.
+ * </p>
+ *
+ * @see XmlDocumentHelper#escapeExtendedCharacters(String, XmlEntityFormat)
+ * @see XmlDocumentHelper#decimalEscapedToHexEscaped(String)
+ * @see XmlDocumentHelper#hexEscapedToDecimalEscaped(String)
+ */
+public final class XmlEntityEscaper {
+
+	//========================= Static Enums ===================================
+
+	//========================= STATIC CONSTANTS ===============================
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * The longest Entity that is converted ({@code &#x} + 4 digits + {@code ;}).
+	 */
+	private static final int MAX_ENTITY_LENGTH = 8;
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	//========================= Static Variables ===============================
+
+	//========================= Static Constructor =============================
+	static { }
+
+	//========================= Static Methods =================================
+	/**
+	 * Will XML Escape any character outside of the range of Basic Latin printable characters (\x09-\x0D|\x20-\x7E).
+	 * <p>Characters outside of the Basic Multilingual Plane (i.e. Emoji) are escaped as a single Entity, not as 2 Surrogates.</p>
+	 *
+	 * @param _input The {@link String} to escape.
+	 * @param _format Whether the XML Entities should be in Decimal or HEX format.
+	 *
+	 * @return The escaped {@link String}; the given String itself, if nothing needed escaping; or {@code null}, if {@code null} is given.
+	 *
+	 * @throws IllegalArgumentException If the given {@link XmlEntityFormat} is {@code null}.
+	 */
+	public static String escapeExtendedCharacters(String _input, XmlEntityFormat _format) {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_format, "XML Entity Format");
+
+		if(_input == null) {
+			return null;
+		}
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		int first = 0;
+
+		//------------------------ Code ----------------------------------------
+		while(first < _input.length() && !needsEscaping(_input.charAt(first))) {
+			first++;
+		}
+
+		if(first == _input.length()) {
+			return _input;
+		}
+
+		StringBuilder output = new StringBuilder(_input.length() + 16);
+		try {
+			escapeExtendedCharacters(_input, _format, output);
+		}
+		catch(IOException e) { // A StringBuilder does not throw IOExceptions.
+			throw new UncheckedIOException(e);
+		}
+
+		return output.toString();
+	}
+
+	/**
+	 * Will XML Escape any character outside of the range of Basic Latin printable characters (\x09-\x0D|\x20-\x7E).
+	 *
+	 * @param _input The characters to escape.
+	 * @param _format Whether the XML Entities should be in Decimal or HEX format.
+	 * @param _output Where to write the escaped characters.
+	 *
+	 * @throws IllegalArgumentException If any argument is {@code null}.
+	 * @throws IOException If the given {@link Appendable} throws one.
+	 *
+	 * @see #escapeExtendedCharacters(String, XmlEntityFormat)
+	 */
+	public static void escapeExtendedCharacters(CharSequence _input, XmlEntityFormat _format, Appendable _output) throws IOException {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_input, "Input");
+		ArgumentChecks.notNull(_format, "XML Entity Format");
+		ArgumentChecks.notNull(_output, "Output");
+
+		//------------------------ Code ----------------------------------------
+		escape(_input, 0, _input.length(), true, _format, _output);
+	}
+
+	/**
+	 * Will XML Escape any character outside of the range of Basic Latin printable characters (\x09-\x0D|\x20-\x7E),
+	 * streaming from the given {@link Reader} to the given {@link Writer}.
+	 * <p>Neither the Reader nor the Writer are closed.</p>
+	 *
+	 * @param _input Where to read the characters to escape from.
+	 * @param _format Whether the XML Entities should be in Decimal or HEX format.
+	 * @param _output Where to write the escaped characters.
+	 *
+	 * @throws IllegalArgumentException If any argument is {@code null}.
+	 * @throws IOException If there is an error reading or writing.
+	 *
+	 * @see #escapeExtendedCharacters(String, XmlEntityFormat)
+	 */
+	public static void escapeExtendedCharacters(Reader _input, XmlEntityFormat _format, Writer _output) throws IOException {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_input, "Input");
+		ArgumentChecks.notNull(_format, "XML Entity Format");
+		ArgumentChecks.notNull(_output, "Output");
+
+		//------------------------ Code ----------------------------------------
+		stream(_input, _output, (_buffer, _end, _eof) -> escape(_buffer, 0, _end, _eof, _format, _output));
+	}
+
+	/**
+	 * Replaces all Decimal Entities (with 2 to 4 digits) with the equivalent Hexadecimal Entity (i.e. {@code &#233;} to {@code &#xe9;}).
+	 *
+	 * @param _input The {@link String} to convert.
+	 *
+	 * @return The converted {@link String}; or the given String itself, if there was nothing to convert.
+	 *
+	 * @throws IllegalArgumentException If the given {@link String} is {@code null}.
+	 */
+	public static String decimalEscapedToHexEscaped(String _input) {
+		return convert(_input, false);
+	}
+
+	/**
+	 * Replaces all Decimal Entities (with 2 to 4 digits) with the equivalent Hexadecimal Entity (i.e. {@code &#233;} to {@code &#xe9;}).
+	 *
+	 * @param _input The characters to convert.
+	 * @param _output Where to write the converted characters.
+	 *
+	 * @throws IllegalArgumentException If either argument is {@code null}.
+	 * @throws IOException If the given {@link Appendable} throws one.
+	 */
+	public static void decimalEscapedToHexEscaped(CharSequence _input, Appendable _output) throws IOException {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_input, "Input");
+		ArgumentChecks.notNull(_output, "Output");
+
+		//------------------------ Code ----------------------------------------
+		convert(_input, 0, _input.length(), true, false, _output);
+	}
+
+	/**
+	 * Replaces all Decimal Entities (with 2 to 4 digits) with the equivalent Hexadecimal Entity (i.e. {@code &#233;} to {@code &#xe9;}),
+	 * streaming from the given {@link Reader} to the given {@link Writer}.
+	 * <p>Neither the Reader nor the Writer are closed.</p>
+	 *
+	 * @param _input Where to read the characters to convert from.
+	 * @param _output Where to write the converted characters.
+	 *
+	 * @throws IllegalArgumentException If either argument is {@code null}.
+	 * @throws IOException If there is an error reading or writing.
+	 */
+	public static void decimalEscapedToHexEscaped(Reader _input, Writer _output) throws IOException {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_input, "Input");
+		ArgumentChecks.notNull(_output, "Output");
+
+		//------------------------ Code ----------------------------------------
+		stream(_input, _output, (_buffer, _end, _eof) -> convert(_buffer, 0, _end, _eof, false, _output));
+	}
+
+	/**
+	 * Replaces all Hexadecimal Entities (with 2 to 4 digits) with the equivalent Decimal Entity (i.e. {@code &#xe9;} to {@code &#233;}).
+	 *
+	 * @param _input The {@link String} to convert.
+	 *
+	 * @return The converted {@link String}; or the given String itself, if there was nothing to convert.
+	 *
+	 * @throws IllegalArgumentException If the given {@link String} is {@code null}.
+	 */
+	public static String hexEscapedToDecimalEscaped(String _input) {
+		return convert(_input, true);
+	}
+
+	/**
+	 * Replaces all Hexadecimal Entities (with 2 to 4 digits) with the equivalent Decimal Entity (i.e. {@code &#xe9;} to {@code &#233;}).
+	 *
+	 * @param _input The characters to convert.
+	 * @param _output Where to write the converted characters.
+	 *
+	 * @throws IllegalArgumentException If either argument is {@code null}.
+	 * @throws IOException If the given {@link Appendable} throws one.
+	 */
+	public static void hexEscapedToDecimalEscaped(CharSequence _input, Appendable _output) throws IOException {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_input, "Input");
+		ArgumentChecks.notNull(_output, "Output");
+
+		//------------------------ Code ----------------------------------------
+		convert(_input, 0, _input.length(), true, true, _output);
+	}
+
+	/**
+	 * Replaces all Hexadecimal Entities (with 2 to 4 digits) with the equivalent Decimal Entity (i.e. {@code &#xe9;} to {@code &#233;}),
+	 * streaming from the given {@link Reader} to the given {@link Writer}.
+	 * <p>Neither the Reader nor the Writer are closed.</p>
+	 *
+	 * @param _input Where to read the characters to convert from.
+	 * @param _output Where to write the converted characters.
+	 *
+	 * @throws IllegalArgumentException If either argument is {@code null}.
+	 * @throws IOException If there is an error reading or writing.
+	 */
+	public static void hexEscapedToDecimalEscaped(Reader _input, Writer _output) throws IOException {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_input, "Input");
+		ArgumentChecks.notNull(_output, "Output");
+
+		//------------------------ Code ----------------------------------------
+		stream(_input, _output, (_buffer, _end, _eof) -> convert(_buffer, 0, _end, _eof, true, _output));
+	}
+
+	//////////////////// Helper Methods ////////////////////
+	private static boolean needsEscaping(char _c) {
+		return !((_c >= 9 && _c <= 13) || (_c >= 32 && _c <= 126));
+	}
+
+	/**
+	 * Escapes the given range of characters.
+	 *
+	 * @return The index the escaping stopped at. (Before {@code _end}, only if the last character is a High Surrogate, and more input is coming.)
+	 */
+	private static int escape(CharSequence _input, int _start, int _end, boolean _eof, XmlEntityFormat _format, Appendable _output) throws IOException {
+
+		//------------------------ Variables -----------------------------------
+		int unchanged = _start; // Start of the current run of unchanged characters.
+
+		//------------------------ Code ----------------------------------------
+		for(int i = _start; i < _end; i++) {
+
+			char c = _input.charAt(i);
+			if(!needsEscaping(c)) {
+				continue;
+			}
+
+			int codePoint = c;
+			if(Character.isHighSurrogate(c)) {
+				if(i + 1 < _end) {
+					if(Character.isLowSurrogate(_input.charAt(i + 1))) {
+						codePoint = Character.toCodePoint(c, _input.charAt(++i));
+					}
+				}
+				else if(!_eof) { // The Low Surrogate may be in the next block.
+					_output.append(_input, unchanged, i);
+					return i;
+				}
+			}
+
+			_output.append(_input, unchanged, Character.isSupplementaryCodePoint(codePoint) ? i - 1 : i);
+			appendEntity(codePoint, _format == XmlEntityFormat.HEX, _output);
+			unchanged = i + 1;
+		}
+
+		_output.append(_input, unchanged, _end);
+
+		return _end;
+	}
+
+	private static String convert(String _input, boolean _hexToDecimal) {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_input, "Input");
+
+		//------------------------ Variables -----------------------------------
+		int first = _input.indexOf("&#");
+
+		//------------------------ Code ----------------------------------------
+		while(first >= 0 && entityLength(_input, first, _input.length(), _hexToDecimal) <= 0) {
+			first = _input.indexOf("&#", first + 2);
+		}
+
+		if(first < 0) {
+			return _input;
+		}
+
+		StringBuilder output = new StringBuilder(_input.length());
+		try {
+			convert(_input, 0, _input.length(), true, _hexToDecimal, output);
+		}
+		catch(IOException e) { // A StringBuilder does not throw IOExceptions.
+			throw new UncheckedIOException(e);
+		}
+
+		return output.toString();
+	}
+
+	/**
+	 * Converts the Entities in the given range of characters.
+	 *
+	 * @return The index the conversion stopped at. (Before {@code _end}, only if an Entity may be cut off, and more input is coming.)
+	 */
+	private static int convert(CharSequence _input, int _start, int _end, boolean _eof, boolean _hexToDecimal, Appendable _output) throws IOException {
+
+		//------------------------ Variables -----------------------------------
+		int unchanged = _start; // Start of the current run of unchanged characters.
+
+		//------------------------ Code ----------------------------------------
+		for(int i = _start; i < _end; i++) {
+
+			if(_input.charAt(i) != '&') {
+				continue;
+			}
+
+			int length = entityLength(_input, i, _end, _hexToDecimal);
+			if(length < 0) {
+				if(!_eof) { // Cut off; wait for more input.
+					_output.append(_input, unchanged, i);
+					return i;
+				}
+			}
+			else if(length > 0) {
+
+				int digitsStart = i + (_hexToDecimal ? 3 : 2), value = 0;
+				for(int j = digitsStart; j < i + length - 1; j++) {
+					value = value * (_hexToDecimal ? 16 : 10) + Character.digit(_input.charAt(j), _hexToDecimal ? 16 : 10);
+				}
+
+				_output.append(_input, unchanged, i);
+				appendEntity(value, !_hexToDecimal, _output);
+
+				i += length - 1;
+				unchanged = i + 1;
+			}
+		}
+
+		_output.append(_input, unchanged, _end);
+
+		return _end;
+	}
+
+	/**
+	 * Checks for an Entity ({@code &#} or {@code &#x}, then 2 to 4 digits, then {@code ;}) at the given index (which must be an {@code &}).
+	 *
+	 * @return The length of the Entity; 0 if there is not one; or -1 if {@code _end} was reached before that could be decided.
+	 */
+	private static int entityLength(CharSequence _input, int _index, int _end, boolean _hex) {
+
+		int i = _index + 1;
+
+		if(i >= _end) {
+			return -1;
+		}
+		if(_input.charAt(i++) != '#') {
+			return 0;
+		}
+
+		if(_hex) {
+			if(i >= _end) {
+				return -1;
+			}
+			if(_input.charAt(i++) != 'x') {
+				return 0;
+			}
+		}
+
+		int digitsStart = i;
+		while(i < _end && i - digitsStart <= 4 && Character.digit(_input.charAt(i), _hex ? 16 : 10) >= 0 && _input.charAt(i) < 128) {
+			i++;
+		}
+
+		int digits = i - digitsStart;
+		if(digits > 4) {
+			return 0;
+		}
+		if(i >= _end) {
+			return -1;
+		}
+		if(digits < 2 || _input.charAt(i) != ';') {
+			return 0;
+		}
+
+		return i + 1 - _index;
+	}
+
+	/**
+	 * Appends {@code &#value;} or {@code &#xvalue;} (in lower case Hex), without creating any Strings.
+	 */
+	private static void appendEntity(int _value, boolean _hex, Appendable _output) throws IOException {
+
+		_output.append('&').append('#');
+
+		if(_hex) {
+
+			_output.append('x');
+
+			int shift = 28;
+			while(shift > 0 && (_value >>> shift) == 0) {
+				shift -= 4;
+			}
+			for(; shift >= 0; shift -= 4) {
+				_output.append(HEX_DIGITS[(_value >>> shift) & 0xF]);
+			}
+		}
+		else {
+
+			int divisor = 1;
+			while(_value / divisor >= 10) {
+				divisor *= 10;
+			}
+			for(; divisor > 0; divisor /= 10) {
+				_output.append((char) ('0' + _value / divisor % 10));
+			}
+		}
+
+		_output.append(';');
+	}
+
+	/**
+	 * Streams the given Reader through the given block processor, carrying over any characters it could not decide on yet.
+	 */
+	private static void stream(Reader _input, Writer _output, BlockProcessor _processor) throws IOException {
+
+		//------------------------ Variables -----------------------------------
+		char[] buffer = new char[BUFFER_SIZE + MAX_ENTITY_LENGTH];
+		CharBuffer chars = CharBuffer.wrap(buffer);
+		int end = 0, read;
+
+		//------------------------ Code ----------------------------------------
+		while((read = _input.read(buffer, end, BUFFER_SIZE)) >= 0) {
+
+			end += read;
+
+			int processed = _processor.process(chars, end, false);
+
+			// Carry over what is left (never more than an Entity), to the front of the buffer.
+			System.arraycopy(buffer, processed, buffer, 0, end - processed);
+			end -= processed;
+		}
+
+		_processor.process(chars, end, true);
+	}
+
+	//========================= CONSTANTS ======================================
+
+	//========================= Variables ======================================
+
+	//========================= Constructors ===================================
+	/**
+	 * Static Class.
+	 */
+	private XmlEntityEscaper() {
+		super();
+	}
+
+	//========================= Methods ========================================
+
+	//========================= Classes ========================================
+	/**
+	 * Processes one block of characters, from the start of the buffer.
+	 */
+	@FunctionalInterface
+	private interface BlockProcessor {
+
+		/**
+		 * @return The index processing stopped at; anything after it is carried over to the next block.
+		 */
+		int process(CharSequence _buffer, int _end, boolean _eof) throws IOException;
+	}
+}
@@ -0,0 +1,369 @@
+package xyz.swatt.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import xyz.swatt.asserts.ArgumentChecks;
+import xyz.swatt.exceptions.XmlException;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validates XML against a compiled XML Schema (XSD).
+ * <p>
+ *     Schemas are compiled once and cached, by canonical path (and re-compiled if the File's size or last modified time changes);
+ *     so {@link #from(File)} can be called for every response/fixture, without re-compiling the XSD each time.
+ *     A compiled {@link Schema} is thread safe, but a {@link Validator} is not; so each thread is given its own Validator, which it reuses.
+ * </p>
+ * <p>
+ *     Files and Streams are validated as they are read; no {@link Document} is built for them.
+ *     At most {@link #getMaxErrors()} errors (see {@link #setMaxErrors(int)}) are collected, after which validation stops; so a badly broken, very large, File cannot fill the Heap.
+ * </p>
+ */
+public final class XmlSchemaValidator {
+
+	//========================= Static Enums ===================================
+
+	//========================= STATIC CONSTANTS ===============================
+	private static final Logger LOGGER = LogManager.getLogger(XmlSchemaValidator.class);
+
+	/**
+	 * The most Schemas that will be cached.
+	 */
+	private static final int MAX_CACHED_SCHEMAS = 256;
+
+	/**
+	 * Compiled Schemas; keyed by canonical path.
+	 */
+	private static final Map<String, XmlSchemaValidator> VALIDATORS = new ConcurrentHashMap<>();
+
+	//========================= Static Variables ===============================
+	/**
+	 * The most errors that will be collected, for one validation, before it is stopped.
+	 */
+	private static volatile int maxErrors = 100;
+
+	//========================= Static Constructor =============================
+	static { }
+
+	//========================= Static Methods =================================
+	/**
+	 * Gets the Validator for the given XML Schema File; compiling (and caching) it, if it has not been already, or if it has changed.
+	 * <p>Any {@code xs:include}s or {@code xs:import}s are resolved relative to the given File.</p>
+	 * <p>(Once 256 Schemas are cached, any other Schema is compiled on every call.)</p>
+	 *
+	 * @param _xsdFile
+	 * 		The XML Schema File.
+	 *
+	 * @return The Validator for the compiled Schema.
+	 *
+	 * @throws IllegalArgumentException If the given File is {@code null}, does not exist, is a directory, or is unreadable.
+	 * @throws XmlException If the given File is not a valid XML Schema.
+	 */
+	public static XmlSchemaValidator from(File _xsdFile) {
+
+		LOGGER.info("from(_xsdFile: {}) [START]", _xsdFile == null ? "(NULL)" : _xsdFile.getPath());
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.fileExists(_xsdFile, "XSD");
+
+		//noinspection ConstantConditions
+		if(!_xsdFile.canRead()) {
+			throw new IllegalArgumentException("Given File " + _xsdFile.getAbsolutePath() + " is unreadable!");
+		}
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		String key;
+		long length = _xsdFile.length(), lastModified = _xsdFile.lastModified();
+		XmlSchemaValidator validator;
+
+		//------------------------ Code ----------------------------------------
+		try {
+			key = _xsdFile.getCanonicalPath();
+		}
+		catch(IOException e) {
+			throw new XmlException("Could not resolve the Canonical Path of: " + _xsdFile.getAbsolutePath(), e);
+		}
+
+		validator = VALIDATORS.get(key);
+		if(validator == null || validator.LENGTH != length || validator.LAST_MODIFIED != lastModified) {
+
+			LOGGER.debug("Compiling XML Schema: {}", key);
+
+			try {
+				// SchemaFactories are not thread safe; so one is created per compile.
+				validator = new XmlSchemaValidator(SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(_xsdFile), length, lastModified);
+			}
+			catch(SAXException e) {
+				throw new XmlException("Invalid XML Schema: " + _xsdFile.getAbsolutePath(), e);
+			}
+
+			if(VALIDATORS.size() < MAX_CACHED_SCHEMAS || VALIDATORS.containsKey(key)) {
+				VALIDATORS.put(key, validator);
+			}
+		}
+
+		LOGGER.debug("from(_xsdFile: {}) [END]", _xsdFile.getPath());
+
+		return validator;
+	}
+
+	/**
+	 * @return The most errors that will be collected, for one validation, before it is stopped. (Default: {@code 100}.)
+	 */
+	public static int getMaxErrors() {
+		return maxErrors;
+	}
+
+	/**
+	 * Sets the most errors that will be collected, for one validation, before it is stopped.
+	 *
+	 * @param _maxErrors
+	 * 		The most errors to collect.
+	 *
+	 * @throws IllegalArgumentException If the given number is {@code <= 0}.
+	 */
+	public static void setMaxErrors(int _maxErrors) {
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.greaterThanZero(_maxErrors, "Max Errors");
+
+		//------------------------ Code ----------------------------------------
+		maxErrors = _maxErrors;
+	}
+
+	//========================= CONSTANTS ======================================
+	/**
+	 * The compiled Schema. (Thread safe.)
+	 */
+	public final Schema SCHEMA;
+
+	/**
+	 * The size and last modified time of the Schema File, when it was compiled.
+	 */
+	private final long LENGTH, LAST_MODIFIED;
+
+	/**
+	 * Each thread's (reused) Validator. (Validators are not thread safe.)
+	 */
+	private final ThreadLocal<Validator> THREAD_VALIDATORS;
+
+	//========================= Variables ======================================
+
+	//========================= Constructors ===================================
+	private XmlSchemaValidator(Schema _schema, long _length, long _lastModified) {
+
+		super();
+
+		SCHEMA = _schema;
+		LENGTH = _length;
+		LAST_MODIFIED = _lastModified;
+		THREAD_VALIDATORS = ThreadLocal.withInitial(_schema::newValidator);
+	}
+
+	//========================= Methods ========================================
+	/**
+	 * Validates the given XML {@link Document} (or {@link Node} and its descendants) against this Schema.
+	 *
+	 * @param _xmlNode
+	 * 		The Document or Node to validate.
+	 *
+	 * @return The validation errors (up to {@link #getMaxErrors()}); or an empty List, if the XML is valid.
+	 *
+	 * @throws IllegalArgumentException If the given Node is {@code null}.
+	 */
+	public List<String> validate(Node _xmlNode) {
+
+		LOGGER.info("validate(Node) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_xmlNode, "XML Node");
+
+		//------------------------ Code ----------------------------------------
+		List<String> errors = validate(new DOMSource(_xmlNode), "(Node)");
+
+		LOGGER.debug("validate(Node) [END]: {} Error(s)", errors.size());
+
+		return errors;
+	}
+
+	/**
+	 * Validates the given XML File against this Schema, as it is read. (No {@link Document} is built.)
+	 *
+	 * @param _xmlFile
+	 * 		The XML File to validate.
+	 *
+	 * @return The validation errors (up to {@link #getMaxErrors()}); or an empty List, if the XML is valid.
+	 *
+	 * @throws IllegalArgumentException If the given File is {@code null}, does not exist, is a directory, or is unreadable.
+	 * @throws XmlException If the File cannot be read.
+	 */
+	public List<String> validate(File _xmlFile) {
+
+		LOGGER.info("validate(_xmlFile: {}) [START]", _xmlFile == null ? "(NULL)" : _xmlFile.getPath());
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.fileExists(_xmlFile, "XML");
+
+		//noinspection ConstantConditions
+		if(!_xmlFile.canRead()) {
+			throw new IllegalArgumentException("Given File " + _xmlFile.getAbsolutePath() + " is unreadable!");
+		}
+
+		//------------------------ Code ----------------------------------------
+		List<String> errors = validate(new StreamSource(_xmlFile), _xmlFile.getAbsolutePath());
+
+		LOGGER.debug("validate(_xmlFile: {}) [END]: {} Error(s)", _xmlFile.getPath(), errors.size());
+
+		return errors;
+	}
+
+	/**
+	 * Validates the given XML Stream against this Schema, as it is read. (No {@link Document} is built.)
+	 * <p>The Stream is not closed.</p>
+	 *
+	 * @param _xmlStream
+	 * 		The XML Stream to validate.
+	 *
+	 * @return The validation errors (up to {@link #getMaxErrors()}); or an empty List, if the XML is valid.
+	 *
+	 * @throws IllegalArgumentException If the given Stream is {@code null}.
+	 * @throws XmlException If the Stream cannot be read.
+	 */
+	public List<String> validate(InputStream _xmlStream) {
+
+		LOGGER.info("validate(InputStream) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_xmlStream, "XML Stream");
+
+		//------------------------ Code ----------------------------------------
+		List<String> errors = validate(new StreamSource(_xmlStream), "(Stream)");
+
+		LOGGER.debug("validate(InputStream) [END]: {} Error(s)", errors.size());
+
+		return errors;
+	}
+
+	/**
+	 * @return {@code true}, if the given XML {@link Document} (or {@link Node}) is valid against this Schema.
+	 *
+	 * @throws IllegalArgumentException If the given Node is {@code null}.
+	 *
+	 * @see #validate(Node)
+	 */
+	public boolean isValid(Node _xmlNode) {
+		return validate(_xmlNode).isEmpty();
+	}
+
+	/**
+	 * @return {@code true}, if the given XML File is valid against this Schema.
+	 *
+	 * @throws IllegalArgumentException If the given File is {@code null}, does not exist, is a directory, or is unreadable.
+	 * @throws XmlException If the File cannot be read.
+	 *
+	 * @see #validate(File)
+	 */
+	public boolean isValid(File _xmlFile) {
+		return validate(_xmlFile).isEmpty();
+	}
+
+	//////////////////// Helper Methods ////////////////////
+	/**
+	 * Validates the given Source with this thread's Validator.
+	 *
+	 * @throws XmlException If the Source cannot be read.
+	 */
+	private List<String> validate(Source _source, String _description) {
+
+		//------------------------ Variables -----------------------------------
+		Validator validator = THREAD_VALIDATORS.get();
+		BoundedErrorHandler errorHandler = new BoundedErrorHandler(maxErrors);
+
+		//------------------------ Code ----------------------------------------
+		try {
+			validator.reset();
+			validator.setErrorHandler(errorHandler);
+			validator.validate(_source);
+		}
+		catch(SAXException e) {
+			// Already collected by the Error Handler (either a fatal error, or the error limit was reached).
+			if(errorHandler.ERRORS.isEmpty()) {
+				errorHandler.ERRORS.add(e.getMessage());
+			}
+		}
+		catch(IOException e) {
+			throw new XmlException("Could not read XML to validate: " + _description, e);
+		}
+		finally {
+			validator.setErrorHandler(null); // Do not keep the errors reachable from the thread.
+		}
+
+		return Collections.unmodifiableList(errorHandler.ERRORS);
+	}
+
+	//========================= Classes ========================================
+	/**
+	 * Collects validation errors, until the limit is reached; and then stops the validation.
+	 */
+	private static final class BoundedErrorHandler implements ErrorHandler {
+
+		final List<String> ERRORS = new ArrayList<>();
+		private final int MAX_ERRORS;
+
+		BoundedErrorHandler(int _maxErrors) {
+			MAX_ERRORS = _maxErrors;
+		}
+
+		@Override
+		public void warning(SAXParseException _exception) {
+			LOGGER.debug("XML Schema Validation Warning: {}", toString(_exception));
+		}
+
+		@Override
+		public void error(SAXParseException _exception) throws SAXException {
+
+			ERRORS.add(toString(_exception));
+
+			if(ERRORS.size() >= MAX_ERRORS) {
+				throw new SAXException("Stopped after " + MAX_ERRORS + " errors.");
+			}
+		}
+
+		@Override
+		public void fatalError(SAXParseException _exception) throws SAXException {
+
+			ERRORS.add(toString(_exception));
+
+			throw _exception;
+		}
+
+		/**
+		 * @return The error message, with its line and column (when known; they are not, for a {@link Document}).
+		 */
+		private static String toString(SAXParseException _exception) {
+			return _exception.getLineNumber() < 0 ? _exception.getMessage()
+					: "[" + _exception.getLineNumber() + ":" + _exception.getColumnNumber() + "] " + _exception.getMessage();
+		}
+	}
+}
@@ -0,0 +1,322 @@
+package xyz.swatt.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import xyz.swatt.asserts.ArgumentChecks;
+import xyz.swatt.exceptions.XmlException;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Splits a large XML data File into one small {@link Document} per record, and processes the records on multiple threads while the File is still being read.
+ * <p>
+ *     The File is streamed with a {@link StreamingXPath} on the calling thread, and each matching Element is put on a bounded queue.
+ *     Consumer threads take the records off of the queue and process them. When the queue is full, reading waits for the consumers to catch up;
+ *     so, no matter how large the File is, at most {@link #QUEUE_CAPACITY} (plus 1 per thread) records are ever in memory.
+ * </p>
+ * <p>
+ *     Records are processed in no particular order. If processing any record fails, reading stops,
+ *     and the first failure is thrown from {@code split(...)}, once all of the threads have stopped.
+ * </p>
+ * <p>
+ *     Instances are immutable and thread safe, and can be reused for any number of files.
+ * </p>
+ */
+public final class XmlSplitter {
+
+	//========================= Static Enums ===================================
+
+	//========================= STATIC CONSTANTS ===============================
+	private static final Logger LOGGER = LogManager.getLogger(XmlSplitter.class);
+
+	/**
+	 * Put on the queue once per consumer thread, after the last record, to tell the threads to stop.
+	 */
+	private static final Document END_OF_RECORDS = XmlDocumentHelper.createNewDocument();
+
+	/**
+	 * How long a blocked queue operation waits, before checking if the split has failed.
+	 */
+	private static final long POLL_MILLIS = 100;
+
+	private static final AtomicInteger SPLIT_NUMBER = new AtomicInteger();
+
+	//========================= Static Variables ===============================
+
+	//========================= Static Constructor =============================
+	static { }
+
+	//========================= Static Methods =================================
+
+	//========================= CONSTANTS ======================================
+	/**
+	 * Selects the repeating record Elements.
+	 */
+	public final StreamingXPath RECORD_XPATH;
+
+	/**
+	 * How many threads process the records.
+	 */
+	public final int THREADS;
+
+	/**
+	 * The most records that will wait on the queue, to be processed.
+	 */
+	public final int QUEUE_CAPACITY;
+
+	//========================= Variables ======================================
+
+	//========================= Constructors ===================================
+	/**
+	 * Creates a splitter, with one processing thread per available processor, and a queue of 2 records per thread.
+	 *
+	 * @param _recordXPath
+	 * 		An absolute XPath, that selects the repeating record Elements. (See {@link StreamingXPath} for the supported subset.)
+	 *
+	 * @throws IllegalArgumentException If the given XPath is blank.
+	 * @throws XmlException If the given XPath is invalid, or uses features outside of the supported subset.
+	 */
+	public XmlSplitter(String _recordXPath) {
+		this(StreamingXPath.compile(_recordXPath), Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	/**
+	 * Creates a splitter.
+	 *
+	 * @param _recordXPath
+	 * 		Selects the repeating record Elements.
+	 * @param _threads
+	 * 		How many threads to process the records on.
+	 * @param _queueCapacity
+	 * 		The most records to hold, waiting to be processed.
+	 *
+	 * @throws IllegalArgumentException If the given XPath is {@code null}, or the number of threads or queue capacity is not greater than zero.
+	 */
+	public XmlSplitter(StreamingXPath _recordXPath, int _threads, int _queueCapacity) {
+
+		super();
+
+		LOGGER.info("XmlSplitter(_recordXPath: {}, _threads: {}, _queueCapacity: {}) [START]", _recordXPath, _threads, _queueCapacity);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_recordXPath, "Record XPath");
+		ArgumentChecks.greaterThanZero(_threads, "Threads");
+		ArgumentChecks.greaterThanZero(_queueCapacity, "Queue Capacity");
+
+		//-------------------------Code-----------------------------------------
+		RECORD_XPATH = _recordXPath;
+		THREADS = _threads;
+		QUEUE_CAPACITY = _queueCapacity;
+
+		LOGGER.debug("XmlSplitter(_recordXPath: {}, _threads: {}, _queueCapacity: {}) [END]", _recordXPath, _threads, _queueCapacity);
+	}
+
+	//========================= Methods ========================================
+	/**
+	 * Splits the given XML File into records, and processes them with the given {@link Consumer}, on this splitter's threads.
+	 * <p>Returns once every record has been processed.</p>
+	 *
+	 * @param _xmlFile
+	 * 		The XML File to split.
+	 * @param _consumer
+	 * 		Processes each record. (Called from multiple threads at the same time; so it must be thread safe.)
+	 *
+	 * @return The number of records processed.
+	 *
+	 * @throws IllegalArgumentException If the File does not exist, or either argument is {@code null}.
+	 * @throws IllegalStateException If the Record XPath does not select Elements.
+	 * @throws XmlException If the File could not be read or parsed, or processing a record threw a checked Exception.
+	 * @throws RuntimeException The first (unchecked) Exception thrown while processing a record.
+	 */
+	public long split(File _xmlFile, Consumer<Document> _consumer) {
+
+		LOGGER.info("split(_xmlFile: {}, Consumer) [START]", _xmlFile);
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.fileExists(_xmlFile, "XML");
+		ArgumentChecks.notNull(_consumer, "Consumer");
+
+		//------------------------ Code ----------------------------------------
+		long records = split(_producer -> RECORD_XPATH.forEachNode(_xmlFile, _producer), _consumer);
+
+		LOGGER.debug("split(_xmlFile: {}, Consumer) [END]: {} Records", _xmlFile, records);
+
+		return records;
+	}
+
+	/**
+	 * Splits the given XML Stream into records, and processes them with the given {@link Consumer}, on this splitter's threads.
+	 * <p>Returns once every record has been processed.</p>
+	 *
+	 * @param _inputStream
+	 * 		The XML to split. (It is <b>not</b> closed by this method.)
+	 * @param _consumer
+	 * 		Processes each record. (Called from multiple threads at the same time; so it must be thread safe.)
+	 *
+	 * @return The number of records processed.
+	 *
+	 * @throws IllegalArgumentException If either argument is {@code null}.
+	 * @throws IllegalStateException If the Record XPath does not select Elements.
+	 * @throws XmlException If the XML could not be parsed, or processing a record threw a checked Exception.
+	 * @throws RuntimeException The first (unchecked) Exception thrown while processing a record.
+	 */
+	public long split(InputStream _inputStream, Consumer<Document> _consumer) {
+
+		LOGGER.info("split(InputStream, Consumer) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_inputStream, "Input Stream");
+		ArgumentChecks.notNull(_consumer, "Consumer");
+
+		//------------------------ Code ----------------------------------------
+		long records = split(_producer -> RECORD_XPATH.forEachNode(_inputStream, _producer), _consumer);
+
+		LOGGER.debug("split(InputStream, Consumer) [END]: {} Records", records);
+
+		return records;
+	}
+
+	@Override
+	public String toString() {
+		return "XmlSplitter[" + RECORD_XPATH + ", Threads: " + THREADS + ", Queue: " + QUEUE_CAPACITY + "]";
+	}
+
+	//////////////////// Helper Methods ////////////////////
+	/**
+	 * Reads the records (on this thread), while the consumer threads process them.
+	 *
+	 * @param _reader
+	 * 		Reads the XML, and passes each record to the Consumer it is given.
+	 * @param _consumer
+	 * 		Processes each record.
+	 *
+	 * @return The number of records processed.
+	 */
+	private long split(Consumer<Consumer<Document>> _reader, Consumer<Document> _consumer) {
+
+		//------------------------ CONSTANTS -----------------------------------
+		final int SPLIT = SPLIT_NUMBER.incrementAndGet();
+
+		//------------------------ Variables -----------------------------------
+		BlockingQueue<Document> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		AtomicLong processed = new AtomicLong();
+		AtomicInteger threadNumber = new AtomicInteger();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(THREADS, _runnable -> {
+			Thread thread = new Thread(_runnable, "swatt-xml-splitter-" + SPLIT + "-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		//------------------------ Code ----------------------------------------
+		for(int i = 0; i < THREADS; i++) {
+			executorService.execute(() -> {
+				try {
+					for(Document record = queue.take(); record != END_OF_RECORDS; record = queue.take()) {
+						_consumer.accept(record);
+						processed.incrementAndGet();
+					}
+				}
+				catch(InterruptedException e) { // The split failed; and is being stopped.
+					Thread.currentThread().interrupt();
+				}
+				catch(Throwable t) {
+					failure.compareAndSet(null, t);
+				}
+			});
+		}
+
+		try {
+			_reader.accept(_record -> put(queue, _record, failure));
+
+			for(int i = 0; i < THREADS; i++) {
+				put(queue, END_OF_RECORDS, failure);
+			}
+
+			executorService.shutdown();
+			while(!executorService.awaitTermination(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+				if(failure.get() != null) {
+					break;
+				}
+			}
+		}
+		catch(SplitFailedException e) {
+			// The failure is thrown below.
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failure.compareAndSet(null, new XmlException("Interrupted while splitting XML!", e));
+		}
+		catch(RuntimeException e) { // Reading the XML failed.
+			failure.compareAndSet(null, e);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		if(failure.get() != null) {
+
+			Throwable t = failure.get();
+			if(t instanceof RuntimeException) {
+				throw (RuntimeException) t;
+			}
+			else if(t instanceof Error) {
+				throw (Error) t;
+			}
+
+			throw new XmlException("Error processing XML record!", t);
+		}
+
+		return processed.get();
+	}
+
+	/**
+	 * Puts the given record on the queue; waiting for room, unless the split fails.
+	 *
+	 * @throws SplitFailedException If a consumer thread has failed, or this thread was interrupted.
+	 */
+	private static void put(BlockingQueue<Document> _queue, Document _record, AtomicReference<Throwable> _failure) {
+
+		try {
+			while(!_queue.offer(_record, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+				if(_failure.get() != null) {
+					throw new SplitFailedException();
+				}
+			}
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			_failure.compareAndSet(null, new XmlException("Interrupted while splitting XML!", e));
+			throw new SplitFailedException();
+		}
+
+		if(_failure.get() != null) {
+			throw new SplitFailedException();
+		}
+	}
+
+	//========================= Classes ========================================
+	/**
+	 * Stops the reading of the XML, once a consumer thread has failed.
+	 */
+	private static final class SplitFailedException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		SplitFailedException() {
+			super(null, null, false, false);
+		}
+	}
+}
@@ -0,0 +1,351 @@
+package xyz.swatt.xml;
+
+import net.sf.saxon.om.TreeModel;
+import net.sf.saxon.s9api.*;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import xyz.swatt.asserts.ArgumentChecks;
+import xyz.swatt.exceptions.XmlException;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled XSLT Stylesheet; for reshaping XML (i.e. large responses, before they are compared).
+ * <p>
+ *     Stylesheets are compiled once, by <a href="http://www.saxonica.com" target="_blank">Saxon</a>, and cached:
+ *     Files by canonical path (and re-compiled if their size or last modified time changes), and Strings by a hash of their content.
+ *     So {@link #from(File)} can be called for every response, without re-compiling the Stylesheet each time.
+ * </p>
+ * <p>
+ *     Instances are immutable and thread safe. The result of a transform can be streamed into a new W3C {@link Document},
+ *     a {@link ReadOnlyXmlDocument} (TinyTree), or an {@link OutputStream}; without being serialized to a String in between.
+ * </p>
+ *
+ * @see XmlDocumentHelper#transform(Node, File)
+ */
+public final class XsltStylesheet {
+
+	//========================= Static Enums ===================================
+
+	//========================= STATIC CONSTANTS ===============================
+	private static final Logger LOGGER = LogManager.getLogger(XsltStylesheet.class);
+
+	/**
+	 * The most Stylesheets that will be cached.
+	 */
+	private static final int MAX_CACHED_STYLESHEETS = 256;
+
+	/**
+	 * Compiled Stylesheets; keyed by canonical path, or by content hash.
+	 */
+	private static final Map<String, XsltStylesheet> STYLESHEETS = new ConcurrentHashMap<>();
+
+	//========================= Static Variables ===============================
+
+	//========================= Static Constructor =============================
+	static { }
+
+	//========================= Static Methods =================================
+	/**
+	 * Gets the compiled version of the given XSLT Stylesheet File; compiling (and caching) it, if it has not been already, or if it has changed.
+	 *
+	 * @param _xsltFile
+	 * 		The XSLT Stylesheet File.
+	 *
+	 * @return The compiled Stylesheet.
+	 *
+	 * @throws IllegalArgumentException If the given File is {@code null}, does not exist, is a directory, or is unreadable.
+	 * @throws XmlException If the given File is not a valid XSLT Stylesheet.
+	 */
+	public static XsltStylesheet from(File _xsltFile) {
+
+		LOGGER.info("from(_xsltFile: {}) [START]", _xsltFile == null ? "(NULL)" : _xsltFile.getPath());
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.fileExists(_xsltFile, "XSLT");
+
+		//noinspection ConstantConditions
+		if(!_xsltFile.canRead()) {
+			throw new IllegalArgumentException("Given File " + _xsltFile.getAbsolutePath() + " is unreadable!");
+		}
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		String key;
+		long length = _xsltFile.length(), lastModified = _xsltFile.lastModified();
+		XsltStylesheet stylesheet;
+
+		//------------------------ Code ----------------------------------------
+		try {
+			key = _xsltFile.getCanonicalPath();
+		}
+		catch(IOException e) {
+			throw new XmlException("Could not resolve the Canonical Path of: " + _xsltFile.getAbsolutePath(), e);
+		}
+
+		stylesheet = STYLESHEETS.get(key);
+		if(stylesheet == null || stylesheet.LENGTH != length || stylesheet.LAST_MODIFIED != lastModified) {
+
+			stylesheet = new XsltStylesheet(compile(new StreamSource(_xsltFile), key), length, lastModified);
+			cache(key, stylesheet);
+		}
+
+		LOGGER.debug("from(_xsltFile: {}) [END]", _xsltFile.getPath());
+
+		return stylesheet;
+	}
+
+	/**
+	 * Gets the compiled version of the given XSLT Stylesheet String; compiling (and caching) it, if it has not been already.
+	 * <p><i>Note:</i> Relative {@code xsl:include}s and {@code xsl:import}s cannot be resolved, as a String has no location.</p>
+	 *
+	 * @param _xsltString
+	 * 		The XSLT Stylesheet.
+	 *
+	 * @return The compiled Stylesheet.
+	 *
+	 * @throws IllegalArgumentException If the given String is blank.
+	 * @throws XmlException If the given String is not a valid XSLT Stylesheet.
+	 */
+	public static XsltStylesheet from(String _xsltString) {
+
+		LOGGER.info("from(String) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.stringNotBlank(_xsltString, "XSLT");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		String key = hash(_xsltString);
+		XsltStylesheet stylesheet = STYLESHEETS.get(key);
+
+		//------------------------ Code ----------------------------------------
+		if(stylesheet == null) {
+
+			stylesheet = new XsltStylesheet(compile(new StreamSource(new StringReader(_xsltString)), "(String)"), -1, -1);
+			cache(key, stylesheet);
+		}
+
+		LOGGER.debug("from(String) [END]");
+
+		return stylesheet;
+	}
+
+	//////////////////// Helper Methods ////////////////////
+	/**
+	 * @throws XmlException If the given Source is not a valid XSLT Stylesheet.
+	 */
+	private static XsltExecutable compile(Source _source, String _description) {
+
+		LOGGER.debug("Compiling XSLT Stylesheet: {}", _description);
+
+		try {
+			return ReadOnlyXmlDocument.PROCESSOR.newXsltCompiler().compile(_source);
+		}
+		catch(SaxonApiException e) {
+			throw new XmlException("Invalid XSLT Stylesheet: " + _description, e);
+		}
+	}
+
+	/**
+	 * Caches the given Stylesheet; unless {@link #MAX_CACHED_STYLESHEETS} are already cached, in which case new Stylesheets are compiled on every call.
+	 * (Replacing a changed File's Stylesheet is always allowed.)
+	 */
+	private static void cache(String _key, XsltStylesheet _stylesheet) {
+
+		if(STYLESHEETS.size() < MAX_CACHED_STYLESHEETS || STYLESHEETS.containsKey(_key)) {
+			STYLESHEETS.put(_key, _stylesheet);
+		}
+	}
+
+	/**
+	 * @return A SHA-256 hash of the given String, in hex.
+	 */
+	private static String hash(String _string) {
+
+		StringBuilder hash = new StringBuilder("sha-256:");
+
+		try {
+			for(byte b : MessageDigest.getInstance("SHA-256").digest(_string.getBytes(StandardCharsets.UTF_8))) {
+				hash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+		}
+		catch(NoSuchAlgorithmException e) { // Every Java Platform is required to support SHA-256.
+			throw new IllegalStateException(e);
+		}
+
+		return hash.toString();
+	}
+
+	//========================= CONSTANTS ======================================
+	/**
+	 * The compiled Stylesheet.
+	 */
+	private final XsltExecutable EXECUTABLE;
+
+	/**
+	 * The size and last modified time of the Stylesheet File, when it was compiled. ({@code -1} for Strings.)
+	 */
+	private final long LENGTH, LAST_MODIFIED;
+
+	//========================= Variables ======================================
+
+	//========================= Constructors ===================================
+	private XsltStylesheet(XsltExecutable _executable, long _length, long _lastModified) {
+
+		super();
+
+		EXECUTABLE = _executable;
+		LENGTH = _length;
+		LAST_MODIFIED = _lastModified;
+	}
+
+	//========================= Methods ========================================
+	/**
+	 * Transforms the given XML {@link Document} (or {@link Node}) into a new W3C Document.
+	 *
+	 * @param _xmlNode
+	 * 		The Document or Node to transform.
+	 *
+	 * @return A new, mutable, Document holding the result of the transform.
+	 *
+	 * @throws IllegalArgumentException If the given Node is {@code null}.
+	 * @throws XmlException If the transform fails.
+	 */
+	public Document transform(Node _xmlNode) {
+
+		LOGGER.info("transform(Node) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_xmlNode, "XML Node");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		Document result = XmlDocumentHelper.createNewDocument();
+
+		//------------------------ Code ----------------------------------------
+		transform(new DOMSource(_xmlNode), new DOMDestination(result));
+
+		LOGGER.debug("transform(Node) [END]");
+
+		return result;
+	}
+
+	/**
+	 * Transforms the given Read-Only XML Document into a new Read-Only Document; without going through a W3C Document.
+	 *
+	 * @param _readOnlyXmlDocument
+	 * 		The Document to transform.
+	 *
+	 * @return A new Read-Only Document (TinyTree) holding the result of the transform.
+	 *
+	 * @throws IllegalArgumentException If the given Document is {@code null}.
+	 * @throws XmlException If the transform fails.
+	 */
+	public ReadOnlyXmlDocument transform(ReadOnlyXmlDocument _readOnlyXmlDocument) {
+
+		LOGGER.info("transform(ReadOnlyXmlDocument) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_readOnlyXmlDocument, "Read-Only XML Document");
+
+		//------------------------ CONSTANTS -----------------------------------
+
+		//------------------------ Variables -----------------------------------
+		XdmDestination result = new XdmDestination();
+
+		//------------------------ Code ----------------------------------------
+		result.setTreeModel(TreeModel.TINY_TREE);
+		transform(_readOnlyXmlDocument.ROOT.asSource(), result);
+
+		LOGGER.debug("transform(ReadOnlyXmlDocument) [END]");
+
+		return new ReadOnlyXmlDocument(result.getXdmNode());
+	}
+
+	/**
+	 * Transforms the given XML {@link Document} (or {@link Node}) straight into the given {@link OutputStream}.
+	 * <p>The output is serialized as the Stylesheet's {@code xsl:output} says. The Stream is not closed.</p>
+	 *
+	 * @param _xmlNode
+	 * 		The Document or Node to transform.
+	 * @param _outputStream
+	 * 		Where to write the result of the transform.
+	 *
+	 * @throws IllegalArgumentException If either argument is {@code null}.
+	 * @throws XmlException If the transform fails.
+	 */
+	public void transform(Node _xmlNode, OutputStream _outputStream) {
+
+		LOGGER.info("transform(Node, OutputStream) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_xmlNode, "XML Node");
+		ArgumentChecks.notNull(_outputStream, "Output Stream");
+
+		//------------------------ Code ----------------------------------------
+		transform(new DOMSource(_xmlNode), ReadOnlyXmlDocument.PROCESSOR.newSerializer(_outputStream));
+
+		LOGGER.debug("transform(Node, OutputStream) [END]");
+	}
+
+	/**
+	 * Transforms the given Read-Only XML Document straight into the given {@link OutputStream}.
+	 * <p>The output is serialized as the Stylesheet's {@code xsl:output} says. The Stream is not closed.</p>
+	 *
+	 * @param _readOnlyXmlDocument
+	 * 		The Document to transform.
+	 * @param _outputStream
+	 * 		Where to write the result of the transform.
+	 *
+	 * @throws IllegalArgumentException If either argument is {@code null}.
+	 * @throws XmlException If the transform fails.
+	 */
+	public void transform(ReadOnlyXmlDocument _readOnlyXmlDocument, OutputStream _outputStream) {
+
+		LOGGER.info("transform(ReadOnlyXmlDocument, OutputStream) [START]");
+
+		//------------------------ Pre-Checks ----------------------------------
+		ArgumentChecks.notNull(_readOnlyXmlDocument, "Read-Only XML Document");
+		ArgumentChecks.notNull(_outputStream, "Output Stream");
+
+		//------------------------ Code ----------------------------------------
+		transform(_readOnlyXmlDocument.ROOT.asSource(), ReadOnlyXmlDocument.PROCESSOR.newSerializer(_outputStream));
+
+		LOGGER.debug("transform(ReadOnlyXmlDocument, OutputStream) [END]");
+	}
+
+	//////////////////// Helper Methods ////////////////////
+	/**
+	 * @throws XmlException If the transform fails.
+	 */
+	private void transform(Source _source, Destination _destination) {
+
+		Xslt30Transformer transformer = EXECUTABLE.load30();
+
+		try {
+			transformer.transform(_source, _destination);
+		}
+		catch(SaxonApiException e) {
+			throw new XmlException("Error running XSLT transform!", e);
+		}
+	}
+
+	//========================= Classes ========================================
+}
@@ -0,0 +1,182 @@
+package xyz.swatt.tests.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Shared utilities for the Benchmarks; such as generating large test files and measuring Heap usage.
+ */
+public final class BenchmarkHelper {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(BenchmarkHelper.class);
+
+    private static final long ONE_MB = 1024L * 1024L;
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+    /**
+     * Will generate a "catalog" XML file, of repeating {@code <record>} elements, that is (about) the given size.
+     * <p>
+     *     Each record has an {@code id} attribute (its 1 based index), and a handful of child elements.
+     * </p>
+     *
+     * @param _megabytes
+     *         The approximate size of the file to generate.
+     *
+     * @return The generated (temporary) XML File.
+     *
+     * @throws IOException
+     *         If the file could not be written.
+     */
+    public static File generateXmlFile(long _megabytes) throws IOException {
+
+        LOGGER.info("generateXmlFile(_megabytes: {}) [START]", _megabytes);
+
+        File xmlFile = File.createTempFile("swatt-benchmark-" + _megabytes + "mb-", ".xml");
+        xmlFile.deleteOnExit();
+
+        long targetBytes = _megabytes * ONE_MB, writtenBytes = 0;
+        try(Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(xmlFile.toPath()), StandardCharsets.UTF_8))) {
+
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<catalog xmlns=\"http://swatt.xyz/benchmark\">\n");
+            for(int i = 1; writtenBytes < targetBytes; i++) {
+
+                String record = "  <record id=\"" + i + "\" type=\"" + (i % 2 == 0 ? "even" : "odd") + "\">"
+                        + "<name>Record Number " + i + "</name>"
+                        + "<description>A generated record, used to benchmark parsing &amp; querying large XML documents.</description>"
+                        + "<amount>" + (i * 7 % 1000) + "." + (i % 100) + "</amount>"
+                        + "<tags><tag>alpha</tag><tag>beta</tag><tag>gamma</tag></tags>"
+                        + "</record>\n";
+
+                writer.write(record);
+                writtenBytes += record.length();
+            }
+            writer.write("</catalog>\n");
+        }
+
+        LOGGER.debug("generateXmlFile(_megabytes: {}) [END]: {}", _megabytes, xmlFile.getAbsolutePath());
+
+        return xmlFile;
+    }
+
+    /**
+     * Reads a size (in MB) from a System Property.
+     *
+     * @param _propertyName
+     *         The System Property to read.
+     * @param _defaultMegabytes
+     *         The size to use, if the System Property is not set.
+     *
+     * @return The configured size, in MB.
+     */
+    public static long megabytes(String _propertyName, long _defaultMegabytes) {
+        return Long.getLong(_propertyName, _defaultMegabytes);
+    }
+
+    /**
+     * Will measure how much Heap the Object returned by the given {@link Supplier} retains.
+     *
+     * @param _supplier
+     *         Creates the Object to measure.
+     *
+     * @return The retained Heap size, in bytes.
+     */
+    public static long retainedHeap(Supplier<?> _supplier) {
+
+        long before = usedHeap();
+        Object retained = _supplier.get();
+        long after = usedHeap();
+
+        // Keep the Object reachable until after the measurement.
+        LOGGER.trace("retainedHeap(): {}", retained.getClass());
+
+        return after - before;
+    }
+
+    /**
+     * Runs the given code the given number of times, and returns the average time of each run.
+     *
+     * @param _warmUpRuns
+     *         How many times to run the code, before measuring.
+     * @param _runs
+     *         How many times to run the code, while measuring.
+     * @param _code
+     *         The code to run.
+     *
+     * @return The average time per run, in nanoseconds.
+     */
+    public static long averageNanos(int _warmUpRuns, int _runs, Runnable _code) {
+
+        for(int i = 0; i < _warmUpRuns; i++) {
+            _code.run();
+        }
+
+        long start = System.nanoTime();
+        for(int i = 0; i < _runs; i++) {
+            _code.run();
+        }
+
+        return (System.nanoTime() - start) / _runs;
+    }
+
+    /**
+     * @return The given number of bytes, in MB, formatted for logging.
+     */
+    public static String toMb(long _bytes) {
+        return String.format("%.1f MB", _bytes / (double) ONE_MB);
+    }
+
+    /**
+     * @return The given number of nanoseconds, in milliseconds, formatted for logging.
+     */
+    public static String toMs(long _nanos) {
+        return String.format("%.3f ms", _nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * @return The currently used Heap, after (requesting) Garbage Collection.
+     */
+    private static long usedHeap() {
+
+        Runtime runtime = Runtime.getRuntime();
+        for(int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            }
+            catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+    private BenchmarkHelper() { }
+
+    //========================= Methods ========================================
+
+    //========================= Classes ========================================
+}
@@ -0,0 +1,105 @@
+package xyz.swatt.tests.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jsoup.Jsoup;
+import org.jsoup.helper.W3CDom;
+import org.jsoup.parser.ParseSettings;
+import org.jsoup.parser.Parser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.xml.ReadOnlyXmlDocument;
+import xyz.swatt.xml.XmlDocumentHelper;
+
+/**
+ * Compares the single parse {@link XmlDocumentHelper#htmlToXml(String)} (and {@link ReadOnlyXmlDocument#fromHtml(String)})
+ * against the previous conversion, which parsed the HTML twice, on a large {@code outerHTML} String.
+ * <p>
+ *     The HTML size is set with the {@code swatt.benchmark.htmlToXml.mb} System Property (default: 5 MB).
+ * </p>
+ */
+public class HtmlToXmlBenchmarks {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(HtmlToXmlBenchmarks.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void conversionBenchmark() {
+
+        LOGGER.info("conversionBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final long MEGABYTES = BenchmarkHelper.megabytes("swatt.benchmark.htmlToXml.mb", 5);
+
+        //------------------------ Variables -----------------------------------
+        String html = generateHtml(MEGABYTES * 1024 * 1024);
+
+        //------------------------ Code ----------------------------------------
+        long twoParseNanos = BenchmarkHelper.averageNanos(1, 3, () -> twoParseHtmlToXml(html));
+        long singleParseNanos = BenchmarkHelper.averageNanos(1, 3, () -> XmlDocumentHelper.htmlToXml(html));
+        long readOnlyNanos = BenchmarkHelper.averageNanos(1, 3, () -> ReadOnlyXmlDocument.fromHtml(html));
+
+        LOGGER.info("Converting {} of HTML:", BenchmarkHelper.toMb(html.length()));
+        LOGGER.info("Two Parses (Previous): {}", BenchmarkHelper.toMs(twoParseNanos));
+        LOGGER.info("Single Parse, to W3C Document: {}", BenchmarkHelper.toMs(singleParseNanos));
+        LOGGER.info("Single Parse, to Read-Only (TinyTree): {}", BenchmarkHelper.toMs(readOnlyNanos));
+
+        Assert.assertEquals(ReadOnlyXmlDocument.fromHtml(html).getStringForXPath("count(/div/form/input)"),
+                XmlDocumentHelper.getStringForXPath(XmlDocumentHelper.htmlToXml(html), "count(/div/form/input)"));
+        Assert.assertTrue(singleParseNanos < twoParseNanos, "Single Parse was slower than Two Parses!");
+
+        LOGGER.debug("conversionBenchmark() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    /**
+     * @return An {@code outerHTML} like String, of about the given size; with plenty of unclosed Void Elements.
+     */
+    private static String generateHtml(long _targetChars) {
+
+        StringBuilder html = new StringBuilder("<div id=\"results\">");
+        for(int i = 1; html.length() < _targetChars; i++) {
+            html.append("<form id=\"row").append(i).append("\"><label>Row ").append(i).append("<br>Description</label>")
+                    .append("<input name=\"id\" value=\"").append(i).append("\" type=\"hidden\">")
+                    .append("<input name=\"file\" value=\"Folder / File ").append(i).append(".txt\" type=\"hidden\">")
+                    .append("<img src=\"/icons/").append(i % 10).append(".png\" alt=\"Icon\"><span class=\"status\">Active</span></form>");
+        }
+        html.append("</div>");
+
+        return html.toString();
+    }
+
+    /**
+     * The conversion {@link XmlDocumentHelper#htmlToXml(String)} used to do: an HTML parse to count the root Elements,
+     * then an XML parse of the same String. (Without any Void Element handling.)
+     */
+    private static Document twoParseHtmlToXml(String _html) {
+
+        if(Jsoup.parse(_html).body().childNodeSize() != 1) {
+            throw new IllegalStateException("Expected 1 Root Element!");
+        }
+
+        return new W3CDom().fromJsoup(Jsoup.parse(_html, "", Parser.xmlParser().settings(new ParseSettings(false, false))));
+    }
+
+    //========================= Classes ========================================
+}
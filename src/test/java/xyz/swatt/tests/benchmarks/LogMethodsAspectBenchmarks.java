@@ -0,0 +1,107 @@
+package xyz.swatt.tests.benchmarks;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import xyz.swatt.log.LogMethods;
+import xyz.swatt.log.LogMethodsAspect;
+
+/**
+ * Measures the overhead that {@link LogMethodsAspect} adds to a tiny {@link LogMethods} getter, when its Logger's level is off;
+ * compared to the same getter without the annotation.
+ * <p>
+ *     The number of calls is set with the {@code swatt.benchmark.logMethods.count} System Property (default: 1,000,000).
+ * </p>
+ */
+public class LogMethodsAspectBenchmarks {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(LogMethodsAspectBenchmarks.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+    /**
+     * Keeps the getter calls from being optimized away.
+     */
+    private long total;
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void disabledLoggingBenchmark() {
+
+        LOGGER.info("disabledLoggingBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final int COUNT = Integer.getInteger("swatt.benchmark.logMethods.count", 1_000_000);
+
+        //------------------------ Variables -----------------------------------
+        PlainGetter plainGetter = new PlainGetter();
+        LoggedGetter loggedGetter;
+
+        //------------------------ Code ----------------------------------------
+        // Turn off both the getter's logs, and the Aspect's own.
+        Configurator.setLevel(LoggedGetter.class.getName(), Level.OFF);
+        Configurator.setLevel(LogMethodsAspect.class.getName(), Level.OFF);
+        try {
+            loggedGetter = new LoggedGetter();
+
+            long plainNanos = BenchmarkHelper.averageNanos(1, 5, () -> {
+                for(int i = 0; i < COUNT; i++) {
+                    total += plainGetter.getValue(i);
+                }
+            });
+            long loggedNanos = BenchmarkHelper.averageNanos(1, 5, () -> {
+                for(int i = 0; i < COUNT; i++) {
+                    total += loggedGetter.getValue(i);
+                }
+            });
+
+            LOGGER.info("{} Calls - Plain: {}; @LogMethods (Disabled): {} ({} ns/call overhead)", COUNT, BenchmarkHelper.toMs(plainNanos),
+                    BenchmarkHelper.toMs(loggedNanos), (loggedNanos - plainNanos) / COUNT);
+
+            // No Strings are built, and no Reflection is done; so a disabled call should cost well under a microsecond.
+            Assert.assertTrue((loggedNanos - plainNanos) / COUNT < 1_000, "Disabled @LogMethods overhead was over 1 microsecond per call!");
+        }
+        finally {
+            Configurator.setLevel(LoggedGetter.class.getName(), Level.TRACE);
+            Configurator.setLevel(LogMethodsAspect.class.getName(), Level.TRACE);
+        }
+
+        LOGGER.debug("disabledLoggingBenchmark() [END]: {}", total);
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+    private static class PlainGetter {
+
+        int getValue(int _value) {
+            return _value & 0xFF;
+        }
+    }
+
+    @LogMethods
+    private static class LoggedGetter {
+
+        int getValue(int _value) {
+            return _value & 0xFF;
+        }
+    }
+}
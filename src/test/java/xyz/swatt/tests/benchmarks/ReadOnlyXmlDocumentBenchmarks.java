@@ -0,0 +1,161 @@
+package xyz.swatt.tests.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.xml.ReadOnlyXmlDocument;
+import xyz.swatt.xml.XmlDocumentHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compares the Heap used by a {@link ReadOnlyXmlDocument} (Saxon TinyTree) against a W3C {@link Document} (Xerces DOM), for the same large XML file.
+ * <p>
+ *     The file size is set with the {@code swatt.benchmark.readOnlyXml.mb} System Property (default: 200 MB).
+ * </p>
+ * <p>
+ *     Also measures how XPath throughput on one shared {@link ReadOnlyXmlDocument} scales with the number of threads.
+ *     That file size is set with the {@code swatt.benchmark.concurrentXml.mb} System Property (default: 20 MB).
+ * </p>
+ */
+public class ReadOnlyXmlDocumentBenchmarks {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(ReadOnlyXmlDocumentBenchmarks.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void memoryBenchmark() throws IOException {
+
+        LOGGER.info("memoryBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final long MEGABYTES = BenchmarkHelper.megabytes("swatt.benchmark.readOnlyXml.mb", 200);
+        final String XPATH = "/catalog/record[@id = '1000']/name";
+
+        //------------------------ Variables -----------------------------------
+        File xmlFile = BenchmarkHelper.generateXmlFile(MEGABYTES);
+
+        //------------------------ Code ----------------------------------------
+        long tinyTreeBytes = BenchmarkHelper.retainedHeap(() -> ReadOnlyXmlDocument.from(xmlFile));
+        long domBytes = BenchmarkHelper.retainedHeap(() -> XmlDocumentHelper.getDocumentFrom(xmlFile));
+
+        ReadOnlyXmlDocument readOnly = ReadOnlyXmlDocument.from(xmlFile);
+        long tinyTreeXPathNanos = BenchmarkHelper.averageNanos(2, 5, () -> readOnly.getStringForXPath(XPATH));
+        Document dom = XmlDocumentHelper.getDocumentFrom(xmlFile);
+        long domXPathNanos = BenchmarkHelper.averageNanos(2, 5, () -> XmlDocumentHelper.getStringForXPath(dom, XPATH));
+
+        LOGGER.info("XML File: {}", BenchmarkHelper.toMb(xmlFile.length()));
+        LOGGER.info("TinyTree Heap: {}; XPath: {}", BenchmarkHelper.toMb(tinyTreeBytes), BenchmarkHelper.toMs(tinyTreeXPathNanos));
+        LOGGER.info("DOM Heap: {}; XPath: {}", BenchmarkHelper.toMb(domBytes), BenchmarkHelper.toMs(domXPathNanos));
+
+        Assert.assertTrue(tinyTreeBytes < domBytes, "TinyTree used more Heap than the DOM!");
+
+        LOGGER.debug("memoryBenchmark() [END]");
+    }
+
+    @Test
+    public void concurrentXPathBenchmark() throws Exception {
+
+        LOGGER.info("concurrentXPathBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final long MEGABYTES = BenchmarkHelper.megabytes("swatt.benchmark.concurrentXml.mb", 20);
+        final int QUERIES_PER_THREAD = 20;
+        final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
+
+        //------------------------ Variables -----------------------------------
+        ReadOnlyXmlDocument snapshot = XmlDocumentHelper.snapshot(XmlDocumentHelper.getDocumentFrom(BenchmarkHelper.generateXmlFile(MEGABYTES)));
+        double singleThreadThroughput = 0, maxThreadThroughput = 0;
+
+        //------------------------ Code ----------------------------------------
+        queryInParallel(snapshot, 1, QUERIES_PER_THREAD); // Warm up.
+
+        for(int threads = 1; threads <= MAX_THREADS; threads *= 2) {
+
+            long nanos = queryInParallel(snapshot, threads, QUERIES_PER_THREAD);
+            double throughput = threads * QUERIES_PER_THREAD / (nanos / 1_000_000_000.0);
+
+            LOGGER.info("{} Thread(s): {} XPaths/s ({} each)", threads, String.format("%.1f", throughput),
+                    BenchmarkHelper.toMs(nanos / QUERIES_PER_THREAD));
+
+            if(threads == 1) {
+                singleThreadThroughput = throughput;
+            }
+            maxThreadThroughput = throughput;
+        }
+
+        if(MAX_THREADS > 1) {
+            Assert.assertTrue(maxThreadThroughput > singleThreadThroughput, "Throughput did not go up with more Threads!");
+        }
+
+        LOGGER.debug("concurrentXPathBenchmark() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    /**
+     * Runs the given number of (full scan) XPath queries, on each of the given number of threads, all against the same Document.
+     *
+     * @return How long it took for all of the threads to finish, in nanoseconds.
+     */
+    private static long queryInParallel(ReadOnlyXmlDocument _snapshot, int _threads, int _queriesPerThread) throws Exception {
+
+        ExecutorService executorService = Executors.newFixedThreadPool(_threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for(int i = 0; i < _threads; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for(int j = 0; j < _queriesPerThread; j++) {
+                        _snapshot.getStringForXPath("count(//record[@type = 'odd'])");
+                    }
+                    return null;
+                }));
+            }
+
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for(Future<?> future : futures) {
+                future.get();
+            }
+
+            return System.nanoTime() - startNanos;
+        }
+        finally {
+            executorService.shutdown();
+        }
+    }
+
+
+    //========================= Classes ========================================
+}
@@ -0,0 +1,136 @@
+package xyz.swatt.tests.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import xyz.swatt.string.StringHelper;
+import xyz.swatt.string.StringHelper.CharacterSet;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Compares {@link StringHelper#normalize(String)} and {@link StringHelper#trim(String)} against the {@link String#replaceAll(String, String)} calls
+ * they are documented to be the same as (which compile their Pattern on every call).
+ * And compares {@link StringHelper#toString(File)} against reading the whole File with a {@link Scanner}.
+ * <p>
+ *     The number of calls is set with the {@code swatt.benchmark.stringHelper.count} System Property (default: 100,000),
+ *     and the file size with the {@code swatt.benchmark.stringHelper.mb} System Property (default: 50 MB).
+ * </p>
+ */
+public class StringHelperBenchmarks {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(StringHelperBenchmarks.class);
+
+    /**
+     * A typical Element text / Window title.
+     */
+    private static final String TEXT = "  Order Summary -\n\t Customer Account   Details ";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void whitespaceBenchmark() {
+
+        LOGGER.info("whitespaceBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final int COUNT = Integer.getInteger("swatt.benchmark.stringHelper.count", 100_000);
+        final String WHITESPACE = CharacterSet.ALL_WHITESPACE.toString();
+
+        //------------------------ Variables -----------------------------------
+
+        //------------------------ Code ----------------------------------------
+        long regexNormalizeNanos = BenchmarkHelper.averageNanos(COUNT / 10, COUNT, () -> TEXT.replaceAll(WHITESPACE + "+", " "));
+        long normalizeNanos = BenchmarkHelper.averageNanos(COUNT / 10, COUNT, () -> StringHelper.normalize(TEXT));
+
+        long regexTrimNanos = BenchmarkHelper.averageNanos(COUNT / 10, COUNT, () -> TEXT.replaceAll("^" + WHITESPACE + "+|" + WHITESPACE + "+$", ""));
+        long trimNanos = BenchmarkHelper.averageNanos(COUNT / 10, COUNT, () -> StringHelper.trim(TEXT));
+
+        LOGGER.info("Normalize - Regex: {}; StringHelper: {}", BenchmarkHelper.toMs(regexNormalizeNanos), BenchmarkHelper.toMs(normalizeNanos));
+        LOGGER.info("Trim - Regex: {}; StringHelper: {}", BenchmarkHelper.toMs(regexTrimNanos), BenchmarkHelper.toMs(trimNanos));
+
+        Assert.assertTrue(normalizeNanos < regexNormalizeNanos, "normalize() was slower than the Regex!");
+        Assert.assertTrue(trimNanos < regexTrimNanos, "trim() was slower than the Regex!");
+
+        LOGGER.debug("whitespaceBenchmark() [END]");
+    }
+
+    @Test
+    public void fileBenchmark() throws IOException {
+
+        LOGGER.info("fileBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final long MEGABYTES = BenchmarkHelper.megabytes("swatt.benchmark.stringHelper.mb", 50);
+
+        //------------------------ Variables -----------------------------------
+        File file = BenchmarkHelper.generateXmlFile(MEGABYTES);
+        String[] scannerString = new String[1], nioString = new String[1];
+        AtomicLong lineCharacters = new AtomicLong();
+
+        //------------------------ Code ----------------------------------------
+        long scannerNanos = BenchmarkHelper.averageNanos(1, 3, () -> scannerString[0] = scannerToString(file));
+        long nioNanos = BenchmarkHelper.averageNanos(1, 3, () -> nioString[0] = StringHelper.toString(file));
+        long linesNanos = BenchmarkHelper.averageNanos(1, 3, () -> {
+            lineCharacters.set(0);
+            try(Stream<String> lines = StringHelper.lines(file)) {
+                lines.forEach(_line -> lineCharacters.addAndGet(_line.length()));
+            }
+        });
+
+        LOGGER.info("File: {}", BenchmarkHelper.toMb(file.length()));
+        LOGGER.info("Scanner: {}; toString(File): {}; lines(File): {}", BenchmarkHelper.toMs(scannerNanos), BenchmarkHelper.toMs(nioNanos),
+                BenchmarkHelper.toMs(linesNanos));
+
+        // The Scanner's \Z delimiter drops the trailing line terminator.
+        Assert.assertTrue(nioString[0].startsWith(scannerString[0]));
+        Assert.assertEquals(nioString[0].trim(), scannerString[0].trim());
+        Assert.assertTrue(lineCharacters.get() > 0);
+        Assert.assertTrue(nioNanos < scannerNanos, "toString(File) was slower than a Scanner!");
+
+        LOGGER.debug("fileBenchmark() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    /**
+     * How {@link StringHelper#toString(File)} used to read Files.
+     */
+    private static String scannerToString(File _file) {
+
+        try(Scanner scanner = new Scanner(_file, StandardCharsets.UTF_8.toString())) {
+            scanner.useDelimiter("\\Z");
+            return scanner.hasNext() ? scanner.next() : "";
+        }
+        catch(FileNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //========================= Classes ========================================
+}
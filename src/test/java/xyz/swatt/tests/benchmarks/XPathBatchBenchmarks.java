@@ -0,0 +1,95 @@
+package xyz.swatt.tests.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.xml.ReadOnlyXmlDocument;
+import xyz.swatt.xml.XPathBatch;
+import xyz.swatt.xml.XmlDocumentHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares running a large set of XPaths one {@link XmlDocumentHelper#getStringsForXPath(org.w3c.dom.Node, String)} call at a time,
+ * against running them as an {@link XPathBatch}.
+ * <p>
+ *     The file size is set with the {@code swatt.benchmark.xPathBatch.mb} System Property (default: 5 MB),
+ *     and the number of XPaths with {@code swatt.benchmark.xPathBatch.count} (default: 200).
+ * </p>
+ */
+public class XPathBatchBenchmarks {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XPathBatchBenchmarks.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void batchBenchmark() throws IOException {
+
+        LOGGER.info("batchBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final long MEGABYTES = BenchmarkHelper.megabytes("swatt.benchmark.xPathBatch.mb", 5);
+        final int COUNT = Integer.getInteger("swatt.benchmark.xPathBatch.count", 200);
+
+        //------------------------ Variables -----------------------------------
+        File xmlFile = BenchmarkHelper.generateXmlFile(MEGABYTES);
+        Document document = XmlDocumentHelper.getDocumentFrom(xmlFile);
+        ReadOnlyXmlDocument readOnly = ReadOnlyXmlDocument.from(document);
+
+        Map<String, String> xPaths = new LinkedHashMap<>();
+        for(int i = 1; i <= COUNT; i++) {
+            // A mix of cheap (positional) and expensive (descendant search) XPaths, as in a typical validation step.
+            xPaths.put("xPath" + i, i % 4 == 0 ? "//record[@id = '" + i + "']/amount" : "/catalog/record[" + i + "]/name");
+        }
+        XPathBatch batch = new XPathBatch(xPaths);
+
+        //------------------------ Code ----------------------------------------
+        long individualNanos = BenchmarkHelper.averageNanos(1, 3, () -> {
+            for(String xPath : xPaths.values()) {
+                XmlDocumentHelper.getStringsForXPath(document, xPath);
+            }
+        });
+        long batchNanos = BenchmarkHelper.averageNanos(1, 3, () -> batch.evaluate(document));
+        long readOnlyBatchNanos = BenchmarkHelper.averageNanos(1, 3, () -> batch.evaluate(readOnly));
+        long parallelBatchNanos = BenchmarkHelper.averageNanos(1, 3, () -> batch.evaluateInParallel(readOnly, ForkJoinPool.commonPool()));
+
+        LOGGER.info("{} XPaths over {}:", COUNT, BenchmarkHelper.toMb(xmlFile.length()));
+        LOGGER.info("Individual Calls: {}", BenchmarkHelper.toMs(individualNanos));
+        LOGGER.info("Batch (DOM): {}", BenchmarkHelper.toMs(batchNanos));
+        LOGGER.info("Batch (Read-Only): {}", BenchmarkHelper.toMs(readOnlyBatchNanos));
+        LOGGER.info("Batch (Read-Only, Parallel): {}", BenchmarkHelper.toMs(parallelBatchNanos));
+
+        Assert.assertEquals(batch.evaluate(document), batch.evaluate(readOnly));
+        Assert.assertTrue(batchNanos < individualNanos, "Batch was slower than Individual Calls!");
+
+        LOGGER.debug("batchBenchmark() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+}
@@ -0,0 +1,94 @@
+package xyz.swatt.tests.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import xyz.swatt.xml.XmlDiff;
+import xyz.swatt.xml.XmlDocumentHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compares {@link XmlDiff} against checking a Document one XPath at a time, and against the DOM's own node by node {@link Document#isEqualNode(org.w3c.dom.Node)}.
+ * <p>
+ *     The Document size is set with the {@code swatt.benchmark.xmlDiff.mb} System Property (default: 10 MB).
+ * </p>
+ */
+public class XmlDiffBenchmarks {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XmlDiffBenchmarks.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void diffBenchmark() throws IOException {
+
+        LOGGER.info("diffBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final long MEGABYTES = BenchmarkHelper.megabytes("swatt.benchmark.xmlDiff.mb", 10);
+        final int XPATH_RECORDS = 100;
+
+        //------------------------ Variables -----------------------------------
+        File xmlFile = BenchmarkHelper.generateXmlFile(MEGABYTES);
+        Document expected = XmlDocumentHelper.getDocumentFrom(xmlFile);
+        Document actual = XmlDocumentHelper.getDocumentFrom(xmlFile);
+        XmlDiff xmlDiff = new XmlDiff();
+
+        // A couple of differences, in an otherwise identical Document.
+        XmlDocumentHelper.getNodeForXPath(actual, "/catalog/record[10]/amount").setTextContent("-1");
+        ((Element) XmlDocumentHelper.getNodeForXPath(actual, "/catalog/record[last()]")).setAttribute("type", "changed");
+
+        //------------------------ Code ----------------------------------------
+        long diffNanos = BenchmarkHelper.averageNanos(1, 3, () -> xmlDiff.compare(expected, actual));
+        long isEqualNodeNanos = BenchmarkHelper.averageNanos(1, 3, () -> expected.isEqualNode(actual));
+        long xPathNanos = BenchmarkHelper.averageNanos(0, 1, () -> {
+            for(int i = 1; i <= XPATH_RECORDS; i++) {
+                for(String field : new String[]{"name", "description", "amount"}) {
+                    String xPath = "/catalog/record[" + i + "]/" + field;
+                    XmlDocumentHelper.getStringForXPath(expected, xPath).equals(XmlDocumentHelper.getStringForXPath(actual, xPath));
+                }
+            }
+        });
+
+        List<XmlDiff.Difference> differences = xmlDiff.compare(expected, actual);
+
+        LOGGER.info("Comparing {}:", BenchmarkHelper.toMb(xmlFile.length()));
+        LOGGER.info("XmlDiff (Whole Document): {}", BenchmarkHelper.toMs(diffNanos));
+        LOGGER.info("isEqualNode (Whole Document, no Differences Reported): {}", BenchmarkHelper.toMs(isEqualNodeNanos));
+        LOGGER.info("XPath per Field (First {} Records Only): {}", XPATH_RECORDS, BenchmarkHelper.toMs(xPathNanos));
+        LOGGER.info("Differences: {}", differences);
+
+        Assert.assertEquals(differences.size(), 2, differences.toString());
+        Assert.assertEquals(differences.get(0).XPATH, "/catalog/record[10]/amount/text()");
+        Assert.assertTrue(diffNanos < xPathNanos, "XmlDiff of the whole Document was slower than XPaths of " + XPATH_RECORDS + " Records!");
+
+        LOGGER.debug("diffBenchmark() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+}
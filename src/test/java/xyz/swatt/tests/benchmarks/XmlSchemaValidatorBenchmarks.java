@@ -0,0 +1,141 @@
+package xyz.swatt.tests.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import xyz.swatt.xml.XmlDocumentHelper;
+import xyz.swatt.xml.XmlSchemaValidator;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.SchemaFactory;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Measures {@link XmlSchemaValidator}:
+ * <ul>
+ *     <li>Compiling the XSD for every validation, against the cached Schema and per-thread Validator, over many small Files.</li>
+ *     <li>Streaming validation of a large File, against parsing it into a Document and validating that.</li>
+ * </ul>
+ * <p>
+ *     The large file size is set with the {@code swatt.benchmark.schema.mb} System Property (default: 50 MB),
+ *     and the number of small Files with {@code swatt.benchmark.schema.count} (default: 500).
+ * </p>
+ */
+public class XmlSchemaValidatorBenchmarks {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XmlSchemaValidatorBenchmarks.class);
+
+    /**
+     * Matches the Files generated by {@link BenchmarkHelper#generateXmlFile(long)}.
+     */
+    private static final String XSD = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\""
+            + " targetNamespace=\"http://swatt.xyz/benchmark\" xmlns=\"http://swatt.xyz/benchmark\" elementFormDefault=\"qualified\">"
+            + "<xs:element name=\"catalog\"><xs:complexType><xs:sequence>"
+            + "<xs:element name=\"record\" minOccurs=\"0\" maxOccurs=\"unbounded\"><xs:complexType><xs:sequence>"
+            + "<xs:element name=\"name\" type=\"xs:string\"/>"
+            + "<xs:element name=\"description\" type=\"xs:string\"/>"
+            + "<xs:element name=\"amount\" type=\"xs:decimal\"/>"
+            + "<xs:element name=\"tags\"><xs:complexType><xs:sequence>"
+            + "<xs:element name=\"tag\" type=\"xs:string\" maxOccurs=\"unbounded\"/>"
+            + "</xs:sequence></xs:complexType></xs:element>"
+            + "</xs:sequence>"
+            + "<xs:attribute name=\"id\" type=\"xs:int\" use=\"required\"/>"
+            + "<xs:attribute name=\"type\" type=\"xs:string\"/>"
+            + "</xs:complexType></xs:element>"
+            + "</xs:sequence></xs:complexType></xs:element>"
+            + "</xs:schema>";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void cachedSchemaBenchmark() throws IOException {
+
+        LOGGER.info("cachedSchemaBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final int COUNT = Integer.getInteger("swatt.benchmark.schema.count", 500);
+
+        //------------------------ Variables -----------------------------------
+        File xsdFile = createXsdFile();
+        File xmlFile = BenchmarkHelper.generateXmlFile(0); // An empty catalog; so this mostly measures the Schema setup.
+
+        //------------------------ Code ----------------------------------------
+        long compiledEachTimeNanos = BenchmarkHelper.averageNanos(COUNT / 10, COUNT, () -> {
+            try {
+                SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(xsdFile).newValidator().validate(new StreamSource(xmlFile));
+            }
+            catch(Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        long cachedNanos = BenchmarkHelper.averageNanos(COUNT / 10, COUNT, () -> XmlSchemaValidator.from(xsdFile).validate(xmlFile));
+
+        LOGGER.info("Compiled Each Time: {} per File", BenchmarkHelper.toMs(compiledEachTimeNanos));
+        LOGGER.info("Cached XmlSchemaValidator: {} per File", BenchmarkHelper.toMs(cachedNanos));
+
+        Assert.assertTrue(XmlSchemaValidator.from(xsdFile).isValid(xmlFile), XmlSchemaValidator.from(xsdFile).validate(xmlFile).toString());
+        Assert.assertTrue(cachedNanos < compiledEachTimeNanos, "Cached Schema was slower than compiling it each time!");
+
+        LOGGER.debug("cachedSchemaBenchmark() [END]");
+    }
+
+    @Test
+    public void streamingBenchmark() throws IOException {
+
+        LOGGER.info("streamingBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final long MEGABYTES = BenchmarkHelper.megabytes("swatt.benchmark.schema.mb", 50);
+
+        //------------------------ Variables -----------------------------------
+        XmlSchemaValidator validator = XmlSchemaValidator.from(createXsdFile());
+        File xmlFile = BenchmarkHelper.generateXmlFile(MEGABYTES);
+
+        //------------------------ Code ----------------------------------------
+        long streamingNanos = BenchmarkHelper.averageNanos(1, 3, () -> Assert.assertTrue(validator.isValid(xmlFile)));
+        long domNanos = BenchmarkHelper.averageNanos(1, 3, () -> Assert.assertTrue(validator.isValid(XmlDocumentHelper.getDocumentFrom(xmlFile))));
+
+        LOGGER.info("XML File: {}", BenchmarkHelper.toMb(xmlFile.length()));
+        LOGGER.info("Streaming: {}; Document: {}", BenchmarkHelper.toMs(streamingNanos), BenchmarkHelper.toMs(domNanos));
+
+        Assert.assertTrue(streamingNanos < domNanos, "Streaming validation was slower than building a Document!");
+
+        LOGGER.debug("streamingBenchmark() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    private static File createXsdFile() throws IOException {
+
+        File xsdFile = File.createTempFile("swatt-benchmark-", ".xsd");
+        xsdFile.deleteOnExit();
+        Files.write(xsdFile.toPath(), XSD.getBytes(StandardCharsets.UTF_8));
+
+        return xsdFile;
+    }
+
+    //========================= Classes ========================================
+}
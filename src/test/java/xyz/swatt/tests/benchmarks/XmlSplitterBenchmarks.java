@@ -0,0 +1,91 @@
+package xyz.swatt.tests.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.xml.StreamingXPath;
+import xyz.swatt.xml.XmlDocumentHelper;
+import xyz.swatt.xml.XmlSplitter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Compares processing each record of a large XML File on the reading thread ({@link StreamingXPath#forEachNode(File, Consumer)}),
+ * against processing them on multiple threads while the File is still being read ({@link XmlSplitter}).
+ * <p>
+ *     The file size is set with the {@code swatt.benchmark.splitter.mb} System Property (default: 20 MB).
+ * </p>
+ */
+public class XmlSplitterBenchmarks {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XmlSplitterBenchmarks.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void splitterBenchmark() throws IOException {
+
+        LOGGER.info("splitterBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final long MEGABYTES = BenchmarkHelper.megabytes("swatt.benchmark.splitter.mb", 20);
+        final int THREADS = Runtime.getRuntime().availableProcessors();
+
+        //------------------------ Variables -----------------------------------
+        File xmlFile = BenchmarkHelper.generateXmlFile(MEGABYTES);
+        StreamingXPath recordXPath = StreamingXPath.compile("/catalog/record");
+        XmlSplitter splitter = new XmlSplitter(recordXPath, THREADS, THREADS * 2);
+
+        AtomicLong singleThreadTotal = new AtomicLong(), splitterTotal = new AtomicLong();
+
+        //------------------------ Code ----------------------------------------
+        long singleThreadNanos = BenchmarkHelper.averageNanos(0, 1, () -> recordXPath.forEachNode(xmlFile, _record -> process(_record, singleThreadTotal)));
+        long splitterNanos = BenchmarkHelper.averageNanos(0, 1, () -> splitter.split(xmlFile, _record -> process(_record, splitterTotal)));
+
+        LOGGER.info("XML File: {}", BenchmarkHelper.toMb(xmlFile.length()));
+        LOGGER.info("Single Thread: {}; XmlSplitter ({} Threads): {}", BenchmarkHelper.toMs(singleThreadNanos), THREADS, BenchmarkHelper.toMs(splitterNanos));
+
+        Assert.assertEquals(splitterTotal.get(), singleThreadTotal.get());
+        if(THREADS > 1) {
+            Assert.assertTrue(splitterNanos < singleThreadNanos, "XmlSplitter was slower than a single Thread!");
+        }
+
+        LOGGER.debug("splitterBenchmark() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    /**
+     * A typical per-record check: a few XPaths on the record.
+     */
+    private static void process(Document _record, AtomicLong _total) {
+
+        String id = XmlDocumentHelper.getStringForXPath(_record, "/record/@id");
+        XmlDocumentHelper.getStringsForXPath(_record, "/record/tags/tag");
+
+        _total.addAndGet(Long.parseLong(id));
+    }
+
+    //========================= Classes ========================================
+}
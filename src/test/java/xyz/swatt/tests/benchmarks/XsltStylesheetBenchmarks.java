@@ -0,0 +1,93 @@
+package xyz.swatt.tests.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.xml.XmlDocumentHelper;
+import xyz.swatt.xml.XsltStylesheet;
+
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+import java.io.StringReader;
+
+/**
+ * Compares compiling an XSLT Stylesheet for every response (as a hand-rolled {@link TransformerFactory} call does),
+ * against looking up the cached, compiled, {@link XsltStylesheet}; in a load-style loop over many small responses.
+ * <p>
+ *     The number of responses is set with the {@code swatt.benchmark.xslt.count} System Property (default: 500).
+ * </p>
+ */
+public class XsltStylesheetBenchmarks {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XsltStylesheetBenchmarks.class);
+
+    private static final String XSLT = "<xsl:stylesheet version=\"2.0\" xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\""
+            + " xmlns:b=\"http://swatt.xyz/benchmark\">"
+            + "<xsl:template match=\"/b:catalog\"><names><xsl:apply-templates select=\"b:record\"/></names></xsl:template>"
+            + "<xsl:template match=\"b:record\"><name id=\"{@id}\"><xsl:value-of select=\"b:name\"/></name></xsl:template>"
+            + "</xsl:stylesheet>";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void cachedStylesheetBenchmark() {
+
+        LOGGER.info("cachedStylesheetBenchmark() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final int COUNT = Integer.getInteger("swatt.benchmark.xslt.count", 500);
+
+        //------------------------ Variables -----------------------------------
+        StringBuilder response = new StringBuilder("<catalog xmlns=\"http://swatt.xyz/benchmark\">");
+        for(int i = 1; i <= 20; i++) {
+            response.append("<record id=\"").append(i).append("\"><name>Record ").append(i).append("</name></record>");
+        }
+        Document document = XmlDocumentHelper.getDocumentFrom(response.append("</catalog>").toString());
+
+        //------------------------ Code ----------------------------------------
+        long compiledEachTimeNanos = BenchmarkHelper.averageNanos(COUNT / 10, COUNT, () -> {
+            try {
+                TransformerFactory.newInstance().newTransformer(new StreamSource(new StringReader(XSLT)))
+                        .transform(new DOMSource(document), new DOMResult(XmlDocumentHelper.createNewDocument()));
+            }
+            catch(TransformerException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        long cachedNanos = BenchmarkHelper.averageNanos(COUNT / 10, COUNT, () -> XsltStylesheet.from(XSLT).transform(document));
+
+        LOGGER.info("Compiled Each Time: {} per response", BenchmarkHelper.toMs(compiledEachTimeNanos));
+        LOGGER.info("Cached XsltStylesheet: {} per response", BenchmarkHelper.toMs(cachedNanos));
+
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(XsltStylesheet.from(XSLT).transform(document), "/names/name[@id = '20']"), "Record 20");
+        Assert.assertTrue(cachedNanos < compiledEachTimeNanos, "Cached Stylesheet was slower than compiling it each time!");
+
+        LOGGER.debug("cachedStylesheetBenchmark() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+}
@@ -0,0 +1,7 @@
+/**
+ * This package of tests is <b>only</b> used for measuring performance (time &amp; memory) and is not part of the Regression Tests.
+ * <p>
+ *     Run it with the "benchmark-tests.xml" TestNG Suite, and give the JVM enough Heap for the configured document sizes (i.e. {@code -Xmx4g}).
+ * </p>
+ */
+package xyz.swatt.tests.benchmarks;
@@ -0,0 +1,140 @@
+package xyz.swatt.tests.log;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import xyz.swatt.log.AsyncLogBuffer;
+import xyz.swatt.log.LogMethods;
+import xyz.swatt.log.LogMethodsAspect;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class will test the {@link AsyncLogBuffer} class, and {@link LogMethodsAspect.Mode#ASYNC_LOG} mode.
+ */
+public class AsyncLogBufferTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(AsyncLogBufferTests.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void blockTest() throws InterruptedException {
+
+        LOGGER.info("blockTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final int THREADS = 4, CALLS = 5_000;
+
+        //------------------------ Variables -----------------------------------
+        LogMethodsAspect.Mode originalMode = LogMethodsAspect.mode;
+        AsyncLogBuffer.OverflowPolicy originalPolicy = AsyncLogBuffer.overflowPolicy;
+        long logged = AsyncLogBuffer.getLoggedCount(), dropped = AsyncLogBuffer.getDroppedCount();
+        Thread[] threads = new Thread[THREADS];
+
+        //------------------------ Code ----------------------------------------
+        LogMethodsAspect.mode = LogMethodsAspect.Mode.ASYNC_LOG;
+        AsyncLogBuffer.overflowPolicy = AsyncLogBuffer.OverflowPolicy.BLOCK;
+        try {
+            AsyncClass asyncClass = new AsyncClass();
+            for(int i = 0; i < THREADS; i++) {
+                threads[i] = new Thread(() -> {
+                    for(int call = 0; call < CALLS; call++) {
+                        asyncClass.call(call);
+                    }
+                });
+                threads[i].start();
+            }
+            for(Thread thread : threads) {
+                thread.join();
+            }
+        }
+        finally {
+            LogMethodsAspect.mode = originalMode;
+            AsyncLogBuffer.overflowPolicy = originalPolicy;
+        }
+
+        Assert.assertTrue(AsyncLogBuffer.flush(TimeUnit.SECONDS.toMillis(30)), "Buffer was not flushed!");
+        Assert.assertEquals(AsyncLogBuffer.getLoggedCount() - logged, 2L * THREADS * CALLS); // [START] & [END].
+        Assert.assertEquals(AsyncLogBuffer.getDroppedCount() - dropped, 0);
+
+        LOGGER.debug("blockTest() [END]");
+    }
+
+    @Test
+    public void dropTest() {
+
+        LOGGER.info("dropTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final int CALLS = 10_000; // More logs than the buffer holds.
+
+        //------------------------ Variables -----------------------------------
+        LogMethodsAspect.Mode originalMode = LogMethodsAspect.mode;
+        AsyncLogBuffer.OverflowPolicy originalPolicy = AsyncLogBuffer.overflowPolicy;
+        long logged = AsyncLogBuffer.getLoggedCount(), dropped = AsyncLogBuffer.getDroppedCount();
+
+        //------------------------ Code ----------------------------------------
+        // Slows down the background thread, so the buffer fills.
+        LogMethodsAspect.registerRenderer(SlowValue.class, (_value, _logString) -> {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            _logString.append("SlowValue");
+        });
+
+        LogMethodsAspect.mode = LogMethodsAspect.Mode.ASYNC_LOG;
+        AsyncLogBuffer.overflowPolicy = AsyncLogBuffer.OverflowPolicy.DROP;
+        try {
+            AsyncClass asyncClass = new AsyncClass();
+            for(int call = 0; call < CALLS; call++) {
+                asyncClass.call(new SlowValue());
+            }
+        }
+        finally {
+            LogMethodsAspect.mode = originalMode;
+            AsyncLogBuffer.overflowPolicy = originalPolicy;
+        }
+
+        Assert.assertTrue(AsyncLogBuffer.flush(TimeUnit.SECONDS.toMillis(30)), "Buffer was not flushed!");
+        Assert.assertTrue(AsyncLogBuffer.getDroppedCount() - dropped > 0, "No logs were dropped!");
+        Assert.assertEquals(AsyncLogBuffer.getLoggedCount() - logged + AsyncLogBuffer.getDroppedCount() - dropped, 2L * CALLS);
+
+        LOGGER.debug("dropTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+    /**
+     * Its Logger has no Appenders (see log4j2.xml); so these logs are formatted, but not written anywhere.
+     */
+    @LogMethods(duration = false)
+    private static class AsyncClass {
+
+        public int call(Object _value) {
+            return 1;
+        }
+    }
+
+    private static class SlowValue {}
+}
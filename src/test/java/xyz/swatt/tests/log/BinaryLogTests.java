@@ -0,0 +1,206 @@
+package xyz.swatt.tests.log;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import xyz.swatt.log.BinaryLogDecoder;
+import xyz.swatt.log.BinaryLogWriter;
+import xyz.swatt.log.LogMethods;
+import xyz.swatt.log.LogMethodsAspect;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class will test the {@link BinaryLogWriter} &amp; {@link BinaryLogDecoder} classes, and {@link LogMethodsAspect.Mode#BINARY_LOG} mode.
+ */
+public class BinaryLogTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(BinaryLogTests.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void binaryLogModeTest() throws IOException {
+
+        LOGGER.info("binaryLogModeTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String LOGGER_NAME = BinaryClass.class.getName();
+
+        //------------------------ Variables -----------------------------------
+        LogMethodsAspect.Mode originalMode = LogMethodsAspect.mode;
+        File file = File.createTempFile("swatt-binary-log-", ".bin");
+        file.deleteOnExit();
+        StringBuilder text = new StringBuilder(), csv = new StringBuilder();
+
+        //------------------------ Code ----------------------------------------
+        BinaryLogWriter.open(file);
+        LogMethodsAspect.mode = LogMethodsAspect.Mode.BINARY_LOG;
+        try {
+            BinaryClass binaryClass = new BinaryClass();
+            binaryClass.join("Hello, \"World\"", 2, Arrays.asList('a', 'b'));
+            binaryClass.join(null, 0, null);
+        }
+        finally {
+            LogMethodsAspect.mode = originalMode;
+            BinaryLogWriter.close();
+        }
+
+        BinaryLogDecoder.decode(file, false, text);
+        BinaryLogDecoder.decode(file, true, csv);
+
+        ///// Text /////
+        List<String> lines = Arrays.asList(text.toString().split(System.lineSeparator()));
+        Assert.assertTrue(lines.stream().anyMatch(_line -> _line.endsWith(" INFO  " + LOGGER_NAME + " [" + Thread.currentThread().getName()
+                + "] - join(_text: Hello, \"World\", _count: 2, _characters: [a, b]) [START]")), text.toString());
+        Assert.assertTrue(lines.stream().anyMatch(_line -> _line.endsWith(" DEBUG " + LOGGER_NAME + " [" + Thread.currentThread().getName()
+                + "] - join(_text: (NULL), _count: 0, _characters: (NULL)) [END]")), text.toString());
+        Assert.assertTrue(lines.contains("\t=> Hello, \"World\"Hello, \"World\"[a, b]"), text.toString());
+
+        ///// CSV /////
+        List<String> rows = Arrays.asList(csv.toString().split(System.lineSeparator()));
+        Assert.assertEquals(rows.get(0), "Time,Level,Logger,Thread,Method,Event,Duration (ns),Arguments,Result");
+        Assert.assertTrue(rows.stream().anyMatch(_row -> _row.contains(",DEBUG," + LOGGER_NAME + "," + Thread.currentThread().getName()
+                + ",join,END,") && _row.endsWith(",\"_text: Hello, \"\"World\"\", _count: 2, _characters: [a, b]\",\"Hello, \"\"World\"\"Hello, \"\"World\"\"[a, b]\"")),
+                csv.toString());
+
+        LOGGER.debug("binaryLogModeTest() [END]");
+    }
+
+    @Test
+    public void multiThreadedTest() throws IOException, InterruptedException {
+
+        LOGGER.info("multiThreadedTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final int THREADS = 4, CALLS = 2_000;
+
+        //------------------------ Variables -----------------------------------
+        LogMethodsAspect.Mode originalMode = LogMethodsAspect.mode;
+        File file = File.createTempFile("swatt-binary-log-", ".bin");
+        file.deleteOnExit();
+        StringBuilder text = new StringBuilder();
+        Thread[] threads = new Thread[THREADS];
+
+        //------------------------ Code ----------------------------------------
+        BinaryLogWriter.open(file);
+        LogMethodsAspect.mode = LogMethodsAspect.Mode.BINARY_LOG;
+        try {
+            BinaryClass binaryClass = new BinaryClass();
+            for(int i = 0; i < THREADS; i++) {
+                String name = "Thread-" + i;
+                threads[i] = new Thread(() -> {
+                    for(int call = 0; call < CALLS; call++) {
+                        binaryClass.join(name, call, null);
+                    }
+                }, "binary-log-" + i);
+                threads[i].start();
+            }
+            for(Thread thread : threads) {
+                thread.join();
+            }
+        }
+        finally {
+            LogMethodsAspect.mode = originalMode;
+            BinaryLogWriter.close();
+        }
+
+        BinaryLogDecoder.decode(file, false, text);
+
+        // Every thread's records are all there, in the order they were written.
+        List<String> lines = Arrays.asList(text.toString().split(System.lineSeparator()));
+        for(int i = 0; i < THREADS; i++) {
+
+            String thread = " [binary-log-" + i + "] - join(_text: Thread-" + i + ", _count: ";
+            int call = 0;
+            boolean start = true;
+            for(String line : lines) {
+                if(line.contains(thread)) {
+                    Assert.assertTrue(line.endsWith(thread + call + ", _characters: (NULL)) " + (start ? "[START]" : "[END]")), line);
+                    call += start ? 0 : 1;
+                    start = !start;
+                }
+            }
+            Assert.assertEquals(call, CALLS, "Thread " + i + "'s [END] logs.");
+        }
+
+        LOGGER.debug("multiThreadedTest() [END]");
+    }
+
+    @Test
+    public void closedTest() throws IOException {
+
+        LOGGER.info("closedTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        LogMethodsAspect.Mode originalMode = LogMethodsAspect.mode;
+        File file = File.createTempFile("swatt-binary-log-", ".bin");
+        file.deleteOnExit();
+        long length;
+
+        //------------------------ Code ----------------------------------------
+        BinaryLogWriter.open(file);
+        LogMethodsAspect.mode = LogMethodsAspect.Mode.BINARY_LOG;
+        try {
+            new BinaryClass().join("Before", 1, null);
+            BinaryLogWriter.close();
+            length = file.length();
+
+            // Dropped; neither re-opening the default File, nor touching the closed one.
+            new BinaryClass().join("After", 1, null);
+        }
+        finally {
+            LogMethodsAspect.mode = originalMode;
+            BinaryLogWriter.close();
+        }
+
+        Assert.assertNull(BinaryLogWriter.getFile());
+        Assert.assertEquals(file.length(), length);
+
+        LOGGER.debug("closedTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+    @LogMethods(duration = false)
+    private static class BinaryClass {
+
+        public String join(String _text, int _count, List<Character> _characters) {
+
+            StringBuilder joined = new StringBuilder();
+            for(int i = 0; i < _count; i++) {
+                joined.append(_text);
+            }
+
+            return _characters == null ? joined.toString() : joined.append(_characters).toString();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package xyz.swatt.tests.log;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import xyz.swatt.log.FlameGraph;
+import xyz.swatt.log.LogMethods;
+import xyz.swatt.log.LogMethodsAspect;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * This class will test the {@link FlameGraph} class, and {@link LogMethodsAspect.Mode#FLAME_GRAPH} mode.
+ */
+public class FlameGraphTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(FlameGraphTests.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void flameGraphModeTest() throws IOException {
+
+        LOGGER.info("flameGraphModeTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String CLASS = ProfiledClass.class.getName(),
+                OUTER = CLASS + ".outer()",
+                INNER = CLASS + ".inner(long)",
+                FAILING = CLASS + ".failing()";
+
+        //------------------------ Variables -----------------------------------
+        LogMethodsAspect.Mode originalMode = LogMethodsAspect.mode;
+        File file = File.createTempFile("swatt-flame-graph-", ".txt");
+        file.deleteOnExit();
+
+        //------------------------ Code ----------------------------------------
+        LogMethodsAspect.mode = LogMethodsAspect.Mode.FLAME_GRAPH;
+        try {
+            ProfiledClass profiledClass = new ProfiledClass();
+            profiledClass.outer();
+            try {
+                profiledClass.failing();
+                Assert.fail("failing() did not throw an Exception!");
+            }
+            catch(IllegalStateException e) {
+                // Expected.
+            }
+            profiledClass.inner(1); // Back at the top of the call path, after the Exception.
+        }
+        finally {
+            LogMethodsAspect.mode = originalMode;
+        }
+
+        String collapsedStacks = FlameGraph.toCollapsedStacks();
+        List<String> lines = Arrays.asList(collapsedStacks.split("\n"));
+
+        assertHasPath(lines, OUTER + ";" + INNER, 20_000); // 2 calls of 10 ms.
+        assertHasPath(lines, INNER, 1_000);
+        assertHasPath(lines, FAILING, 0);
+        Assert.assertTrue(lines.stream().noneMatch(_line -> _line.startsWith(FAILING + ";") || _line.startsWith(INNER + ";")), collapsedStacks);
+
+        FlameGraph.writeTo(file);
+        Assert.assertEquals(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8), collapsedStacks);
+
+        FlameGraph.reset(); // So the file is not written at shutdown.
+        Assert.assertEquals(FlameGraph.toCollapsedStacks(), "");
+
+        LOGGER.debug("flameGraphModeTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    /**
+     * Checks that there is a line for the given call path, with at least the given self time.
+     */
+    private static void assertHasPath(List<String> _lines, String _path, long _minMicros) {
+
+        String line = _lines.stream().filter(_line -> _line.matches(Pattern.quote(_path) + " [0-9]+")).findFirst().orElse(null);
+
+        Assert.assertNotNull(line, "No line for: " + _path + "\n" + String.join("\n", _lines));
+        Assert.assertTrue(Long.parseLong(line.substring(line.lastIndexOf(' ') + 1)) >= _minMicros, line);
+    }
+
+    //========================= Classes ========================================
+    @LogMethods
+    private static class ProfiledClass {
+
+        void outer() {
+            inner(10);
+            inner(10);
+        }
+
+        void inner(long _sleepMillis) {
+            try {
+                Thread.sleep(_sleepMillis);
+            }
+            catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void failing() {
+            try {
+                Thread.sleep(1);
+            }
+            catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("Expected Exception");
+        }
+    }
+}
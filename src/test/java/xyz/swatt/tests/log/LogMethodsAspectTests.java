@@ -5,11 +5,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import xyz.swatt.log.LogMethodsAspect;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -83,6 +86,13 @@ public class LogMethodsAspectTests {
         ////////// @LogMethods Argument Tests //////////
         sampleClass.skipMethod();
 
+        for(int i = 0; i < 6; i++) {
+            sampleClass.sampledMethod(i); // Only calls 0 and 3 are logged.
+        }
+
+        sampleClass.slowMethod(0); // Not logged.
+        sampleClass.slowMethod(100);
+
         // TODO: Test @LogMethods(arguments = false, returns = false)
 
         // TODO: Validate Enums.
@@ -119,7 +129,52 @@ public class LogMethodsAspectTests {
         LOGGER.debug("validateLogs() [END]");
     }
 
+    @Test
+    public void renderTest() {
+
+        LOGGER.info("renderTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        char[] longText = new char[LogMethodsAspect.maxLoggedCharacters + 1];
+        Arrays.fill(longText, 'x');
+
+        //------------------------ Code ----------------------------------------
+        ////////// Small Values are the same as toString() //////////
+        Assert.assertEquals(render(null), "(NULL)");
+        Assert.assertEquals(render(new int[]{1, 2, 3}), "[1, 2, 3]");
+        Assert.assertEquals(render(new String[][]{{"a", null}, {"b"}}), "[[a, null], [b]]");
+        Assert.assertEquals(render(Arrays.asList("X", "Y", "Z")), "[X, Y, Z]");
+        Assert.assertEquals(render(Collections.singletonMap("a", 1)), "{a=1}");
+
+        ////////// Large Values are truncated //////////
+        Assert.assertEquals(render(new byte[]{0x0F, (byte) 0xA0}), "byte[2]: 0x0FA0");
+        Assert.assertTrue(render(new byte[1024 * 1024]).startsWith("byte[1048576]: 0x00"));
+        Assert.assertTrue(render(new byte[1024 * 1024]).length() < 100);
+        Assert.assertTrue(render(new long[100_000]).endsWith(", ... (100000 total)]"));
+        Assert.assertTrue(render(new ArrayList<>(Collections.nCopies(100_000, "row"))).endsWith("row, ... (100000 total)]"));
+        Assert.assertTrue(render(new String(longText)).endsWith("x... (" + longText.length + " characters)"));
+
+        ////////// Custom Renderers //////////
+        LogMethodsAspect.registerRenderer(Secret.class, (_secret, _logString) -> _logString.append("****"));
+        Assert.assertEquals(render(new Secret()), "****");
+        Assert.assertEquals(render(Collections.singletonList(new Secret())), "[****]");
+
+        LOGGER.debug("renderTest() [END]");
+    }
+
     //========================= Methods for Internal Use =======================
+    private static String render(Object _object) {
+
+        StringBuilder logString = new StringBuilder();
+        LogMethodsAspect.render(_object, logString);
+
+        return logString.toString();
+    }
 
     //========================= Classes ========================================
+    private static class Secret {}
 }
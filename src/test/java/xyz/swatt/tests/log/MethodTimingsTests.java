@@ -0,0 +1,125 @@
+package xyz.swatt.tests.log;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import xyz.swatt.log.LogMethods;
+import xyz.swatt.log.LogMethodsAspect;
+import xyz.swatt.log.MethodTimings;
+
+/**
+ * This class will test the {@link MethodTimings} class, and {@link LogMethodsAspect.Mode#METRICS} mode.
+ */
+public class MethodTimingsTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(MethodTimingsTests.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void histogramTest() {
+
+        LOGGER.info("histogramTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        MethodTimings.Timing timing = MethodTimings.forMethod(MethodTimingsTests.class.getName() + ".histogramTest()");
+
+        //------------------------ Code ----------------------------------------
+        for(int i = 1; i <= 1000; i++) { // 1 to 1000 microseconds.
+            timing.record(i * 1000L);
+        }
+
+        Assert.assertSame(MethodTimings.forMethod(timing.METHOD), timing);
+        Assert.assertEquals(timing.getCount(), 1000);
+        Assert.assertEquals(timing.getTotalNanos(), 500_500_000L);
+        Assert.assertEquals(timing.getMaxNanos(), 1_000_000L);
+
+        assertWithinBucket(timing.getPercentileNanos(50), 500_000);
+        assertWithinBucket(timing.getPercentileNanos(95), 950_000);
+        assertWithinBucket(timing.getPercentileNanos(99), 990_000);
+        Assert.assertEquals(timing.getPercentileNanos(100), timing.getMaxNanos());
+
+        Assert.assertTrue(MethodTimings.toTable().contains(timing.METHOD));
+
+        MethodTimings.reset(); // So nothing is left for the shutdown hook.
+        Assert.assertEquals(timing.getCount(), 0);
+
+        LOGGER.debug("histogramTest() [END]");
+    }
+
+    @Test
+    public void metricsModeTest() {
+
+        LOGGER.info("metricsModeTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String RUN_METHOD = TimedClass.class.getName() + ".run(int)",
+                SKIPPED_METHOD = TimedClass.class.getName() + ".skipped()";
+
+        //------------------------ Variables -----------------------------------
+        LogMethodsAspect.Mode originalMode = LogMethodsAspect.mode;
+
+        //------------------------ Code ----------------------------------------
+        LogMethodsAspect.mode = LogMethodsAspect.Mode.METRICS;
+        try {
+            TimedClass timedClass = new TimedClass();
+            for(int i = 0; i < 10; i++) {
+                timedClass.run(i);
+                timedClass.skipped();
+            }
+        }
+        finally {
+            LogMethodsAspect.mode = originalMode;
+        }
+
+        Assert.assertEquals(MethodTimings.forMethod(RUN_METHOD).getCount(), 10);
+        Assert.assertEquals(MethodTimings.forMethod(SKIPPED_METHOD).getCount(), 0);
+        Assert.assertTrue(MethodTimings.getTimings().stream().noneMatch(_timing -> _timing.METHOD.equals(SKIPPED_METHOD)));
+
+        MethodTimings.reset(); // So nothing is left for the shutdown hook.
+
+        LOGGER.debug("metricsModeTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    /**
+     * Percentiles are accurate to within 12.5%.
+     */
+    private static void assertWithinBucket(long _actual, long _expected) {
+        Assert.assertTrue(Math.abs(_actual - _expected) <= _expected / 8, "Expected about " + _expected + ", but was " + _actual);
+    }
+
+    //========================= Classes ========================================
+    @LogMethods
+    private static class TimedClass {
+
+        int run(int _value) {
+            return _value * 2;
+        }
+
+        @LogMethods(skip = true)
+        void skipped() {}
+    }
+}
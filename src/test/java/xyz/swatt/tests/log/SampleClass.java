@@ -106,5 +106,18 @@ public class SampleClass {
         return "Walla Walla Walla";
     }
 
+    @LogMethods(duration = false, sample = 3)
+    void sampledMethod(int _call) {}
+
+    @LogMethods(duration = false, minDurationMillis = 50)
+    void slowMethod(long _sleepMillis) {
+        try {
+            Thread.sleep(_sleepMillis);
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     //========================= Classes ========================================
 }
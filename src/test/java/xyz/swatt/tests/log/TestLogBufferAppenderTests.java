@@ -0,0 +1,140 @@
+package xyz.swatt.tests.log;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.IClass;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+import xyz.swatt.log.TestLogBufferAppender;
+import xyz.swatt.testng.listeners.TestNgLogBufferListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class will test the {@link TestLogBufferAppender} class, with the {@link TestNgLogBufferListener}.
+ * <p>(The Appender is configured in log4j2.xml, for the {@link #SAMPLE_LOGGER} only.)</p>
+ */
+public class TestLogBufferAppenderTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(TestLogBufferAppenderTests.class);
+
+    private static final Logger SAMPLE_LOGGER = LogManager.getLogger(TestLogBufferAppenderTests.class.getName() + ".Sample");
+
+    private static final File DIRECTORY = new File("test-output/test-logs");
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void listenerTest() throws IOException {
+
+        LOGGER.info("listenerTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String PREFIX = TestLogBufferAppenderTests.class.getName() + ".";
+        final TestNgLogBufferListener LISTENER = new TestNgLogBufferListener();
+
+        //------------------------ Variables -----------------------------------
+        File[] oldFiles = DIRECTORY.listFiles((_directory, _name) -> _name.startsWith(PREFIX));
+        for(File oldFile : oldFiles == null ? new File[0] : oldFiles) {
+            Files.delete(oldFile.toPath());
+        }
+
+        //------------------------ Code ----------------------------------------
+        ITestResult passing = testResult("passing");
+        LISTENER.onTestStart(passing);
+        SAMPLE_LOGGER.debug("Passing Debug");
+        SAMPLE_LOGGER.warn("Passing Warn");
+        LISTENER.onTestSuccess(passing);
+
+        ITestResult quiet = testResult("quiet");
+        LISTENER.onTestStart(quiet);
+        SAMPLE_LOGGER.debug("Quiet Debug");
+        LISTENER.onTestSuccess(quiet);
+
+        ITestResult failing = testResult("failing");
+        LISTENER.onTestStart(failing);
+        SAMPLE_LOGGER.trace("Failing Trace");
+        SAMPLE_LOGGER.debug("Failing Debug");
+        LISTENER.onTestFailure(failing);
+
+        ITestResult skipped = testResult("skipped");
+        LISTENER.onTestStart(skipped);
+        SAMPLE_LOGGER.info("Skipped Info");
+        LISTENER.onTestSkipped(skipped);
+
+        // Passing tests only keep WARN (and above).
+        Assert.assertEquals(readLines(new File(DIRECTORY, PREFIX + "passing-PASSED.log")), Arrays.asList("WARN  - Passing Warn"));
+        Assert.assertFalse(new File(DIRECTORY, PREFIX + "quiet-PASSED.log").exists());
+
+        Assert.assertEquals(readLines(new File(DIRECTORY, PREFIX + "failing-FAILED.log")), Arrays.asList("TRACE - Failing Trace", "DEBUG - Failing Debug"));
+        Assert.assertEquals(readLines(new File(DIRECTORY, PREFIX + "skipped-SKIPPED.log")), Arrays.asList("INFO  - Skipped Info"));
+
+        LOGGER.debug("listenerTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    private static List<String> readLines(File _file) throws IOException {
+
+        Assert.assertTrue(_file.exists(), "Missing Test Log: " + _file);
+
+        return Files.readAllLines(_file.toPath(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return A TestNG Result for the given method of this class. (Only the class &amp; method names are implemented.)
+     */
+    private static ITestResult testResult(String _methodName) {
+
+        IClass testClass = proxy(IClass.class, "getName", TestLogBufferAppenderTests.class.getName());
+        ITestNGMethod method = proxy(ITestNGMethod.class, "getMethodName", _methodName);
+
+        return (ITestResult) Proxy.newProxyInstance(ITestResult.class.getClassLoader(), new Class<?>[]{ITestResult.class},
+                (_proxy, _method, _arguments) -> {
+                    switch(_method.getName()) {
+                        case "getTestClass":
+                            return testClass;
+                        case "getMethod":
+                            return method;
+                        default:
+                            throw new UnsupportedOperationException(_method.getName());
+                    }
+                });
+    }
+
+    private static <T> T proxy(Class<T> _interface, String _methodName, String _value) {
+
+        return _interface.cast(Proxy.newProxyInstance(_interface.getClassLoader(), new Class<?>[]{_interface}, (_proxy, _method, _arguments) -> {
+            if(_method.getName().equals(_methodName)) {
+                return _value;
+            }
+            throw new UnsupportedOperationException(_method.getName());
+        }));
+    }
+
+    //========================= Classes ========================================
+}
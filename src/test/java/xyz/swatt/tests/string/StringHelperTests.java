@@ -0,0 +1,189 @@
+package xyz.swatt.tests.string;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import xyz.swatt.string.StringHelper;
+import xyz.swatt.string.StringHelper.CharacterPosition;
+import xyz.swatt.string.StringHelper.CharacterSet;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class will test the {@link StringHelper} class.
+ */
+public class StringHelperTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(StringHelperTests.class);
+
+    /**
+     * Leading, middle, and trailing runs of mixed (ASCII &amp; Unicode) Whitespace.
+     */
+    private static final String WHITESPACE_STRING = " \t Hello \r\n  World　\n";
+
+    /**
+     * Multiple lines, with non-ASCII characters (including a surrogate pair), and a trailing line terminator.
+     */
+    private static final String FILE_CONTENTS = "Line 1\r\nLíne 2 \uD83D\uDE00\n\nLine 4\n";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void whitespaceTest() {
+
+        LOGGER.info("whitespaceTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        String unchanged = "Hello_World";
+
+        //------------------------ Code ----------------------------------------
+        Assert.assertEquals(StringHelper.normalize(WHITESPACE_STRING), " Hello World ");
+        Assert.assertEquals(StringHelper.trim(WHITESPACE_STRING), "Hello \r\n  World");
+        Assert.assertEquals(StringHelper.removeWhitespace(WHITESPACE_STRING), "HelloWorld");
+        Assert.assertEquals(StringHelper.trim(" \n\t "), "");
+
+        // Nothing to replace, returns the same String.
+        Assert.assertSame(StringHelper.normalize(unchanged), unchanged);
+        Assert.assertSame(StringHelper.trim(unchanged), unchanged);
+        Assert.assertSame(StringHelper.removeWhitespace(unchanged), unchanged);
+
+        LOGGER.debug("whitespaceTest() [END]");
+    }
+
+    @Test
+    public void sameAsRegexTest() {
+
+        LOGGER.info("sameAsRegexTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String[] HAYSTACKS = {"", " ", "a", " a ", "\n\na b\u0085", "a  ", " x\ty\r\n", "$ \u0000 \u001F x"};
+        final CharacterSet[][] CHARACTER_SETS = {{CharacterSet.ALL_WHITESPACE}, {CharacterSet.NORMAL_WHITESPACE},
+                {CharacterSet.NORMAL_WHITESPACE, CharacterSet.CONTROL}};
+
+        //------------------------ Variables -----------------------------------
+
+        //------------------------ Code ----------------------------------------
+        for(String haystack : HAYSTACKS) {
+            for(CharacterSet[] characterSets : CHARACTER_SETS) {
+                for(CharacterPosition position : CharacterPosition.values()) {
+                    for(boolean normalize : new boolean[]{false, true}) {
+                        for(String replacement : new String[]{"", "_", "$0"}) {
+
+                            String expected = haystack.replaceAll(regex(position, normalize, characterSets), replacement);
+                            Assert.assertEquals(StringHelper.replace(haystack, replacement, position, normalize, characterSets), expected,
+                                    "\"" + haystack + "\", \"" + replacement + "\", " + position + ", " + normalize);
+                        }
+                    }
+                }
+            }
+        }
+
+        LOGGER.debug("sameAsRegexTest() [END]");
+    }
+
+    @Test
+    public void fileTest() throws IOException {
+
+        LOGGER.info("fileTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        File file = File.createTempFile("swatt-string-helper-", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), FILE_CONTENTS.getBytes(StandardCharsets.UTF_8));
+
+        //------------------------ Code ----------------------------------------
+        Assert.assertEquals(StringHelper.toString(file), FILE_CONTENTS);
+        Assert.assertEquals(StringHelper.toString(new ByteArrayInputStream(FILE_CONTENTS.getBytes(StandardCharsets.UTF_8))), FILE_CONTENTS);
+
+        try(Stream<String> lines = StringHelper.lines(file)) {
+            Assert.assertEquals(lines.collect(Collectors.toList()), Arrays.asList("Line 1", "Líne 2 \uD83D\uDE00", "", "Line 4"));
+        }
+
+        for(int chunkSize = 1; chunkSize <= FILE_CONTENTS.length() + 1; chunkSize++) {
+            try(Stream<String> chunks = StringHelper.chunks(file, chunkSize)) {
+
+                List<String> chunkList = chunks.collect(Collectors.toList());
+                Assert.assertEquals(String.join("", chunkList), FILE_CONTENTS, "Chunk Size: " + chunkSize);
+
+                for(String chunk : chunkList.subList(0, chunkList.size() - 1)) {
+                    Assert.assertTrue(chunk.length() >= Math.min(chunkSize, 2) - 1 && chunk.length() <= chunkSize, "Chunk Size: " + chunkSize);
+                    if(chunkSize > 1) {
+                        Assert.assertFalse(Character.isHighSurrogate(chunk.charAt(chunk.length() - 1)), "Chunk Size: " + chunkSize);
+                    }
+                }
+            }
+        }
+
+        try {
+            StringHelper.toString(new File(file.getAbsolutePath() + ".missing"));
+            Assert.fail("Missing File did not throw an Exception!");
+        }
+        catch(IllegalArgumentException e) {
+            // Expected.
+        }
+
+        LOGGER.debug("fileTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    /**
+     * @return The regex that {@link StringHelper#replace(String, String, CharacterPosition, boolean, CharacterSet...)} is documented to match.
+     */
+    private static String regex(CharacterPosition _position, boolean _normalize, CharacterSet... _characterSets) {
+
+        StringBuilder characterSets = new StringBuilder(_characterSets.length > 1 ? "[" : "");
+        for(CharacterSet characterSet : _characterSets) {
+            characterSets.append(characterSet);
+        }
+        String set = characterSets.append(_characterSets.length > 1 ? "]" : "").append(_normalize ? "+" : "").toString();
+
+        switch(_position) {
+            case BEGINNING_OF_STRING:
+                return "^" + set;
+            case MIDDLE_OF_STRING:
+                return "(?<!^)" + set + "(?!$)";
+            case END_OF_STRING:
+                return set + "$";
+            case BEGINNING_OR_END:
+                return "^" + set + "|" + set + "$";
+            default:
+                return set;
+        }
+    }
+
+    //========================= Classes ========================================
+}
@@ -0,0 +1,224 @@
+package xyz.swatt.tests.testng;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.IReporter;
+import org.testng.SkipException;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import xyz.swatt.testng.reporters.TestNgCombinedReporter;
+import xyz.swatt.testng.reporters.TestNgMatrixReporter;
+import xyz.swatt.testng.reporters.TestNgPassPercentageReporter;
+import xyz.swatt.testng.reporters.TestNgPlainTextFileReporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * This class will test the SWATT TestNG Reporters; by running a small TestNG Suite through them.
+ */
+public class TestNgReportersTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(TestNgReportersTests.class);
+
+    //========================= Static Variables ===============================
+    /**
+     * Only set while the Sample Suite is run; so the Sample Classes pass when the Regression Suite finds them.
+     */
+    private static volatile boolean sampleRun = false;
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void combinedReporterTest() throws IOException {
+
+        LOGGER.info("combinedReporterTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final File COMBINED_DIRECTORY = Files.createTempDirectory("swatt-combined-reports-").toFile(),
+                SEPARATE_DIRECTORY = Files.createTempDirectory("swatt-separate-reports-").toFile();
+
+        //------------------------ Variables -----------------------------------
+        boolean originalVerbose = TestNgPlainTextFileReporter.verbose;
+
+        //------------------------ Code ----------------------------------------
+        TestNgPlainTextFileReporter.verbose = false; // Full Stack Traces differ by their reflection frames.
+        try {
+            // Same call site for both runs; so the Stack Traces match.
+            for(File directory : Arrays.asList(COMBINED_DIRECTORY, SEPARATE_DIRECTORY)) {
+                runSampleSuite(directory, directory == COMBINED_DIRECTORY
+                        ? Collections.singletonList(new TestNgCombinedReporter())
+                        : Arrays.asList(new TestNgMatrixReporter(), new TestNgPlainTextFileReporter(), new TestNgPassPercentageReporter()),
+                        SampleTests.class);
+            }
+        }
+        finally {
+            TestNgPlainTextFileReporter.verbose = originalVerbose;
+        }
+
+        ///// Matrix & Pass Percentage /////
+        for(String fileName : Arrays.asList(TestNgMatrixReporter.reportFileName + ".html", TestNgPassPercentageReporter.reportFileName + ".txt")) {
+            Assert.assertEquals(read(new File(COMBINED_DIRECTORY, fileName)), read(new File(SEPARATE_DIRECTORY, fileName)), fileName);
+        }
+
+        ///// Plain Text /////
+        String combined = read(new File(COMBINED_DIRECTORY, TestNgPlainTextFileReporter.reportFileName + ".txt")),
+                separate = read(new File(SEPARATE_DIRECTORY, TestNgPlainTextFileReporter.reportFileName + ".txt"));
+
+        // Headers, with the last XML Test first.
+        String headers = getHeaders(combined);
+        Assert.assertEquals(headers, getHeaders(separate));
+        Assert.assertTrue(headers.indexOf("    Second\n") >= 0 && headers.indexOf("    Second\n") < headers.indexOf("    First\n"), headers);
+        Assert.assertTrue(headers.contains("    Tests run: 3, Failures: 1, Skips: 1"), headers);
+
+        // Results; TestNG does not keep them in order.
+        Assert.assertEquals(getResultLines(combined), getResultLines(separate));
+        Assert.assertTrue(combined.contains(SampleTests.class.getName() + "#fails"), combined);
+
+        LOGGER.debug("combinedReporterTest() [END]");
+    }
+
+    @Test
+    public void knownErrorTest() throws IOException {
+
+        LOGGER.info("knownErrorTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final File DIRECTORY = Files.createTempDirectory("swatt-matrix-report-").toFile();
+
+        //------------------------ Variables -----------------------------------
+
+        //------------------------ Code ----------------------------------------
+        KnownErrorSampleTests.runs = 0;
+        runSampleSuite(DIRECTORY, Collections.singletonList(new TestNgMatrixReporter()), KnownErrorSampleTests.class);
+
+        // Added twice in the "First" run, and once in the "Second" run; but only counted once per run.
+        String report = read(new File(DIRECTORY, TestNgMatrixReporter.reportFileName + ".html"));
+        Assert.assertTrue(report.contains("<td>" + KnownErrorSampleTests.BUG_ID + "</td><td class='danger'>2</td>"), report);
+
+        LOGGER.debug("knownErrorTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    /**
+     * Runs the given Test Class in two XML Tests (i.e. "First" &amp; "Second"), with only the given Reporters.
+     */
+    private static void runSampleSuite(File _outputDirectory, List<IReporter> _reporters, Class<?> _testClass) {
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Sample Suite");
+        for(String name : Arrays.asList("First", "Second")) {
+            XmlTest xmlTest = new XmlTest(suite);
+            xmlTest.setName(name);
+            xmlTest.setXmlClasses(Collections.singletonList(new XmlClass(_testClass)));
+        }
+
+        TestNG testNg = new TestNG();
+        testNg.setUseDefaultListeners(false);
+        testNg.setVerbose(0);
+        testNg.setOutputDirectory(_outputDirectory.getPath());
+        testNg.setXmlSuites(Collections.singletonList(suite));
+        _reporters.forEach(testNg::addListener);
+
+        sampleRun = true;
+        try {
+            testNg.run();
+        }
+        finally {
+            sampleRun = false;
+        }
+    }
+
+    /**
+     * @return The given Plain Text report's Headers; without their "Total Time" lines.
+     */
+    private static String getHeaders(String _report) {
+        return _report.substring(0, _report.indexOf(SampleTests.class.getName())).replaceAll("    Total Time: .*\n", "");
+    }
+
+    /**
+     * @return The given Plain Text report's Result lines, sorted.
+     */
+    private static List<String> getResultLines(String _report) {
+        return Arrays.stream(_report.substring(_report.indexOf(SampleTests.class.getName())).split("\n")).sorted().collect(Collectors.toList());
+    }
+
+    private static String read(File _file) throws IOException {
+        return new String(Files.readAllBytes(_file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    //========================= Classes ========================================
+    /**
+     * Passes, Fails, &amp; Skips; but only while the Sample Suite is run.
+     */
+    public static class SampleTests {
+
+        @Test
+        public void passes() {}
+
+        @Test
+        public void fails() {
+            if(sampleRun) {
+                Assert.fail("Sample failure.");
+            }
+        }
+
+        @Test
+        public void skips() {
+            if(sampleRun) {
+                throw new SkipException("Sample skip.");
+            }
+        }
+    }
+
+    /**
+     * Adds a Known Error from below the Test Method; twice in its first run, and once in its second run. (Only while the Sample Suite is run.)
+     */
+    public static class KnownErrorSampleTests {
+
+        private static final String BUG_ID = "SAMPLE-BUG-1";
+
+        private static int runs = 0;
+
+        @Test
+        public void addsKnownErrors() {
+            if(sampleRun) {
+                addKnownError();
+                if(runs++ == 0) {
+                    addKnownError();
+                }
+            }
+        }
+
+        private static void addKnownError() {
+            TestNgMatrixReporter.addKnownError(BUG_ID);
+        }
+    }
+}
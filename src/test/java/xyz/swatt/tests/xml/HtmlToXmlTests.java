@@ -0,0 +1,104 @@
+package xyz.swatt.tests.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.exceptions.XmlException;
+import xyz.swatt.xml.ReadOnlyXmlDocument;
+import xyz.swatt.xml.XmlDocumentHelper;
+
+/**
+ * This class will test {@link XmlDocumentHelper#htmlToXml(String, boolean)} and {@link ReadOnlyXmlDocument#fromHtml(String, boolean)}.
+ */
+public class HtmlToXmlTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(HtmlToXmlTests.class);
+
+    private static final String HTML = "<div id=\"form\"><p>Line 1<br>Line 2<BR>Line 3</p>"
+            + "<input name=\"file\" value=\"a / b\" type=\"hidden\"><span>After</span>"
+            + "<table><tr><td>Cell</td></tr></table></div>";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void voidElementsTest() {
+
+        LOGGER.info("voidElementsTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        Document document = XmlDocumentHelper.htmlToXml(HTML);
+        ReadOnlyXmlDocument readOnly = ReadOnlyXmlDocument.fromHtml(HTML);
+
+        //------------------------ Code ----------------------------------------
+        // Content after an unclosed Void Element is not nested inside of it.
+        Assert.assertEquals(XmlDocumentHelper.getStringsForXPath(document, "/div/p/text()").size(), 3);
+        Assert.assertEquals(XmlDocumentHelper.getStringsForXPath(document, "/div/p/br").size(), 2);
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(document, "/div/input/@value"), "a / b");
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(document, "/div/span"), "After");
+
+        // Elements are not moved, even if they would be invalid HTML.
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(document, "/div/table/tr/td"), "Cell");
+
+        // The Read-Only version has the same content.
+        Assert.assertEquals(readOnly.getStringsForXPath("/div/p/text()"), XmlDocumentHelper.getStringsForXPath(document, "/div/p/text()"));
+        Assert.assertEquals(readOnly.getStringForXPath("/div/span"), "After");
+
+        LOGGER.debug("voidElementsTest() [END]");
+    }
+
+    @Test
+    public void preserveCaseTest() {
+
+        LOGGER.info("preserveCaseTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String SVG = "<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 10 10\"><linearGradient/></svg>";
+
+        //------------------------ Variables -----------------------------------
+
+        //------------------------ Code ----------------------------------------
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(XmlDocumentHelper.htmlToXml(SVG, true), "/svg/@viewBox"), "0 0 10 10");
+        Assert.assertEquals(ReadOnlyXmlDocument.fromHtml(SVG, true).getNodesForXPath("/svg/linearGradient").size(), 1);
+
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(XmlDocumentHelper.htmlToXml(SVG), "/svg/@viewbox"), "0 0 10 10");
+
+        LOGGER.debug("preserveCaseTest() [END]");
+    }
+
+    @Test(expectedExceptions = XmlException.class)
+    public void multipleRootsTest() {
+        XmlDocumentHelper.htmlToXml("<div>1</div><div>2</div>");
+    }
+
+    @Test(expectedExceptions = XmlException.class)
+    public void noRootTest() {
+        ReadOnlyXmlDocument.fromHtml("Just Text");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+}
@@ -0,0 +1,172 @@
+package xyz.swatt.tests.xml;
+
+import net.sf.saxon.s9api.XdmItem;
+import net.sf.saxon.s9api.XdmNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.exceptions.TooManyResultsException;
+import xyz.swatt.xml.ReadOnlyXmlDocument;
+import xyz.swatt.xml.XmlDocumentHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class will test the {@link ReadOnlyXmlDocument} class, against the {@link XmlDocumentHelper} results.
+ */
+public class ReadOnlyXmlDocumentTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(ReadOnlyXmlDocumentTests.class);
+
+    private static final String XML = "<catalog xmlns=\"http://swatt.xyz/catalog\" xmlns:p=\"http://swatt.xyz/price\">"
+            + "<book id=\"1\"><title>Dune</title><p:price>9.99</p:price></book>"
+            + "<book id=\"2\"><title>Emma</title><p:price>5.25</p:price></book>"
+            + "<book id=\"3\"><title>Ulysses</title><p:price>12.00</p:price></book>"
+            + "</catalog>";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void sameResultsAsDomTest() {
+
+        LOGGER.info("sameResultsAsDomTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        Document dom = XmlDocumentHelper.getDocumentFrom(XML);
+        ReadOnlyXmlDocument readOnly = ReadOnlyXmlDocument.from(XML);
+
+        //------------------------ Code ----------------------------------------
+        for(String xPath : Arrays.asList("//title", "/catalog/book/@id", "//p:price", "count(//book) = 3")) {
+            Assert.assertEquals(readOnly.getStringsForXPath(xPath), XmlDocumentHelper.getStringsForXPath(dom, xPath), xPath);
+        }
+
+        Assert.assertEquals(readOnly.getStringForXPath("/catalog/book[@id = '2']/title"), "Emma");
+        Assert.assertNull(readOnly.getStringForXPath("/catalog/book[@id = '4']/title"));
+
+        LOGGER.debug("sameResultsAsDomTest() [END]");
+    }
+
+    @Test
+    public void relativeXPathTest() {
+
+        LOGGER.info("relativeXPathTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        ReadOnlyXmlDocument readOnly = ReadOnlyXmlDocument.from(XmlDocumentHelper.getDocumentFrom(XML));
+
+        //------------------------ Code ----------------------------------------
+        XdmItem book = readOnly.getNodeForXPath("/catalog/book[3]");
+        Assert.assertTrue(book instanceof XdmNode, "XPath did not return a Node!");
+
+        Assert.assertEquals(readOnly.getStringForXPath((XdmNode) book, "title"), "Ulysses");
+        Assert.assertEquals(readOnly.getStringForXPath((XdmNode) book, "./p:price"), "12.00");
+
+        LOGGER.debug("relativeXPathTest() [END]");
+    }
+
+    @Test(expectedExceptions = TooManyResultsException.class)
+    public void tooManyResultsTest() {
+        ReadOnlyXmlDocument.from(XML).getNodeForXPath("//book");
+    }
+
+    @Test
+    public void toDocumentTest() {
+
+        LOGGER.info("toDocumentTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        ReadOnlyXmlDocument readOnly = ReadOnlyXmlDocument.from(XML);
+
+        //------------------------ Code ----------------------------------------
+        Document copy = readOnly.toDocument();
+        List<String> titles = XmlDocumentHelper.getStringsForXPath(copy, "//title");
+        Assert.assertEquals(titles, Arrays.asList("Dune", "Emma", "Ulysses"));
+
+        // Modifying the copy, must not modify the Read-Only Document.
+        copy.getDocumentElement().removeChild(copy.getDocumentElement().getFirstChild());
+        Assert.assertEquals(XmlDocumentHelper.getStringsForXPath(copy, "//title").size(), 2);
+        Assert.assertEquals(readOnly.getStringsForXPath("//title").size(), 3);
+
+        LOGGER.debug("toDocumentTest() [END]");
+    }
+
+    @Test
+    public void concurrentSnapshotTest() throws Exception {
+
+        LOGGER.info("concurrentSnapshotTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final int THREADS = 8;
+
+        //------------------------ Variables -----------------------------------
+        Document dom = XmlDocumentHelper.getDocumentFrom(XML);
+        ReadOnlyXmlDocument snapshot = XmlDocumentHelper.snapshot(dom);
+        List<Future<List<String>>> results = new ArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+
+        //------------------------ Code ----------------------------------------
+        // Later changes to the Document, are not seen by the snapshot.
+        dom.getDocumentElement().removeChild(dom.getDocumentElement().getFirstChild());
+
+        try {
+            for(int i = 0; i < THREADS * 4; i++) {
+                results.add(executorService.submit(() -> {
+                    List<String> titles = new ArrayList<>();
+                    for(int j = 1; j <= 3; j++) {
+                        titles.add(snapshot.getStringForXPath("/catalog/book[@id = '" + j + "']/title"));
+                    }
+                    return titles;
+                }));
+            }
+
+            for(Future<List<String>> result : results) {
+                Assert.assertEquals(result.get(), Arrays.asList("Dune", "Emma", "Ulysses"));
+            }
+        }
+        finally {
+            executorService.shutdown();
+        }
+
+        LOGGER.debug("concurrentSnapshotTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+}
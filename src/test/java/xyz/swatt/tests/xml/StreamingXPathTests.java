@@ -0,0 +1,127 @@
+package xyz.swatt.tests.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.exceptions.XmlException;
+import xyz.swatt.xml.StreamingXPath;
+import xyz.swatt.xml.XmlDocumentHelper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class will test the {@link StreamingXPath} class, against the {@link XmlDocumentHelper} results.
+ */
+public class StreamingXPathTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(StreamingXPathTests.class);
+
+    private static final String XML = "<catalog xmlns=\"http://swatt.xyz/catalog\" xmlns:p=\"http://swatt.xyz/price\">"
+            + "<book id=\"1\" type=\"novel\"><title>Dune</title><p:price>9.99</p:price></book>"
+            + "<book id=\"2\"><title>Emma</title><p:price>5.25</p:price></book>"
+            + "<shelf><book id=\"3\" type=\"novel\"><title>Ulysses</title><p:price>12.00</p:price></book></shelf>"
+            + "</catalog>";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @DataProvider
+    public Object[][] xPaths() {
+        return new Object[][]{
+                {"/catalog/book/title"},
+                {"//book/title"},
+                {"//book[@type='novel']/title"},
+                {"//book[@id!='1']/@id"},
+                {"/catalog/book[2]/title/text()"},
+                {"/catalog/*/book/@id"},
+                {"//book[@type][1]/p:price"},
+                {"//title[text()='Emma']"},
+        };
+    }
+
+    @Test(dataProvider = "xPaths")
+    public void sameResultsAsDomTest(String _xPath) {
+
+        LOGGER.info("sameResultsAsDomTest(_xPath: {}) [START]", _xPath);
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        List<String> results = new ArrayList<>();
+
+        //------------------------ Code ----------------------------------------
+        StreamingXPath.compile(_xPath).forEachString(toInputStream(XML), results::add);
+
+        Assert.assertEquals(results, XmlDocumentHelper.getStringsForXPath(XmlDocumentHelper.getDocumentFrom(XML), _xPath));
+
+        LOGGER.debug("sameResultsAsDomTest(_xPath: {}) [END]", _xPath);
+    }
+
+    @Test
+    public void streamNodesTest() {
+
+        LOGGER.info("streamNodesTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        List<Document> books;
+
+        //------------------------ Code ----------------------------------------
+        try(Stream<Document> stream = StreamingXPath.compile("//book[@type='novel']").streamNodes(toInputStream(XML))) {
+            books = stream.collect(Collectors.toList());
+        }
+
+        Assert.assertEquals(books.size(), 2);
+
+        // Each match is its own Document, with the Root Namespaces carried over.
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(books.get(1), "/book/p:price"), "12.00");
+        Assert.assertEquals(books.get(0).getDocumentElement().getNamespaceURI(), "http://swatt.xyz/catalog");
+
+        LOGGER.debug("streamNodesTest() [END]");
+    }
+
+    @Test(expectedExceptions = XmlException.class)
+    public void unsupportedXPathTest() {
+        StreamingXPath.compile("/catalog/book[last()]");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void attributeNodesTest() {
+        StreamingXPath.compile("//book/@id").forEachNode(toInputStream(XML), _document -> { });
+    }
+
+    //========================= Methods for Internal Use =======================
+    private static InputStream toInputStream(String _xml) {
+        return new ByteArrayInputStream(_xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //========================= Classes ========================================
+}
@@ -0,0 +1,98 @@
+package xyz.swatt.tests.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.exceptions.XmlException;
+import xyz.swatt.xml.ReadOnlyXmlDocument;
+import xyz.swatt.xml.XPathBatch;
+import xyz.swatt.xml.XmlDocumentHelper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class will test the {@link XPathBatch} class, against the {@link XmlDocumentHelper} results.
+ */
+public class XPathBatchTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XPathBatchTests.class);
+
+    private static final String XML = "<catalog xmlns=\"http://swatt.xyz/catalog\" xmlns:p=\"http://swatt.xyz/price\">"
+            + "<book id=\"1\"><title>Dune</title><p:price>9.99</p:price></book>"
+            + "<book id=\"2\"><title>Emma</title><p:price>5.25</p:price></book>"
+            + "<book id=\"3\"><title>Ulysses</title><p:price>12.00</p:price></book>"
+            + "</catalog>";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void sameResultsAsDomTest() {
+
+        LOGGER.info("sameResultsAsDomTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        Document document = XmlDocumentHelper.getDocumentFrom(XML);
+
+        Map<String, String> xPaths = new LinkedHashMap<>();
+        xPaths.put("titles", "//title");
+        xPaths.put("ids", "/catalog/book/@id");
+        xPaths.put("prices", "//p:price");
+        xPaths.put("count", "count(//book) = 3");
+        xPaths.put("missing", "/catalog/magazine");
+
+        XPathBatch batch = new XPathBatch(xPaths);
+
+        //------------------------ Code ----------------------------------------
+        Map<String, List<String>> results = batch.evaluate(document);
+        Assert.assertEquals(results.keySet().toArray(), xPaths.keySet().toArray(), "Results are not in the given order!");
+
+        for(Map.Entry<String, String> xPath : xPaths.entrySet()) {
+            Assert.assertEquals(results.get(xPath.getKey()), XmlDocumentHelper.getStringsForXPath(document, xPath.getValue()), xPath.getKey());
+        }
+
+        // Every way of evaluating the batch has the same results.
+        Assert.assertEquals(batch.evaluate(ReadOnlyXmlDocument.from(document)), results);
+        Assert.assertEquals(batch.evaluateInParallel(document), results);
+        Assert.assertEquals(batch.evaluateInParallel(ReadOnlyXmlDocument.from(XML), new ForkJoinPool(2)), results);
+
+        LOGGER.debug("sameResultsAsDomTest() [END]");
+    }
+
+    @Test(expectedExceptions = XmlException.class)
+    public void invalidXPathTest() {
+
+        Map<String, String> xPaths = new LinkedHashMap<>();
+        xPaths.put("valid", "//title");
+        xPaths.put("invalid", "//title[");
+
+        new XPathBatch(xPaths).evaluate(XmlDocumentHelper.getDocumentFrom(XML));
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+}
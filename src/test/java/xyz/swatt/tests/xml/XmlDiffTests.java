@@ -0,0 +1,129 @@
+package xyz.swatt.tests.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.xml.XmlDiff;
+import xyz.swatt.xml.XmlDiff.DifferenceType;
+import xyz.swatt.xml.XmlDocumentHelper;
+
+import java.util.List;
+
+/**
+ * This class will test the {@link XmlDiff} class.
+ */
+public class XmlDiffTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XmlDiffTests.class);
+
+    private static final String EXPECTED = "<order xmlns=\"http://swatt.xyz/order\" id=\"1\">"
+            + "<timestamp>2020-01-01T00:00:00</timestamp>"
+            + "<items><item sku=\"A\">1</item><item sku=\"B\">2</item></items>"
+            + "<total>3</total>"
+            + "</order>";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void identicalTest() {
+
+        LOGGER.info("identicalTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        // Same content; different prefix, attribute order and formatting.
+        String actual = "<o:order xmlns:o=\"http://swatt.xyz/order\" id=\"1\">\n"
+                + "  <o:timestamp>2020-01-01T00:00:00</o:timestamp>\n"
+                + "  <o:items><o:item sku=\"A\">1</o:item><o:item sku=\"B\">2</o:item></o:items>\n"
+                + "  <o:total> 3 </o:total>\n"
+                + "</o:order>";
+
+        //------------------------ Code ----------------------------------------
+        Assert.assertTrue(new XmlDiff().isIdentical(XmlDocumentHelper.getDocumentFrom(EXPECTED), XmlDocumentHelper.getDocumentFrom(actual)));
+
+        LOGGER.debug("identicalTest() [END]");
+    }
+
+    @Test
+    public void differencesTest() {
+
+        LOGGER.info("differencesTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        Document expected = XmlDocumentHelper.getDocumentFrom(EXPECTED);
+        Document actual = XmlDocumentHelper.getDocumentFrom(EXPECTED
+                .replace("id=\"1\"", "id=\"2\"")
+                .replace("<total>3</total>", "")
+                .replace("</items>", "<item sku=\"C\">0</item></items>"));
+
+        //------------------------ Code ----------------------------------------
+        List<XmlDiff.Difference> differences = new XmlDiff().compare(expected, actual);
+        LOGGER.info("Differences: {}", differences);
+
+        Assert.assertEquals(differences.size(), 3, differences.toString());
+        Assert.assertEquals(differences.get(0).TYPE, DifferenceType.ATTRIBUTE_VALUE);
+        Assert.assertEquals(differences.get(0).XPATH, "/order/@id");
+        Assert.assertEquals(differences.get(0).EXPECTED, "1");
+        Assert.assertEquals(differences.get(0).ACTUAL, "2");
+        Assert.assertEquals(differences.get(1).TYPE, DifferenceType.ELEMENT_UNEXPECTED);
+        Assert.assertEquals(differences.get(1).XPATH, "/order/items/item[3]");
+        Assert.assertEquals(differences.get(2).TYPE, DifferenceType.ELEMENT_MISSING);
+        Assert.assertEquals(differences.get(2).XPATH, "/order/total");
+
+        LOGGER.debug("differencesTest() [END]");
+    }
+
+    @Test
+    public void rulesTest() {
+
+        LOGGER.info("rulesTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        Document expected = XmlDocumentHelper.getDocumentFrom(EXPECTED);
+        Document actual = XmlDocumentHelper.getDocumentFrom(EXPECTED
+                .replace("2020-01-01T00:00:00", "2021-06-30T12:34:56")
+                .replace("<item sku=\"A\">1</item><item sku=\"B\">2</item>", "<item sku=\"B\">2</item><item sku=\"A\">1</item>"));
+
+        //------------------------ Code ----------------------------------------
+        Assert.assertEquals(new XmlDiff().compare(expected, actual).size(), 5); // Timestamp, and 2 values for each re-ordered Item.
+
+        Assert.assertTrue(new XmlDiff().ignore("/order/timestamp").ignoreChildOrder("//items").isIdentical(expected, actual));
+
+        List<XmlDiff.Difference> differences = new XmlDiff().ignore("//timestamp/text()").compare(expected, actual);
+        Assert.assertEquals(differences.size(), 4, differences.toString());
+
+        LOGGER.debug("rulesTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+}
@@ -0,0 +1,123 @@
+package xyz.swatt.tests.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.xml.XmlDocumentCache;
+import xyz.swatt.xml.XmlDocumentHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * This class will test the {@link XmlDocumentCache} class.
+ */
+public class XmlDocumentCacheTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XmlDocumentCacheTests.class);
+
+    private static final String XML = "<request xmlns=\"http://swatt.xyz/request\"><id>1</id><name>Template</name></request>";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void copiesTest() throws IOException {
+
+        LOGGER.info("copiesTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        File xmlFile = createXmlFile(XML);
+        XmlDocumentCache cache = new XmlDocumentCache(1024 * 1024);
+
+        //------------------------ Code ----------------------------------------
+        Document first = cache.get(xmlFile);
+        XmlDocumentHelper.getNodeForXPath(first, "/request/name").setTextContent("Changed");
+
+        Document second = cache.get(xmlFile);
+        Assert.assertNotSame(second, first);
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(second, "/request/name"), "Template");
+        Assert.assertEquals(cache.getReadOnly(xmlFile).getStringForXPath("/request/name"), "Template");
+
+        Assert.assertEquals(cache.getMisses(), 1);
+        Assert.assertEquals(cache.getHits(), 2);
+        Assert.assertEquals(cache.getHitRate(), 2 / 3.0, 0.001);
+
+        // A changed File is re-parsed.
+        Files.write(xmlFile.toPath(), XML.replace("Template", "Updated").getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(xmlFile.setLastModified(xmlFile.lastModified() + 2000), "Could not update the Last Modified time!");
+
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(cache.get(xmlFile), "/request/name"), "Updated");
+        Assert.assertEquals(cache.getMisses(), 2);
+        Assert.assertEquals(cache.size(), 1);
+
+        LOGGER.debug("copiesTest() [END]");
+    }
+
+    @Test
+    public void evictionTest() throws IOException {
+
+        LOGGER.info("evictionTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        File first = createXmlFile(XML), second = createXmlFile(XML), third = createXmlFile(XML);
+
+        // Room for 2 of the Files.
+        XmlDocumentCache cache = new XmlDocumentCache(first.length() * XmlDocumentCache.ESTIMATED_BYTES_PER_FILE_BYTE * 2);
+
+        //------------------------ Code ----------------------------------------
+        cache.get(first);
+        cache.get(second);
+        cache.get(first); // Now "second" is the least recently used.
+        cache.get(third);
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.getEvictions(), 1);
+        Assert.assertTrue(cache.getEstimatedBytes() <= cache.MAX_ESTIMATED_BYTES, "Cache is over its limit!");
+
+        cache.get(first);
+        Assert.assertEquals(cache.getHits(), 2);
+        cache.get(second);
+        Assert.assertEquals(cache.getMisses(), 4);
+
+        LOGGER.debug("evictionTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    private static File createXmlFile(String _xml) throws IOException {
+
+        File xmlFile = File.createTempFile("swatt-cache-test-", ".xml");
+        xmlFile.deleteOnExit();
+        Files.write(xmlFile.toPath(), _xml.getBytes(StandardCharsets.UTF_8));
+
+        return xmlFile;
+    }
+
+    //========================= Classes ========================================
+}
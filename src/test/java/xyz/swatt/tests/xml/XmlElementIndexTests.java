@@ -0,0 +1,148 @@
+package xyz.swatt.tests.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.exceptions.TooManyResultsException;
+import xyz.swatt.xml.XmlDocumentHelper;
+import xyz.swatt.xml.XmlElementIndex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * This class will test the {@link XmlElementIndex} class.
+ */
+public class XmlElementIndexTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XmlElementIndexTests.class);
+
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<catalog xmlns=\"http://swatt.xyz/catalog\" xmlns:p=\"http://swatt.xyz/price\">\n"
+            + "  <!-- <book id=\"0\"/> -->\n"
+            + "  <book id=\"1\"><isbn>111</isbn><title>Dune</title><p:price>9.99</p:price></book>\n"
+            + "  <book id=\"2\"><isbn>222</isbn><title><![CDATA[Emma & Co]]></title><p:price>5.25</p:price></book>\n"
+            + "  <book id=\"2\"><isbn>333</isbn><title>Ulysses</title></book>\n"
+            + "</catalog>\n";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+    private File xmlFile;
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @BeforeClass
+    public void createXmlFile() throws IOException {
+
+        xmlFile = File.createTempFile("swatt-index-test-", ".xml");
+        Files.write(xmlFile.toPath(), XML.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteXmlFile() {
+
+        File[] files = xmlFile.getParentFile().listFiles((_dir, _name) -> _name.startsWith(xmlFile.getName()));
+        if(files != null) {
+            for(File file : files) {
+                if(!file.delete()) {
+                    file.deleteOnExit();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void byAttributeTest() {
+
+        LOGGER.info("byAttributeTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        XmlElementIndex index = XmlElementIndex.byAttribute(xmlFile, "book", "id");
+
+        //------------------------ Code ----------------------------------------
+        Assert.assertEquals(index.getKeys(), Arrays.asList("1", "2"));
+        Assert.assertTrue(index.INDEX_FILE.isFile(), "Index was not persisted!");
+
+        // The fragment parses on its own, with the Root Namespaces.
+        Document book = index.getDocument("1");
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(book, "/book/p:price"), "9.99");
+
+        Assert.assertEquals(index.getDocuments("2").size(), 2);
+        Assert.assertNull(index.getDocument("4"));
+
+        LOGGER.debug("byAttributeTest() [END]");
+    }
+
+    @Test(expectedExceptions = TooManyResultsException.class)
+    public void duplicateKeyTest() {
+        XmlElementIndex.byAttribute(xmlFile, "book", "id").getDocument("2");
+    }
+
+    @Test
+    public void byChildElementTest() {
+
+        LOGGER.info("byChildElementTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        XmlElementIndex index = XmlElementIndex.byChildElement(xmlFile, "book", "isbn");
+
+        //------------------------ Code ----------------------------------------
+        Assert.assertEquals(index.getKeys(), Arrays.asList("111", "222", "333"));
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(index.getDocument("333"), "/book/title"), "Ulysses");
+
+        LOGGER.debug("byChildElementTest() [END]");
+    }
+
+    @Test(dependsOnMethods = {"byAttributeTest", "duplicateKeyTest", "byChildElementTest"})
+    public void changedFileTest() throws IOException {
+
+        LOGGER.info("changedFileTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        XmlElementIndex index = XmlElementIndex.byAttribute(xmlFile, "book", "id");
+
+        //------------------------ Code ----------------------------------------
+        Files.write(xmlFile.toPath(), XML.replace("id=\"1\"", "id=\"9\"").getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(xmlFile.setLastModified(xmlFile.lastModified() + 2000), "Could not update the Last Modified time!");
+
+        Assert.assertEquals(index.getKeys(), Arrays.asList("9", "2"));
+        Assert.assertEquals(XmlElementIndex.byAttribute(xmlFile, "book", "id").getKeys(), Arrays.asList("9", "2"));
+
+        LOGGER.debug("changedFileTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+}
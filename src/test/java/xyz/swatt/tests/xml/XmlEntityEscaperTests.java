@@ -0,0 +1,99 @@
+package xyz.swatt.tests.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import xyz.swatt.xml.XmlDocumentHelper.XmlEntityFormat;
+import xyz.swatt.xml.XmlEntityEscaper;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+/**
+ * This class will test the {@link XmlEntityEscaper} class.
+ */
+public class XmlEntityEscaperTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XmlEntityEscaperTests.class);
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void escapeTest() throws IOException {
+
+        LOGGER.info("escapeTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String PLAIN = "Plain ASCII <text>\r\n";
+
+        //------------------------ Variables -----------------------------------
+        StringWriter writer = new StringWriter();
+
+        //------------------------ Code ----------------------------------------
+        Assert.assertSame(XmlEntityEscaper.escapeExtendedCharacters(PLAIN, XmlEntityFormat.HEX), PLAIN);
+        Assert.assertEquals(XmlEntityEscaper.escapeExtendedCharacters("Café \u0001", XmlEntityFormat.DECIMAL), "Caf&#233; &#1;");
+        Assert.assertEquals(XmlEntityEscaper.escapeExtendedCharacters("Café \u0001", XmlEntityFormat.HEX), "Caf&#xe9; &#x1;");
+
+        // A Surrogate Pair is one Entity.
+        Assert.assertEquals(XmlEntityEscaper.escapeExtendedCharacters("😀", XmlEntityFormat.HEX), "&#x1f600;");
+
+        XmlEntityEscaper.escapeExtendedCharacters(new StringReader("Café 😀"), XmlEntityFormat.DECIMAL, writer);
+        Assert.assertEquals(writer.toString(), "Caf&#233; &#128512;");
+
+        LOGGER.debug("escapeTest() [END]");
+    }
+
+    @Test
+    public void convertTest() throws IOException {
+
+        LOGGER.info("convertTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+        final String DECIMAL = "&#65;, &#0233;, &#1; and &#12345; & more";
+        final String HEX = "&#x41;, &#xe9;, &#x1; and &#x12345; & more";
+
+        //------------------------ Variables -----------------------------------
+        StringBuilder builder = new StringBuilder();
+        StringWriter writer = new StringWriter();
+
+        //------------------------ Code ----------------------------------------
+        // Only Entities with 2 to 4 digits are converted.
+        Assert.assertEquals(XmlEntityEscaper.decimalEscapedToHexEscaped(DECIMAL), "&#x41;, &#xe9;, &#1; and &#12345; & more");
+        Assert.assertEquals(XmlEntityEscaper.hexEscapedToDecimalEscaped(HEX), "&#65;, &#233;, &#x1; and &#x12345; & more");
+
+        Assert.assertSame(XmlEntityEscaper.hexEscapedToDecimalEscaped(DECIMAL), DECIMAL);
+
+        XmlEntityEscaper.decimalEscapedToHexEscaped(DECIMAL, builder);
+        Assert.assertEquals(builder.toString(), XmlEntityEscaper.decimalEscapedToHexEscaped(DECIMAL));
+
+        XmlEntityEscaper.hexEscapedToDecimalEscaped(new StringReader(HEX), writer);
+        Assert.assertEquals(writer.toString(), XmlEntityEscaper.hexEscapedToDecimalEscaped(HEX));
+
+        LOGGER.debug("convertTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+}
@@ -0,0 +1,93 @@
+package xyz.swatt.tests.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.xml.XmlDocumentHelper;
+import xyz.swatt.xml.XmlDocumentHelper.XmlOutputOption;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class will test the {@link XmlDocumentHelper#writeTo(org.w3c.dom.Node, java.io.Writer, XmlOutputOption...)} methods.
+ */
+public class XmlOutputTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XmlOutputTests.class);
+
+    private static final String XML = "<catalog><item id=\"1&amp;2\">Salt &amp; Pepper</item><item id=\"3\">Café</item></catalog>";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void writeToTest() throws IOException {
+
+        LOGGER.info("writeToTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        Document document = XmlDocumentHelper.getDocumentFrom(XML);
+        StringWriter stringWriter = new StringWriter();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //------------------------ Code ----------------------------------------
+        XmlDocumentHelper.writeTo(document, stringWriter);
+        Assert.assertEquals(stringWriter.toString(), XmlDocumentHelper.toString(document, false));
+        Assert.assertTrue(stringWriter.toString().contains("Salt & Pepper"), stringWriter.toString());
+
+        XmlDocumentHelper.writeTo(document, outputStream, XmlOutputOption.OMIT_XML_DECLARATION, XmlOutputOption.ESCAPE_AMPERSANDS);
+        String written = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(written.startsWith("<catalog>"), written);
+        Assert.assertTrue(written.contains("Salt &amp; Pepper"), written);
+        Assert.assertTrue(written.contains("Café"), written);
+
+        LOGGER.debug("writeToTest() [END]");
+    }
+
+    @Test
+    public void maxLengthTest() {
+
+        LOGGER.info("maxLengthTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        Document document = XmlDocumentHelper.getDocumentFrom(XML);
+        String full = XmlDocumentHelper.toString(document.getDocumentElement(), true);
+
+        //------------------------ Code ----------------------------------------
+        Assert.assertEquals(XmlDocumentHelper.toString(document.getDocumentElement(), true, 25), full.substring(0, 25));
+        Assert.assertEquals(XmlDocumentHelper.toString(document.getDocumentElement(), true, full.length() + 100), full);
+
+        LOGGER.debug("maxLengthTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+}
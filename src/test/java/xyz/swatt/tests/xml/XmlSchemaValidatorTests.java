@@ -0,0 +1,129 @@
+package xyz.swatt.tests.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import xyz.swatt.xml.XmlDocumentHelper;
+import xyz.swatt.xml.XmlSchemaValidator;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * This class will test the {@link XmlSchemaValidator} class.
+ */
+public class XmlSchemaValidatorTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XmlSchemaValidatorTests.class);
+
+    private static final String XSD = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\""
+            + " targetNamespace=\"http://swatt.xyz/order\" elementFormDefault=\"qualified\">"
+            + "<xs:element name=\"order\"><xs:complexType><xs:sequence>"
+            + "<xs:element name=\"quantity\" type=\"xs:int\" maxOccurs=\"unbounded\"/>"
+            + "</xs:sequence></xs:complexType></xs:element>"
+            + "</xs:schema>";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void validateTest() throws IOException {
+
+        LOGGER.info("validateTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        File xsdFile = createFile(".xsd", XSD);
+        File validFile = createFile(".xml", order("<quantity>1</quantity><quantity>2</quantity>"));
+
+        //------------------------ Code ----------------------------------------
+        XmlSchemaValidator validator = XmlSchemaValidator.from(xsdFile);
+        Assert.assertSame(XmlSchemaValidator.from(xsdFile), validator, "Schema was not cached!");
+
+        Assert.assertTrue(validator.isValid(validFile));
+        Assert.assertTrue(validator.isValid(XmlDocumentHelper.getDocumentFrom(validFile)));
+
+        List<String> errors = validator.validate(XmlDocumentHelper.getDocumentFrom(order("<quantity>many</quantity>")));
+        Assert.assertFalse(errors.isEmpty());
+        Assert.assertTrue(errors.get(0).contains("many"), errors.get(0));
+
+        // Not well-formed.
+        errors = validator.validate(new ByteArrayInputStream(order("<quantity>1</quantity>").replace("</order>", "").getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(errors.size(), 1, errors.toString());
+
+        LOGGER.debug("validateTest() [END]");
+    }
+
+    @Test
+    public void maxErrorsTest() throws IOException {
+
+        LOGGER.info("maxErrorsTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        XmlSchemaValidator validator = XmlSchemaValidator.from(createFile(".xsd", XSD));
+        StringBuilder quantities = new StringBuilder();
+        for(int i = 0; i < 1000; i++) {
+            quantities.append("<quantity>bad</quantity>");
+        }
+
+        int maxErrors = XmlSchemaValidator.getMaxErrors();
+
+        //------------------------ Code ----------------------------------------
+        try {
+            XmlSchemaValidator.setMaxErrors(10);
+            Assert.assertEquals(validator.validate(new ByteArrayInputStream(order(quantities.toString()).getBytes(StandardCharsets.UTF_8))).size(), 10);
+        }
+        finally {
+            XmlSchemaValidator.setMaxErrors(maxErrors);
+        }
+
+        LOGGER.debug("maxErrorsTest() [END]");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void zeroMaxErrorsTest() {
+        XmlSchemaValidator.setMaxErrors(0);
+    }
+
+    //========================= Methods for Internal Use =======================
+    private static String order(String _content) {
+        return "<order xmlns=\"http://swatt.xyz/order\">" + _content + "</order>";
+    }
+
+    private static File createFile(String _suffix, String _content) throws IOException {
+
+        File file = File.createTempFile("swatt-schema-test-", _suffix);
+        file.deleteOnExit();
+        Files.write(file.toPath(), _content.getBytes(StandardCharsets.UTF_8));
+
+        return file;
+    }
+
+    //========================= Classes ========================================
+}
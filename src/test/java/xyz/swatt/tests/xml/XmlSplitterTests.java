@@ -0,0 +1,113 @@
+package xyz.swatt.tests.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import xyz.swatt.xml.StreamingXPath;
+import xyz.swatt.xml.XmlSplitter;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class will test the {@link XmlSplitter} class.
+ */
+public class XmlSplitterTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XmlSplitterTests.class);
+
+    private static final int RECORDS = 2000;
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void splitTest() {
+
+        LOGGER.info("splitTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        XmlSplitter splitter = new XmlSplitter(StreamingXPath.compile("/export/record"), 4, 8);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        //------------------------ Code ----------------------------------------
+        long records = splitter.split(export(), _record -> {
+            Assert.assertEquals(_record.getDocumentElement().getLocalName(), "record");
+            ids.add(_record.getDocumentElement().getAttribute("id"));
+        });
+
+        Assert.assertEquals(records, RECORDS);
+        Assert.assertEquals(ids.size(), RECORDS);
+
+        LOGGER.debug("splitTest() [END]");
+    }
+
+    @Test
+    public void consumerFailureTest() {
+
+        LOGGER.info("consumerFailureTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        XmlSplitter splitter = new XmlSplitter(StreamingXPath.compile("/export/record"), 4, 2);
+        AtomicInteger processed = new AtomicInteger();
+
+        //------------------------ Code ----------------------------------------
+        try {
+            splitter.split(export(), _record -> {
+                if(_record.getDocumentElement().getAttribute("id").equals("10")) {
+                    throw new IllegalStateException("Bad Record!");
+                }
+                processed.incrementAndGet();
+            });
+            Assert.fail("Consumer failure was not thrown!");
+        }
+        catch(IllegalStateException e) {
+            Assert.assertEquals(e.getMessage(), "Bad Record!");
+        }
+
+        // Reading stopped early; as the queue only holds 2 records.
+        Assert.assertTrue(processed.get() < RECORDS - 1, "All Records were processed: " + processed.get());
+
+        LOGGER.debug("consumerFailureTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+    private static InputStream export() {
+
+        StringBuilder export = new StringBuilder("<export xmlns=\"http://swatt.xyz/export\">");
+        for(int i = 1; i <= RECORDS; i++) {
+            export.append("<record id=\"").append(i).append("\"><name>Record ").append(i).append("</name></record>");
+        }
+
+        return new ByteArrayInputStream(export.append("</export>").toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    //========================= Classes ========================================
+}
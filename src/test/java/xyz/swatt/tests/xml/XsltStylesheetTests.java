@@ -0,0 +1,116 @@
+package xyz.swatt.tests.xml;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import xyz.swatt.xml.ReadOnlyXmlDocument;
+import xyz.swatt.xml.XmlDocumentHelper;
+import xyz.swatt.xml.XsltStylesheet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * This class will test the {@link XsltStylesheet} class.
+ */
+public class XsltStylesheetTests {
+
+    //========================= Static Enums ===================================
+
+    //========================= STATIC CONSTANTS ===============================
+    private static final Logger LOGGER = LogManager.getLogger(XsltStylesheetTests.class);
+
+    private static final String XML = "<catalog><book id=\"1\"><title>Dune</title></book><book id=\"2\"><title>Emma</title></book></catalog>";
+
+    /**
+     * Reshapes each {@code book} into a {@code title} Element, with the {@code id} as an Attribute.
+     */
+    private static final String XSLT = "<xsl:stylesheet version=\"3.0\" xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\">"
+            + "<xsl:output method=\"xml\" omit-xml-declaration=\"yes\"/>"
+            + "<xsl:template match=\"/catalog\"><titles><xsl:apply-templates select=\"book\"/></titles></xsl:template>"
+            + "<xsl:template match=\"book\"><title id=\"{@id}\"><xsl:value-of select=\"title\"/></title></xsl:template>"
+            + "</xsl:stylesheet>";
+
+    //========================= Static Variables ===============================
+
+    //========================= Static Constructor =============================
+    static {}
+
+    //========================= Static Methods =================================
+
+    //========================= CONSTANTS ======================================
+
+    //========================= Variables ======================================
+
+    //========================= Constructors ===================================
+
+    //========================= Methods for External Use =======================
+    @Test
+    public void transformTest() {
+
+        LOGGER.info("transformTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        XsltStylesheet stylesheet = XsltStylesheet.from(XSLT);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //------------------------ Code ----------------------------------------
+        Assert.assertSame(XsltStylesheet.from(XSLT), stylesheet, "Stylesheet was not cached!");
+
+        Document document = stylesheet.transform(XmlDocumentHelper.getDocumentFrom(XML));
+        Assert.assertEquals(XmlDocumentHelper.getStringsForXPath(document, "/titles/title"), Arrays.asList("Dune", "Emma"));
+
+        ReadOnlyXmlDocument readOnly = stylesheet.transform(ReadOnlyXmlDocument.from(XML));
+        Assert.assertEquals(readOnly.getStringsForXPath("/titles/title/@id"), Arrays.asList("1", "2"));
+
+        stylesheet.transform(XmlDocumentHelper.getDocumentFrom(XML), outputStream);
+        Assert.assertEquals(new String(outputStream.toByteArray(), StandardCharsets.UTF_8),
+                "<titles><title id=\"1\">Dune</title><title id=\"2\">Emma</title></titles>");
+
+        LOGGER.debug("transformTest() [END]");
+    }
+
+    @Test
+    public void fileCacheTest() throws IOException {
+
+        LOGGER.info("fileCacheTest() [START]");
+
+        //------------------------ Pre-Checks ----------------------------------
+
+        //------------------------ CONSTANTS -----------------------------------
+
+        //------------------------ Variables -----------------------------------
+        File xsltFile = File.createTempFile("swatt-xslt-test-", ".xsl");
+        xsltFile.deleteOnExit();
+        Files.write(xsltFile.toPath(), XSLT.getBytes(StandardCharsets.UTF_8));
+
+        //------------------------ Code ----------------------------------------
+        XsltStylesheet stylesheet = XsltStylesheet.from(xsltFile);
+        Assert.assertSame(XsltStylesheet.from(xsltFile), stylesheet, "Stylesheet was not cached!");
+        Assert.assertEquals(XmlDocumentHelper.getStringForXPath(XmlDocumentHelper.transform(XmlDocumentHelper.getDocumentFrom(XML), xsltFile),
+                "/titles/title[@id = '2']"), "Emma");
+
+        // A changed File is re-compiled.
+        Files.write(xsltFile.toPath(), XSLT.replace("<titles>", "<books>").replace("</titles>", "</books>").getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(xsltFile.setLastModified(xsltFile.lastModified() + 2000), "Could not update the Last Modified time!");
+
+        Assert.assertNotSame(XsltStylesheet.from(xsltFile), stylesheet, "Changed Stylesheet was not re-compiled!");
+        Assert.assertEquals(XmlDocumentHelper.transform(XmlDocumentHelper.getDocumentFrom(XML), xsltFile).getDocumentElement().getNodeName(), "books");
+
+        LOGGER.debug("fileCacheTest() [END]");
+    }
+
+    //========================= Methods for Internal Use =======================
+
+    //========================= Classes ========================================
+}